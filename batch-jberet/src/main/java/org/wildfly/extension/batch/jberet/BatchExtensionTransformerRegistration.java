@@ -30,9 +30,14 @@ public class BatchExtensionTransformerRegistration implements ExtensionTransform
     public void registerTransformers(SubsystemTransformerRegistration registration) {
         ChainedTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(registration.getCurrentSubsystemVersion());
 
+        registerV4Transformers(builder.createBuilder(BatchSubsystemExtension.VERSION_4_0_0, BatchSubsystemExtension.VERSION_3_0_0));
         registerV3Transformers(builder.createBuilder(BatchSubsystemExtension.VERSION_3_0_0, BatchSubsystemExtension.VERSION_2_0_0));
 
-        builder.buildAndRegister(registration, new ModelVersion[] {BatchSubsystemExtension.VERSION_1_0_0, BatchSubsystemExtension.VERSION_2_0_0, BatchSubsystemExtension.VERSION_3_0_0});
+        builder.buildAndRegister(registration, new ModelVersion[] {BatchSubsystemExtension.VERSION_1_0_0, BatchSubsystemExtension.VERSION_2_0_0, BatchSubsystemExtension.VERSION_3_0_0, BatchSubsystemExtension.VERSION_4_0_0});
+    }
+
+    private static void registerV4Transformers(ResourceTransformationDescriptionBuilder subsystem) {
+        rejectAttribute(subsystem, BatchSubsystemDefinition.JOB_THREAD_POOLS);
     }
 
     private static void registerV3Transformers(ResourceTransformationDescriptionBuilder subsystem) {
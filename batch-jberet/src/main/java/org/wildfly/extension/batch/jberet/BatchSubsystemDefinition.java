@@ -7,6 +7,8 @@ package org.wildfly.extension.batch.jberet;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -16,9 +18,12 @@ import org.jberet.spi.JobExecutor;
 import org.jberet.spi.JobOperatorContext;
 import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
 import org.jboss.as.controller.AbstractWriteAttributeHandler;
+import org.jboss.as.controller.AttributeMarshaller;
+import org.jboss.as.controller.AttributeParser;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.PropertiesAttributeDefinition;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
 import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
@@ -35,6 +40,7 @@ import org.jboss.as.server.deployment.jbossallxml.JBossAllXmlParserRegisteringPr
 import org.jboss.as.threads.ThreadFactoryResourceDefinition;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.dmr.Property;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
@@ -92,6 +98,18 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
             .setAccessConstraints(SensitiveTargetAccessConstraintDefinition.ELYTRON_SECURITY_DOMAIN_REF)
             .build();
 
+    /**
+     * The thread pools assigned to jobs, by job name pattern, where {@code *} matches any sequence of characters. The
+     * first matching pattern applies.
+     */
+    static final PropertiesAttributeDefinition JOB_THREAD_POOLS = new PropertiesAttributeDefinition.Builder("job-thread-pools", true)
+            .setAllowExpression(true)
+            .setAttributeGroup("environment")
+            .setAttributeParser(AttributeParser.PROPERTIES_WRAPPED)
+            .setAttributeMarshaller(AttributeMarshaller.PROPERTIES_WRAPPED)
+            .setRestartAllServices()
+            .build();
+
     private final boolean registerRuntimeOnly;
 
     BatchSubsystemDefinition(final boolean registerRuntimeOnly) {
@@ -127,6 +145,7 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
         resourceRegistration.registerReadWriteAttribute(DEFAULT_JOB_REPOSITORY, null, ReloadRequiredWriteAttributeHandler.INSTANCE);
         resourceRegistration.registerReadWriteAttribute(DEFAULT_THREAD_POOL, null, ReloadRequiredWriteAttributeHandler.INSTANCE);
         resourceRegistration.registerReadWriteAttribute(SECURITY_DOMAIN, null, ReloadRequiredWriteAttributeHandler.INSTANCE);
+        resourceRegistration.registerReadWriteAttribute(JOB_THREAD_POOLS, null, ReloadRequiredWriteAttributeHandler.INSTANCE);
         resourceRegistration.registerReadWriteAttribute(RESTART_JOBS_ON_RESUME, null, new AbstractWriteAttributeHandler<Boolean>() {
             @Override
             protected boolean applyUpdateToRuntime(final OperationContext context, final ModelNode operation, final String attributeName, final ModelNode resolvedValue, final ModelNode currentValue, final HandbackHolder<Boolean> handbackHolder) throws OperationFailedException {
@@ -164,6 +183,14 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
                 throws OperationFailedException {
             // Check if the request-controller subsystem exists
             final boolean rcPresent = context.hasOptionalCapability(BatchServiceNames.REQUEST_CONTROLLER_CAPABILITY, Capabilities.BATCH_CONFIGURATION_CAPABILITY.getName(), null);
+            // Keep the order of the patterns, the first matching one applies
+            final Map<String, String> jobThreadPools = new LinkedHashMap<>();
+            final ModelNode jobThreadPoolsModel = JOB_THREAD_POOLS.resolveModelAttribute(context, model);
+            if (jobThreadPoolsModel.isDefined()) {
+                for (Property property : jobThreadPoolsModel.asPropertyList()) {
+                    jobThreadPools.put(property.getName(), property.getValue().asString());
+                }
+            }
 
             context.addStep(new AbstractDeploymentChainStep() {
                 public void execute(DeploymentProcessorTarget processorTarget) {
@@ -178,7 +205,7 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
                     processorTarget.addDeploymentProcessor(NAME,
                             Phase.DEPENDENCIES, Phase.DEPENDENCIES_BATCH, new BatchDependencyProcessor());
                     processorTarget.addDeploymentProcessor(NAME,
-                            Phase.POST_MODULE, Phase.POST_MODULE_BATCH_ENVIRONMENT, new BatchEnvironmentProcessor(rcPresent, selector));
+                            Phase.POST_MODULE, Phase.POST_MODULE_BATCH_ENVIRONMENT, new BatchEnvironmentProcessor(rcPresent, selector, jobThreadPools));
                     processorTarget.addDeploymentProcessor(NAME,
                             Phase.INSTALL, Phase.INSTALL_BATCH_RESOURCES, new BatchDeploymentResourceProcessor(NAME));
                     processorTarget.addDeploymentProcessor(NAME,
@@ -16,9 +16,9 @@ import java.util.Set;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.AttributeParser;
 import org.jboss.as.controller.PathAddress;
-import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.controller.parsing.ParseUtils;
 import org.jboss.as.threads.ThreadsParser;
@@ -34,13 +34,13 @@ import org.wildfly.extension.batch.jberet.thread.pool.BatchThreadPoolResourceDef
  */
 public class BatchSubsystemParser_1_0 implements XMLStreamConstants, XMLElementReader<List<ModelNode>> {
 
-    private final Map<Element, SimpleAttributeDefinition> attributeElements;
+    private final Map<Element, AttributeDefinition> attributeElements;
 
     public BatchSubsystemParser_1_0() {
         this(Collections.emptyMap());
     }
 
-    BatchSubsystemParser_1_0(final Map<Element, SimpleAttributeDefinition> additionalElements) {
+    BatchSubsystemParser_1_0(final Map<Element, AttributeDefinition> additionalElements) {
         attributeElements = new HashMap<>(additionalElements);
         attributeElements.put(Element.DEFAULT_JOB_REPOSITORY, BatchSubsystemDefinition.DEFAULT_JOB_REPOSITORY);
         attributeElements.put(Element.DEFAULT_THREAD_POOL, BatchSubsystemDefinition.DEFAULT_THREAD_POOL);
@@ -68,7 +68,7 @@ public class BatchSubsystemParser_1_0 implements XMLStreamConstants, XMLElementR
         while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
             final String localName = reader.getLocalName();
             final Element element = Element.forName(localName);
-            final SimpleAttributeDefinition attribute = attributeElements.get(element);
+            final AttributeDefinition attribute = attributeElements.get(element);
             if (attribute != null) {
                 final AttributeParser parser = attribute.getParser();
                 if (parser.isParseAsElement()) {
@@ -7,8 +7,10 @@ package org.wildfly.extension.batch.jberet;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import javax.xml.stream.XMLStreamConstants;
 
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.dmr.ModelNode;
 import org.jboss.staxmapper.XMLElementReader;
 
@@ -18,6 +20,10 @@ import org.jboss.staxmapper.XMLElementReader;
 class BatchSubsystemParser_2_0 extends BatchSubsystemParser_1_0 implements XMLStreamConstants, XMLElementReader<List<ModelNode>> {
 
     public BatchSubsystemParser_2_0() {
-        super(Collections.singletonMap(Element.SECURITY_DOMAIN, BatchSubsystemDefinition.SECURITY_DOMAIN));
+        this(Collections.singletonMap(Element.SECURITY_DOMAIN, BatchSubsystemDefinition.SECURITY_DOMAIN));
+    }
+
+    BatchSubsystemParser_2_0(final Map<Element, AttributeDefinition> additionalElements) {
+        super(additionalElements);
     }
 }
\ No newline at end of file
@@ -33,6 +33,7 @@ public class BatchSubsystemWriter implements XMLElementWriter<SubsystemMarshalli
         BatchSubsystemDefinition.DEFAULT_THREAD_POOL.marshallAsElement(model, writer);
         BatchSubsystemDefinition.RESTART_JOBS_ON_RESUME.marshallAsElement(model, writer);
         BatchSubsystemDefinition.SECURITY_DOMAIN.marshallAsElement(model, writer);
+        BatchSubsystemDefinition.JOB_THREAD_POOLS.marshallAsElement(model, writer);
 
         // Write the in-memory job repositories
         if (model.hasDefined(InMemoryJobRepositoryDefinition.NAME)) {
@@ -17,6 +17,7 @@ public enum Element {
     DEFAULT_JOB_REPOSITORY("default-job-repository"),
     DEFAULT_THREAD_POOL("default-thread-pool"),
     JOB_REPOSITORY("job-repository"),
+    JOB_THREAD_POOLS("job-thread-pools"),
     JDBC("jdbc"),
     IN_MEMORY("in-memory"),
     NAMED("named"),
@@ -9,6 +9,8 @@ import static org.jboss.as.server.deployment.Attachments.DEPLOYMENT_COMPLETE_SER
 import static org.jboss.as.weld.Capabilities.WELD_CAPABILITY_NAME;
 import static org.wildfly.extension.batch.jberet.BatchServiceNames.requestControllerServiceName;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -58,10 +60,13 @@ public class BatchEnvironmentProcessor implements DeploymentUnitProcessor {
 
     private final boolean rcPresent;
     private final ContextClassLoaderJobOperatorContextSelector selector;
+    private final JobThreadPools jobThreadPools;
 
-    public BatchEnvironmentProcessor(final boolean rcPresent, final ContextClassLoaderJobOperatorContextSelector selector) {
+    public BatchEnvironmentProcessor(final boolean rcPresent, final ContextClassLoaderJobOperatorContextSelector selector,
+                                     final Map<String, String> jobThreadPools) {
         this.rcPresent = rcPresent;
         this.selector = selector;
+        this.jobThreadPools = new JobThreadPools(jobThreadPools);
     }
 
     @Override
@@ -110,6 +115,14 @@ public class BatchEnvironmentProcessor implements DeploymentUnitProcessor {
             final Consumer<SecurityAwareBatchEnvironment> batchEnvironmentConsumer = serviceBuilder.provides(batchEnvSN);
             // Add a dependency to the thread-pool
             final Supplier<JobExecutor> jobExecutorSupplier = jobExecutorName != null ? serviceBuilder.requires(Capabilities.THREAD_POOL_CAPABILITY.getCapabilityServiceName(jobExecutorName)) : null;
+            // Add a dependency to the thread-pools assigned to jobs
+            final Map<String, Supplier<JobExecutor>> threadPoolSuppliers = new HashMap<>();
+            final Map<String, Supplier<JobExecutor>> jobExecutorSuppliers = new HashMap<>();
+            for (Map.Entry<String, String> entry : jobThreadPools.resolve(jobXmlResolver.getJobNames()).entrySet()) {
+                final Supplier<JobExecutor> supplier = threadPoolSuppliers.computeIfAbsent(entry.getValue(),
+                        threadPoolName -> serviceBuilder.requires(Capabilities.THREAD_POOL_CAPABILITY.getCapabilityServiceName(threadPoolName)));
+                jobExecutorSuppliers.put(entry.getKey(), supplier);
+            }
             // Register the required services
             final Supplier<BatchConfiguration> batchConfigurationSupplier = serviceBuilder.requires(Capabilities.BATCH_CONFIGURATION_CAPABILITY.getCapabilityServiceName());
             // Ensure local transaction support is started
@@ -155,7 +168,7 @@ public class BatchEnvironmentProcessor implements DeploymentUnitProcessor {
             final Supplier<RequestController> requestControllerSupplier = rcPresent ? serviceBuilder.requires(requestControllerServiceName(support)) : null;
 
             // Install the batch environment service
-            final BatchEnvironmentService service = new BatchEnvironmentService(batchEnvironmentConsumer, artifactFactorySupplier, jobExecutorSupplier, requestControllerSupplier, jobRepositorySupplier, batchConfigurationSupplier, moduleClassLoader, jobXmlResolver, deploymentName, namespaceContextSelector);
+            final BatchEnvironmentService service = new BatchEnvironmentService(batchEnvironmentConsumer, artifactFactorySupplier, jobExecutorSupplier, jobExecutorSuppliers, requestControllerSupplier, jobRepositorySupplier, batchConfigurationSupplier, moduleClassLoader, jobXmlResolver, deploymentName, namespaceContextSelector);
             serviceBuilder.setInstance(service);
             serviceBuilder.install();
 
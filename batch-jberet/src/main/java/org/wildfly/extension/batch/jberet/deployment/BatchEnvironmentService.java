@@ -5,6 +5,8 @@
 
 package org.wildfly.extension.batch.jberet.deployment;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -42,6 +44,7 @@ public class BatchEnvironmentService implements Service {
     private final Consumer<SecurityAwareBatchEnvironment> batchEnvironmentConsumer;
     private final Supplier<WildFlyArtifactFactory> artifactFactorySupplier;
     private final Supplier<JobExecutor> jobExecutorSupplier;
+    private final Map<String, Supplier<JobExecutor>> jobExecutorSuppliers;
     private final Supplier<RequestController> requestControllerSupplier;
     private final Supplier<JobRepository> jobRepositorySupplier;
     private final Supplier<BatchConfiguration> batchConfigurationSupplier;
@@ -56,6 +59,7 @@ public class BatchEnvironmentService implements Service {
     public BatchEnvironmentService(final Consumer<SecurityAwareBatchEnvironment> batchEnvironmentConsumer,
                                    final Supplier<WildFlyArtifactFactory> artifactFactorySupplier,
                                    final Supplier<JobExecutor> jobExecutorSupplier,
+                                   final Map<String, Supplier<JobExecutor>> jobExecutorSuppliers,
                                    final Supplier<RequestController> requestControllerSupplier,
                                    final Supplier<JobRepository> jobRepositorySupplier,
                                    final Supplier<BatchConfiguration> batchConfigurationSupplier,
@@ -66,6 +70,7 @@ public class BatchEnvironmentService implements Service {
         this.batchEnvironmentConsumer = batchEnvironmentConsumer;
         this.artifactFactorySupplier = artifactFactorySupplier;
         this.jobExecutorSupplier = jobExecutorSupplier;
+        this.jobExecutorSuppliers = jobExecutorSuppliers;
         this.requestControllerSupplier = requestControllerSupplier;
         this.jobRepositorySupplier = jobRepositorySupplier;
         this.batchConfigurationSupplier = batchConfigurationSupplier;
@@ -84,6 +89,11 @@ public class BatchEnvironmentService implements Service {
         if (jobExecutor == null) {
             jobExecutor = batchConfiguration.getDefaultJobExecutor();
         }
+        // Find the job executors of the jobs assigned to a dedicated thread pool
+        final Map<String, JobExecutor> jobExecutors = new HashMap<>();
+        for (Map.Entry<String, Supplier<JobExecutor>> entry : jobExecutorSuppliers.entrySet()) {
+            jobExecutors.put(entry.getKey(), entry.getValue().get());
+        }
         // Find the job repository to use
         JobRepository jobRepository = jobRepositorySupplier != null ? jobRepositorySupplier.get() : null;
         if (jobRepository == null) {
@@ -91,7 +101,7 @@ public class BatchEnvironmentService implements Service {
         }
 
         this.batchEnvironment = new WildFlyBatchEnvironment(artifactFactorySupplier.get(),
-                jobExecutor, ContextTransactionManager.getInstance(),
+                jobExecutor, jobExecutors, ContextTransactionManager.getInstance(),
                 jobRepository, jobXmlResolver);
 
         final RequestController requestController = requestControllerSupplier != null ? requestControllerSupplier.get() : null;
@@ -118,18 +128,21 @@ public class BatchEnvironmentService implements Service {
 
         private final WildFlyArtifactFactory artifactFactory;
         private final JobExecutor jobExecutor;
+        private final Map<String, JobExecutor> jobExecutors;
         private final TransactionManager transactionManager;
         private final JobRepository jobRepository;
         private final JobXmlResolver jobXmlResolver;
 
         WildFlyBatchEnvironment(final WildFlyArtifactFactory artifactFactory,
                                 final JobExecutor jobExecutor,
+                                final Map<String, JobExecutor> jobExecutors,
                                 final TransactionManager transactionManager,
                                 final JobRepository jobRepository,
                                 final JobXmlResolver jobXmlResolver) {
             this.jobXmlResolver = jobXmlResolver;
             this.artifactFactory = artifactFactory;
             this.jobExecutor = jobExecutor;
+            this.jobExecutors = jobExecutors;
             this.transactionManager = transactionManager;
             this.jobRepository = jobRepository;
         }
@@ -148,6 +161,9 @@ public class BatchEnvironmentService implements Service {
         public void submitTask(final JobTask jobTask) {
             final SecurityIdentity identity = getIdentity();
             final ContextHandle contextHandle = createContextHandle();
+            // Tasks submitted for a job, or by the tasks of a job, run in the thread pool assigned to the job if any
+            final String jobName = JobThreadPools.getCurrentJobName();
+            final JobExecutor jobExecutor = jobName == null ? this.jobExecutor : jobExecutors.getOrDefault(jobName, this.jobExecutor);
             final JobTask task = new JobTask() {
                 @Override
                 public int getRequiredRemainingPermits() {
@@ -157,6 +173,7 @@ public class BatchEnvironmentService implements Service {
                 @Override
                 public void run() {
                     final ContextHandle.Handle handle = contextHandle.setup();
+                    final String previousJobName = JobThreadPools.setCurrentJobName(jobName);
                     try {
                         if (identity == null) {
                             jobTask.run();
@@ -164,6 +181,7 @@ public class BatchEnvironmentService implements Service {
                             identity.runAs(jobTask);
                         }
                     } finally {
+                        JobThreadPools.restoreCurrentJobName(previousJobName);
                         handle.tearDown();
                     }
                 }
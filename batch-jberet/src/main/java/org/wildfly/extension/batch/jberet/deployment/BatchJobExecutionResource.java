@@ -8,8 +8,10 @@ package org.wildfly.extension.batch.jberet.deployment;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.NavigableSet;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.TreeSet;
+import java.util.function.LongSupplier;
 
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
@@ -29,30 +31,58 @@ public class BatchJobExecutionResource implements Resource {
     private final Resource delegate;
     private final WildFlyJobOperator jobOperator;
     private final String jobName;
-    // Should be guarded by it's instance
-    private final Set<String> children = new LinkedHashSet<>();
+    // The current time in milliseconds
+    private final LongSupplier clock;
+    // Guards the refresh of the job execution ids, readers use the current snapshot of the names
+    private final Object refreshLock = new Object();
+    // The known job execution ids, guarded by the refresh lock
+    private NavigableSet<Long> executionIds;
+    private volatile Set<String> children = Collections.emptySet();
 
     /**
      * Last time when job names were refreshed
      */
     private volatile long lastRefreshedTime;
 
+    /**
+     * Last time when all the job names were reloaded, rather than only the job names of the new job executions
+     */
+    private long lastFullRefreshedTime;
+
     /**
      * The minimum interval in milliseconds in which the job names are to be refreshed.
      * If the interval period has elapsed from the last refresh time,
      * any incoming refresh request will be performed; otherwise, it is ignored
      * and the current result is returned.
      */
-    private static final int refreshMinInterval = 3000;
+    static final int refreshMinInterval = 3000;
+
+    /**
+     * The interval in milliseconds in which all the job names are reloaded, to drop the job executions which were removed
+     * from the job repository or which exceed its execution records limit. In between, only the most recent job
+     * executions are loaded.
+     */
+    static final int fullRefreshInterval = 60000;
+
+    /**
+     * The number of most recent job executions loaded by an incremental refresh, unless the execution records limit of
+     * the job repository is lower. If none of them was already known, all the job names are reloaded.
+     */
+    static final int incrementalRefreshLimit = 100;
 
     BatchJobExecutionResource(final WildFlyJobOperator jobOperator, final String jobName) {
-        this(Factory.create(true), jobOperator, jobName);
+        this(jobOperator, jobName, System::currentTimeMillis);
+    }
+
+    BatchJobExecutionResource(final WildFlyJobOperator jobOperator, final String jobName, final LongSupplier clock) {
+        this(Factory.create(true), jobOperator, jobName, clock);
     }
 
-    private BatchJobExecutionResource(final Resource delegate, final WildFlyJobOperator jobOperator, final String jobName) {
+    private BatchJobExecutionResource(final Resource delegate, final WildFlyJobOperator jobOperator, final String jobName, final LongSupplier clock) {
         this.delegate = delegate;
         this.jobOperator = jobOperator;
         this.jobName = jobName;
+        this.clock = clock;
     }
 
     @Override
@@ -129,10 +159,8 @@ public class BatchJobExecutionResource implements Resource {
     @Override
     public Set<String> getChildrenNames(final String childType) {
         if (BatchJobExecutionResourceDefinition.EXECUTION.equals(childType)) {
-            synchronized (children) {
-                refreshChildren();
-                return new LinkedHashSet<>(children);
-            }
+            refreshChildren();
+            return children;
         }
         return delegate.getChildrenNames(childType);
     }
@@ -190,33 +218,80 @@ public class BatchJobExecutionResource implements Resource {
 
     @Override
     public Resource clone() {
-        return new BatchJobExecutionResource(delegate.clone(), jobOperator, jobName);
+        return new BatchJobExecutionResource(delegate.clone(), jobOperator, jobName, clock);
     }
 
     private boolean hasJobExecution(final String executionName) {
-        synchronized (children) {
-            if (children.contains(executionName)) {
-                return true;
-            }
-            // Load a cache of the names
-            refreshChildren();
-            return children.contains(executionName);
+        if (children.contains(executionName)) {
+            return true;
         }
+        // Load the names of the new job executions
+        refreshChildren();
+        return children.contains(executionName);
     }
 
     /**
-     * Note the access to the {@link #children} is <strong>not</strong> guarded here and needs to be externally
-     * guarded.
+     * Refreshes the job names, by only loading the most recent job executions if possible, rather than all of them.
      */
     private void refreshChildren() {
-        if (System.currentTimeMillis() - lastRefreshedTime < refreshMinInterval) {
+        if (clock.getAsLong() - lastRefreshedTime < refreshMinInterval) {
             return;
         }
 
-        final List<Long> executionIds = jobOperator.getJobExecutionsByJob(jobName);
-        final Set<String> asNames = executionIds.stream().map(Object::toString).collect(Collectors.toSet());
-        children.clear();
-        children.addAll(asNames);
-        lastRefreshedTime = System.currentTimeMillis();
+        synchronized (refreshLock) {
+            final long now = clock.getAsLong();
+            // Another thread may have refreshed the names while this one was waiting
+            if (now - lastRefreshedTime < refreshMinInterval) {
+                return;
+            }
+            if (executionIds == null || now - lastFullRefreshedTime >= fullRefreshInterval || !refreshRecentExecutions()) {
+                executionIds = new TreeSet<>(jobOperator.getJobExecutionsByJob(jobName));
+                lastFullRefreshedTime = now;
+            }
+            final Set<String> names = new LinkedHashSet<>(executionIds.size());
+            for (Long id : executionIds) {
+                names.add(id.toString());
+            }
+            children = Collections.unmodifiableSet(names);
+            lastRefreshedTime = clock.getAsLong();
+        }
+    }
+
+    /**
+     * Adds the ids of the most recent job executions to the known ones.
+     *
+     * @return {@code true} if all the new job executions were loaded, {@code false} if there might be more new job
+     * executions than loaded, in which case all the job names need to be reloaded
+     */
+    private boolean refreshRecentExecutions() {
+        // Do not load more job executions than a full refresh would
+        final Integer executionRecordsLimit = jobOperator.getExecutionRecordsLimit();
+        final int limit = (executionRecordsLimit != null && executionRecordsLimit > 0)
+                ? Math.min(incrementalRefreshLimit, executionRecordsLimit) : incrementalRefreshLimit;
+        final List<Long> recentIds = jobOperator.getJobExecutionsByJob(jobName, limit);
+        if (recentIds.size() >= limit) {
+            if (executionIds.isEmpty()) {
+                return false;
+            }
+            final long lastKnownId = executionIds.last();
+            boolean overlaps = false;
+            for (Long id : recentIds) {
+                if (id <= lastKnownId) {
+                    overlaps = true;
+                    break;
+                }
+            }
+            if (!overlaps) {
+                return false;
+            }
+        }
+        executionIds.addAll(recentIds);
+        // Drop the oldest job executions, which a full refresh would not load anymore
+        if (executionRecordsLimit != null && executionRecordsLimit > 0) {
+            while (executionIds.size() > executionRecordsLimit) {
+                executionIds.pollFirst();
+            }
+        }
+        return true;
     }
 }
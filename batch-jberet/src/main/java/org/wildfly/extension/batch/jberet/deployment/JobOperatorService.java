@@ -37,6 +37,7 @@ import jakarta.batch.runtime.JobInstance;
 import jakarta.batch.runtime.StepExecution;
 
 import org.jberet.operations.AbstractJobOperator;
+import org.jberet.repository.JobRepository;
 import org.jberet.runtime.JobExecutionImpl;
 import org.jberet.spi.BatchEnvironment;
 import org.jboss.as.controller.ControlledProcessState;
@@ -50,6 +51,7 @@ import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 import org.wildfly.extension.batch.jberet.BatchConfiguration;
 import org.wildfly.extension.batch.jberet._private.BatchLogger;
+import org.wildfly.extension.batch.jberet.job.repository.JobRepositoryService;
 import org.wildfly.security.auth.server.SecurityDomain;
 import org.wildfly.security.auth.server.SecurityIdentity;
 import org.wildfly.security.manager.WildFlySecurityManager;
@@ -211,6 +213,25 @@ public class JobOperatorService extends AbstractJobOperator implements WildFlyJo
         }
     }
 
+    @Override
+    public List<Long> getJobExecutionsByJob(final String jobName, final int limit) {
+        checkState(jobName);
+        final ClassLoader current = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
+        try {
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
+            return getJobRepository().getJobExecutionsByJob(jobName, limit);
+        } finally {
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(current);
+        }
+    }
+
+    @Override
+    public Integer getExecutionRecordsLimit() {
+        checkState();
+        final JobRepository jobRepository = getJobRepository();
+        return (jobRepository instanceof JobRepositoryService) ? ((JobRepositoryService) jobRepository).getExecutionRecordsLimit() : null;
+    }
+
     @Override
     public Properties getParameters(final long executionId) throws NoSuchJobExecutionException, JobSecurityException {
         checkState();
@@ -238,7 +259,13 @@ public class JobOperatorService extends AbstractJobOperator implements WildFlyJo
                 jobXml = jobXMLName + ".xml";
             }
             if (resolver.isValidJobXmlName(jobXml)) {
-                return super.start(jobXml, jobParameters, getBatchEnvironment().getCurrentUserName());
+                // The tasks of the job run in the thread pool assigned to the job if any
+                final String previousJobName = JobThreadPools.setCurrentJobName(resolver.resolveJobName(jobXml, classLoader));
+                try {
+                    return super.start(jobXml, jobParameters, getBatchEnvironment().getCurrentUserName());
+                } finally {
+                    JobThreadPools.restoreCurrentJobName(previousJobName);
+                }
             }
             throw BatchLogger.LOGGER.couldNotFindJobXml(jobXMLName);
         } finally {
@@ -254,7 +281,13 @@ public class JobOperatorService extends AbstractJobOperator implements WildFlyJo
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
             final JobInstance instance = super.getJobInstance(executionId);
             validateJob(instance.getJobName());
-            return super.restart(executionId, restartParameters, getBatchEnvironment().getCurrentUserName());
+            // The tasks of the job run in the thread pool assigned to the job if any
+            final String previousJobName = JobThreadPools.setCurrentJobName(instance.getJobName());
+            try {
+                return super.restart(executionId, restartParameters, getBatchEnvironment().getCurrentUserName());
+            } finally {
+                JobThreadPools.restoreCurrentJobName(previousJobName);
+            }
         } finally {
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(current);
         }
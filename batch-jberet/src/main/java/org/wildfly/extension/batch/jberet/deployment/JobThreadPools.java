@@ -0,0 +1,109 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * The assignment of jobs to dedicated batch thread pools, so that the partitions of a large job do not starve the other
+ * jobs of the deployment.
+ * <p>
+ * Configured by the {@code job-thread-pools} attribute of the subsystem, whose entries map a job name pattern to the name
+ * of a thread pool, e.g. {@code nightly-etl*=etl}, where {@code *} in a pattern matches any sequence of characters. The
+ * first matching entry applies. The jobs which match no entry use the thread pool of the deployment.
+ * </p>
+ * <p>
+ * The name of the job is associated with the tasks submitted when the job is started or restarted, and with the tasks
+ * they submit in turn, e.g. the partitions and the flows of a split, so that they all run in the thread pool of the job.
+ * </p>
+ */
+final class JobThreadPools {
+
+    private static final ThreadLocal<String> CURRENT_JOB_NAME = new ThreadLocal<>();
+
+    private final Map<Pattern, String> threadPools = new LinkedHashMap<>();
+
+    /**
+     * @param threadPools the names of the thread pools, by job name pattern, in the order in which they apply
+     */
+    JobThreadPools(final Map<String, String> threadPools) {
+        for (Map.Entry<String, String> entry : threadPools.entrySet()) {
+            this.threadPools.put(toPattern(entry.getKey()), entry.getValue());
+        }
+    }
+
+    /**
+     * Resolves the thread pools assigned to the specified jobs.
+     *
+     * @param jobNames the names of the jobs of a deployment
+     *
+     * @return the names of the thread pools assigned to jobs, by job name
+     */
+    Map<String, String> resolve(final Set<String> jobNames) {
+        if (threadPools.isEmpty()) {
+            return Map.of();
+        }
+        final Map<String, String> result = new LinkedHashMap<>();
+        for (String jobName : jobNames) {
+            for (Map.Entry<Pattern, String> entry : threadPools.entrySet()) {
+                if (entry.getKey().matcher(jobName).matches()) {
+                    result.put(jobName, entry.getValue());
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Translates a job name pattern into a regular expression, where {@code *} matches any sequence of characters and
+     * every other character matches itself.
+     *
+     * @param pattern the job name pattern
+     *
+     * @return the regular expression matching the job names of the pattern
+     */
+    static Pattern toPattern(final String pattern) {
+        return Pattern.compile(Pattern.quote(pattern).replace("*", "\\E.*\\Q"));
+    }
+
+    /**
+     * @return the name of the job whose tasks are submitted by the current thread, or {@code null} if unknown
+     */
+    static String getCurrentJobName() {
+        return CURRENT_JOB_NAME.get();
+    }
+
+    /**
+     * Associates the specified job with the tasks submitted by the current thread.
+     *
+     * @param jobName the name of the job, or {@code null}
+     *
+     * @return the name of the job previously associated with the current thread, to {@linkplain #restoreCurrentJobName(String)
+     * restore}
+     */
+    static String setCurrentJobName(final String jobName) {
+        final String previous = CURRENT_JOB_NAME.get();
+        CURRENT_JOB_NAME.set(jobName);
+        return previous;
+    }
+
+    /**
+     * Restores the job previously associated with the current thread.
+     *
+     * @param previous the name returned by {@link #setCurrentJobName(String)}
+     */
+    static void restoreCurrentJobName(final String previous) {
+        if (previous == null) {
+            CURRENT_JOB_NAME.remove();
+        } else {
+            CURRENT_JOB_NAME.set(previous);
+        }
+    }
+}
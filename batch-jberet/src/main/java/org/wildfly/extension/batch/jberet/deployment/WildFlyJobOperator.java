@@ -51,6 +51,22 @@ interface WildFlyJobOperator extends JobOperator {
      */
     List<Long> getJobExecutionsByJob(final String jobName);
 
+    /**
+     * Gets the ids of the most recent job executions belonging to the job identified by the {@code jobName}.
+     * @param jobName the job name identifying the job
+     * @param limit the maximum number of job execution ids to return
+     * @return the ids of the most recent job executions belonging to the job
+     */
+    List<Long> getJobExecutionsByJob(final String jobName, final int limit);
+
+    /**
+     * Returns the maximum number of job executions returned by {@link #getJobExecutionsByJob(String)}, as configured on
+     * the job repository.
+     *
+     * @return the execution records limit, or {@code null} if all the job executions are returned
+     */
+    Integer getExecutionRecordsLimit();
+
     /**
      * Allows safe execution of a method catching any {@link NoSuchJobException} thrown. If the exception is thrown the
      * default value is returned, otherwise the value from the supplier is returned.
@@ -35,7 +35,7 @@ import org.wildfly.extension.batch.jberet._private.BatchLogger;
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  * @author <a href="mailto:ropalka@redhat.com">Richard Opalka</a>
  */
-abstract class JobRepositoryService implements JobRepository, Service<JobRepository> {
+public abstract class JobRepositoryService implements JobRepository, Service<JobRepository> {
     private volatile boolean started;
     private final Integer executionRecordsLimit;
     private final Consumer<JobRepository> jobRepositoryConsumer;
@@ -59,6 +59,15 @@ abstract class JobRepositoryService implements JobRepository, Service<JobReposit
         started = false;
     }
 
+    /**
+     * Returns the maximum number of job execution records loaded for a job, or {@code null} if they are all loaded.
+     *
+     * @return the execution records limit or {@code null}
+     */
+    public Integer getExecutionRecordsLimit() {
+        return executionRecordsLimit;
+    }
+
     @Override
     public JobRepository getValue() throws IllegalStateException, IllegalArgumentException {
         return this;
@@ -54,7 +54,7 @@ public class JBeretSubsystemParsingTestCase extends AbstractBatchTestCase {
 
     @Override
     protected String getSubsystemXsdPath() {
-        return "schema/wildfly-batch-jberet_3_0.xsd";
+        return "schema/wildfly-batch-jberet_4_0.xsd";
     }
 
     @Test
@@ -151,6 +151,10 @@ public class JBeretSubsystemParsingTestCase extends AbstractBatchTestCase {
     public void testRejectingTransformersEAP74() throws Exception {
         FailedOperationTransformationConfig transformationConfig = new FailedOperationTransformationConfig();
 
+        PathAddress subsystemAddress = PathAddress.pathAddress(BatchSubsystemDefinition.SUBSYSTEM_PATH);
+        transformationConfig.addFailedAttribute(subsystemAddress,
+                new FailedOperationTransformationConfig.NewAttributesConfig(BatchSubsystemDefinition.JOB_THREAD_POOLS));
+
         PathAddress repositoryAddress = PathAddress.pathAddress(BatchSubsystemDefinition.SUBSYSTEM_PATH, InMemoryJobRepositoryDefinition.PATH);
         transformationConfig.addFailedAttribute(repositoryAddress,
                 new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.EXECUTION_RECORDS_LIMIT));
@@ -188,4 +188,20 @@ public class SubsystemOperationsTestCase extends AbstractBatchTestCase {
 
         Assert.assertEquals(250, kernelServices.readWholeModel().get(resourcePath).get("execution-records-limit").asInt());
     }
+
+    @Test
+    public void testWriteJobThreadPools() throws Exception {
+        final KernelServices kernelServices = boot();
+        final ModelNode jobThreadPools = kernelServices.readWholeModel().get(SUBSYSTEM, BatchSubsystemDefinition.NAME, "job-thread-pools");
+        // The order of the patterns is kept
+        Assert.assertEquals("nightly-etl", jobThreadPools.asPropertyList().get(0).getName());
+        Assert.assertEquals("batch-etl", jobThreadPools.get("nightly-etl").asString());
+        Assert.assertEquals("batch", jobThreadPools.get("nightly-*").asString());
+
+        final ModelNode value = new ModelNode();
+        value.get("report-*").set("batch-etl");
+        executeOperation(kernelServices, SubsystemOperations.createWriteAttributeOperation(createAddress(null), "job-thread-pools", value));
+
+        Assert.assertEquals(value, kernelServices.readWholeModel().get(SUBSYSTEM, BatchSubsystemDefinition.NAME, "job-thread-pools"));
+    }
 }
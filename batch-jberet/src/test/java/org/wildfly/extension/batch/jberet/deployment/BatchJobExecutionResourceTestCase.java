@@ -0,0 +1,146 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.jboss.as.controller.PathElement;
+import org.junit.Test;
+
+/**
+ * Tests the incremental and the full refreshes of the job executions of a {@link BatchJobExecutionResource}.
+ */
+public class BatchJobExecutionResourceTestCase {
+
+    private static final String JOB_NAME = "test-job";
+
+    private final NavigableSet<Long> executionIds = new TreeSet<>();
+    private final List<Integer> incrementalLimits = new ArrayList<>();
+    private Integer executionRecordsLimit;
+    private int fullRefreshes;
+    private long now = 1_000_000L;
+
+    @Test
+    public void testIncrementalAndFullRefresh() {
+        addExecutions(1, 5);
+        final BatchJobExecutionResource resource = new BatchJobExecutionResource(createJobOperator(), JOB_NAME, () -> now);
+
+        assertEquals(names(1, 5), resource.getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION));
+        assertEquals(1, fullRefreshes);
+
+        // Within the minimum interval, the known names are returned
+        addExecutions(6, 7);
+        assertEquals(names(1, 5), resource.getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION));
+
+        // The new job executions are loaded incrementally
+        now += BatchJobExecutionResource.refreshMinInterval;
+        assertEquals(names(1, 7), resource.getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION));
+        assertEquals(1, fullRefreshes);
+        assertEquals(Arrays.asList(BatchJobExecutionResource.incrementalRefreshLimit), incrementalLimits);
+
+        // The removed job executions are dropped by the next full refresh
+        executionIds.remove(1L);
+        now += BatchJobExecutionResource.refreshMinInterval;
+        assertEquals(names(1, 7), resource.getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION));
+        now += BatchJobExecutionResource.fullRefreshInterval;
+        assertEquals(names(2, 7), resource.getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION));
+        assertEquals(2, fullRefreshes);
+    }
+
+    @Test
+    public void testIncrementalRefreshWithExecutionRecordsLimit() {
+        executionRecordsLimit = 3;
+        addExecutions(1, 5);
+        final BatchJobExecutionResource resource = new BatchJobExecutionResource(createJobOperator(), JOB_NAME, () -> now);
+
+        assertEquals(names(3, 5), resource.getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION));
+        assertEquals(1, fullRefreshes);
+
+        // The incremental refresh does not load more job executions than the full one, and drops the oldest ones
+        addExecutions(6, 6);
+        now += BatchJobExecutionResource.refreshMinInterval;
+        assertEquals(names(4, 6), resource.getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION));
+        assertEquals(1, fullRefreshes);
+        assertEquals(Arrays.asList(3), incrementalLimits);
+
+        // None of the loaded job executions is known, some might be missing
+        addExecutions(7, 10);
+        now += BatchJobExecutionResource.refreshMinInterval;
+        assertEquals(names(8, 10), resource.getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION));
+        assertEquals(2, fullRefreshes);
+        assertEquals(Arrays.asList(3, 3), incrementalLimits);
+    }
+
+    @Test
+    public void testHasNewJobExecution() {
+        addExecutions(1, 2);
+        final BatchJobExecutionResource resource = new BatchJobExecutionResource(createJobOperator(), JOB_NAME, () -> now);
+
+        assertEquals(names(1, 2), resource.getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION));
+        addExecutions(3, 3);
+        now += BatchJobExecutionResource.refreshMinInterval;
+        assertTrue(resource.hasChild(PathElement.pathElement(BatchJobExecutionResourceDefinition.EXECUTION, "3")));
+        assertEquals(1, fullRefreshes);
+    }
+
+    private void addExecutions(final long first, final long last) {
+        for (long id = first; id <= last; id++) {
+            executionIds.add(id);
+        }
+    }
+
+    private static Set<String> names(final long first, final long last) {
+        final Set<String> names = new LinkedHashSet<>();
+        for (long id = first; id <= last; id++) {
+            names.add(Long.toString(id));
+        }
+        return names;
+    }
+
+    /**
+     * Returns the ids of the most recent job executions, as the job repository does.
+     */
+    private List<Long> getJobExecutions(final Integer limit) {
+        final List<Long> result = new ArrayList<>();
+        for (Long id : executionIds.descendingSet()) {
+            if (limit != null && result.size() >= limit) {
+                break;
+            }
+            result.add(id);
+        }
+        return result;
+    }
+
+    private WildFlyJobOperator createJobOperator() {
+        return (WildFlyJobOperator) Proxy.newProxyInstance(WildFlyJobOperator.class.getClassLoader(),
+                new Class<?>[] {WildFlyJobOperator.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getExecutionRecordsLimit":
+                            return executionRecordsLimit;
+                        case "getJobExecutionsByJob":
+                            assertEquals(JOB_NAME, args[0]);
+                            if (args.length == 1) {
+                                fullRefreshes++;
+                                return getJobExecutions(executionRecordsLimit);
+                            }
+                            incrementalLimits.add((Integer) args[1]);
+                            return getJobExecutions((Integer) args[1]);
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * Tests the job name patterns of the {@link JobThreadPools}.
+ */
+public class JobThreadPoolsTestCase {
+
+    @Test
+    public void testWildcard() {
+        final Pattern pattern = JobThreadPools.toPattern("nightly-*-etl*");
+        assertTrue(pattern.matcher("nightly--etl").matches());
+        assertTrue(pattern.matcher("nightly-orders-etl").matches());
+        assertTrue(pattern.matcher("nightly-orders-etl-v2").matches());
+        assertFalse(pattern.matcher("nightly-etl").matches());
+        assertFalse(pattern.matcher("daily-nightly-orders-etl").matches());
+
+        assertTrue(JobThreadPools.toPattern("*").matcher("").matches());
+        assertTrue(JobThreadPools.toPattern("*").matcher("any job").matches());
+    }
+
+    @Test
+    public void testLiteralCharacters() {
+        // Only * is a wildcard, the other characters of the pattern match themselves
+        final Pattern pattern = JobThreadPools.toPattern("report.v1?[a]+");
+        assertTrue(pattern.matcher("report.v1?[a]+").matches());
+        assertFalse(pattern.matcher("reportXv1").matches());
+        assertFalse(pattern.matcher("report.v[a]").matches());
+
+        // A quoting sequence in the pattern does not end the quoting of the regular expression
+        final Pattern quoted = JobThreadPools.toPattern("a\\E.*b*");
+        assertTrue(quoted.matcher("a\\E.*b").matches());
+        assertTrue(quoted.matcher("a\\E.*bc").matches());
+        assertFalse(quoted.matcher("a\\Exxb").matches());
+    }
+
+    @Test
+    public void testFirstMatchApplies() {
+        final Map<String, String> threadPools = new LinkedHashMap<>();
+        threadPools.put("nightly-etl", "etl-small");
+        threadPools.put("nightly-*", "etl");
+        threadPools.put("*-report", "reports");
+        final JobThreadPools jobThreadPools = new JobThreadPools(threadPools);
+
+        final Map<String, String> result = jobThreadPools.resolve(Set.of("nightly-etl", "nightly-report", "daily-report", "cleanup"));
+        assertEquals(Map.of("nightly-etl", "etl-small", "nightly-report", "etl", "daily-report", "reports"), result);
+
+        assertEquals(Map.of(), new JobThreadPools(Map.of()).resolve(Set.of("nightly-etl")));
+    }
+}
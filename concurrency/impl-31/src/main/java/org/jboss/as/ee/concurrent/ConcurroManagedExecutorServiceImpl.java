@@ -30,12 +30,14 @@ public class ConcurroManagedExecutorServiceImpl extends org.glassfish.concurro.M
     private final ControlPoint controlPoint;
     private final ProcessStateNotifier processStateNotifier;
     private final ManagedExecutorRuntimeStats runtimeStats;
+    private final long hungTaskThreshold;
 
     public ConcurroManagedExecutorServiceImpl(String name, WildFlyManagedThreadFactory managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, WildFlyContextService contextService, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, BlockingQueue<Runnable> queue, ControlPoint controlPoint, ProcessStateNotifier processStateNotifier) {
         super(name, (ConcurroManagedThreadFactoryImpl) managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, (ContextServiceImpl) contextService, convertRejectPolicy(rejectPolicy), queue);
         this.controlPoint = controlPoint;
         this.processStateNotifier = processStateNotifier;
         this.runtimeStats = new ConcurroManagedExecutorRuntimeStatsImpl(this);
+        this.hungTaskThreshold = hungTaskThreshold;
     }
 
     public ConcurroManagedExecutorServiceImpl(String name, WildFlyManagedThreadFactory managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, int queueCapacity, WildFlyContextService contextService, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, ControlPoint controlPoint, ProcessStateNotifier processStateNotifier) {
@@ -43,6 +45,7 @@ public class ConcurroManagedExecutorServiceImpl extends org.glassfish.concurro.M
         this.controlPoint = controlPoint;
         this.processStateNotifier = processStateNotifier;
         this.runtimeStats = new ConcurroManagedExecutorRuntimeStatsImpl(this);
+        this.hungTaskThreshold = hungTaskThreshold;
     }
 
     public static AbstractManagedExecutorService.RejectPolicy convertRejectPolicy(WildFlyManagedExecutorService.RejectPolicy rejectPolicy) {
@@ -132,5 +135,6 @@ public class ConcurroManagedExecutorServiceImpl extends org.glassfish.concurro.M
                 }
             }
         }
+        ((ConcurroManagedThreadFactoryImpl) getWildFlyManagedThreadFactory()).terminateHungVirtualThreadTasks(executorName, hungTaskThreshold);
     }
 }
@@ -30,12 +30,14 @@ public class ConcurroManagedScheduledExecutorServiceImpl extends org.glassfish.c
     private final ControlPoint controlPoint;
     private final ProcessStateNotifier processStateNotifier;
     private final ManagedExecutorRuntimeStats runtimeStats;
+    private final long hungTaskThreshold;
 
     public ConcurroManagedScheduledExecutorServiceImpl(String name, WildFlyManagedThreadFactory managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, WildFlyContextService contextService, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, ControlPoint controlPoint, ProcessStateNotifier processStateNotifier) {
         super(name, (ConcurroManagedThreadFactoryImpl) managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, (ContextServiceImpl) contextService, ConcurroManagedExecutorServiceImpl.convertRejectPolicy(rejectPolicy));
         this.controlPoint = controlPoint;
         this.processStateNotifier = processStateNotifier;
         this.runtimeStats = new ConcurroManagedExecutorRuntimeStatsImpl(this);
+        this.hungTaskThreshold = hungTaskThreshold;
     }
 
     @Override
@@ -158,5 +160,6 @@ public class ConcurroManagedScheduledExecutorServiceImpl extends org.glassfish.c
                 }
             }
         }
+        ((ConcurroManagedThreadFactoryImpl) getWildFlyManagedThreadFactory()).terminateHungVirtualThreadTasks(executorName, hungTaskThreshold);
     }
 }
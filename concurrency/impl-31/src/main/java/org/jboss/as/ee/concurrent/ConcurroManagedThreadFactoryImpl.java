@@ -5,16 +5,24 @@
 
 package org.jboss.as.ee.concurrent;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+
 import org.glassfish.concurro.AbstractManagedThread;
 import org.glassfish.concurro.ContextServiceImpl;
 import org.glassfish.concurro.internal.ManagedFutureTask;
 import org.glassfish.concurro.spi.ContextHandle;
+import org.glassfish.concurro.spi.ContextSetupProvider;
+import org.jboss.as.ee.logging.EeLogger;
 import org.wildfly.security.auth.server.SecurityIdentity;
 
 import jakarta.enterprise.concurrent.ManagedThreadFactory;
 
 /**
  * {@link ManagedThreadFactory} implementation ensuring {@link SecurityIdentity} propagation into new threads.
+ * <p>
+ * If configured as virtual, and if the Java runtime supports it, the factory creates virtual threads instead of {@link ManagedThread}s.
  * @author <a href="mailto:jkalina@redhat.com">Jan Kalina</a>
  * @author emmartins
  */
@@ -25,9 +33,37 @@ public class ConcurroManagedThreadFactoryImpl extends org.glassfish.concurro.Man
      */
     private final int priority;
 
+    private final String name;
+    private final ContextServiceImpl contextService;
+    /**
+     * the factory of the virtual threads, null if the factory creates platform threads
+     */
+    private final ThreadFactory virtualThreadFactory;
+    /**
+     * the virtual threads started, and not yet terminated, with the task each one runs
+     */
+    private final Map<Thread, VirtualThreadTask> virtualThreads = new ConcurrentHashMap<>();
+    private volatile boolean stopped;
+
     public ConcurroManagedThreadFactoryImpl(String name, WildFlyContextService contextService, int priority) {
+        this(name, contextService, priority, false);
+    }
+
+    public ConcurroManagedThreadFactoryImpl(String name, WildFlyContextService contextService, int priority, boolean virtual) {
         super(name, (ContextServiceImpl) contextService, priority);
         this.priority = priority;
+        this.name = name;
+        this.contextService = (ContextServiceImpl) contextService;
+        this.virtualThreadFactory = virtual ? newVirtualThreadFactory(name) : null;
+    }
+
+    private static ThreadFactory newVirtualThreadFactory(String name) {
+        try {
+            return VirtualThreads.newThreadFactory(name + "-");
+        } catch (UnsupportedOperationException e) {
+            EeLogger.ROOT_LOGGER.virtualThreadsNotSupported(name, e);
+            return null;
+        }
     }
 
     /**
@@ -38,6 +74,56 @@ public class ConcurroManagedThreadFactoryImpl extends org.glassfish.concurro.Man
         return priority;
     }
 
+    /**
+     *
+     * @return true if the factory creates virtual threads, false otherwise
+     */
+    public boolean isVirtual() {
+        return virtualThreadFactory != null;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+        if (virtualThreadFactory == null) {
+            return super.newThread(r);
+        }
+        if (stopped) {
+            throw EeLogger.ROOT_LOGGER.managedThreadFactoryStopped(name);
+        }
+        // same context propagation as a ManagedThread, the context is captured now, and set up around the execution of the runnable
+        final ContextSetupProvider contextSetupProvider = contextService != null ? contextService.getContextSetupProvider() : null;
+        final ContextHandle contextHandleForSetup = contextSetupProvider != null ? contextSetupProvider.saveContext(contextService) : null;
+        final Runnable runnable = contextHandleForSetup != null ? SecurityIdentityUtils.doIdentityWrap(r) : r;
+        final Thread t = virtualThreadFactory.newThread(() -> {
+            // the thread is tracked only once started, a thread which is never started must not be retained
+            virtualThreads.put(Thread.currentThread(), new VirtualThreadTask());
+            try {
+                ContextHandle contextHandleForReset = contextHandleForSetup != null ? contextSetupProvider.setup(contextHandleForSetup) : null;
+                try {
+                    runnable.run();
+                } finally {
+                    if (contextHandleForReset != null) {
+                        contextSetupProvider.reset(contextHandleForReset);
+                    }
+                }
+            } finally {
+                virtualThreads.remove(Thread.currentThread());
+            }
+        });
+        // reset thread classloader to prevent leaks
+        t.setContextClassLoader(null);
+        return t;
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+        for (Thread t : virtualThreads.keySet()) {
+            t.interrupt();
+        }
+        super.stop();
+    }
+
     protected AbstractManagedThread createThread(Runnable r, final ContextHandle contextHandleForSetup) {
         if (contextHandleForSetup != null) {
             // app thread, do identity wrap
@@ -55,6 +141,11 @@ public class ConcurroManagedThreadFactoryImpl extends org.glassfish.concurro.Man
         super.taskStarting(t, task);
         if (t instanceof ManagedThread) {
             ((ManagedThread)t).task = task;
+        } else {
+            final VirtualThreadTask virtualThreadTask = virtualThreads.get(t);
+            if (virtualThreadTask != null) {
+                virtualThreadTask.starting(task);
+            }
         }
     }
 
@@ -63,6 +154,64 @@ public class ConcurroManagedThreadFactoryImpl extends org.glassfish.concurro.Man
         super.taskDone(t);
         if (t instanceof ManagedThread) {
             ((ManagedThread)t).task = null;
+        } else {
+            final VirtualThreadTask virtualThreadTask = virtualThreads.get(t);
+            if (virtualThreadTask != null) {
+                virtualThreadTask.done();
+            }
+        }
+    }
+
+    /**
+     *
+     * @return the number of virtual threads started by the factory, and not yet terminated
+     */
+    int getVirtualThreadCount() {
+        return virtualThreads.size();
+    }
+
+    /**
+     * Cancels the tasks running in virtual threads for longer than the specified threshold.
+     * Such threads are not {@link AbstractManagedThread}s, and thus not considered by the hung threads detection of the executors.
+     * @param executorName the name of the executor running the tasks, for logging purposes
+     * @param hungTaskThreshold the time, in milliseconds, after which a running task is considered hung
+     */
+    void terminateHungVirtualThreadTasks(String executorName, long hungTaskThreshold) {
+        if (hungTaskThreshold <= 0) {
+            return;
+        }
+        final long now = System.currentTimeMillis();
+        for (VirtualThreadTask virtualThreadTask : virtualThreads.values()) {
+            final ManagedFutureTask task = virtualThreadTask.task;
+            if (task != null && now - virtualThreadTask.startTime > hungTaskThreshold) {
+                final String taskIdentityName = task.getTaskIdentityName();
+                try {
+                    if (task.cancel(true)) {
+                        EeLogger.ROOT_LOGGER.hungTaskCancelled(executorName, taskIdentityName);
+                    } else {
+                        EeLogger.ROOT_LOGGER.hungTaskNotCancelled(executorName, taskIdentityName);
+                    }
+                } catch (Throwable throwable) {
+                    EeLogger.ROOT_LOGGER.huntTaskTerminationFailure(throwable, executorName, taskIdentityName);
+                }
+            }
+        }
+    }
+
+    /**
+     * The task running in a virtual thread.
+     */
+    private static class VirtualThreadTask {
+        volatile ManagedFutureTask task;
+        volatile long startTime;
+
+        void starting(ManagedFutureTask task) {
+            this.startTime = System.currentTimeMillis();
+            this.task = task;
+        }
+
+        void done() {
+            this.task = null;
         }
     }
 
@@ -0,0 +1,51 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Tests the virtual threads of {@link ConcurroManagedThreadFactoryImpl}.
+ */
+public class ConcurroManagedThreadFactoryImplTestCase {
+
+    @Test
+    public void testVirtualThreadsTrackedWhileRunning() throws Exception {
+        final ConcurroManagedThreadFactoryImpl factory = new ConcurroManagedThreadFactoryImpl("test", null, Thread.NORM_PRIORITY, true);
+        Assume.assumeTrue("virtual threads are not supported by the Java runtime", factory.isVirtual());
+        try {
+            // a thread which is never started is not retained
+            factory.newThread(() -> { });
+            Assert.assertEquals(0, factory.getVirtualThreadCount());
+
+            final CountDownLatch running = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            final Thread thread = factory.newThread(() -> {
+                running.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            thread.start();
+            Assert.assertTrue(running.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals(1, factory.getVirtualThreadCount());
+
+            release.countDown();
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+            Assert.assertFalse(thread.isAlive());
+            Assert.assertEquals(0, factory.getVirtualThreadCount());
+        } finally {
+            factory.stop();
+        }
+    }
+}
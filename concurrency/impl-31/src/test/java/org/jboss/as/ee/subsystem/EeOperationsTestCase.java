@@ -132,6 +132,30 @@ public class EeOperationsTestCase extends AbstractSubsystemBaseTest {
         executeForSuccess(kernelServices, op);
     }
 
+    @Test
+    public void testVirtualOperations() throws Exception {
+        // Boot the container
+        final KernelServices kernelServices = createKernelServicesBuilder(createAdditionalInitialization()).setSubsystemXml(getSubsystemXml()).build();
+
+        for (String type : new String[] { "managed-thread-factory", "managed-executor-service", "managed-scheduled-executor-service" }) {
+            final ModelNode address = Operations.createAddress(ClientConstants.SUBSYSTEM, EeExtension.SUBSYSTEM_NAME, type, "default");
+
+            ModelNode result = executeForSuccess(kernelServices, Operations.createReadAttributeOperation(address, "virtual"));
+            Assert.assertFalse(Operations.readResult(result).asBoolean());
+
+            executeForSuccess(kernelServices, Operations.createWriteAttributeOperation(address, "virtual", true));
+            result = executeForSuccess(kernelServices, Operations.createReadAttributeOperation(address, "virtual"));
+            Assert.assertTrue(Operations.readResult(result).asBoolean());
+
+            result = kernelServices.executeOperation(Operations.createWriteAttributeOperation(address, "virtual", "not-a-boolean"));
+            Assert.assertFalse(Operations.isSuccessfulOutcome(result));
+
+            executeForSuccess(kernelServices, Operations.createUndefineAttributeOperation(address, "virtual"));
+            result = executeForSuccess(kernelServices, Operations.createReadAttributeOperation(address, "virtual"));
+            Assert.assertFalse(Operations.readResult(result).asBoolean());
+        }
+    }
+
     private ModelNode executeForSuccess(final KernelServices kernelServices, final ModelNode op) {
         final ModelNode result = kernelServices.executeOperation(op);
         if (!Operations.isSuccessfulOutcome(result)) {
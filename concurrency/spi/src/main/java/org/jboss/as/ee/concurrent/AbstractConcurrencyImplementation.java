@@ -5,9 +5,11 @@
 package org.jboss.as.ee.concurrent;
 
 import org.jboss.as.controller.ExtensionContext;
+import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.as.ee.concurrent.deployers.ConcurrencyResourceReferenceRegistryProcessor;
 import org.jboss.as.ee.concurrent.deployers.EEConcurrentContextProcessor;
 import org.jboss.as.ee.concurrent.deployers.EEConcurrentDefaultBindingProcessor;
@@ -24,6 +26,8 @@ import org.jboss.as.ee.subsystem.ConcurrentEESubsystemParser20;
 import org.jboss.as.ee.subsystem.ConcurrentEESubsystemParser40;
 import org.jboss.as.ee.subsystem.ConcurrentEESubsystemParser50;
 import org.jboss.as.ee.subsystem.ConcurrentEESubsystemParser60;
+import org.jboss.as.ee.subsystem.ConcurrentEESubsystemParser70;
+import org.jboss.as.ee.subsystem.ConcurrentEESubsystemTransformers;
 import org.jboss.as.ee.subsystem.ConcurrentEESubsystemXMLPersister;
 import org.jboss.as.ee.subsystem.ContextServiceResourceDefinition;
 import org.jboss.as.ee.subsystem.EeExtension;
@@ -92,7 +96,16 @@ public abstract class AbstractConcurrencyImplementation implements ConcurrencyIm
         ConcurrentEESubsystemParser60.parseConcurrent(reader, operations, subsystemPathAddress);
     }
     @Override
+    public void parseConcurrentElement70(XMLExtendedStreamReader reader, List<ModelNode> operations, PathAddress subsystemPathAddress) throws XMLStreamException {
+        ConcurrentEESubsystemParser70.parseConcurrent(reader, operations, subsystemPathAddress);
+    }
+    @Override
     public void writeConcurrentElement(XMLExtendedStreamWriter writer, ModelNode eeSubSystem) throws XMLStreamException {
         ConcurrentEESubsystemXMLPersister.writeConcurrentElement(writer, eeSubSystem);
     }
+
+    @Override
+    public void registerTransformers(ResourceTransformationDescriptionBuilder subsystemBuilder, ModelVersion version) {
+        ConcurrentEESubsystemTransformers.registerTransformers(subsystemBuilder, version);
+    }
 }
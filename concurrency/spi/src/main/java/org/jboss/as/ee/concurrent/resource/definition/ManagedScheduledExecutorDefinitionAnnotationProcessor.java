@@ -9,6 +9,7 @@ import org.jboss.as.ee.resource.definition.ResourceDefinitionAnnotationProcessor
 import org.jboss.as.ee.resource.definition.ResourceDefinitionInjectionSource;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.DotName;
 import org.jboss.metadata.property.PropertyReplacer;
 
@@ -38,10 +39,12 @@ public class ManagedScheduledExecutorDefinitionAnnotationProcessor extends Resou
         final String hungTaskThresholdString = AnnotationElement.asOptionalString(annotationInstance, ManagedScheduledExecutorDefinitionInjectionSource.HUNG_TASK_THRESHOLD_PROP);
         final long hungTaskThreshold = hungTaskThresholdString != null && !hungTaskThresholdString.isEmpty() ? Math.max(Long.valueOf(hungTaskThresholdString), 0L) : 0L;
         final int maxAsync = AnnotationElement.asOptionalInt(annotationInstance, ManagedScheduledExecutorDefinitionInjectionSource.MAX_ASYNC_PROP);
+        final AnnotationValue virtual = annotationInstance.value(ManagedScheduledExecutorDefinitionInjectionSource.VIRTUAL_PROP);
         final ManagedScheduledExecutorDefinitionInjectionSource injectionSource = new ManagedScheduledExecutorDefinitionInjectionSource(jndiName);
         injectionSource.setContextServiceRef(context);
         injectionSource.setHungTaskThreshold(hungTaskThreshold);
         injectionSource.setMaxAsync(maxAsync);
+        injectionSource.setVirtual(virtual != null && virtual.asBoolean());
         return injectionSource;
     }
 }
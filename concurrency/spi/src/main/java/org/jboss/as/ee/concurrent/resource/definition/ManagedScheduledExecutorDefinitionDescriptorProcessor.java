@@ -10,6 +10,7 @@ import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.metadata.javaee.spec.Environment;
 import org.jboss.metadata.javaee.spec.ManagedScheduledExecutorMetaData;
 import org.jboss.metadata.javaee.spec.ManagedScheduledExecutorsMetaData;
+import org.jboss.metadata.javaee.spec.PropertyMetaData;
 import org.jboss.metadata.javaee.spec.RemoteEnvironment;
 
 import static org.jboss.as.ee.logging.EeLogger.ROOT_LOGGER;
@@ -46,6 +47,14 @@ public class ManagedScheduledExecutorDefinitionDescriptorProcessor extends Resou
         if (maxAsync != null) {
             resourceDefinitionInjectionSource.setMaxAsync(maxAsync);
         }
+        if (metaData.getProperties() != null) {
+            // the metadata does not expose the virtual element of the descriptor, thus it is configured as a property
+            for (PropertyMetaData property : metaData.getProperties()) {
+                if (ManagedScheduledExecutorDefinitionInjectionSource.VIRTUAL_PROP.equals(property.getName())) {
+                    resourceDefinitionInjectionSource.setVirtual(Boolean.parseBoolean(property.getValue().trim()));
+                }
+            }
+        }
         // TODO *FOLLOW UP* XML properties are unused, perhaps we should consider those to configure other managed scheduled exec properties we have on server config?
         return resourceDefinitionInjectionSource;
     }
@@ -10,6 +10,7 @@ import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.metadata.javaee.spec.Environment;
 import org.jboss.metadata.javaee.spec.ManagedThreadFactoriesMetaData;
 import org.jboss.metadata.javaee.spec.ManagedThreadFactoryMetaData;
+import org.jboss.metadata.javaee.spec.PropertyMetaData;
 import org.jboss.metadata.javaee.spec.RemoteEnvironment;
 
 import static org.jboss.as.ee.logging.EeLogger.ROOT_LOGGER;
@@ -43,6 +44,14 @@ public class ManagedThreadFactoryDefinitionDescriptorProcessor extends ResourceD
         if (priority != null) {
             resourceDefinitionInjectionSource.setPriority(priority);
         }
+        if (metaData.getProperties() != null) {
+            // the metadata does not expose the virtual element of the descriptor, thus it is configured as a property
+            for (PropertyMetaData property : metaData.getProperties()) {
+                if (ManagedThreadFactoryDefinitionInjectionSource.VIRTUAL_PROP.equals(property.getName())) {
+                    resourceDefinitionInjectionSource.setVirtual(Boolean.parseBoolean(property.getValue().trim()));
+                }
+            }
+        }
         return resourceDefinitionInjectionSource;
     }
 }
@@ -52,6 +52,7 @@ public class ManagedScheduledExecutorServiceService extends EEConcurrentAbstract
     private final Supplier<RequestController> requestControllerSupplier;
     private ControlPoint controlPoint;
     private final Supplier<ManagedExecutorHungTasksPeriodicTerminationService> hungTasksPeriodicTerminationService;
+    private final boolean virtual;
 
     private Future hungTasksPeriodicTerminationFuture;
 
@@ -71,13 +72,15 @@ public class ManagedScheduledExecutorServiceService extends EEConcurrentAbstract
      * @param threadLifeTime
      * @param rejectPolicy
      * @param threadPriority
+     * @param hungTasksPeriodicTerminationService
+     * @param virtual
      */
     public ManagedScheduledExecutorServiceService(final Consumer<ManagedScheduledExecutorServiceAdapter> consumer,
                                                   final Supplier<WildFlyContextService> contextServiceSupplier,
                                                   final Supplier<WildFlyManagedThreadFactory> managedThreadFactorySupplier,
                                                   final Supplier<ProcessStateNotifier> processStateNotifierSupplier,
                                                   final Supplier<RequestController> requestControllerSupplier,
-                                                  String name, String jndiName, long hungTaskThreshold, long hungTaskTerminationPeriod, boolean longRunningTasks, int corePoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, Integer threadPriority, final Supplier<ManagedExecutorHungTasksPeriodicTerminationService> hungTasksPeriodicTerminationService) {
+                                                  String name, String jndiName, long hungTaskThreshold, long hungTaskTerminationPeriod, boolean longRunningTasks, int corePoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, Integer threadPriority, final Supplier<ManagedExecutorHungTasksPeriodicTerminationService> hungTasksPeriodicTerminationService, boolean virtual) {
         super(jndiName);
         this.consumer = consumer;
         this.contextServiceSupplier.set(contextServiceSupplier);
@@ -95,6 +98,7 @@ public class ManagedScheduledExecutorServiceService extends EEConcurrentAbstract
         this.rejectPolicy = rejectPolicy;
         this.threadPriority = threadPriority;
         this.hungTasksPeriodicTerminationService = hungTasksPeriodicTerminationService;
+        this.virtual = virtual;
     }
 
     @Override
@@ -106,7 +110,7 @@ public class ManagedScheduledExecutorServiceService extends EEConcurrentAbstract
             WildFlyManagedThreadFactory managedThreadFactory = managedThreadFactorySupplier != null ? managedThreadFactorySupplier.get() : null;
             priority = managedThreadFactory != null ? managedThreadFactory.getPriority() : Thread.NORM_PRIORITY;
         }
-        WildFlyManagedThreadFactory managedThreadFactory = ConcurrencyImplementation.INSTANCE.newManagedThreadFactory("EE-ManagedScheduledExecutorService-" + name, null, priority);
+        WildFlyManagedThreadFactory managedThreadFactory = ConcurrencyImplementation.INSTANCE.newManagedThreadFactory("EE-ManagedScheduledExecutorService-" + name, null, priority, virtual);
         if (requestControllerSupplier != null) {
             final RequestController requestController = requestControllerSupplier.get();
             controlPoint = requestController != null ? requestController.getControlPoint(name, "managed-scheduled-executor-service") : null;
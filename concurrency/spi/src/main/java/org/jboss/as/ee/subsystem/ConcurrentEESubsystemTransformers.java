@@ -0,0 +1,24 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.subsystem;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+
+/**
+ * The transformers of the 'concurrent' resources of the EE Subsystem, to legacy versions of the subsystem model.
+ */
+public class ConcurrentEESubsystemTransformers {
+    private ConcurrentEESubsystemTransformers() {
+    }
+    public static void registerTransformers(ResourceTransformationDescriptionBuilder subsystemBuilder, ModelVersion version) {
+        if (version.getMajor() < EESubsystemModel.Version.v7_0_0.getMajor()) {
+            ManagedThreadFactoryResourceDefinition.registerTransformers7_0(subsystemBuilder);
+            ManagedExecutorServiceResourceDefinition.registerTransformers7_0(subsystemBuilder);
+            ManagedScheduledExecutorServiceResourceDefinition.registerTransformers7_0(subsystemBuilder);
+        }
+    }
+}
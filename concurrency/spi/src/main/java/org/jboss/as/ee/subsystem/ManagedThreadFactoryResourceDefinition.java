@@ -19,6 +19,9 @@ import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.as.ee.concurrent.WildFlyManagedThreadFactory;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -37,6 +40,7 @@ public class ManagedThreadFactoryResourceDefinition extends SimpleResourceDefini
     public static final String JNDI_NAME = "jndi-name";
     public static final String CONTEXT_SERVICE = "context-service";
     public static final String PRIORITY = "priority";
+    public static final String VIRTUAL = "virtual";
 
     public static final SimpleAttributeDefinition JNDI_NAME_AD =
             new SimpleAttributeDefinitionBuilder(JNDI_NAME, ModelType.STRING, false)
@@ -60,12 +64,21 @@ public class ManagedThreadFactoryResourceDefinition extends SimpleResourceDefini
                     .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
                     .build();
 
-    static final SimpleAttributeDefinition[] ATTRIBUTES = {JNDI_NAME_AD, CONTEXT_SERVICE_AD, PRIORITY_AD};
+    public static final SimpleAttributeDefinition VIRTUAL_AD =
+            new SimpleAttributeDefinitionBuilder(VIRTUAL, ModelType.BOOLEAN, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .build();
+
+    static final SimpleAttributeDefinition[] ATTRIBUTES = {JNDI_NAME_AD, CONTEXT_SERVICE_AD, PRIORITY_AD, VIRTUAL_AD};
+
+    public static final PathElement PATH_ELEMENT = PathElement.pathElement(EESubsystemModel.MANAGED_THREAD_FACTORY);
 
     private static final ResourceDescriptionResolver RESOLVER = new StandardResourceDescriptionResolver(EESubsystemModel.MANAGED_THREAD_FACTORY, EeExtension.class.getPackage().getName() + ".LocalDescriptions", EeExtension.class.getClassLoader(), true, true);
 
     public ManagedThreadFactoryResourceDefinition() {
-        super(new SimpleResourceDefinition.Parameters(PathElement.pathElement(EESubsystemModel.MANAGED_THREAD_FACTORY), RESOLVER)
+        super(new SimpleResourceDefinition.Parameters(PATH_ELEMENT, RESOLVER)
                 .setAddHandler(ManagedThreadFactoryAdd.INSTANCE)
                 .setRemoveHandler(new ServiceRemoveStepHandler(ManagedThreadFactoryAdd.INSTANCE))
                 .addCapabilities(CAPABILITY));
@@ -78,4 +91,12 @@ public class ManagedThreadFactoryResourceDefinition extends SimpleResourceDefini
             resourceRegistration.registerReadWriteAttribute(attr, null, writeHandler);
         }
     }
+
+    static void registerTransformers7_0(final ResourceTransformationDescriptionBuilder builder) {
+        final ResourceTransformationDescriptionBuilder resourceBuilder = builder.addChildResource(PATH_ELEMENT);
+        resourceBuilder.getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, VIRTUAL_AD)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, VIRTUAL_AD)
+                .end();
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.transactionintegration;
+
+import jakarta.resource.spi.ManagedConnection;
+import jakarta.transaction.TransactionManager;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import javax.transaction.xa.XAResource;
+
+import org.jboss.as.txn.integration.JBossContextXATerminator;
+import org.jboss.as.txn.service.TransactionTimingStatistics;
+import org.jboss.jca.core.spi.transaction.ConnectableResource;
+import org.jboss.jca.core.spi.transaction.XAResourceStatistics;
+import org.jboss.jca.core.spi.transaction.xa.XAResourceWrapper;
+import org.jboss.jca.core.tx.jbossts.TransactionIntegrationImpl;
+import org.jboss.tm.XAResourceRecoveryRegistry;
+import org.jboss.tm.usertx.UserTransactionRegistry;
+
+/**
+ * Transaction integration which records the prepare and commit times of the wrapped XA resources, by JNDI name, into the
+ * {@link TransactionTimingStatistics} of the transactions subsystem.
+ */
+final class TimedTransactionIntegration extends TransactionIntegrationImpl {
+
+    private final TransactionTimingStatistics statistics = TransactionTimingStatistics.getInstance();
+
+    TimedTransactionIntegration(final TransactionManager tm, final TransactionSynchronizationRegistry tsr,
+                                final UserTransactionRegistry utr, final JBossContextXATerminator terminator,
+                                final XAResourceRecoveryRegistry rr) {
+        super(tm, tsr, utr, terminator, rr);
+    }
+
+    @Override
+    public XAResourceWrapper createXAResourceWrapper(XAResource xares, boolean pad, Boolean override, String productName,
+            String productVersion, String jndiName, boolean firstResource, XAResourceStatistics xastat) {
+        return super.createXAResourceWrapper(statistics.timed(xares, jndiName), pad, override, productName, productVersion,
+                jndiName, firstResource, xastat);
+    }
+
+    @Override
+    public XAResourceWrapper createConnectableXAResourceWrapper(XAResource xares, boolean pad, Boolean override,
+            String productName, String productVersion, String jndiName, ConnectableResource cr, XAResourceStatistics xastat) {
+        return super.createConnectableXAResourceWrapper(statistics.timed(xares, jndiName), pad, override, productName,
+                productVersion, jndiName, cr, xastat);
+    }
+
+    @Override
+    public XAResourceWrapper createConnectableXAResourceWrapper(XAResource xares, boolean pad, Boolean override,
+            String productName, String productVersion, String jndiName, ManagedConnection mc, XAResourceStatistics xastat) {
+        return super.createConnectableXAResourceWrapper(statistics.timed(xares, jndiName), pad, override, productName,
+                productVersion, jndiName, mc, xastat);
+    }
+}
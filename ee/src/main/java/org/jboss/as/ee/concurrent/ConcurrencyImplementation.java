@@ -5,10 +5,12 @@
 package org.jboss.as.ee.concurrent;
 
 import org.jboss.as.controller.ExtensionContext;
+import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.ProcessStateNotifier;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.as.server.DeploymentProcessorTarget;
 import org.jboss.dmr.ModelNode;
 import org.jboss.staxmapper.XMLExtendedStreamReader;
@@ -96,6 +98,15 @@ public interface ConcurrencyImplementation {
      */
     void parseConcurrentElement60(XMLExtendedStreamReader reader, List<ModelNode> operations, PathAddress subsystemPathAddress) throws XMLStreamException;
 
+    /**
+     * Parses <concurrent/> XML element for EE subsystem schema 7.0
+     * @param reader the stream reader
+     * @param operations the list to add operations
+     * @param subsystemPathAddress the subsystem path address
+     * @throws XMLStreamException if an error occurs
+     */
+    void parseConcurrentElement70(XMLExtendedStreamReader reader, List<ModelNode> operations, PathAddress subsystemPathAddress) throws XMLStreamException;
+
     /**
      * Writes <concurrent/> XML element.
      * @param writer the stream writer
@@ -104,6 +115,15 @@ public interface ConcurrencyImplementation {
      */
     void writeConcurrentElement(XMLExtendedStreamWriter writer, ModelNode eeSubSystem) throws XMLStreamException;
 
+    // transformers ops
+
+    /**
+     * Registers the transformers of the concurrency related sub-resources, to a legacy version of the subsystem model.
+     * @param subsystemBuilder the transformation description builder of the subsystem resource
+     * @param version the legacy version of the subsystem model
+     */
+    void registerTransformers(ResourceTransformationDescriptionBuilder subsystemBuilder, ModelVersion version);
+
     /**
      * @param name the instance name
      * @param contextServiceTypesConfiguration the context service's types configuration
@@ -119,6 +139,17 @@ public interface ConcurrencyImplementation {
      */
     WildFlyManagedThreadFactory newManagedThreadFactory(String name, WildFlyContextService contextService, int priority);
 
+    /**
+     * @param name the instance name
+     * @param contextService the context service to use
+     * @param priority the thread factory priority, ignored by virtual threads
+     * @param virtual if true the thread factory creates virtual threads, if supported by the implementation and the Java runtime
+     * @return a new WildFlyManagedThreadFactory instance with the specified params.
+     */
+    default WildFlyManagedThreadFactory newManagedThreadFactory(String name, WildFlyContextService contextService, int priority, boolean virtual) {
+        return newManagedThreadFactory(name, contextService, priority);
+    }
+
     /**
      *
      * @param name the instance name
@@ -0,0 +1,39 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates factories of virtual threads, through reflection since the modules are compiled for a Java release without virtual threads.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Creates a factory of virtual threads, i.e. the equivalent of {@code Thread.ofVirtual().name(prefix, 0).factory()}.
+     * @param prefix the prefix of the names of the threads, to which a counter is appended
+     * @return a new factory of virtual threads
+     * @throws UnsupportedOperationException if the Java runtime does not support virtual threads
+     */
+    public static ThreadFactory newThreadFactory(String prefix) {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = ofVirtual.invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (InvocationTargetException e) {
+            throw new UnsupportedOperationException(e.getCause());
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new UnsupportedOperationException(e);
+        }
+    }
+}
@@ -1233,4 +1233,11 @@ public interface EeLogger extends BasicLogger {
 
     @Message(id = 143, value = "Lifecycle operation not supported")
     IllegalStateException lifecycleOperationNotSupported();
+
+    @LogMessage(level = WARN)
+    @Message(id = 144, value = "Virtual threads are not supported by this Java runtime, %s will use platform threads")
+    void virtualThreadsNotSupported(String threadFactoryName, @Cause Throwable cause);
+
+    @Message(id = 145, value = "Managed thread factory %s has been stopped")
+    IllegalStateException managedThreadFactoryStopped(String threadFactoryName);
 }
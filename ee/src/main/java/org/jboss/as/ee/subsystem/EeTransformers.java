@@ -0,0 +1,38 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.subsystem;
+
+import static org.jboss.as.ee.subsystem.EeExtension.CURRENT_MODEL_VERSION;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
+import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
+import org.jboss.as.controller.transform.description.ChainedTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+import org.jboss.as.ee.concurrent.ConcurrencyImplementation;
+
+/**
+ * Registers the transformers of the EE subsystem.
+ */
+public class EeTransformers implements ExtensionTransformerRegistration {
+
+    @Override
+    public String getSubsystemName() {
+        return EeExtension.SUBSYSTEM_NAME;
+    }
+
+    @Override
+    public void registerTransformers(SubsystemTransformerRegistration subsystemRegistration) {
+        ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(CURRENT_MODEL_VERSION);
+
+        // 7.0.0 --> 6.0.0
+        ResourceTransformationDescriptionBuilder builder60 = chainedBuilder.createBuilder(CURRENT_MODEL_VERSION, EESubsystemModel.Version.v6_0_0);
+        ConcurrencyImplementation.INSTANCE.registerTransformers(builder60, EESubsystemModel.Version.v6_0_0);
+
+        chainedBuilder.buildAndRegister(subsystemRegistration, new ModelVersion[]{EESubsystemModel.Version.v6_0_0});
+    }
+}
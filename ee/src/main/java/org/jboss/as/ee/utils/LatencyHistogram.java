@@ -0,0 +1,148 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ee.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear histogram of latencies, in the unit chosen by its user.
+ * <p>
+ * Latencies below 16 are counted exactly. Beyond, each power of two is split into 8 buckets of equal width, so that a
+ * percentile is off by at most 1/8 of its value. Negative latencies are counted as 0. Recording a latency only increments the
+ * counter of its bucket.
+ * </p>
+ * <p>
+ * The bucket layout and the percentile computation are also available to histograms which maintain their own counters, e.g.
+ * decaying or weighted ones, through {@link #index(long)} and {@link Snapshot#Snapshot(long[])}.
+ * </p>
+ */
+public class LatencyHistogram {
+    // bits of a latency, below its most significant bit, which select its sub-bucket
+    private static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /**
+     * The number of buckets, which cover every non-negative {@code long}.
+     */
+    public static final int BUCKETS = (Long.SIZE - 1 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Records the given latency.
+     *
+     * @param latency a latency
+     */
+    public void record(long latency) {
+        this.counts.incrementAndGet(index(latency));
+    }
+
+    /**
+     * Returns a snapshot of this histogram.
+     */
+    public Snapshot getSnapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; ++i) {
+            counts[i] = this.counts.get(i);
+        }
+        return new Snapshot(counts);
+    }
+
+    /**
+     * Returns the index of the bucket counting the given latency.
+     *
+     * @param latency a latency
+     * @return an index within [0, {@value #BUCKETS})
+     */
+    public static int index(long latency) {
+        long value = Math.max(latency, 0);
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest latency counted by the bucket of the given index.
+     */
+    public static long highestLatency(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index / SUB_BUCKETS) - 1;
+        long mantissa = SUB_BUCKETS + (index % SUB_BUCKETS);
+        // for the last bucket, the shift overflows to Long.MIN_VALUE, hence a highest latency of Long.MAX_VALUE
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * An immutable snapshot of the counters of a log-linear histogram.
+     */
+    public static class Snapshot {
+        public static final Snapshot EMPTY = new Snapshot(new long[BUCKETS]);
+
+        private final long[] counts;
+        private final long count;
+
+        /**
+         * Creates a snapshot of the given counters, indexed by {@link LatencyHistogram#index(long)}.
+         * The counters may be weighted, the percentiles only depend on their relative values.
+         *
+         * @param counts {@value LatencyHistogram#BUCKETS} counters, not copied
+         */
+        public Snapshot(long[] counts) {
+            if (counts.length != BUCKETS) {
+                throw new IllegalArgumentException();
+            }
+            this.counts = counts;
+            long count = 0;
+            for (long bucket : counts) {
+                count += bucket;
+            }
+            this.count = count;
+        }
+
+        /**
+         * Returns the number of recorded latencies, or the sum of their weights.
+         */
+        public long getCount() {
+            return this.count;
+        }
+
+        /**
+         * Returns the given percentile of the recorded latencies, i.e. the latency which is greater than or equal to the given
+         * percentage of the recorded latencies.
+         *
+         * @param percentile a percentile within (0, 100]
+         * @return the latency, or 0 if no latency was recorded
+         */
+        public long getPercentile(double percentile) {
+            if (this.count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(this.count * Math.min(Math.max(percentile, 0d), 100d) / 100d));
+            long total = 0;
+            for (int i = 0; i < this.counts.length; ++i) {
+                total += this.counts[i];
+                if (total >= rank) {
+                    return highestLatency(i);
+                }
+            }
+            return highestLatency(this.counts.length - 1);
+        }
+
+        /**
+         * Returns the sum of this snapshot and the given snapshot.
+         */
+        public Snapshot merge(Snapshot snapshot) {
+            long[] counts = this.counts.clone();
+            for (int i = 0; i < counts.length; ++i) {
+                counts[i] += snapshot.counts[i];
+            }
+            return new Snapshot(counts);
+        }
+    }
+}
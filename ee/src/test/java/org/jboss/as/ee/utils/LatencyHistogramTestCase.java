@@ -0,0 +1,72 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ee.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTestCase {
+
+    @Test
+    public void testBuckets() {
+        for (long latency = 0; latency < 1_000_000; ++latency) {
+            int index = LatencyHistogram.index(latency);
+            long highest = LatencyHistogram.highestLatency(index);
+            Assert.assertTrue(highest >= latency);
+            // the bucket error is below 1/8 of the latency
+            Assert.assertTrue(highest - latency <= latency / 8);
+            if (index > 0) {
+                Assert.assertTrue(LatencyHistogram.highestLatency(index - 1) < latency);
+            }
+        }
+        Assert.assertEquals(0, LatencyHistogram.index(-1));
+        Assert.assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.index(Long.MAX_VALUE));
+        Assert.assertEquals(Long.MAX_VALUE, LatencyHistogram.highestLatency(LatencyHistogram.BUCKETS - 1));
+        Assert.assertTrue(LatencyHistogram.highestLatency(LatencyHistogram.BUCKETS - 2) < Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getSnapshot().getPercentile(50));
+        for (int i = 1; i <= 100; ++i) {
+            histogram.record(i);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+        Assert.assertEquals(100, snapshot.getCount());
+        Assert.assertEquals(51, snapshot.getPercentile(50));
+        Assert.assertEquals(95, snapshot.getPercentile(95));
+        Assert.assertEquals(103, snapshot.getPercentile(100));
+        Assert.assertEquals(1, snapshot.getPercentile(1));
+    }
+
+    @Test
+    public void testMerge() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(1);
+        second.record(1000);
+        second.record(-1);
+        LatencyHistogram.Snapshot snapshot = LatencyHistogram.Snapshot.EMPTY.merge(first.getSnapshot()).merge(second.getSnapshot());
+        Assert.assertEquals(3, snapshot.getCount());
+        Assert.assertEquals(0, snapshot.getPercentile(33));
+        Assert.assertEquals(1, snapshot.getPercentile(66));
+        Assert.assertTrue(snapshot.getPercentile(99) >= 1000);
+    }
+
+    @Test
+    public void testWeightedSnapshot() {
+        long[] counts = new long[LatencyHistogram.BUCKETS];
+        counts[LatencyHistogram.index(10)] = 900;
+        counts[LatencyHistogram.index(1000)] = 100;
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram.Snapshot(counts);
+        Assert.assertEquals(1000, snapshot.getCount());
+        Assert.assertEquals(10, snapshot.getPercentile(90));
+        Assert.assertEquals(LatencyHistogram.highestLatency(LatencyHistogram.index(1000)), snapshot.getPercentile(91));
+    }
+}
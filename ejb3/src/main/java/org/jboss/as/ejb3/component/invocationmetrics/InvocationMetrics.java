@@ -13,9 +13,15 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.as.ee.utils.LatencyHistogram;
 
 /**
+ * Invocation metrics of a component, and of each of its methods.
+ * The counters are striped and the latencies are recorded in {@link LatencyHistogram}s, so that recording an invocation
+ * neither allocates nor contends on a single value.
+ *
  * @author <a href="mailto:cdewolf@redhat.com">Carlo de Wolf</a>
  */
 public class InvocationMetrics {
@@ -23,11 +29,15 @@ public class InvocationMetrics {
         final long invocations;
         final long executionTime;
         final long waitTime;
+        final LatencyHistogram.Snapshot executionTimes;
+        final LatencyHistogram.Snapshot waitTimes;
 
-        private Values(final long invocations, final long waitTime, final long executionTime) {
+        private Values(final long invocations, final long waitTime, final long executionTime, final LatencyHistogram.Snapshot waitTimes, final LatencyHistogram.Snapshot executionTimes) {
             this.invocations = invocations;
             this.executionTime = executionTime;
             this.waitTime = waitTime;
+            this.executionTimes = executionTimes;
+            this.waitTimes = waitTimes;
         }
 
         public long getExecutionTime() {
@@ -41,40 +51,65 @@ public class InvocationMetrics {
         public long getWaitTime() {
             return waitTime;
         }
+
+        /**
+         * @param percentile a percentile within (0, 100]
+         * @return the given percentile of the execution times, in milliseconds
+         */
+        public long getExecutionTimePercentile(final double percentile) {
+            return executionTimes.getPercentile(percentile);
+        }
+
+        /**
+         * @param percentile a percentile within (0, 100]
+         * @return the given percentile of the wait times, in milliseconds
+         */
+        public long getWaitTimePercentile(final double percentile) {
+            return waitTimes.getPercentile(percentile);
+        }
+    }
+
+    private static class MethodMetrics {
+        final LongAdder invocations = new LongAdder();
+        final LongAdder executionTime = new LongAdder();
+        final LongAdder waitTime = new LongAdder();
+        final LatencyHistogram executionTimes = new LatencyHistogram();
+        final LatencyHistogram waitTimes = new LatencyHistogram();
+
+        void record(final long invocationWaitTime, final long invocationExecutionTime) {
+            invocations.increment();
+            waitTime.add(invocationWaitTime);
+            executionTime.add(invocationExecutionTime);
+            waitTimes.record(invocationWaitTime);
+            executionTimes.record(invocationExecutionTime);
+        }
+
+        Values getValues() {
+            return new Values(invocations.sum(), waitTime.sum(), executionTime.sum(), waitTimes.getSnapshot(), executionTimes.getSnapshot());
+        }
     }
 
-    private final AtomicReference<Values> values = new AtomicReference<Values>(new Values(0, 0, 0));
+    // the component totals, the histograms of the component are merged from the histograms of its methods
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder executionTime = new LongAdder();
+    private final LongAdder waitTime = new LongAdder();
     private final AtomicLong concurrent = new AtomicLong(0);
     private final AtomicLong peakConcurrent = new AtomicLong(0);
 
-    private final ConcurrentMap<String, AtomicReference<Values>> methods = new ConcurrentHashMap<String, AtomicReference<Values>>();
+    private final ConcurrentMap<String, MethodMetrics> methods = new ConcurrentHashMap<String, MethodMetrics>();
+    // the delays between the scheduled expirations of the timers of the component and the start of their timeouts
+    private final LatencyHistogram timeoutLateness = new LatencyHistogram();
 
     void finishInvocation(final Method method, final long invocationWaitTime, final long invocationExecutionTime) {
         concurrent.decrementAndGet();
-        for(;;) {
-            final Values oldv = values.get();
-            final Values newv = new Values(oldv.invocations + 1, oldv.waitTime + invocationWaitTime, oldv.executionTime + invocationExecutionTime);
-            if (values.compareAndSet(oldv, newv))
-                break;
-        }
-        final AtomicReference<Values> methodValues = ref(methods, method.getName());
-        for (;;) {
-            final Values oldv = methodValues.get();
-            final Values newv = new Values(oldv.invocations + 1, oldv.waitTime + invocationWaitTime, oldv.executionTime + invocationExecutionTime);
-            if (methodValues.compareAndSet(oldv, newv))
-                break;
-        }
-    }
-
-    private static AtomicReference<Values> ref(final ConcurrentMap<String, AtomicReference<Values>> map, final String key) {
-        AtomicReference<Values> ref = map.get(key);
-        if (ref == null) {
-            ref = new AtomicReference<Values>(new Values(0, 0, 0));
-            final AtomicReference<Values> prevRef = map.putIfAbsent(key, ref);
-            if (prevRef != null)
-                ref = prevRef;
+        invocations.increment();
+        waitTime.add(invocationWaitTime);
+        executionTime.add(invocationExecutionTime);
+        MethodMetrics methodMetrics = methods.get(method.getName());
+        if (methodMetrics == null) {
+            methodMetrics = methods.computeIfAbsent(method.getName(), name -> new MethodMetrics());
         }
-        return ref;
+        methodMetrics.record(invocationWaitTime, invocationExecutionTime);
     }
 
     public long getConcurrent() {
@@ -82,11 +117,52 @@ public class InvocationMetrics {
     }
 
     public long getExecutionTime() {
-        return values.get().executionTime;
+        return executionTime.sum();
     }
 
     public long getInvocations() {
-        return values.get().invocations;
+        return invocations.sum();
+    }
+
+    /**
+     * @param percentile a percentile within (0, 100]
+     * @return the given percentile of the execution times of all methods, in milliseconds
+     */
+    public long getExecutionTimePercentile(final double percentile) {
+        LatencyHistogram.Snapshot snapshot = LatencyHistogram.Snapshot.EMPTY;
+        for (MethodMetrics methodMetrics : methods.values()) {
+            snapshot = snapshot.merge(methodMetrics.executionTimes.getSnapshot());
+        }
+        return snapshot.getPercentile(percentile);
+    }
+
+    /**
+     * @param percentile a percentile within (0, 100]
+     * @return the given percentile of the wait times of all methods, in milliseconds
+     */
+    public long getWaitTimePercentile(final double percentile) {
+        LatencyHistogram.Snapshot snapshot = LatencyHistogram.Snapshot.EMPTY;
+        for (MethodMetrics methodMetrics : methods.values()) {
+            snapshot = snapshot.merge(methodMetrics.waitTimes.getSnapshot());
+        }
+        return snapshot.getPercentile(percentile);
+    }
+
+    /**
+     * Records the lateness of a timeout, i.e. the delay between the scheduled expiration of a timer and the start of its
+     * timeout, which includes the delay of the scheduler and the wait for a thread of the timer service.
+     * @param lateness the lateness of the timeout, in milliseconds
+     */
+    public void recordTimeoutLateness(final long lateness) {
+        timeoutLateness.record(Math.max(0, lateness));
+    }
+
+    /**
+     * @param percentile a percentile within (0, 100]
+     * @return the given percentile of the lateness of the timeouts, in milliseconds
+     */
+    public long getTimeoutLatenessPercentile(final double percentile) {
+        return timeoutLateness.getSnapshot().getPercentile(percentile);
     }
 
     public Map<String, Values> getMethods() {
@@ -96,7 +172,7 @@ public class InvocationMetrics {
                 return new AbstractSet<Entry<String, Values>>() {
                     @Override
                     public Iterator<Entry<String, Values>> iterator() {
-                        final Iterator<Entry<String, AtomicReference<Values>>> delegate = methods.entrySet().iterator();
+                        final Iterator<Entry<String, MethodMetrics>> delegate = methods.entrySet().iterator();
                         return new Iterator<Entry<String, Values>>() {
                             @Override
                             public boolean hasNext() {
@@ -105,7 +181,7 @@ public class InvocationMetrics {
 
                             @Override
                             public Entry<String, Values> next() {
-                                final Entry<String, AtomicReference<Values>> next = delegate.next();
+                                final Entry<String, MethodMetrics> next = delegate.next();
                                 return new Entry<String, Values>() {
                                     @Override
                                     public String getKey() {
@@ -114,7 +190,7 @@ public class InvocationMetrics {
 
                                     @Override
                                     public Values getValue() {
-                                        return next.getValue().get();
+                                        return next.getValue().getValues();
                                     }
 
                                     @Override
@@ -145,7 +221,7 @@ public class InvocationMetrics {
     }
 
     public long getWaitTime() {
-        return values.get().waitTime;
+        return waitTime.sum();
     }
 
     void startInvocation() {
@@ -0,0 +1,26 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.singleton;
+
+import org.jboss.metadata.ejb.parser.jboss.ejb3.AbstractEJBBoundMetaData;
+
+/**
+ * Metadata representing the lock implementation configured for singleton beans via the jboss-ejb3.xml deployment descriptor
+ */
+public class EJBBoundSingletonLockMetaData extends AbstractEJBBoundMetaData {
+
+    private static final long serialVersionUID = 6829419235063251706L;
+
+    private Boolean striped;
+
+    public Boolean getStriped() {
+        return striped;
+    }
+
+    public void setStriped(final Boolean striped) {
+        this.striped = striped;
+    }
+}
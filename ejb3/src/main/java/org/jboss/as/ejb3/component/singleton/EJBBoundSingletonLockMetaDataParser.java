@@ -0,0 +1,53 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.singleton;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jboss.metadata.ejb.parser.jboss.ejb3.AbstractEJBBoundMetaDataParser;
+import org.jboss.metadata.property.PropertyReplacer;
+
+/**
+ * Parser for <code>urn:ejb-singleton-lock</code> namespace. The <code>urn:ejb-singleton-lock</code> namespace elements
+ * can be used to select the read/write lock of container-managed singleton beans.
+ */
+public class EJBBoundSingletonLockMetaDataParser extends AbstractEJBBoundMetaDataParser<EJBBoundSingletonLockMetaData> {
+
+    public static final String NAMESPACE_URI_1_0 = "urn:ejb-singleton-lock:1.0";
+
+    private static final String ROOT_ELEMENT_SINGLETON_LOCK = "singleton-lock";
+    private static final String STRIPED = "striped";
+
+    @Override
+    public EJBBoundSingletonLockMetaData parse(final XMLStreamReader reader, final PropertyReplacer propertyReplacer) throws XMLStreamException {
+        // we only parse <singleton-lock> (root) element
+        if (!ROOT_ELEMENT_SINGLETON_LOCK.equals(reader.getLocalName())) {
+            throw unexpectedElement(reader);
+        }
+        final EJBBoundSingletonLockMetaData metaData = new EJBBoundSingletonLockMetaData();
+        this.processElements(metaData, reader, propertyReplacer);
+        return metaData;
+    }
+
+    @Override
+    protected void processElement(final EJBBoundSingletonLockMetaData metaData, final XMLStreamReader reader, final PropertyReplacer propertyReplacer) throws XMLStreamException {
+        // if it doesn't belong to our namespace then let the super handle this
+        if (!NAMESPACE_URI_1_0.equals(reader.getNamespaceURI())) {
+            super.processElement(metaData, reader, propertyReplacer);
+            return;
+        }
+        if (STRIPED.equals(reader.getLocalName())) {
+            requireNoAttributes(reader);
+            final String text = getElementText(reader, propertyReplacer);
+            if (text != null) {
+                metaData.setStriped(Boolean.parseBoolean(text.trim()));
+            }
+        } else {
+            throw unexpectedElement(reader);
+        }
+    }
+}
@@ -36,6 +36,11 @@ import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
  */
 public class SingletonComponent extends SessionBeanComponent {
 
+    /**
+     * The service providing whether singletons use the {@link StripedEJBReadWriteLock}, unless configured otherwise per bean.
+     */
+    public static final ServiceName DEFAULT_STRIPED_LOCK_SERVICE_NAME = ServiceName.JBOSS.append("ejb3", "singletonDefaultStripedLock");
+
     private volatile SingletonComponentInstance singletonComponentInstance;
 
     private final boolean initOnStartup;
@@ -57,9 +62,9 @@ public class SingletonComponent extends SessionBeanComponent {
     private final Object creationLock = new Object();
 
     /**
-     * A spec compliant {@link EJBReadWriteLock}
+     * A spec compliant {@link EJBReadWriteLock}, or its reader biased {@link StripedEJBReadWriteLock} alternative
      */
-    private final ReadWriteLock readWriteLock = new EJBReadWriteLock();
+    private final ReadWriteLock readWriteLock;
 
     /**
      * Construct a new instance.
@@ -77,6 +82,7 @@ public class SingletonComponent extends SessionBeanComponent {
         this.methodLockTypes = singletonComponentCreateService.getMethodApplicableLockTypes();
         this.methodAccessTimeouts = singletonComponentCreateService.getMethodApplicableAccessTimeouts();
         this.defaultAccessTimeoutProvider = singletonComponentCreateService.getDefaultAccessTimeoutService();
+        this.readWriteLock = singletonComponentCreateService.isStripedLock() ? new StripedEJBReadWriteLock() : new EJBReadWriteLock();
     }
 
     @Override
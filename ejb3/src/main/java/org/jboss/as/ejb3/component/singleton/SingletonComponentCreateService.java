@@ -15,6 +15,7 @@ import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.value.InjectedValue;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @author Stuart Douglas
@@ -23,12 +24,15 @@ public class SingletonComponentCreateService extends SessionBeanComponentCreateS
 
     private final boolean initOnStartup;
     private final List<ServiceName> dependsOn;
+    private final Boolean stripedLock;
     private final InjectedValue<DefaultAccessTimeoutService> defaultAccessTimeoutService = new InjectedValue<DefaultAccessTimeoutService>();
+    private final InjectedValue<AtomicBoolean> defaultStripedLock = new InjectedValue<AtomicBoolean>();
 
-    public SingletonComponentCreateService(final ComponentConfiguration componentConfiguration, final ApplicationExceptions ejbJarConfiguration, final boolean initOnStartup, final List<ServiceName> dependsOn) {
+    public SingletonComponentCreateService(final ComponentConfiguration componentConfiguration, final ApplicationExceptions ejbJarConfiguration, final boolean initOnStartup, final List<ServiceName> dependsOn, final Boolean stripedLock) {
         super(componentConfiguration, ejbJarConfiguration);
         this.initOnStartup = initOnStartup;
         this.dependsOn = dependsOn;
+        this.stripedLock = stripedLock;
     }
 
     @Override
@@ -47,4 +51,16 @@ public class SingletonComponentCreateService extends SessionBeanComponentCreateS
     Injector<DefaultAccessTimeoutService> getDefaultAccessTimeoutInjector() {
         return this.defaultAccessTimeoutService;
     }
+
+    /**
+     * @return true if the singleton uses the {@link StripedEJBReadWriteLock}, as configured for the bean in jboss-ejb3.xml,
+     *         or else by the default of the ejb3 subsystem
+     */
+    public boolean isStripedLock() {
+        return (this.stripedLock != null) ? this.stripedLock : this.defaultStripedLock.getValue().get();
+    }
+
+    Injector<AtomicBoolean> getDefaultStripedLockInjector() {
+        return this.defaultStripedLock;
+    }
 }
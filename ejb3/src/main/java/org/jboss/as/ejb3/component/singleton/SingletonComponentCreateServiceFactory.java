@@ -16,6 +16,7 @@ import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceName;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * User: jpai
@@ -24,10 +25,12 @@ public class SingletonComponentCreateServiceFactory extends EJBComponentCreateSe
 
     private final boolean initOnStartup;
     private final List<ServiceName> dependsOn;
+    private final Boolean stripedLock;
 
-    public SingletonComponentCreateServiceFactory(final boolean initServiceOnStartup, final List<ServiceName> dependsOn) {
+    public SingletonComponentCreateServiceFactory(final boolean initServiceOnStartup, final List<ServiceName> dependsOn, final Boolean stripedLock) {
         this.initOnStartup = initServiceOnStartup;
         this.dependsOn = dependsOn;
+        this.stripedLock = stripedLock;
     }
 
     @Override
@@ -41,8 +44,9 @@ public class SingletonComponentCreateServiceFactory extends EJBComponentCreateSe
             @Override
             public void configureDependency(ServiceBuilder<?> serviceBuilder, SingletonComponentCreateService componentCreateService) throws DeploymentUnitProcessingException {
                 serviceBuilder.addDependency(DefaultAccessTimeoutService.SINGLETON_SERVICE_NAME, DefaultAccessTimeoutService.class, componentCreateService.getDefaultAccessTimeoutInjector());
+                serviceBuilder.addDependency(SingletonComponent.DEFAULT_STRIPED_LOCK_SERVICE_NAME, AtomicBoolean.class, componentCreateService.getDefaultStripedLockInjector());
             }
         });
-        return new SingletonComponentCreateService(configuration, this.ejbJarConfiguration, this.initOnStartup, dependsOn);
+        return new SingletonComponentCreateService(configuration, this.ejbJarConfiguration, this.initOnStartup, dependsOn, this.stripedLock);
     }
 }
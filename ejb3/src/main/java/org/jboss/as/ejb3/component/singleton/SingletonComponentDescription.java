@@ -65,6 +65,11 @@ public class SingletonComponentDescription extends SessionBeanComponentDescripti
 
     private final List<ServiceName> dependsOn = new ArrayList<ServiceName>();
 
+    /**
+     * Whether the singleton uses the {@link StripedEJBReadWriteLock}, or null to use the default of the ejb3 subsystem
+     */
+    private Boolean stripedLock;
+
     /**
      * Construct a new instance.
      *
@@ -94,7 +99,7 @@ public class SingletonComponentDescription extends SessionBeanComponentDescripti
 
         ComponentConfiguration singletonComponentConfiguration = new ComponentConfiguration(this, classIndex, moduleClassLoader, moduleLoader);
         // setup the component create service
-        singletonComponentConfiguration.setComponentCreateServiceFactory(new SingletonComponentCreateServiceFactory(this.isInitOnStartup(), dependsOn));
+        singletonComponentConfiguration.setComponentCreateServiceFactory(new SingletonComponentCreateServiceFactory(this.isInitOnStartup(), dependsOn, this.stripedLock));
         final String definedSecurityDomain = getDefinedSecurityDomain();
         final boolean securityRequired = hasBeanLevelSecurityMetadata();
         if (securityRequired) {
@@ -179,6 +184,17 @@ public class SingletonComponentDescription extends SessionBeanComponentDescripti
 
     }
 
+    /**
+     * @return whether the singleton uses the {@link StripedEJBReadWriteLock}, or null to use the default of the ejb3 subsystem
+     */
+    public Boolean getStripedLock() {
+        return this.stripedLock;
+    }
+
+    public void setStripedLock(final Boolean stripedLock) {
+        this.stripedLock = stripedLock;
+    }
+
     @Override
     public SessionBeanType getSessionBeanType() {
         return SessionBeanComponentDescription.SessionBeanType.SINGLETON;
@@ -0,0 +1,330 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.component.singleton;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+
+/**
+ * A reader biased alternative to {@link EJBReadWriteLock}, for singletons mostly invoked through {@link jakarta.ejb.LockType#READ} methods.
+ * <p>
+ * A reader only increments and decrements the counter of its stripe, selected by its thread, so that concurrent readers do not
+ * contend on a single shared state. A writer first excludes the other writers, then announces itself so that new readers back
+ * off, and finally waits for the readers counted by the stripes to drain.
+ * Writers are thus preferred over new readers.
+ * <p>
+ * As with {@link EJBReadWriteLock}, a thread holding a read lock which tries to obtain a write lock gets an
+ * {@link jakarta.ejb.IllegalLoopbackException}, and a thread holding the write lock can obtain a read lock.
+ * Both locks are reentrant, and releasing the write lock while holding a read lock downgrades the write lock.
+ * The locks are expected to be released by the thread which obtained them.
+ */
+public class StripedEJBReadWriteLock implements ReadWriteLock {
+
+    // distance between two stripes, in longs, so that two stripes never share a cache line
+    private static final int PADDING = 16;
+    private static final int STRIPES = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+    // a writer is unparked by the readers leaving, so it only checks the readers periodically as a safety net
+    private static final long MAX_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Number of read locks held by a thread, on this lock.
+     */
+    private static class ReadHolds {
+        int count;
+        // whether the read locks of the thread are counted by its stripe, rather than covered by the write lock of the thread
+        boolean counted;
+    }
+
+    private final AtomicLongArray readers = new AtomicLongArray(STRIPES * PADDING);
+    private final ThreadLocal<ReadHolds> readHolds = ThreadLocal.withInitial(ReadHolds::new);
+    // excludes writers from each other, and parks the readers waiting for a writer
+    private final ReentrantLock writerLock = new ReentrantLock();
+    // the writer which owns, or is about to own, this lock
+    private volatile Thread writer;
+
+    private final Lock readLock = new ReadLock();
+    private final Lock writeLock = new WriteLock();
+
+    /**
+     * The read lock of a {@link StripedEJBReadWriteLock}.
+     */
+    public class ReadLock implements Lock {
+
+        @Override
+        public void lock() {
+            ReadHolds holds = readHolds.get();
+            if (!enter(holds)) {
+                while (true) {
+                    writerLock.lock();
+                    writerLock.unlock();
+                    if (tryEnter(holds)) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            ReadHolds holds = readHolds.get();
+            if (!enter(holds)) {
+                while (true) {
+                    writerLock.lockInterruptibly();
+                    writerLock.unlock();
+                    if (tryEnter(holds)) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            return enter(readHolds.get());
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            ReadHolds holds = readHolds.get();
+            if (enter(holds)) {
+                return true;
+            }
+            long deadline = System.nanoTime() + unit.toNanos(time);
+            while (true) {
+                if (!writerLock.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    return false;
+                }
+                writerLock.unlock();
+                if (tryEnter(holds)) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public void unlock() {
+            ReadHolds holds = readHolds.get();
+            if (holds.count == 0) {
+                throw new IllegalMonitorStateException();
+            }
+            holds.count -= 1;
+            if (holds.count == 0 && holds.counted) {
+                holds.counted = false;
+                readers.decrementAndGet(stripe());
+                Thread writer = StripedEJBReadWriteLock.this.writer;
+                if (writer != null) {
+                    // this reader might be the last one the writer is waiting for
+                    LockSupport.unpark(writer);
+                }
+            }
+        }
+
+        /**
+         * Not implemented
+         *
+         * @throws UnsupportedOperationException
+         */
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Obtains a read lock unless a writer owns, or is about to own, this lock.
+         */
+        private boolean enter(ReadHolds holds) {
+            if (holds.count > 0 || writerLock.isHeldByCurrentThread()) {
+                // reentrant read, or read under the write lock of this thread
+                holds.count += 1;
+                return true;
+            }
+            return tryEnter(holds);
+        }
+
+        private boolean tryEnter(ReadHolds holds) {
+            int stripe = stripe();
+            readers.incrementAndGet(stripe);
+            // the increment of the stripe precedes the read of the writer, which a writer does the other way round,
+            // so that either this reader backs off, or the writer waits for it
+            if (writer != null) {
+                readers.decrementAndGet(stripe);
+                Thread writer = StripedEJBReadWriteLock.this.writer;
+                if (writer != null) {
+                    LockSupport.unpark(writer);
+                }
+                return false;
+            }
+            holds.count = 1;
+            holds.counted = true;
+            return true;
+        }
+    }
+
+    /**
+     * The write lock of a {@link StripedEJBReadWriteLock}, which throws an {@link jakarta.ejb.IllegalLoopbackException}
+     * when requested by a thread holding a read lock.
+     */
+    public class WriteLock implements Lock {
+
+        @Override
+        public void lock() {
+            checkLoopback();
+            writerLock.lock();
+            if (writerLock.getHoldCount() == 1) {
+                writer = Thread.currentThread();
+                boolean interrupted = false;
+                while (hasReaders()) {
+                    LockSupport.parkNanos(StripedEJBReadWriteLock.this, MAX_PARK_NANOS);
+                    // an interrupted thread would not park anymore
+                    interrupted |= Thread.interrupted();
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            checkLoopback();
+            writerLock.lockInterruptibly();
+            if (writerLock.getHoldCount() == 1) {
+                writer = Thread.currentThread();
+                while (hasReaders()) {
+                    LockSupport.parkNanos(StripedEJBReadWriteLock.this, MAX_PARK_NANOS);
+                    if (Thread.interrupted()) {
+                        release();
+                        throw new InterruptedException();
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            checkLoopback();
+            if (!writerLock.tryLock()) {
+                return false;
+            }
+            if (writerLock.getHoldCount() == 1) {
+                writer = Thread.currentThread();
+                if (hasReaders()) {
+                    release();
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            checkLoopback();
+            long deadline = System.nanoTime() + unit.toNanos(time);
+            if (!writerLock.tryLock(time, unit)) {
+                return false;
+            }
+            if (writerLock.getHoldCount() == 1) {
+                writer = Thread.currentThread();
+                while (hasReaders()) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        release();
+                        return false;
+                    }
+                    LockSupport.parkNanos(StripedEJBReadWriteLock.this, Math.min(remaining, MAX_PARK_NANOS));
+                    if (Thread.interrupted()) {
+                        release();
+                        throw new InterruptedException();
+                    }
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void unlock() {
+            if (!writerLock.isHeldByCurrentThread()) {
+                throw new IllegalMonitorStateException();
+            }
+            if (writerLock.getHoldCount() == 1) {
+                ReadHolds holds = readHolds.get();
+                if (holds.count > 0 && !holds.counted) {
+                    // downgrade, the read locks obtained under the write lock now exclude the next writers
+                    holds.counted = true;
+                    readers.incrementAndGet(stripe());
+                }
+                release();
+            } else {
+                writerLock.unlock();
+            }
+        }
+
+        /**
+         * Not implemented
+         *
+         * @throws UnsupportedOperationException
+         */
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+
+        private void release() {
+            writer = null;
+            writerLock.unlock();
+        }
+    }
+
+    /**
+     * Ensures that the current thread doesn't hold any read locks. If
+     * the thread holds any read locks, this method throws a {@link jakarta.ejb.IllegalLoopbackException}.
+     */
+    private void checkLoopback() {
+        if (this.readHolds.get().count > 0) {
+            throw EjbLogger.ROOT_LOGGER.failToUpgradeToWriteLock();
+        }
+    }
+
+    private boolean hasReaders() {
+        for (int i = 0; i < STRIPES; ++i) {
+            if (this.readers.get(i * PADDING) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the counter of the stripe of the current thread.
+     */
+    private static int stripe() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return ((hash >>> 16) & (STRIPES - 1)) * PADDING;
+    }
+
+    @Override
+    public Lock readLock() {
+        return this.readLock;
+    }
+
+    @Override
+    public Lock writeLock() {
+        return this.writeLock;
+    }
+}
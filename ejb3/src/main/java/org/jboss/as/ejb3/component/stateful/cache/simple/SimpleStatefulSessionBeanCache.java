@@ -5,12 +5,28 @@
 
 package org.jboss.as.ejb3.component.stateful.cache.simple;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBean;
@@ -31,6 +47,8 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 /**
  * A simple stateful session bean cache implementation.
  * Bean instances are stored in memory and are lost on undeploy, shutdown, or server crash.
+ * If configured with a maximum number of active bean instances, the least recently used idle bean instances are passivated
+ * to the local file system in the background, and activated on access.
  * @author Paul Ferraro
  * @param <K> the bean identifier type
  * @param <V> the bean instance type
@@ -39,18 +57,49 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
     private static final ThreadFactory THREAD_FACTORY = new DefaultThreadFactory(SimpleStatefulSessionBeanCache.class, WildFlySecurityManager.getClassLoaderPrivileged(SimpleStatefulSessionBeanCache.class));
 
     private final Map<K, V> instances = new ConcurrentHashMap<>();
-    private final Consumer<K> remover = this.instances::remove;
+    private final Consumer<K> remover;
     private final StatefulSessionBeanInstanceFactory<V> factory;
     private final Supplier<K> identifierFactory;
     private final Optional<Duration> maxIdle;
     private final Affinity strongAffinity;
     private final SchedulerService<K, Instant> scheduler;
+    // The following are only used if the number of active bean instances is bounded
+    private final int maxActive;
+    private final StatefulSessionBeanFileStore<K, V> store;
+    private final ExecutorService passivationExecutor;
+    private final AtomicBoolean passivationScheduled = new AtomicBoolean();
+    // Number of users of each bean instance in use, idle bean instances, in least recently used order,
+    // and the bean instances being passivated or activated, guarded by idle
+    private final Map<K, Integer> users = new HashMap<>();
+    private final Set<K> idle = new LinkedHashSet<>();
+    private final Map<K, CountDownLatch> transitions = new HashMap<>();
 
     public SimpleStatefulSessionBeanCache(SimpleStatefulSessionBeanCacheConfiguration<K, V> configuration) {
         this.factory = configuration.getInstanceFactory();
         this.identifierFactory = configuration.getIdentifierFactory();
         this.maxIdle = configuration.getMaxIdle();
         this.strongAffinity = new NodeAffinity(configuration.getEnvironment().getNodeName());
+        OptionalInt maxActive = configuration.getMaxActive();
+        this.maxActive = maxActive.orElse(Integer.MAX_VALUE);
+        if (maxActive.isPresent()) {
+            try {
+                Path directory = configuration.getEnvironment().getServerTempDir().toPath().resolve("ejb3").resolve("passivation");
+                Files.createDirectories(directory);
+                // Component names may contain characters that are not valid within a file name
+                String prefix = configuration.getComponentName().replaceAll("[^A-Za-z0-9._-]", "_");
+                this.store = new StatefulSessionBeanFileStore<>(Files.createTempDirectory(directory, prefix), configuration.getModuleLoader());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), THREAD_FACTORY);
+            executor.allowCoreThreadTimeOut(true);
+            this.passivationExecutor = executor;
+            this.remover = this::removeActive;
+        } else {
+            this.store = null;
+            this.passivationExecutor = null;
+            this.remover = this.instances::remove;
+        }
         this.scheduler = !this.maxIdle.orElse(Duration.ZERO).isZero() ? new LocalSchedulerService<>(new LocalSchedulerService.Configuration<>() {
             @Override
             public String getName() {
@@ -95,6 +144,12 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
             instance.removed();
         }
         this.instances.clear();
+        if (this.store != null) {
+            synchronized (this.idle) {
+                this.users.clear();
+                this.idle.clear();
+            }
+        }
     }
 
     @Override
@@ -102,6 +157,15 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
         if (this.scheduler != null) {
             this.scheduler.close();
         }
+        if (this.store != null) {
+            this.passivationExecutor.shutdown();
+            try {
+                this.passivationExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.store.close();
+        }
     }
 
     @Override
@@ -116,6 +180,9 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
 
     @Override
     public void accept(StatefulSessionBean<K, V> bean) {
+        if (this.store != null) {
+            this.release(bean.getId());
+        }
         if (this.maxIdle.isPresent()) {
             K id = bean.getId();
             if (this.scheduler != null) {
@@ -130,9 +197,12 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
 
     @Override
     public boolean test(K id) {
-        V instance = this.instances.remove(id);
+        V instance = (this.store != null) ? this.removeActive(id) : this.instances.remove(id);
         if (instance != null) {
             instance.removed();
+        } else if (this.store != null) {
+            // Expired passive bean instances are removed without activation
+            this.store.remove(id);
         }
         return true;
     }
@@ -145,13 +215,21 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
         }
         V instance = this.factory.createInstance();
         K id = instance.getId();
+        if (this.store != null) {
+            synchronized (this.idle) {
+                this.users.put(id, 1);
+            }
+        }
         this.instances.put(id, instance);
+        if (this.store != null) {
+            this.schedulePassivation();
+        }
         return new SimpleStatefulSessionBean<>(instance, this.remover, this);
     }
 
     @Override
     public StatefulSessionBean<K, V> findStatefulSessionBean(K id) {
-        V instance = this.instances.get(id);
+        V instance = (this.store != null) ? this.acquire(id) : this.instances.get(id);
         if (instance == null) return null;
         if (this.scheduler != null) {
             this.scheduler.cancel(id);
@@ -166,11 +244,173 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
 
     @Override
     public int getPassiveCount() {
-        return 0;
+        return (this.store != null) ? this.store.size() : 0;
     }
 
     @Override
     public Supplier<K> getIdentifierFactory() {
         return this.identifierFactory;
     }
+
+    /**
+     * Returns the specified bean instance, activating it if necessary, and records an additional user of it.
+     */
+    private V acquire(K id) {
+        CountDownLatch activation = new CountDownLatch(1);
+        while (true) {
+            CountDownLatch transition;
+            synchronized (this.idle) {
+                transition = this.transitions.get(id);
+                if (transition == null) {
+                    V instance = this.instances.get(id);
+                    if (instance != null) {
+                        this.users.merge(id, 1, Integer::sum);
+                        this.idle.remove(id);
+                        return instance;
+                    }
+                    if (!this.store.contains(id)) return null;
+                    this.transitions.put(id, activation);
+                }
+            }
+            if (transition == null) break;
+            // Bean instance is being passivated or activated by another thread
+            awaitUninterruptibly(transition);
+        }
+        // Callbacks and I/O run outside of any lock, while the other users of this bean instance wait for its activation
+        V instance = null;
+        try {
+            V value = this.store.read(id);
+            if (value != null) {
+                value.postActivate();
+                instance = value;
+            }
+        } finally {
+            synchronized (this.idle) {
+                if (instance != null) {
+                    this.instances.put(id, instance);
+                    this.users.put(id, 1);
+                }
+                this.transitions.remove(id);
+            }
+            activation.countDown();
+        }
+        if (instance != null) {
+            this.schedulePassivation();
+        }
+        return instance;
+    }
+
+    /**
+     * Records that a user of the specified bean instance is done with it, the bean instance becoming idle once it has no more users.
+     */
+    private void release(K id) {
+        synchronized (this.idle) {
+            Integer count = this.users.computeIfPresent(id, (key, value) -> (value > 1) ? value - 1 : null);
+            if (count == null && this.instances.containsKey(id)) {
+                // Reinsert, so that the most recently used bean instances are passivated last
+                this.idle.remove(id);
+                this.idle.add(id);
+            }
+        }
+        this.schedulePassivation();
+    }
+
+    private V removeActive(K id) {
+        while (true) {
+            CountDownLatch transition;
+            synchronized (this.idle) {
+                transition = this.transitions.get(id);
+                if (transition == null) {
+                    this.users.remove(id);
+                    this.idle.remove(id);
+                    return this.instances.remove(id);
+                }
+            }
+            awaitUninterruptibly(transition);
+        }
+    }
+
+    /**
+     * Passivates idle bean instances in the background, if the number of active bean instances exceeds its maximum.
+     */
+    private void schedulePassivation() {
+        if (this.isPassivationRequired() && this.passivationScheduled.compareAndSet(false, true)) {
+            try {
+                this.passivationExecutor.execute(() -> {
+                    do {
+                        try {
+                            this.passivateIdle();
+                        } finally {
+                            this.passivationScheduled.set(false);
+                        }
+                        // A bean instance might have become idle after the last check, but before the reset
+                    } while (this.isPassivationRequired() && this.passivationScheduled.compareAndSet(false, true));
+                });
+            } catch (RejectedExecutionException e) {
+                // Cache was closed
+                this.passivationScheduled.set(false);
+            }
+        }
+    }
+
+    private boolean isPassivationRequired() {
+        if (this.instances.size() <= this.maxActive) return false;
+        synchronized (this.idle) {
+            return !this.idle.isEmpty();
+        }
+    }
+
+    /**
+     * Passivates the least recently used idle bean instances until the number of active bean instances no longer exceeds its maximum.
+     */
+    private void passivateIdle() {
+        while (this.instances.size() > this.maxActive) {
+            K id;
+            V instance;
+            CountDownLatch passivation = new CountDownLatch(1);
+            synchronized (this.idle) {
+                Iterator<K> ids = this.idle.iterator();
+                if (!ids.hasNext()) return;
+                id = ids.next();
+                // An instance which cannot be passivated is not selected again, until it is used and idle again
+                ids.remove();
+                instance = this.instances.get(id);
+                if (instance == null) continue;
+                this.transitions.put(id, passivation);
+            }
+            // Callbacks and I/O run outside of any lock, while the users of this bean instance wait for its passivation
+            boolean passivated = false;
+            try {
+                instance.prePassivate();
+                passivated = this.store.write(id, instance);
+                if (!passivated) {
+                    // Bean instance could not be passivated, so reactivate it
+                    instance.postActivate();
+                }
+            } finally {
+                synchronized (this.idle) {
+                    if (passivated) {
+                        this.instances.remove(id);
+                    }
+                    this.transitions.remove(id);
+                }
+                passivation.countDown();
+            }
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -5,9 +5,12 @@
 
 package org.jboss.as.ejb3.component.stateful.cache.simple;
 
+import java.util.OptionalInt;
+
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCacheConfiguration;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstance;
 import org.jboss.as.server.ServerEnvironment;
+import org.jboss.modules.ModuleLoader;
 
 /**
  * Configuration of a simple stateful session bean cache.
@@ -18,4 +21,17 @@ import org.jboss.as.server.ServerEnvironment;
 public interface SimpleStatefulSessionBeanCacheConfiguration<K, V extends StatefulSessionBeanInstance<K>> extends StatefulSessionBeanCacheConfiguration<K, V> {
 
     ServerEnvironment getEnvironment();
+
+    /**
+     * Returns the maximum number of active bean instances, beyond which the least recently used idle bean instances are passivated
+     * to the local file system.
+     * @return the maximum number of active bean instances, or empty, if bean instances are never passivated
+     */
+    OptionalInt getMaxActive();
+
+    /**
+     * Returns the module loader used to resolve the classes of passivated bean instances.
+     * @return a module loader
+     */
+    ModuleLoader getModuleLoader();
 }
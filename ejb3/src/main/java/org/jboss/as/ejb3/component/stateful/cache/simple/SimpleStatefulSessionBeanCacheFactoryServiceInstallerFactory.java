@@ -6,7 +6,9 @@
 package org.jboss.as.ejb3.component.stateful.cache.simple;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.function.Function;
 
 import org.jboss.as.ejb3.component.stateful.StatefulComponentDescription;
@@ -16,6 +18,8 @@ import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCacheFactor
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstance;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstanceFactory;
 import org.jboss.as.server.ServerEnvironment;
+import org.jboss.as.server.Services;
+import org.jboss.modules.ModuleLoader;
 import org.wildfly.clustering.function.Supplier;
 import org.wildfly.subsystem.service.ServiceDependency;
 import org.wildfly.subsystem.service.ServiceInstaller;
@@ -29,9 +33,22 @@ import org.wildfly.subsystem.service.ServiceInstaller;
  */
 public class SimpleStatefulSessionBeanCacheFactoryServiceInstallerFactory<K, V extends StatefulSessionBeanInstance<K>> implements Function<StatefulComponentDescription, ServiceInstaller> {
 
+    private final OptionalInt maxActive;
+
+    /**
+     * Creates a factory of simple stateful session bean cache factory service installers.
+     * @param maxActive the maximum number of active instances of a passivation capable bean, beyond which idle instances are
+     *        passivated to the local file system, or empty, if bean instances are never passivated
+     */
+    public SimpleStatefulSessionBeanCacheFactoryServiceInstallerFactory(OptionalInt maxActive) {
+        this.maxActive = maxActive;
+    }
+
     @Override
     public ServiceInstaller apply(StatefulComponentDescription description) {
         ServiceDependency<ServerEnvironment> environment = ServiceDependency.on(ServerEnvironment.SERVICE_DESCRIPTOR);
+        ServiceDependency<ModuleLoader> moduleLoader = ServiceDependency.on(Services.JBOSS_SERVICE_MODULE_LOADER);
+        OptionalInt maxActive = description.isPassivationApplicable() ? this.maxActive : OptionalInt.empty();
         StatefulSessionBeanCacheFactory<K, V> factory = new StatefulSessionBeanCacheFactory<>() {
             @Override
             public StatefulSessionBeanCache<K, V> createStatefulBeanCache(StatefulSessionBeanCacheConfiguration<K, V> configuration) {
@@ -56,6 +73,16 @@ public class SimpleStatefulSessionBeanCacheFactoryServiceInstallerFactory<K, V e
                         return environment.get();
                     }
 
+                    @Override
+                    public OptionalInt getMaxActive() {
+                        return maxActive;
+                    }
+
+                    @Override
+                    public ModuleLoader getModuleLoader() {
+                        return moduleLoader.get();
+                    }
+
                     @Override
                     public String getComponentName() {
                         return configuration.getComponentName();
@@ -65,7 +92,7 @@ public class SimpleStatefulSessionBeanCacheFactoryServiceInstallerFactory<K, V e
         };
         return ServiceInstaller.BlockingBuilder.of(Supplier.of(factory))
                 .provides(description.getCacheFactoryServiceName())
-                .requires(environment)
+                .requires(List.of(environment, moduleLoader))
                 .build();
     }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.stateful.cache.simple;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.marshalling.Marshaller;
+import org.jboss.marshalling.MarshallerFactory;
+import org.jboss.marshalling.Marshalling;
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.jboss.marshalling.ModularClassResolver;
+import org.jboss.marshalling.Unmarshaller;
+import org.jboss.marshalling.river.RiverMarshallerFactory;
+import org.jboss.modules.ModuleLoader;
+
+/**
+ * Stores passivated bean instances in the local file system, one file per bean instance.
+ * The files are deleted on activation, and the whole store is deleted when closed.
+ * @param <K> the bean identifier type
+ * @param <V> the bean instance type
+ */
+class StatefulSessionBeanFileStore<K, V> implements AutoCloseable {
+    private static final String FILE_SUFFIX = ".bean";
+
+    private final Path directory;
+    private final MarshallerFactory factory = new RiverMarshallerFactory();
+    private final MarshallingConfiguration configuration = new MarshallingConfiguration();
+    private final Map<K, Path> files = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    StatefulSessionBeanFileStore(Path directory, ModuleLoader moduleLoader) {
+        this.directory = directory;
+        this.configuration.setClassResolver(ModularClassResolver.getInstance(moduleLoader));
+        this.configuration.setVersion(3);
+    }
+
+    /**
+     * Writes the given bean instance.
+     * @param id a bean identifier
+     * @param instance a bean instance, whose pre-passivate callbacks were already invoked
+     * @return true, if the bean instance was written, false otherwise
+     */
+    boolean write(K id, V instance) {
+        Path file = this.directory.resolve(this.sequence.incrementAndGet() + FILE_SUFFIX);
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(file))) {
+            try (Marshaller marshaller = this.factory.createMarshaller(this.configuration)) {
+                marshaller.start(Marshalling.createByteOutput(output));
+                marshaller.writeObject(instance);
+                marshaller.finish();
+            }
+        } catch (IOException | RuntimeException e) {
+            EjbLogger.ROOT_LOGGER.failedToPassivateBean(id, e);
+            delete(file);
+            return false;
+        }
+        this.files.put(id, file);
+        return true;
+    }
+
+    /**
+     * Reads, then removes, the bean instance with the given identifier.
+     * @param id a bean identifier
+     * @return the bean instance, whose post-activate callbacks were not yet invoked, or null if no such bean instance was stored,
+     *         or if it could not be read
+     */
+    @SuppressWarnings("unchecked")
+    V read(K id) {
+        Path file = this.files.remove(id);
+        if (file == null) return null;
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(file))) {
+            try (Unmarshaller unmarshaller = this.factory.createUnmarshaller(this.configuration)) {
+                unmarshaller.start(Marshalling.createByteInput(input));
+                V instance = (V) unmarshaller.readObject();
+                unmarshaller.finish();
+                return instance;
+            }
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            EjbLogger.ROOT_LOGGER.failedToActivateBean(id, e);
+            return null;
+        } finally {
+            delete(file);
+        }
+    }
+
+    /**
+     * Removes the bean instance with the given identifier, without reading it.
+     * @param id a bean identifier
+     * @return true, if a bean instance was removed, false otherwise
+     */
+    boolean remove(K id) {
+        Path file = this.files.remove(id);
+        if (file == null) return false;
+        delete(file);
+        return true;
+    }
+
+    /**
+     * Indicates whether a bean instance with the given identifier is stored.
+     * @param id a bean identifier
+     * @return true, if a bean instance is stored, false otherwise
+     */
+    boolean contains(K id) {
+        return this.files.containsKey(id);
+    }
+
+    int size() {
+        return this.files.size();
+    }
+
+    @Override
+    public void close() {
+        for (Path file : this.files.values()) {
+            delete(file);
+        }
+        this.files.clear();
+        delete(this.directory);
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            EjbLogger.ROOT_LOGGER.debugf(e, "Failed to delete %s", path);
+        }
+    }
+}
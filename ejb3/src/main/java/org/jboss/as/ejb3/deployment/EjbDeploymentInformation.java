@@ -10,13 +10,18 @@ import static org.wildfly.common.Assert.checkNotNullParam;
 import org.jboss.as.ee.component.ComponentView;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.iiop.EjbIIOPService;
+import org.jboss.as.ejb3.remote.LocalInvocationPlan;
 import org.jboss.msc.value.InjectedValue;
+import org.wildfly.clustering.server.immutable.Immutability;
 
+import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Runtime information about a Jakarta Enterprise Beans bean in a module
@@ -35,6 +40,8 @@ public class EjbDeploymentInformation {
 
     private final InjectedValue<EjbIIOPService> iorFactory;
     private final Set<String> remoteViewClassNames = new HashSet<String>();
+    private final ConcurrentMap<Method, LocalInvocationPlan> localInvocationPlans = new ConcurrentHashMap<>();
+    private final Immutability immutability;
 
     /**
      * @param ejbName               The EJB name
@@ -51,6 +58,7 @@ public class EjbDeploymentInformation {
         this.componentViews = componentViews;
         this.deploymentClassLoader = deploymentClassLoader;
         this.iorFactory = iorFactory;
+        this.immutability = Immutability.getDefault();
     }
 
     /**
@@ -64,6 +72,21 @@ public class EjbDeploymentInformation {
     public EjbDeploymentInformation(final String ejbName, final InjectedValue<EJBComponent> ejbComponent,
                                     final Map<String, InjectedValue<ComponentView>> remoteViews, final Map<String, InjectedValue<ComponentView>> localViews,
                                     final ClassLoader deploymentClassLoader, final InjectedValue<EjbIIOPService> iorFactory) {
+        this(ejbName, ejbComponent, remoteViews, localViews, deploymentClassLoader, iorFactory, Immutability.getDefault());
+    }
+
+    /**
+     * @param ejbName               Name of the EJB
+     * @param ejbComponent          The EJB component
+     * @param remoteViews           The component views, which are exposed remotely, by the EJB. Can be null.
+     * @param localViews            The component views which are exposed locally by the EJB. Can be null.
+     * @param deploymentClassLoader The deployment classloader of the EJB component
+     * @param iorFactory            The {@link EjbIIOPService}
+     * @param immutability          The test of the values which do not have to be cloned by in-VM invocations on remote views
+     */
+    public EjbDeploymentInformation(final String ejbName, final InjectedValue<EJBComponent> ejbComponent,
+                                    final Map<String, InjectedValue<ComponentView>> remoteViews, final Map<String, InjectedValue<ComponentView>> localViews,
+                                    final ClassLoader deploymentClassLoader, final InjectedValue<EjbIIOPService> iorFactory, final Immutability immutability) {
         this.ejbName = ejbName;
         this.ejbComponent = ejbComponent;
         this.componentViews = new HashMap<String, InjectedValue<ComponentView>>();
@@ -76,6 +99,7 @@ public class EjbDeploymentInformation {
         }
         this.deploymentClassLoader = deploymentClassLoader;
         this.iorFactory = iorFactory;
+        this.immutability = immutability;
     }
 
     public String getEjbName() {
@@ -113,4 +137,23 @@ public class EjbDeploymentInformation {
     public boolean isRemoteView(final String viewClassName) {
         return this.remoteViewClassNames.contains(viewClassName);
     }
+
+    /**
+     * Returns the plans of the in-VM invocations on the remote views of this bean, keyed by the invoked method
+     * of the view class.
+     *
+     * @return the plans of the in-VM invocations
+     */
+    public ConcurrentMap<Method, LocalInvocationPlan> getLocalInvocationPlans() {
+        return this.localInvocationPlans;
+    }
+
+    /**
+     * Returns the test of the immutable values, which in-VM invocations on the remote views of this bean do not clone.
+     *
+     * @return the test of the immutable values
+     */
+    public Immutability getImmutability() {
+        return this.immutability;
+    }
 }
@@ -8,6 +8,8 @@ package org.jboss.as.ejb3.deployment.processors;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -37,6 +39,7 @@ import org.jboss.modules.Module;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.value.InjectedValue;
+import org.wildfly.clustering.server.immutable.Immutability;
 
 /**
  * @author Stuart Douglas
@@ -73,6 +76,13 @@ public class DeploymentRepositoryProcessor implements DeploymentUnitProcessor {
 
         final Map<ServiceName, InjectedValue<?>> injectedValues = new HashMap<ServiceName, InjectedValue<?>>();
 
+        // values of immutable types are passed by reference by in-VM invocations on remote views
+        final List<Immutability> loadedImmutabilities = new LinkedList<>();
+        for (Immutability loadedImmutability : module.loadService(Immutability.class)) {
+            loadedImmutabilities.add(loadedImmutability);
+        }
+        final Immutability immutability = Immutability.composite(List.of(Immutability.getDefault(), Immutability.composite(loadedImmutabilities)));
+
         for (final ComponentDescription component : componentDescriptions) {
             if (component instanceof EJBComponentDescription) {
                 final EJBComponentDescription ejbComponentDescription = (EJBComponentDescription) component;
@@ -103,7 +113,7 @@ public class DeploymentRepositoryProcessor implements DeploymentUnitProcessor {
                     injectedValues.put(ejbComponentDescription.getServiceName().append(EjbIIOPService.SERVICE_NAME), iorFactory);
                 }
 
-                final EjbDeploymentInformation info = new EjbDeploymentInformation(ejbComponentDescription.getEJBName(), componentInjectedValue, remoteViews, localViews, module.getClassLoader(), iorFactory);
+                final EjbDeploymentInformation info = new EjbDeploymentInformation(ejbComponentDescription.getEJBName(), componentInjectedValue, remoteViews, localViews, module.getClassLoader(), iorFactory, immutability);
                 deploymentInformationMap.put(ejbComponentDescription.getEJBName(), info);
             }
         }
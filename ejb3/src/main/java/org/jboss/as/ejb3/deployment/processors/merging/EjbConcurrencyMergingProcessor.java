@@ -18,20 +18,26 @@ import org.jboss.as.ee.metadata.MethodAnnotationAggregator;
 import org.jboss.as.ee.metadata.RuntimeAnnotationInformation;
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.component.session.SessionBeanComponentDescription;
+import org.jboss.as.ejb3.component.singleton.EJBBoundSingletonLockMetaData;
+import org.jboss.as.ejb3.component.singleton.SingletonComponentDescription;
 import org.jboss.as.ejb3.concurrency.AccessTimeoutDetails;
+import org.jboss.as.ejb3.deployment.EjbDeploymentAttachmentKeys;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.reflect.ClassReflectionIndex;
 import org.jboss.as.server.deployment.reflect.DeploymentReflectionIndex;
 import org.jboss.invocation.proxy.MethodIdentifier;
+import org.jboss.metadata.ejb.spec.AssemblyDescriptorMetaData;
 import org.jboss.metadata.ejb.spec.ConcurrentMethodMetaData;
 import org.jboss.metadata.ejb.spec.ConcurrentMethodsMetaData;
+import org.jboss.metadata.ejb.spec.EjbJarMetaData;
 import org.jboss.metadata.ejb.spec.NamedMethodMetaData;
 import org.jboss.metadata.ejb.spec.SessionBean31MetaData;
 import org.jboss.metadata.ejb.spec.SessionBeanMetaData;
 
 /**
- * Class that can merge {@link jakarta.ejb.Lock} and {@link jakarta.ejb.AccessTimeout} metadata
+ * Class that can merge {@link jakarta.ejb.Lock} and {@link jakarta.ejb.AccessTimeout} metadata, and the singleton lock
+ * implementation configured in jboss-ejb3.xml
  *
  * @author Stuart Douglas
  */
@@ -73,6 +79,10 @@ public class EjbConcurrencyMergingProcessor extends AbstractMergingProcessor<Ses
 
     protected void handleDeploymentDescriptor(final DeploymentUnit deploymentUnit, final DeploymentReflectionIndex deploymentReflectionIndex, final Class<?> componentClass, final SessionBeanComponentDescription componentConfiguration) throws DeploymentUnitProcessingException {
 
+        if (componentConfiguration instanceof SingletonComponentDescription) {
+            handleSingletonLock(deploymentUnit, (SingletonComponentDescription) componentConfiguration);
+        }
+
         if (componentConfiguration.getDescriptorData() == null) {
             return;
         }
@@ -110,6 +120,33 @@ public class EjbConcurrencyMergingProcessor extends AbstractMergingProcessor<Ses
     }
 
 
+    private void handleSingletonLock(final DeploymentUnit deploymentUnit, final SingletonComponentDescription componentConfiguration) {
+        final EjbJarMetaData metaData = deploymentUnit.getAttachment(EjbDeploymentAttachmentKeys.EJB_JAR_METADATA);
+        if (metaData == null) {
+            return;
+        }
+        final AssemblyDescriptorMetaData assemblyDescriptor = metaData.getAssemblyDescriptor();
+        if (assemblyDescriptor == null) {
+            return;
+        }
+        final List<EJBBoundSingletonLockMetaData> locks = assemblyDescriptor.getAny(EJBBoundSingletonLockMetaData.class);
+        if (locks == null) {
+            return;
+        }
+        Boolean striped = null;
+        for (final EJBBoundSingletonLockMetaData lock : locks) {
+            // the lock explicitly configured for the bean overrides the one configured for all beans
+            if ("*".equals(lock.getEjbName()) && striped == null) {
+                striped = lock.getStriped();
+            } else if (componentConfiguration.getEJBName().equals(lock.getEjbName())) {
+                striped = lock.getStriped();
+            }
+        }
+        if (striped != null) {
+            componentConfiguration.setStripedLock(striped);
+        }
+    }
+
     private Method resolveMethod(final DeploymentReflectionIndex index, final Class<?> currentClass, final Class<?> componentClass, final NamedMethodMetaData methodData) throws DeploymentUnitProcessingException {
         if (currentClass == null) {
             throw EjbLogger.ROOT_LOGGER.failToFindMethodWithParameterTypes(componentClass.getName(), methodData.getMethodName(), methodData.getMethodParams());
@@ -3255,4 +3255,16 @@ public interface EjbLogger extends BasicLogger {
 
     @Message(id = 536, value = "Unsupported EJB receiver protocol %s")
     IllegalArgumentException unsupportedEJBReceiverProtocol(String uriScheme);
+
+    @LogMessage(level = WARN)
+    @Message(id = 537, value = "Failed to passivate stateful session bean %s, it remains active")
+    void failedToPassivateBean(Object id, @Cause Throwable cause);
+
+    @LogMessage(level = WARN)
+    @Message(id = 538, value = "Failed to activate stateful session bean %s")
+    void failedToActivateBean(Object id, @Cause Throwable cause);
+
+    @LogMessage(level = WARN)
+    @Message(id = 539, value = "Virtual threads are not supported by this Java runtime, %s will use the %s thread pool")
+    void virtualThreadsNotSupported(String name, String threadPoolName);
 }
@@ -38,6 +38,12 @@ public interface Pool<T> {
 
     int getMaxSize();
 
+    /**
+     * @param percentile a percentile within (0, 100]
+     * @return the given percentile of the times waited to get an object, in microseconds
+     */
+    long getWaitTimePercentile(double percentile);
+
     int getRemoveCount();
 
     /**
@@ -6,6 +6,7 @@ package org.jboss.as.ejb3.pool.strictmax;
 
 import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
 
+import org.jboss.as.ee.utils.LatencyHistogram;
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.pool.AbstractPool;
 import org.jboss.as.ejb3.pool.StatelessObjectFactory;
@@ -14,9 +15,18 @@ import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A pool with a maximum size.
+ * <p>
+ * Free instances are kept in several free lists, selected by the releasing or acquiring thread, so that concurrent
+ * invocations do not all contend on the same queue. A thread looks up its own free list first, then the other ones.
+ * The times waited to get an instance are recorded in histograms striped the same way.
+ * <p>
+ * If an idle timeout is set, the free instances which were not needed during an idle timeout, i.e. those beyond the peak
+ * number of instances in use, are destroyed by the next thread releasing an instance, so a pool shrinks back after a burst.
  *
  * @author <a href="mailto:carlo.dewolf@jboss.com">Carlo de Wolf</a>
  * @author <a href="mailto:kabir.khan@jboss.org">Kabir Khan</a>
@@ -24,32 +34,68 @@ import java.util.concurrent.TimeUnit;
 public class StrictMaxPool<T> extends AbstractPool<T> {
 
     /**
-     * A FIFO semaphore that is set when the strict max size behavior is in effect.
+     * A semaphore that is set when the strict max size behavior is in effect.
      * When set, only maxSize instances may be active and any attempt to get an
      * instance will block until an instance is freed.
      */
-    private final Semaphore semaphore;
+    private final ResizableSemaphore semaphore;
     /**
      * The maximum number of instances allowed in the pool
      */
-    private final int maxSize;
+    private volatile int maxSize;
+    /**
+     * The number of instances created by the pool and not yet destroyed, which never exceeds maxSize
+     * unless the pool is being shrunk.
+     */
+    private final AtomicInteger instances = new AtomicInteger();
     /**
      * The time to wait for the semaphore.
      */
     private final long timeout;
     private final TimeUnit timeUnit;
     /**
-     * The pool data structure
-     * Guarded by the implicit lock for "pool"
+     * The free lists of the pool, whose length is a power of 2.
+     */
+    private final Queue<T>[] pool;
+    /**
+     * The times waited to get an instance, in microseconds, by free list.
+     */
+    private final LatencyHistogram[] waitTimes;
+    /**
+     * The time in nanoseconds after which the free instances which were not needed are destroyed, or 0 if they are kept.
+     */
+    private final long idleTimeout;
+    /**
+     * The peak number of instances in use since the last trim, tracked only if an idle timeout is set.
      */
-    private final Queue<T> pool = new ConcurrentLinkedQueue<T>();
+    private final AtomicInteger peakInUse = new AtomicInteger();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+    private volatile long lastTrimTime;
 
     public StrictMaxPool(StatelessObjectFactory<T> factory, int maxSize, long timeout, TimeUnit timeUnit) {
+        this(factory, maxSize, timeout, timeUnit, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param idleTimeout the time after which the free instances which were not needed are destroyed, or 0 to keep them
+     * @param idleTimeoutUnit the unit of the idle timeout
+     */
+    @SuppressWarnings("unchecked")
+    public StrictMaxPool(StatelessObjectFactory<T> factory, int maxSize, long timeout, TimeUnit timeUnit, long idleTimeout, TimeUnit idleTimeoutUnit) {
         super(factory);
         this.maxSize = maxSize;
-        this.semaphore = new Semaphore(maxSize, false);
+        this.semaphore = new ResizableSemaphore(maxSize);
         this.timeout = timeout;
         this.timeUnit = timeUnit;
+        this.idleTimeout = idleTimeoutUnit.toNanos(idleTimeout);
+        this.lastTrimTime = System.nanoTime();
+        int stripes = Integer.highestOneBit(Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), maxSize)) * 2 - 1);
+        this.pool = new Queue[stripes];
+        this.waitTimes = new LatencyHistogram[stripes];
+        for (int i = 0; i < stripes; ++i) {
+            this.pool[i] = new ConcurrentLinkedQueue<>();
+            this.waitTimes[i] = new LatencyHistogram();
+        }
     }
 
     public void discard(T ctx) {
@@ -57,6 +103,9 @@ public class StrictMaxPool<T> extends AbstractPool<T> {
             ROOT_LOGGER.tracef("Discard instance %s#%s", this, ctx);
         }
 
+        // The instance no longer counts towards maxSize
+        instances.decrementAndGet();
+
         // If we block when maxSize instances are in use, invoke release on strictMaxSize
         semaphore.release();
 
@@ -69,15 +118,49 @@ public class StrictMaxPool<T> extends AbstractPool<T> {
     }
 
     public int getAvailableCount() {
-        return semaphore.availablePermits();
+        // permits are temporarily negative while the pool shrinks below the number of instances in use
+        return Math.max(0, semaphore.availablePermits());
     }
 
     public int getMaxSize() {
         return maxSize;
     }
 
-    public void setMaxSize(int maxSize) {
-        throw EjbLogger.ROOT_LOGGER.methodNotImplemented();
+    @Override
+    public long getWaitTimePercentile(double percentile) {
+        LatencyHistogram.Snapshot snapshot = LatencyHistogram.Snapshot.EMPTY;
+        for (LatencyHistogram histogram : waitTimes) {
+            snapshot = snapshot.merge(histogram.getSnapshot());
+        }
+        return snapshot.getPercentile(percentile);
+    }
+
+    /**
+     * Changes the maximum number of instances of the pool.
+     * If the pool shrinks, instances in excess are destroyed when they are released.
+     *
+     * @param maxSize the new maximum number of instances
+     */
+    public synchronized void setMaxSize(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException(String.valueOf(maxSize));
+        }
+        int delta = maxSize - this.maxSize;
+        this.maxSize = maxSize;
+        if (delta > 0) {
+            semaphore.release(delta);
+        } else if (delta < 0) {
+            semaphore.reducePermits(-delta);
+            // destroy the free instances in excess
+            for (Queue<T> freeList : pool) {
+                for (T obj = freeList.poll(); obj != null; obj = freeList.poll()) {
+                    if (!destroyIfExcess(obj)) {
+                        freeList.add(obj);
+                        return;
+                    }
+                }
+            }
+        }
     }
 
     /**
@@ -87,6 +170,7 @@ public class StrictMaxPool<T> extends AbstractPool<T> {
      * @return Context /w instance
      */
     public T get() {
+        long start = System.nanoTime();
         try {
             boolean acquired = semaphore.tryAcquire(timeout, timeUnit);
             if (!acquired)
@@ -95,21 +179,37 @@ public class StrictMaxPool<T> extends AbstractPool<T> {
             throw EjbLogger.ROOT_LOGGER.acquireSemaphoreInterrupted();
         }
 
-        T bean = pool.poll();
-
-        if( bean !=null) {
-            //we found a bean instance in the pool, return it
-            return bean;
-        }
-
+        T bean = null;
         try {
-            // Pool is empty, create an instance
-            bean = create();
+            for (bean = poll(); bean == null; bean = poll()) {
+                if (reserveInstance()) {
+                    // Pool is empty, create an instance
+                    try {
+                        bean = create();
+                    } finally {
+                        if (bean == null) {
+                            instances.decrementAndGet();
+                        }
+                    }
+                    break;
+                }
+                // all the instances exist, one of them is being returned to a free list we have already looked up
+                // or is about to be destroyed because the pool shrinks
+                Thread.yield();
+            }
         } finally {
             if (bean == null) {
                 semaphore.release();
             }
         }
+        waitTimes[index()].record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        if (idleTimeout > 0) {
+            int inUse = inUse();
+            int peak = peakInUse.get();
+            while (inUse > peak && !peakInUse.compareAndSet(peak, inUse)) {
+                peak = peakInUse.get();
+            }
+        }
         return bean;
     }
 
@@ -124,12 +224,18 @@ public class StrictMaxPool<T> extends AbstractPool<T> {
      */
     public void release(T obj) {
         if (ROOT_LOGGER.isTraceEnabled()) {
-            ROOT_LOGGER.tracef("%s/%s Free instance: %s", pool.size(), maxSize, this);
+            ROOT_LOGGER.tracef("%s/%s Free instance: %s", instances.get(), maxSize, this);
         }
 
-        pool.add(obj);
+        if (!destroyIfExcess(obj)) {
+            pool[index()].add(obj);
+        }
 
         semaphore.release();
+
+        if (idleTimeout > 0) {
+            trimIfIdle();
+        }
     }
 
     @Override
@@ -139,6 +245,7 @@ public class StrictMaxPool<T> extends AbstractPool<T> {
             ROOT_LOGGER.tracef("Removing instance: %s#%s", this, ctx);
         }
 
+        instances.decrementAndGet();
         semaphore.release();
         // let the super do the other remove stuff
         super.doRemove(ctx);
@@ -150,8 +257,103 @@ public class StrictMaxPool<T> extends AbstractPool<T> {
     }
 
     public void stop() {
-        for (T obj = pool.poll(); obj != null; obj = pool.poll()) {
-            destroy(obj);
+        for (Queue<T> freeList : pool) {
+            for (T obj = freeList.poll(); obj != null; obj = freeList.poll()) {
+                instances.decrementAndGet();
+                destroy(obj);
+            }
+        }
+    }
+
+    private int index() {
+        return (int) Thread.currentThread().getId() & (pool.length - 1);
+    }
+
+    /**
+     * Polls the free list of the current thread, then the other ones.
+     */
+    private T poll() {
+        int index = index();
+        for (int i = 0; i < pool.length; ++i) {
+            T bean = pool[(index + i) & (pool.length - 1)].poll();
+            if (bean != null) {
+                return bean;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reserves the creation of a new instance, if the pool has less than maxSize instances.
+     */
+    private boolean reserveInstance() {
+        int current = instances.get();
+        while (current < maxSize) {
+            if (instances.compareAndSet(current, current + 1)) {
+                return true;
+            }
+            current = instances.get();
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of instances in use, i.e. of permits acquired, which is approximate while the pool is resized
+     */
+    private int inUse() {
+        return maxSize - semaphore.availablePermits();
+    }
+
+    /**
+     * Destroys the free instances beyond the peak number of instances in use since the last trim, if the idle timeout
+     * elapsed since then, as these instances were not needed during the whole idle timeout.
+     */
+    private void trimIfIdle() {
+        long now = System.nanoTime();
+        if (now - lastTrimTime < idleTimeout || !trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            lastTrimTime = now;
+            int excess = instances.get() - peakInUse.getAndSet(inUse());
+            for (int i = 0; i < excess; ++i) {
+                T obj = poll();
+                if (obj == null) {
+                    break;
+                }
+                instances.decrementAndGet();
+                destroy(obj);
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    /**
+     * Destroys the given free instance if the pool has more than maxSize instances, i.e. if it shrunk.
+     */
+    private boolean destroyIfExcess(T obj) {
+        int current = instances.get();
+        while (current > maxSize) {
+            if (instances.compareAndSet(current, current - 1)) {
+                destroy(obj);
+                return true;
+            }
+            current = instances.get();
+        }
+        return false;
+    }
+
+    private static class ResizableSemaphore extends Semaphore {
+        private static final long serialVersionUID = -1591599447575735598L;
+
+        ResizableSemaphore(int permits) {
+            super(permits, false);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
         }
     }
 }
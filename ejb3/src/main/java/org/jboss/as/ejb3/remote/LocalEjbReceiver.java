@@ -11,18 +11,25 @@ import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.function.Predicate;
 
 import org.jboss.as.ee.component.Component;
 import org.jboss.as.ee.component.ComponentView;
 import org.jboss.as.ee.component.deployers.StartupCountdown;
-import org.jboss.as.ee.utils.DescriptorUtils;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.component.interceptors.CancellationFlag;
 import org.jboss.as.ejb3.component.session.SessionBeanComponent;
@@ -44,10 +51,10 @@ import org.jboss.ejb.client.SessionID;
 import org.jboss.ejb.client.StatelessEJBLocator;
 import org.jboss.ejb.client.TransactionID;
 import org.jboss.invocation.InterceptorContext;
-import org.jboss.marshalling.cloner.ClassLoaderClassCloner;
 import org.jboss.marshalling.cloner.ClonerConfiguration;
 import org.jboss.marshalling.cloner.ObjectCloner;
 import org.jboss.marshalling.cloner.ObjectCloners;
+import org.wildfly.clustering.server.immutable.Immutability;
 import org.wildfly.security.auth.server.SecurityDomain;
 import org.wildfly.security.auth.server.SecurityIdentity;
 import org.wildfly.security.manager.WildFlySecurityManager;
@@ -88,21 +95,22 @@ public class LocalEjbReceiver extends EJBReceiver {
         if (!ejb.isRemoteView(viewClass.getName())) {
             throw EjbLogger.ROOT_LOGGER.viewNotFound(viewClass.getName(), ejb.getEjbName());
         }
-        final ClonerConfiguration paramConfig = new ClonerConfiguration();
-        paramConfig.setClassCloner(new ClassLoaderClassCloner(ejb.getDeploymentClassLoader()));
-        final ObjectCloner parameterCloner = createCloner(paramConfig);
-        //TODO: this is not very efficient
-        final Method method = view.getMethod(invocation.getInvokedMethod().getName(), DescriptorUtils.methodDescriptor(invocation.getInvokedMethod()));
+        final LocalInvocationPlan plan = getInvocationPlan(ejb, view, viewClass, invocation.getInvokedMethod());
+        final Method method = plan.getMethod();
 
-        final boolean async = view.isAsynchronous(method) || invocation.isClientAsync();
+        final boolean async = plan.isAsynchronous() || invocation.isClientAsync();
 
         final Object[] parameters;
         if (invocation.getParameters() == null) {
             parameters = EMPTY_STRING_ARRAY;
+        } else if (!plan.isParameterCloningRequired()) {
+            parameters = invocation.getParameters().clone();
         } else {
+            final ObjectCloner parameterCloner = createCloner(plan.getParameterClonerConfiguration());
+            final Class<?>[] parameterTypes = plan.getParameterTypes();
             parameters = new Object[invocation.getParameters().length];
             for (int i = 0; i < parameters.length; ++i) {
-                parameters[i] = clone(method.getParameterTypes()[i], parameterCloner, invocation.getParameters()[i], allowPassByReference);
+                parameters[i] = clone(parameterTypes[i], parameterCloner, invocation.getParameters()[i], allowPassByReference, ejb.getImmutability(), ejb.getDeploymentClassLoader());
             }
         }
 
@@ -148,14 +156,16 @@ public class LocalEjbReceiver extends EJBReceiver {
             throw EjbLogger.ROOT_LOGGER.ejbNotFoundInDeployment(locator);
         }
 
-        final ClonerConfiguration config = new ClonerConfiguration();
-        config.setClassCloner(new LocalInvocationClassCloner(WildFlySecurityManager.getClassLoaderPrivileged(invocation.getInvokedProxy().getClass())));
+        final Class<?> proxyClass = invocation.getInvokedProxy().getClass();
+        final ClassLoader proxyClassLoader = WildFlySecurityManager.getClassLoaderPrivileged(proxyClass);
+        final ClonerConfiguration config = plan.getResultClonerConfiguration(proxyClass);
         final ObjectCloner resultCloner = createCloner(config);
+        final ResultSharing resultSharing = new ResultSharing(ejb.getImmutability(), proxyClassLoader);
         if (async) {
             if (ejbComponent instanceof SessionBeanComponent) {
                 final CancellationFlag flag = new CancellationFlag();
                 final SessionBeanComponent component = (SessionBeanComponent) ejbComponent;
-                final boolean isAsync = view.isAsynchronous(method);
+                final boolean isAsync = plan.isAsynchronous();
                 final boolean oneWay = isAsync && method.getReturnType() == void.class;
                 final boolean isSessionBean = view.getComponent() instanceof SessionBeanComponent;
                 if (isAsync && isSessionBean && !oneWay) {
@@ -213,10 +223,10 @@ public class LocalEjbReceiver extends EJBReceiver {
                                 receiverContext.resultReady(NULL_RESULT);
                                 return;
                             }
-                            receiverContext.resultReady(new CloningResultProducer(invocation, resultCloner, asyncValue, allowPassByReference));
+                            receiverContext.resultReady(new CloningResultProducer(invocation, resultCloner, asyncValue, allowPassByReference, resultSharing));
                             return;
                         }
-                        receiverContext.resultReady(new CloningResultProducer(invocation, resultCloner, result, allowPassByReference));
+                        receiverContext.resultReady(new CloningResultProducer(invocation, resultCloner, result, allowPassByReference, resultSharing));
                     } finally {
                         StartupCountdown.restore(null);
                     }
@@ -246,12 +256,31 @@ public class LocalEjbReceiver extends EJBReceiver {
                 receiverContext.resultReady(new CloningExceptionProducer(resultCloner, e, allowPassByReference));
                 return;
             }
-            receiverContext.resultReady(new CloningResultProducer(invocation, resultCloner, result, allowPassByReference));
+            receiverContext.resultReady(new CloningResultProducer(invocation, resultCloner, result, allowPassByReference, resultSharing));
 
             handleReturningContextData(invocation, interceptorContext);
         }
     }
 
+    /**
+     * Returns the plan of the invocation of the given method on the view, resolving and caching it on the first invocation.
+     * Plans are only cached if the invoked view class is the view class of the deployment, so that the cache does not
+     * retain classes of the client deployments.
+     */
+    private static LocalInvocationPlan getInvocationPlan(final EjbDeploymentInformation ejb, final ComponentView view, final Class<?> viewClass, final Method invokedMethod) {
+        if (viewClass != view.getViewClass()) {
+            return new LocalInvocationPlan(view, invokedMethod, ejb.getDeploymentClassLoader());
+        }
+        final ConcurrentMap<Method, LocalInvocationPlan> plans = ejb.getLocalInvocationPlans();
+        LocalInvocationPlan plan = plans.get(invokedMethod);
+        // the view is replaced if the component is restarted
+        if (plan == null || plan.getView() != view) {
+            plan = new LocalInvocationPlan(view, invokedMethod, ejb.getDeploymentClassLoader());
+            plans.put(invokedMethod, plan);
+        }
+        return plan;
+    }
+
     /**
      * WFLY-16567 - ContextData not kept in sync when EJB modifies it
      *
@@ -292,22 +321,37 @@ public class LocalEjbReceiver extends EJBReceiver {
         private final ObjectCloner resultCloner;
         private final Object result;
         private final boolean allowPassByReference;
+        private final ResultSharing sharing;
 
-        CloningResultProducer(final EJBClientInvocationContext invocation, final ObjectCloner resultCloner, final Object result, final boolean allowPassByReference) {
+        CloningResultProducer(final EJBClientInvocationContext invocation, final ObjectCloner resultCloner, final Object result, final boolean allowPassByReference, final ResultSharing sharing) {
             this.invocation = invocation;
             this.resultCloner = resultCloner;
             this.result = result;
             this.allowPassByReference = allowPassByReference;
+            this.sharing = sharing;
         }
 
         public Object getResult() throws Exception {
-            return LocalEjbReceiver.clone(invocation.getInvokedMethod().getReturnType(), resultCloner, result, allowPassByReference);
+            return LocalEjbReceiver.clone(invocation.getInvokedMethod().getReturnType(), resultCloner, result, allowPassByReference, sharing.immutability, sharing.classLoader);
         }
 
         public void discardResult() {
         }
     }
 
+    /**
+     * The immutable values that can be returned as is to the class loader of the invoked proxy.
+     */
+    static final class ResultSharing {
+        private final Immutability immutability;
+        private final ClassLoader classLoader;
+
+        ResultSharing(final Immutability immutability, final ClassLoader classLoader) {
+            this.immutability = immutability;
+            this.classLoader = classLoader;
+        }
+    }
+
     static final class CloningExceptionProducer implements EJBReceiverInvocationContext.ResultProducer {
         private final ObjectCloner resultCloner;
         private final Exception exception;
@@ -364,6 +408,103 @@ public class LocalEjbReceiver extends EJBReceiver {
         return clone(cloner, object);
     }
 
+    /**
+     * Clones the given value unless it can be shared with the given class loader, i.e. if it is immutable and its class,
+     * as well as the classes of its elements if it is a container, are the ones seen from the class loader.
+     * Collections of immutable values are copied without serialization.
+     */
+    static Object clone(final Class<?> target, final ObjectCloner cloner, final Object object, final boolean allowPassByReference, final Immutability immutability, final ClassLoader targetClassLoader) {
+        if (object == null) {
+            return null;
+        }
+        if (target.isPrimitive()) {
+            return object;
+        }
+        if (allowPassByReference && target.isAssignableFrom(object.getClass())) {
+            return object;
+        }
+        if (isShareable(target, object, immutability, targetClassLoader)) {
+            return object;
+        }
+        final Object copy = copyCollection(object, value -> isShareable(target, value, immutability, targetClassLoader));
+        return (copy != null) ? copy : clone(cloner, object);
+    }
+
+    private static boolean isShareable(final Class<?> target, final Object value, final Immutability immutability, final ClassLoader targetClassLoader) {
+        if (value == null) {
+            return true;
+        }
+        final Class<?> valueClass = value.getClass();
+        final ClassLoader valueClassLoader = WildFlySecurityManager.getClassLoaderPrivileged(valueClass);
+        // values of application classes can only be shared if the target sees the same class
+        if (valueClassLoader != null && valueClassLoader != targetClassLoader && valueClass != target) {
+            return false;
+        }
+        // deserializing an enum constant resolves the same constant
+        if (valueClass.isEnum()) {
+            return true;
+        }
+        if (!immutability.test(value)) {
+            return false;
+        }
+        // the elements of immutable containers, e.g. unmodifiable collections, may be instances of application classes
+        // whose class loader differs from the one of the container
+        if (value instanceof Collection) {
+            for (Object element : (Collection<?>) value) {
+                if (!isShareable(null, element, immutability, targetClassLoader)) {
+                    return false;
+                }
+            }
+        } else if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!isShareable(null, entry.getKey(), immutability, targetClassLoader) || !isShareable(null, entry.getValue(), immutability, targetClassLoader)) {
+                    return false;
+                }
+            }
+        } else if (value instanceof Map.Entry) {
+            final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
+            return isShareable(null, entry.getKey(), immutability, targetClassLoader) && isShareable(null, entry.getValue(), immutability, targetClassLoader);
+        } else if (value instanceof Optional) {
+            return isShareable(null, ((Optional<?>) value).orElse(null), immutability, targetClassLoader);
+        }
+        return true;
+    }
+
+    /**
+     * Copies the common mutable collections whose elements are all shareable, without serializing them.
+     *
+     * @return the copy of the collection, or {@code null} if the value is not such a collection
+     */
+    private static Object copyCollection(final Object object, final Predicate<Object> shareable) {
+        final Class<?> collectionClass = object.getClass();
+        if (collectionClass == ArrayList.class || collectionClass == LinkedList.class || collectionClass == HashSet.class || collectionClass == LinkedHashSet.class) {
+            final Collection<?> collection = (Collection<?>) object;
+            for (Object element : collection) {
+                if (!shareable.test(element)) {
+                    return null;
+                }
+            }
+            if (collectionClass == ArrayList.class) {
+                return new ArrayList<>(collection);
+            } else if (collectionClass == LinkedList.class) {
+                return new LinkedList<>(collection);
+            } else if (collectionClass == HashSet.class) {
+                return new HashSet<>(collection);
+            }
+            return new LinkedHashSet<>(collection);
+        }
+        if (collectionClass == HashMap.class || collectionClass == LinkedHashMap.class) {
+            final Map<?, ?> map = (Map<?, ?>) object;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!shareable.test(entry.getKey()) || !shareable.test(entry.getValue())) {
+                    return null;
+                }
+            }
+            return (collectionClass == HashMap.class) ? new HashMap<>(map) : new LinkedHashMap<>(map);
+        }
+        return null;
+    }
+
     private static Object clone(final ObjectCloner cloner, final Object object) {
         if (object == null) {
             return null;
@@ -0,0 +1,106 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.remote;
+
+import java.lang.reflect.Method;
+
+import org.jboss.as.ee.component.ComponentView;
+import org.jboss.as.ee.utils.DescriptorUtils;
+import org.jboss.marshalling.cloner.ClassLoaderClassCloner;
+import org.jboss.marshalling.cloner.ClonerConfiguration;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * The invariant part of an in-VM invocation of a method of a remote view, resolved once by the {@link LocalEjbReceiver}
+ * and reused for all the subsequent invocations of the same method.
+ * <p>
+ * Cloners are stateful and cannot be shared between invocations, so the plan keeps the cloner configurations
+ * which are bound to the class loaders and only used to create a fresh cloner for each invocation.
+ */
+public final class LocalInvocationPlan {
+
+    private final ComponentView view;
+    private final Method method;
+    private final Class<?>[] parameterTypes;
+    private final boolean asynchronous;
+    private final boolean parameterCloningRequired;
+    private final ClonerConfiguration parameterClonerConfiguration;
+    // associated with the proxy classes, so that the class loaders of the callers are neither retained by the plan
+    // nor evicted when callers of distinct class loaders alternate
+    private final ClassValue<ClonerConfiguration> resultClonerConfigurations = new ClassValue<>() {
+        @Override
+        protected ClonerConfiguration computeValue(final Class<?> proxyClass) {
+            final ClonerConfiguration configuration = new ClonerConfiguration();
+            configuration.setClassCloner(new LocalInvocationClassCloner(WildFlySecurityManager.getClassLoaderPrivileged(proxyClass)));
+            return configuration;
+        }
+    };
+
+    LocalInvocationPlan(final ComponentView view, final Method invokedMethod, final ClassLoader deploymentClassLoader) {
+        this.view = view;
+        this.method = view.getMethod(invokedMethod.getName(), DescriptorUtils.methodDescriptor(invokedMethod));
+        this.parameterTypes = method.getParameterTypes();
+        this.asynchronous = view.isAsynchronous(method);
+        boolean parameterCloningRequired = false;
+        for (Class<?> parameterType : parameterTypes) {
+            // primitives are never cloned
+            parameterCloningRequired |= !parameterType.isPrimitive();
+        }
+        this.parameterCloningRequired = parameterCloningRequired;
+        this.parameterClonerConfiguration = new ClonerConfiguration();
+        this.parameterClonerConfiguration.setClassCloner(new ClassLoaderClassCloner(deploymentClassLoader));
+    }
+
+    ComponentView getView() {
+        return view;
+    }
+
+    /**
+     * @return the method of the view which is invoked
+     */
+    Method getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the parameter types of the invoked method. The returned array must not be modified
+     */
+    Class<?>[] getParameterTypes() {
+        return parameterTypes;
+    }
+
+    /**
+     * @return {@code true} if the method is asynchronous on the view
+     */
+    boolean isAsynchronous() {
+        return asynchronous;
+    }
+
+    /**
+     * @return {@code true} if some parameters of the method may have to be cloned
+     */
+    boolean isParameterCloningRequired() {
+        return parameterCloningRequired;
+    }
+
+    /**
+     * @return the configuration of the cloners of the parameters, bound to the deployment class loader
+     */
+    ClonerConfiguration getParameterClonerConfiguration() {
+        return parameterClonerConfiguration;
+    }
+
+    /**
+     * Returns the configuration of the cloners of the result, bound to the class loader of the given class of the invoked
+     * proxy.
+     *
+     * @param proxyClass the class of the invoked proxy
+     * @return the configuration of the cloners of the result
+     */
+    ClonerConfiguration getResultClonerConfiguration(final Class<?> proxyClass) {
+        return resultClonerConfigurations.get(proxyClass);
+    }
+}
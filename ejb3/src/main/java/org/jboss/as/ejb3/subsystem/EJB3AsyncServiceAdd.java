@@ -6,31 +6,44 @@ package org.jboss.as.ejb3.subsystem;
 
 import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
 
+import java.util.OptionalInt;
+import java.util.concurrent.ExecutorService;
+
 import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.ejb3.deployment.processors.merging.AsynchronousMergingProcessor;
+import org.jboss.as.ejb3.util.VirtualThreadExecutorService;
 import org.jboss.as.server.AbstractDeploymentChainStep;
 import org.jboss.as.server.DeploymentProcessorTarget;
 import org.jboss.as.server.deployment.Phase;
 import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceName;
+import org.wildfly.service.BlockingLifecycle;
+import org.wildfly.subsystem.service.ServiceInstaller;
 
 /**
  * A {@link org.jboss.as.controller.AbstractBoottimeAddStepHandler} to handle the add operation for the Jakarta Enterprise Beans
  * remote service, in the Jakarta Enterprise Beans subsystem
  * <p/>
+ * If the virtual-threads attribute specifies a maximum number of concurrent asynchronous invocations, the asynchronous methods
+ * run in virtual threads, instead of the threads of the configured thread pool.
  *
  * @author Stuart Douglas
  */
 public class EJB3AsyncServiceAdd extends AbstractBoottimeAddStepHandler {
 
+    private static final ServiceName VIRTUAL_THREAD_EXECUTOR_SERVICE_NAME = ServiceName.JBOSS.append("ejb3", "async", "virtual-thread-executor");
+
     @Override
     protected void performBoottime(final OperationContext context, final ModelNode operation, final ModelNode model) throws OperationFailedException {
 
         final String threadPoolName = EJB3AsyncResourceDefinition.THREAD_POOL_NAME.resolveModelAttribute(context, model).asString();
 
-        final ServiceName threadPoolServiceName = context.getCapabilityServiceName(EJB3SubsystemRootResourceDefinition.EXECUTOR_SERVICE_DESCRIPTOR, threadPoolName);
+        final ModelNode virtualThreads = EJB3AsyncResourceDefinition.VIRTUAL_THREADS.resolveModelAttribute(context, model);
+        final OptionalInt virtualThreadsMaxConcurrency = virtualThreads.isDefined() ? OptionalInt.of(virtualThreads.asInt()) : OptionalInt.empty();
+
+        final ServiceName threadPoolServiceName = getExecutorServiceName(context, threadPoolName, virtualThreadsMaxConcurrency);
 
         context.addStep(new AbstractDeploymentChainStep() {
             @Override
@@ -40,4 +53,19 @@ public class EJB3AsyncServiceAdd extends AbstractBoottimeAddStepHandler {
             }
         }, OperationContext.Stage.RUNTIME);
     }
+
+    private static ServiceName getExecutorServiceName(final OperationContext context, final String threadPoolName, final OptionalInt maxConcurrency) {
+        if (maxConcurrency.isPresent()) {
+            if (VirtualThreadExecutorService.isSupported()) {
+                ServiceInstaller.BlockingBuilder.of(() -> new VirtualThreadExecutorService("EJB-async", maxConcurrency.getAsInt()))
+                        .provides(VIRTUAL_THREAD_EXECUTOR_SERVICE_NAME)
+                        .withLifecycle(BlockingLifecycle.compose(ExecutorService::shutdownNow))
+                        .build()
+                        .install(context);
+                return VIRTUAL_THREAD_EXECUTOR_SERVICE_NAME;
+            }
+            ROOT_LOGGER.virtualThreadsNotSupported("Jakarta Enterprise Beans @Asynchronous support", threadPoolName);
+        }
+        return context.getCapabilityServiceName(EJB3SubsystemRootResourceDefinition.EXECUTOR_SERVICE_DESCRIPTOR, threadPoolName);
+    }
 }
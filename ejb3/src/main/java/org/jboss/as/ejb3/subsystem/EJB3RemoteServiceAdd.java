@@ -10,8 +10,10 @@ import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.List;
+import java.util.OptionalInt;
 import java.util.ServiceLoader;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -28,6 +30,7 @@ import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.remote.AssociationService;
 import org.jboss.as.ejb3.remote.EJBRemoteConnectorService;
+import org.jboss.as.ejb3.util.VirtualThreadExecutorService;
 import org.jboss.as.network.ClientMapping;
 import org.jboss.as.network.ProtocolSocketBinding;
 import org.jboss.dmr.ModelNode;
@@ -42,6 +45,7 @@ import org.wildfly.clustering.infinispan.service.InfinispanServiceDescriptor;
 import org.wildfly.clustering.server.service.ClusteringServiceDescriptor;
 import org.wildfly.common.function.Functions;
 import org.wildfly.common.net.Inet;
+import org.wildfly.service.BlockingLifecycle;
 import org.wildfly.service.descriptor.UnaryServiceDescriptor;
 import org.wildfly.subsystem.service.ServiceDependency;
 import org.wildfly.subsystem.service.ServiceInstaller;
@@ -53,6 +57,9 @@ import org.xnio.Options;
 /**
  * A {@link AbstractAddStepHandler} to handle the add operation for the Jakarta Enterprise Beans remote service, in the Jakarta
  * Enterprise Beans subsystem
+ * <p>
+ * If the virtual-threads attribute specifies a maximum number of concurrent remote invocations, the remote invocations run in
+ * virtual threads, instead of the threads of the configured thread pool, or of the worker.
  *
  * @author <a href="mailto:cdewolf@redhat.com">Carlo de Wolf</a>
  * @author <a href="mailto:ropalka@redhat.com">Richard Opalka</a>
@@ -60,6 +67,8 @@ import org.xnio.Options;
  */
 public class EJB3RemoteServiceAdd extends AbstractBoottimeAddStepHandler {
 
+    private static final ServiceName VIRTUAL_THREAD_EXECUTOR_SERVICE_NAME = ServiceName.JBOSS.append("ejb3", "remote", "virtual-thread-executor");
+
     private static final LegacyClientMappingsRegistryProviderFactory LEGACY_PROVIDER_FACTORY = ServiceLoader
             .load(LegacyClientMappingsRegistryProviderFactory.class,
                     LegacyClientMappingsRegistryProviderFactory.class.getClassLoader())
@@ -97,6 +106,8 @@ public class EJB3RemoteServiceAdd extends AbstractBoottimeAddStepHandler {
                 .asString();
         final boolean executeInWorker = EJB3RemoteResourceDefinition.EXECUTE_IN_WORKER.resolveModelAttribute(context, model)
                 .asBoolean();
+        final ModelNode virtualThreads = EJB3RemoteResourceDefinition.VIRTUAL_THREADS.resolveModelAttribute(context, model);
+        final OptionalInt virtualThreadsMaxConcurrency = virtualThreads.isDefined() ? OptionalInt.of(virtualThreads.asInt()) : OptionalInt.empty();
 
         // for each connector specified, we need to set up a client-mappings cache
         for (ModelNode connectorNameNode : connectorNameNodes) {
@@ -137,7 +148,20 @@ public class EJB3RemoteServiceAdd extends AbstractBoottimeAddStepHandler {
                 .provides(EJB3RemoteResourceDefinition.EJB_REMOTE_CAPABILITY);
         final Supplier<Endpoint> endpointSupplier = builder
                 .requiresCapability(EJB3RemoteResourceDefinition.REMOTING_ENDPOINT_CAPABILITY_NAME, Endpoint.class);
-        Supplier<Executor> executorSupplier = !executeInWorker ? builder.requires(EJB3SubsystemRootResourceDefinition.EXECUTOR_SERVICE_DESCRIPTOR, threadPoolName) : Functions.constantSupplier(null);
+        final Supplier<Executor> executorSupplier;
+        if (virtualThreadsMaxConcurrency.isPresent() && VirtualThreadExecutorService.isSupported()) {
+            ServiceInstaller.BlockingBuilder.of(() -> new VirtualThreadExecutorService("EJB-remote", virtualThreadsMaxConcurrency.getAsInt()))
+                    .provides(VIRTUAL_THREAD_EXECUTOR_SERVICE_NAME)
+                    .withLifecycle(BlockingLifecycle.compose(ExecutorService::shutdownNow))
+                    .build()
+                    .install(context);
+            executorSupplier = builder.requires(VIRTUAL_THREAD_EXECUTOR_SERVICE_NAME);
+        } else {
+            if (virtualThreadsMaxConcurrency.isPresent()) {
+                EjbLogger.ROOT_LOGGER.virtualThreadsNotSupported("Jakarta Enterprise Beans remote invocations", threadPoolName);
+            }
+            executorSupplier = !executeInWorker ? builder.requires(EJB3SubsystemRootResourceDefinition.EXECUTOR_SERVICE_DESCRIPTOR, threadPoolName) : Functions.constantSupplier(null);
+        }
         // add rest of the dependencies
         final Supplier<AssociationService> associationServiceSupplier = builder.requires(AssociationService.SERVICE_NAME);
         final Supplier<RemotingTransactionService> remotingTransactionServiceSupplier = builder.requiresCapability(
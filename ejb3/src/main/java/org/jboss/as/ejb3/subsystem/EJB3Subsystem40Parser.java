@@ -225,7 +225,7 @@ public class EJB3Subsystem40Parser extends EJB3Subsystem30Parser {
         operations.add(operation);
     }
 
-    private XMLStreamException mutuallyExclusiveAttributes(XMLExtendedStreamReader reader) {
+    XMLStreamException mutuallyExclusiveAttributes(XMLExtendedStreamReader reader) {
         return EjbLogger.ROOT_LOGGER.mutuallyExclusiveAttributes(reader.getLocation(), MAX_POOL_SIZE, DERIVE_SIZE);
     }
 
@@ -472,6 +472,8 @@ class EJB3SubsystemAdd extends AbstractBoottimeAddStepHandler {
 
         ExceptionLoggingWriteHandler.INSTANCE.updateOrCreateDefaultExceptionLoggingEnabledService(context, model);
 
+        DefaultSingletonBeanStripedLockWriteHandler.INSTANCE.updateOrCreateDefaultStripedLockService(context, model);
+
         serviceTarget.addService(DeploymentRepositoryService.SERVICE_NAME, new DeploymentRepositoryService()).install();
 
         addRemoteInvocationServices(context, model, appclient);
@@ -67,6 +67,7 @@ public interface EJB3SubsystemModel {
     String PATH = "path";
 
     String DEFAULT_SINGLETON_BEAN_ACCESS_TIMEOUT = "default-singleton-bean-access-timeout";
+    String DEFAULT_SINGLETON_BEAN_STRIPED_LOCK = "default-singleton-bean-striped-lock";
     String DEFAULT_STATEFUL_BEAN_ACCESS_TIMEOUT = "default-stateful-bean-access-timeout";
     String DEFAULT_STATEFUL_BEAN_SESSION_TIMEOUT = "default-stateful-bean-session-timeout";
     String DEFAULT_DATA_STORE = "default-data-store";
@@ -86,9 +87,14 @@ public interface EJB3SubsystemModel {
     String REMOTE_HTTP_CONNECTION = "remote-http-connection";
 
     String TIMER = "timer";
+    String INSTANCE_IDLE_TIMEOUT = "instance-idle-timeout";
     String TIMER_SERVICE = "timer-service";
+    String SCHEDULER = "scheduler";
+    String TICK = "tick";
+    String WHEEL_SIZE = "wheel-size";
     String THREAD_POOL = "thread-pool";
     String THREAD_POOL_NAME = "thread-pool-name";
+    String VIRTUAL_THREADS = "virtual-threads";
     @Deprecated String DEFAULT = "default";
 
     String USE_QUALIFIED_NAME = "use-qualified-name";
@@ -98,6 +104,7 @@ public interface EJB3SubsystemModel {
     String SIMPLE_CACHE = "simple-cache";
     String DISTRIBUTABLE_CACHE = "distributable-cache";
     String BEAN_MANAGEMENT = "bean-management";
+    String MAX_ACTIVE = "max-active";
     @Deprecated String PASSIVATION_STORE = "passivation-store";
 
     String MDB_DELIVERY_GROUP="mdb-delivery-group";
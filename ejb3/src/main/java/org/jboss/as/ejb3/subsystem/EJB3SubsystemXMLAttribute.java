@@ -49,11 +49,13 @@ public enum EJB3SubsystemXMLAttribute {
     @Deprecated IDLE_TIMEOUT_UNIT("idle-timeout-unit"),
     INSTANCE_ACQUISITION_TIMEOUT("instance-acquisition-timeout"),
     INSTANCE_ACQUISITION_TIMEOUT_UNIT("instance-acquisition-timeout-unit"),
+    INSTANCE_IDLE_TIMEOUT(EJB3SubsystemModel.INSTANCE_IDLE_TIMEOUT),
 
     KEEPALIVE_TIME("keepalive-time"),
 
     LOCAL_RECEIVER_PASS_BY_VALUE("local-receiver-pass-by-value"),
 
+    MAX_ACTIVE("max-active"),
     MAX_POOL_SIZE("max-pool-size"),
     MAX_SIZE("max-size"),
     DERIVE_SIZE("derive-size"),
@@ -75,11 +77,15 @@ public enum EJB3SubsystemXMLAttribute {
     RELATIVE_TO("relative-to"),
     RESOURCE_ADAPTER_NAME("resource-adapter-name"),
 
+    SCHEDULER(EJB3SubsystemModel.SCHEDULER),
+
     @Deprecated SESSIONS_PATH("sessions-path"),
     STATIC_URLS("static-urls"),
+    STRIPED_LOCK("striped-lock"),
     @Deprecated SUBDIRECTORY_COUNT("subdirectory-count"),
 
     THREAD_POOL_NAME("thread-pool-name"),
+    TICK(EJB3SubsystemModel.TICK),
     TYPE("type"),
 
     USE_QUALIFIED_NAME("use-qualified-name"),
@@ -90,6 +96,10 @@ public enum EJB3SubsystemXMLAttribute {
 
     EXECUTE_IN_WORKER("execute-in-worker"),
 
+    VIRTUAL_THREADS("virtual-threads"),
+
+    WHEEL_SIZE(EJB3SubsystemModel.WHEEL_SIZE),
+
     // Elytron integration
     OUTFLOW_SECURITY_DOMAINS("outflow-security-domains"),
     SECURITY_DOMAIN("security-domain"),
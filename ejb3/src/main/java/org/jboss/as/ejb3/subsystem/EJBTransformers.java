@@ -5,8 +5,10 @@
 
 package org.jboss.as.ejb3.subsystem;
 
+import static org.jboss.as.ejb3.subsystem.EJB3Model.VERSION_10_0_0;
 import static org.jboss.as.ejb3.subsystem.EJB3Model.VERSION_9_0_0;
 
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
 import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
@@ -38,14 +40,47 @@ public class EJBTransformers implements ExtensionTransformerRegistration {
         ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(currentModel);
 
         // register the transformations required for each legacy version after 9.0.0
-        registerTransformers_9_0_0(chainedBuilder.createBuilder(currentModel, VERSION_9_0_0.getVersion()));
+        registerTransformers_10_0_0(chainedBuilder.createBuilder(currentModel, VERSION_10_0_0.getVersion()));
+        registerTransformers_9_0_0(chainedBuilder.createBuilder(VERSION_10_0_0.getVersion(), VERSION_9_0_0.getVersion()));
 
         // create the chained builder which incorporates all transformations
         chainedBuilder.buildAndRegister(subsystemRegistration, new ModelVersion[] {
+                VERSION_10_0_0.getVersion(),
                 VERSION_9_0_0.getVersion()
         });
     }
 
+    /*
+     * Transformers for changes in model version 11.0.0
+     */
+    private static void registerTransformers_10_0_0(ResourceTransformationDescriptionBuilder subsystemBuilder) {
+        subsystemBuilder.getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, EJB3SubsystemRootResourceDefinition.DEFAULT_SINGLETON_BEAN_STRIPED_LOCK)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, EJB3SubsystemRootResourceDefinition.DEFAULT_SINGLETON_BEAN_STRIPED_LOCK)
+                .end();
+        AttributeDefinition maxActive = SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.MAX_ACTIVE.getDefinition();
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.SIMPLE_CACHE_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, maxActive)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, maxActive)
+                .end();
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.ASYNC_SERVICE_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, EJB3AsyncResourceDefinition.VIRTUAL_THREADS)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, EJB3AsyncResourceDefinition.VIRTUAL_THREADS)
+                .end();
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.REMOTE_SERVICE_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, EJB3RemoteResourceDefinition.VIRTUAL_THREADS)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, EJB3RemoteResourceDefinition.VIRTUAL_THREADS)
+                .end();
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.TIMER_SERVICE_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, TimerServiceResourceDefinition.SCHEDULER, TimerServiceResourceDefinition.TICK, TimerServiceResourceDefinition.WHEEL_SIZE)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, TimerServiceResourceDefinition.SCHEDULER, TimerServiceResourceDefinition.TICK, TimerServiceResourceDefinition.WHEEL_SIZE)
+                .end();
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.STRICT_MAX_BEAN_INSTANCE_POOL_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, StrictMaxPoolResourceDefinition.INSTANCE_IDLE_TIMEOUT)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, StrictMaxPoolResourceDefinition.INSTANCE_IDLE_TIMEOUT)
+                .end();
+    }
+
     /*
      * Transformers for changes in model version 10.0.0
      */
@@ -5,33 +5,62 @@
 package org.jboss.as.ejb3.subsystem;
 
 import java.util.List;
-import java.util.function.UnaryOperator;
+import java.util.OptionalInt;
 
+import org.jboss.as.clustering.controller.SimpleResourceDescriptorConfigurator;
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.ejb3.component.stateful.StatefulComponentDescription;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCacheProvider;
 import org.jboss.as.ejb3.component.stateful.cache.simple.SimpleStatefulSessionBeanCacheFactoryServiceInstallerFactory;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 import org.wildfly.subsystem.service.ServiceDependency;
 import org.wildfly.subsystem.service.ServiceInstaller;
 
 /**
  * Defines a CacheFactoryBuilder instance which, during deployment, is used to configure, build and install a CacheFactory for the SFSB being deployed.
- * The CacheFactory resource instances defined here produce bean caches which are non distributed and do not have passivation-enabled.
+ * The CacheFactory resource instances defined here produce bean caches which are non distributed, and which passivate to the local
+ * file system only if configured with a maximum number of active bean instances.
  *
  * @author Paul Ferraro
  * @author Richard Achmatowicz
  */
 public class SimpleStatefulSessionBeanCacheProviderResourceDefinition extends StatefulSessionBeanCacheProviderResourceDefinition {
 
+    public enum Attribute implements org.jboss.as.clustering.controller.Attribute {
+        MAX_ACTIVE(EJB3SubsystemModel.MAX_ACTIVE, ModelType.INT),
+        ;
+        private final AttributeDefinition definition;
+
+        Attribute(String name, ModelType type) {
+            this.definition = new SimpleAttributeDefinitionBuilder(name, type)
+                    .setAllowExpression(true)
+                    .setRequired(false)
+                    .setValidator(new IntRangeValidator(1, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .build();
+        }
+
+        @Override
+        public AttributeDefinition getDefinition() {
+            return this.definition;
+        }
+    }
+
     public SimpleStatefulSessionBeanCacheProviderResourceDefinition() {
-        super(EJB3SubsystemModel.SIMPLE_CACHE_PATH, UnaryOperator.identity());
+        super(EJB3SubsystemModel.SIMPLE_CACHE_PATH, new SimpleResourceDescriptorConfigurator<>(Attribute.class));
     }
 
     @Override
     public ServiceDependency<StatefulSessionBeanCacheProvider> resolve(OperationContext context, ModelNode model) throws OperationFailedException {
+        ModelNode maxActiveValue = Attribute.MAX_ACTIVE.resolveModelAttribute(context, model);
+        OptionalInt maxActive = maxActiveValue.isDefined() ? OptionalInt.of(maxActiveValue.asInt()) : OptionalInt.empty();
         return ServiceDependency.of(new StatefulSessionBeanCacheProvider() {
             @Override
             public Iterable<ServiceInstaller> getDeploymentServiceInstallers(DeploymentUnit unit) {
@@ -40,12 +69,12 @@ public class SimpleStatefulSessionBeanCacheProviderResourceDefinition extends St
 
             @Override
             public Iterable<ServiceInstaller> getStatefulBeanCacheFactoryServiceInstallers(DeploymentUnit unit, StatefulComponentDescription description) {
-                return List.of(new SimpleStatefulSessionBeanCacheFactoryServiceInstallerFactory<>().apply(description));
+                return List.of(new SimpleStatefulSessionBeanCacheFactoryServiceInstallerFactory<>(maxActive).apply(description));
             }
 
             @Override
             public boolean supportsPassivation() {
-                return false;
+                return maxActive.isPresent();
             }
         });
     }
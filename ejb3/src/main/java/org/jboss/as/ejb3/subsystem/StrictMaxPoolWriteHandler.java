@@ -62,6 +62,9 @@ class StrictMaxPoolWriteHandler extends AbstractWriteAttributeHandler<Void> {
                 } else if (StrictMaxPoolResourceDefinition.INSTANCE_ACQUISITION_TIMEOUT_UNIT.getName().equals(attributeName)) {
                     String timeoutUnit = StrictMaxPoolResourceDefinition.INSTANCE_ACQUISITION_TIMEOUT_UNIT.resolveModelAttribute(context, model).asString();
                     smpc.setTimeoutUnit(TimeUnit.valueOf(timeoutUnit));
+                } else if (StrictMaxPoolResourceDefinition.INSTANCE_IDLE_TIMEOUT.getName().equals(attributeName)) {
+                    long idleTimeout = StrictMaxPoolResourceDefinition.INSTANCE_IDLE_TIMEOUT.resolveModelAttribute(context, model).asLong(0);
+                    smpc.setIdleTimeout(idleTimeout);
                 }
             }
         }
@@ -17,11 +17,14 @@ import org.jboss.as.ejb3.deployment.processors.TimerServiceDeploymentProcessor;
 import org.jboss.as.ejb3.deployment.processors.annotation.TimerServiceAnnotationProcessor;
 import org.jboss.as.ejb3.deployment.processors.merging.TimerMethodMergingProcessor;
 import org.jboss.as.ejb3.timerservice.TimerServiceMetaData;
+import org.jboss.as.ejb3.timerservice.TimerTaskScheduler;
+import org.jboss.as.ejb3.timerservice.TimingWheelScheduler;
 import org.jboss.as.server.AbstractDeploymentChainStep;
 import org.jboss.as.server.DeploymentProcessorTarget;
 import org.jboss.as.server.deployment.Phase;
 import org.jboss.dmr.ModelNode;
 import org.wildfly.service.BlockingLifecycle;
+import org.wildfly.subsystem.service.ServiceDependency;
 import org.wildfly.subsystem.service.capability.CapabilityServiceInstaller;
 
 /**
@@ -54,7 +57,20 @@ public class TimerServiceAdd extends AbstractBoottimeAddStepHandler {
         }, OperationContext.Stage.RUNTIME);
 
         if (threadPoolName != null) {
-            CapabilityServiceInstaller.BlockingBuilder.of(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY, Timer::new).withLifecycle(BlockingLifecycle.compose(Timer::cancel)).build().install(context);
+            TimerServiceResourceDefinition.Scheduler scheduler = TimerServiceResourceDefinition.Scheduler.fromValue(TimerServiceResourceDefinition.SCHEDULER.resolveModelAttribute(context, model).asString());
+            switch (scheduler) {
+                case TIMING_WHEEL: {
+                    // the timing wheel runs its own thread, the java.util.Timer is not needed
+                    long tick = TimerServiceResourceDefinition.TICK.resolveModelAttribute(context, model).asLong();
+                    int wheelSize = TimerServiceResourceDefinition.WHEEL_SIZE.resolveModelAttribute(context, model).asInt();
+                    CapabilityServiceInstaller.BlockingBuilder.of(TimerServiceResourceDefinition.TIMER_SCHEDULER_CAPABILITY, () -> new TimingWheelScheduler(tick, wheelSize)).withLifecycle(BlockingLifecycle.compose(TimingWheelScheduler::close)).build().install(context);
+                    break;
+                }
+                default: {
+                    CapabilityServiceInstaller.BlockingBuilder.of(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY, Timer::new).withLifecycle(BlockingLifecycle.compose(Timer::cancel)).build().install(context);
+                    CapabilityServiceInstaller.BlockingBuilder.of(TimerServiceResourceDefinition.TIMER_SCHEDULER_CAPABILITY, ServiceDependency.on(TimerServiceResourceDefinition.TIMER_SERVICE_DESCRIPTOR).map(TimerTaskScheduler::new)).build().install(context);
+                }
+            }
         }
     }
 }
@@ -14,11 +14,18 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.as.ejb3.timerservice.TimerScheduler;
+import org.jboss.as.ejb3.timerservice.TimingWheelScheduler;
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.wildfly.clustering.ejb.timer.TimerManagementProvider;
 import org.wildfly.service.descriptor.NullaryServiceDescriptor;
@@ -33,6 +40,8 @@ public class TimerServiceResourceDefinition extends SimpleResourceDefinition {
 
     public static final NullaryServiceDescriptor<Timer> TIMER_SERVICE_DESCRIPTOR = NullaryServiceDescriptor.of("org.wildfly.ejb3.timer-service", Timer.class);
     static final RuntimeCapability<Void> TIMER_SERVICE_CAPABILITY = RuntimeCapability.Builder.of(TIMER_SERVICE_DESCRIPTOR).build();
+    public static final NullaryServiceDescriptor<TimerScheduler> TIMER_SCHEDULER_DESCRIPTOR = NullaryServiceDescriptor.of("org.wildfly.ejb3.timer-service.scheduler", TimerScheduler.class);
+    static final RuntimeCapability<Void> TIMER_SCHEDULER_CAPABILITY = RuntimeCapability.Builder.of(TIMER_SCHEDULER_DESCRIPTOR).build();
 
     static final SimpleAttributeDefinition THREAD_POOL_NAME =
             new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.THREAD_POOL_NAME, ModelType.STRING)
@@ -67,7 +76,62 @@ public class TimerServiceResourceDefinition extends SimpleResourceDefinition {
                     .setCapabilityReference(CapabilityReference.builder(TIMER_SERVICE_CAPABILITY, TimerManagementProvider.SERVICE_DESCRIPTOR).build())
                     .build();
 
-    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { THREAD_POOL_NAME, DEFAULT_DATA_STORE, DEFAULT_PERSISTENT_TIMER_MANAGEMENT, DEFAULT_TRANSIENT_TIMER_MANAGEMENT };
+    static final SimpleAttributeDefinition SCHEDULER =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.SCHEDULER, ModelType.STRING, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(new ModelNode(Scheduler.TIMER.toString()))
+                    .setValidator(EnumValidator.create(Scheduler.class))
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    static final SimpleAttributeDefinition TICK =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.TICK, ModelType.LONG, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(new ModelNode(TimingWheelScheduler.DEFAULT_TICK))
+                    .setValidator(new LongRangeValidator(1, true, true))
+                    .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    static final SimpleAttributeDefinition WHEEL_SIZE =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.WHEEL_SIZE, ModelType.INT, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(new ModelNode(TimingWheelScheduler.DEFAULT_WHEEL_SIZE))
+                    .setValidator(new IntRangeValidator(1, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { THREAD_POOL_NAME, DEFAULT_DATA_STORE, DEFAULT_PERSISTENT_TIMER_MANAGEMENT, DEFAULT_TRANSIENT_TIMER_MANAGEMENT, SCHEDULER, TICK, WHEEL_SIZE };
+
+    /**
+     * The schedulers of the timeouts of the timers.
+     */
+    enum Scheduler {
+        // a java.util.Timer
+        TIMER("timer"),
+        // a hierarchical timing wheel, using the tick and wheel-size attributes
+        TIMING_WHEEL("timing-wheel"),
+        ;
+        private final String value;
+
+        Scheduler(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return this.value;
+        }
+
+        static Scheduler fromValue(String value) {
+            for (Scheduler scheduler : values()) {
+                if (scheduler.value.equals(value)) {
+                    return scheduler;
+                }
+            }
+            return valueOf(value);
+        }
+    }
 
     private final PathManager pathManager;
 
@@ -77,7 +141,7 @@ public class TimerServiceResourceDefinition extends SimpleResourceDefinition {
                 .setRemoveHandler(ReloadRequiredRemoveStepHandler.INSTANCE)
                 .setAddRestartLevel(OperationEntry.Flag.RESTART_ALL_SERVICES)
                 .setRemoveRestartLevel(OperationEntry.Flag.RESTART_ALL_SERVICES)
-                .setCapabilities(TIMER_SERVICE_CAPABILITY));
+                .setCapabilities(TIMER_SERVICE_CAPABILITY, TIMER_SCHEDULER_CAPABILITY));
         this.pathManager = pathManager;
     }
 
@@ -13,6 +13,7 @@ import static org.jboss.as.ejb3.subsystem.deployment.TimerResourceDefinition.SCH
 import static org.jboss.as.ejb3.subsystem.deployment.TimerResourceDefinition.TIME_REMAINING;
 
 import java.util.Map;
+import java.util.function.ToLongFunction;
 
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ObjectListAttributeDefinition;
@@ -24,6 +25,7 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.StringListAttributeDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
@@ -97,9 +99,17 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
             .build();
 
+    private static final AttributeDefinition EXECUTION_TIME_P50 = createPercentileMetric("execution-time-p50");
+    private static final AttributeDefinition EXECUTION_TIME_P95 = createPercentileMetric("execution-time-p95");
+    private static final AttributeDefinition EXECUTION_TIME_P99 = createPercentileMetric("execution-time-p99");
+    private static final AttributeDefinition WAIT_TIME_P50 = createPercentileMetric("wait-time-p50");
+    private static final AttributeDefinition WAIT_TIME_P95 = createPercentileMetric("wait-time-p95");
+    private static final AttributeDefinition WAIT_TIME_P99 = createPercentileMetric("wait-time-p99");
+
     private static final AttributeDefinition METHODS = ObjectMapAttributeDefinition.Builder.of(
             "methods",
-            ObjectTypeAttributeDefinition.Builder.of("complex", EXECUTION_TIME, INVOCATIONS, WAIT_TIME)
+            ObjectTypeAttributeDefinition.Builder.of("complex", EXECUTION_TIME, INVOCATIONS, WAIT_TIME,
+                    EXECUTION_TIME_P50, EXECUTION_TIME_P95, EXECUTION_TIME_P99, WAIT_TIME_P50, WAIT_TIME_P95, WAIT_TIME_P99)
             .build())
             .setRequired(false)
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
@@ -147,6 +157,9 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC).build();
     public static final SimpleAttributeDefinition POOL_MAX_SIZE = new SimpleAttributeDefinitionBuilder("pool-max-size", ModelType.INT, false)
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME).build();
+    public static final SimpleAttributeDefinition POOL_WAIT_TIME_P50 = createPoolWaitTimeMetric("pool-wait-time-p50");
+    public static final SimpleAttributeDefinition POOL_WAIT_TIME_P95 = createPoolWaitTimeMetric("pool-wait-time-p95");
+    public static final SimpleAttributeDefinition POOL_WAIT_TIME_P99 = createPoolWaitTimeMetric("pool-wait-time-p99");
 
     static final ObjectTypeAttributeDefinition TIMER = new ObjectTypeAttributeDefinition.Builder("timer",
             TIME_REMAINING, NEXT_TIMEOUT, CALENDAR_TIMER, PERSISTENT, INFO, new ObjectTypeAttributeDefinition.Builder(SCHEDULE.getName(), SCHEDULE.getValueTypes()).setSuffix("schedule").build())
@@ -193,6 +206,9 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             resourceRegistration.registerReadOnlyAttribute(POOL_REMOVE_COUNT, handler);
             resourceRegistration.registerReadOnlyAttribute(POOL_CURRENT_SIZE, handler);
             resourceRegistration.registerReadWriteAttribute(POOL_MAX_SIZE, handler, handler);
+            resourceRegistration.registerMetric(POOL_WAIT_TIME_P50, handler);
+            resourceRegistration.registerMetric(POOL_WAIT_TIME_P95, handler);
+            resourceRegistration.registerMetric(POOL_WAIT_TIME_P99, handler);
         }
 
         if (componentType.equals(EJBComponentType.STATEFUL)) {
@@ -243,6 +259,12 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
                 context.getResult().set(component.getInvocationMetrics().getWaitTime());
             }
         });
+        registerPercentileMetric(resourceRegistration, EXECUTION_TIME_P50, metrics -> metrics.getExecutionTimePercentile(50));
+        registerPercentileMetric(resourceRegistration, EXECUTION_TIME_P95, metrics -> metrics.getExecutionTimePercentile(95));
+        registerPercentileMetric(resourceRegistration, EXECUTION_TIME_P99, metrics -> metrics.getExecutionTimePercentile(99));
+        registerPercentileMetric(resourceRegistration, WAIT_TIME_P50, metrics -> metrics.getWaitTimePercentile(50));
+        registerPercentileMetric(resourceRegistration, WAIT_TIME_P95, metrics -> metrics.getWaitTimePercentile(95));
+        registerPercentileMetric(resourceRegistration, WAIT_TIME_P99, metrics -> metrics.getWaitTimePercentile(99));
         resourceRegistration.registerMetric(METHODS, new AbstractRuntimeMetricsHandler() {
             @Override
             protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
@@ -253,12 +275,42 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
                     result.get("execution-time").set(values.getExecutionTime());
                     result.get("invocations").set(values.getInvocations());
                     result.get("wait-time").set(values.getWaitTime());
+                    result.get(EXECUTION_TIME_P50.getName()).set(values.getExecutionTimePercentile(50));
+                    result.get(EXECUTION_TIME_P95.getName()).set(values.getExecutionTimePercentile(95));
+                    result.get(EXECUTION_TIME_P99.getName()).set(values.getExecutionTimePercentile(99));
+                    result.get(WAIT_TIME_P50.getName()).set(values.getWaitTimePercentile(50));
+                    result.get(WAIT_TIME_P95.getName()).set(values.getWaitTimePercentile(95));
+                    result.get(WAIT_TIME_P99.getName()).set(values.getWaitTimePercentile(99));
                     context.getResult().get(entry.getKey()).set(result);
                 }
             }
         });
     }
 
+    static AttributeDefinition createPercentileMetric(String name) {
+        return new SimpleAttributeDefinitionBuilder(name, ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.GAUGE_METRIC)
+                .build();
+    }
+
+    private static SimpleAttributeDefinition createPoolWaitTimeMetric(String name) {
+        return new SimpleAttributeDefinitionBuilder(name, ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+                .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.GAUGE_METRIC)
+                .build();
+    }
+
+    static void registerPercentileMetric(ManagementResourceRegistration resourceRegistration, AttributeDefinition attribute, ToLongFunction<InvocationMetrics> percentile) {
+        resourceRegistration.registerMetric(attribute, new AbstractRuntimeMetricsHandler() {
+            @Override
+            protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                context.getResult().set(percentile.applyAsLong(component.getInvocationMetrics()));
+            }
+        });
+    }
+
     /* (non-Javadoc)
      * @see org.jboss.as.controller.SimpleResourceDefinition#registerChildren(org.jboss.as.controller.registry.ManagementResourceRegistration)
      */
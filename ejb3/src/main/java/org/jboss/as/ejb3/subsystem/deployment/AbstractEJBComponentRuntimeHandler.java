@@ -19,6 +19,9 @@ import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourc
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_MAX_SIZE;
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_NAME;
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_REMOVE_COUNT;
+import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_WAIT_TIME_P50;
+import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_WAIT_TIME_P95;
+import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_WAIT_TIME_P99;
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.RUN_AS_ROLE;
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.SECURITY_DOMAIN;
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.TIMEOUT_METHOD;
@@ -216,6 +219,21 @@ public abstract class AbstractEJBComponentRuntimeHandler<T extends EJBComponent>
             if (pool != null) {
                 result.set(pool.getMaxSize());
             }
+        } else if (hasPool && POOL_WAIT_TIME_P50.getName().equals(attributeName)) {
+            final Pool<?> pool = componentType.getPool(component);
+            if (pool != null) {
+                result.set(pool.getWaitTimePercentile(50));
+            }
+        } else if (hasPool && POOL_WAIT_TIME_P95.getName().equals(attributeName)) {
+            final Pool<?> pool = componentType.getPool(component);
+            if (pool != null) {
+                result.set(pool.getWaitTimePercentile(95));
+            }
+        } else if (hasPool && POOL_WAIT_TIME_P99.getName().equals(attributeName)) {
+            final Pool<?> pool = componentType.getPool(component);
+            if (pool != null) {
+                result.set(pool.getWaitTimePercentile(99));
+            }
         } else {
             // Bug; we were registered for an attribute but there is no code for handling it
             throw EjbLogger.ROOT_LOGGER.unknownAttribute(attributeName);
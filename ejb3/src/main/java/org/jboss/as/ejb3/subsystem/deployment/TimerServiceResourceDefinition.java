@@ -5,6 +5,7 @@
 
 package org.jboss.as.ejb3.subsystem.deployment;
 
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
@@ -14,11 +15,16 @@ import org.jboss.as.ejb3.subsystem.EJB3SubsystemModel;
 
 /**
  * {@link ResourceDefinition} for the timer-service resource for runtime ejb deployment.
- * As of now this is dummy path impl, since mgmt ops are supported by top level service=timer-service
+ * As of now this is dummy path impl, since mgmt ops are supported by top level service=timer-service.
+ * It exposes the percentiles of the lateness of the timeouts of the timers of the component.
  * @author baranowb
  */
 public class TimerServiceResourceDefinition<T extends EJBComponent> extends SimpleResourceDefinition {
 
+    private static final AttributeDefinition TIMEOUT_LATENESS_P50 = AbstractEJBComponentResourceDefinition.createPercentileMetric("timeout-lateness-p50");
+    private static final AttributeDefinition TIMEOUT_LATENESS_P95 = AbstractEJBComponentResourceDefinition.createPercentileMetric("timeout-lateness-p95");
+    private static final AttributeDefinition TIMEOUT_LATENESS_P99 = AbstractEJBComponentResourceDefinition.createPercentileMetric("timeout-lateness-p99");
+
     private final AbstractEJBComponentRuntimeHandler<T> parentHandler;
     TimerServiceResourceDefinition(AbstractEJBComponentRuntimeHandler<T> parentHandler) {
         super(new SimpleResourceDefinition.Parameters(EJB3SubsystemModel.TIMER_SERVICE_PATH, EJB3Extension.getResourceDescriptionResolver(EJB3SubsystemModel.TIMER_SERVICE))
@@ -26,6 +32,14 @@ public class TimerServiceResourceDefinition<T extends EJBComponent> extends Simp
         this.parentHandler = parentHandler;
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        AbstractEJBComponentResourceDefinition.registerPercentileMetric(resourceRegistration, TIMEOUT_LATENESS_P50, metrics -> metrics.getTimeoutLatenessPercentile(50));
+        AbstractEJBComponentResourceDefinition.registerPercentileMetric(resourceRegistration, TIMEOUT_LATENESS_P95, metrics -> metrics.getTimeoutLatenessPercentile(95));
+        AbstractEJBComponentResourceDefinition.registerPercentileMetric(resourceRegistration, TIMEOUT_LATENESS_P99, metrics -> metrics.getTimeoutLatenessPercentile(99));
+    }
+
     @Override
     public void registerChildren(ManagementResourceRegistration resourceRegistration) {
         super.registerChildren(resourceRegistration);
@@ -0,0 +1,49 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice;
+
+/**
+ * Schedules the timeouts of the timers of the timer services.
+ * Scheduled tasks are expected to be short, typically handing off the actual timeout to an executor.
+ */
+public interface TimerScheduler {
+
+    /**
+     * Schedules the given task to run once after the given delay.
+     *
+     * @param task the task to run
+     * @param delay the delay in milliseconds, run as soon as possible if negative
+     * @return the scheduled task
+     */
+    ScheduledTask schedule(Runnable task, long delay);
+
+    /**
+     * Schedules the given task to run repeatedly at a fixed rate, starting after the given delay.
+     *
+     * @param task the task to run
+     * @param delay the delay in milliseconds before the first run, run as soon as possible if negative
+     * @param period the period in milliseconds between the scheduled start of successive runs
+     * @return the scheduled task
+     */
+    ScheduledTask scheduleAtFixedRate(Runnable task, long delay, long period);
+
+    /**
+     * Releases the resources retained by cancelled tasks.
+     */
+    void purge();
+
+    /**
+     * A task scheduled by a {@link TimerScheduler}.
+     */
+    interface ScheduledTask {
+        /**
+         * Cancels the task, preventing its future runs.
+         *
+         * @return {@code true} if this prevented some runs of the task, {@code false} otherwise
+         */
+        boolean cancel();
+    }
+}
@@ -5,7 +5,6 @@
 
 package org.jboss.as.ejb3.timerservice;
 
-import java.util.Timer;
 import java.util.concurrent.Executor;
 
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
@@ -18,7 +17,7 @@ public interface TimerServiceConfiguration extends ManagedTimerServiceConfigurat
 
     Executor getExecutor();
 
-    Timer getTimer();
+    TimerScheduler getTimerScheduler();
 
     TimerPersistence getTimerPersistence();
 }
@@ -6,7 +6,6 @@
 package org.jboss.as.ejb3.timerservice;
 
 import java.util.List;
-import java.util.Timer;
 import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
@@ -54,7 +53,7 @@ public class TimerServiceFactoryServiceInstaller implements DeploymentServiceIns
     public void install(DeploymentPhaseContext context) {
         ServiceDependency<Executor> executor = ServiceDependency.on(EJB3SubsystemRootResourceDefinition.EXECUTOR_SERVICE_DESCRIPTOR, this.threadPoolName);
         ServiceDependency<TimerPersistence> persistence = (this.store != null) ? ServiceDependency.on(TimerPersistence.SERVICE_DESCRIPTOR, this.store) : ServiceDependency.of(null);
-        ServiceDependency<Timer> timer = ServiceDependency.on(TimerServiceResourceDefinition.TIMER_SERVICE_DESCRIPTOR);
+        ServiceDependency<TimerScheduler> scheduler = ServiceDependency.on(TimerServiceResourceDefinition.TIMER_SCHEDULER_DESCRIPTOR);
         TimedObjectInvokerFactory invokerFactory = this.configuration.getInvokerFactory();
         TimerServiceRegistry registry = this.configuration.getTimerServiceRegistry();
         TimerListener listener = this.configuration.getTimerListener();
@@ -85,8 +84,8 @@ public class TimerServiceFactoryServiceInstaller implements DeploymentServiceIns
                     }
 
                     @Override
-                    public Timer getTimer() {
-                        return timer.get();
+                    public TimerScheduler getTimerScheduler() {
+                        return scheduler.get();
                     }
 
                     @Override
@@ -103,7 +102,7 @@ public class TimerServiceFactoryServiceInstaller implements DeploymentServiceIns
         };
         ServiceInstaller.BlockingBuilder.of(Functions.constantSupplier(factory))
                 .provides(this.name)
-                .requires(List.of(executor, persistence, timer))
+                .requires(List.of(executor, persistence, scheduler))
                 .build()
                 .install(context);
     }
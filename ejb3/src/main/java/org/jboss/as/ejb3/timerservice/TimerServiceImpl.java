@@ -72,7 +72,7 @@ public class TimerServiceImpl implements ManagedTimerService {
     /**
      * Holds the {@link java.util.concurrent.Future} of each of the timer tasks that have been scheduled
      */
-    private final ConcurrentMap<String, java.util.TimerTask> scheduledTimerFutures = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Task> scheduledTimerFutures = new ConcurrentHashMap<>();
 
     /**
      * Key that is used to store timers that are waiting on transaction completion in the transaction local
@@ -80,7 +80,7 @@ public class TimerServiceImpl implements ManagedTimerService {
     private final Object waitingOnTxCompletionKey = new Object();
 
     private final Executor executor;
-    private final java.util.Timer timer;
+    private final TimerScheduler scheduler;
     private final TimedObjectInvoker invoker;
     private final TimerPersistence persistence;
     private final TimerServiceRegistry timerServiceRegistry;
@@ -100,7 +100,7 @@ public class TimerServiceImpl implements ManagedTimerService {
     public TimerServiceImpl(TimerServiceConfiguration configuration) {
         this.invoker = configuration.getInvoker();
         this.executor = configuration.getExecutor();
-        this.timer = configuration.getTimer();
+        this.scheduler = configuration.getTimerScheduler();
         this.persistence = configuration.getTimerPersistence();
         this.timerServiceRegistry = configuration.getTimerServiceRegistry();
         this.timerListener = configuration.getTimerListener();
@@ -155,7 +155,7 @@ public class TimerServiceImpl implements ManagedTimerService {
         started = false;
         safeClose(listenerHandle);
         listenerHandle = null;
-        this.timer.purge(); //WFLY-3823
+        this.scheduler.purge(); //WFLY-3823
     }
 
     @Override
@@ -666,7 +666,7 @@ public class TimerServiceImpl implements ManagedTimerService {
             if (delay < 0) {
                 delay = 0;
             }
-            this.timer.scheduleAtFixedRate(task, delay, intervalDuration);
+            task.setScheduled(this.scheduler.scheduleAtFixedRate(task, delay, intervalDuration));
         } else {
             EJB3_TIMER_LOGGER.debugv("Scheduling a single action timer {0} starting at {1} milliseconds from now", timer, delay);
             // if in past, then trigger immediately; if overdue by 5 minutes, set next expiration to current time
@@ -676,7 +676,7 @@ public class TimerServiceImpl implements ManagedTimerService {
                 }
                 delay = 0;
             }
-            this.timer.schedule(task, delay);
+            task.setScheduled(this.scheduler.schedule(task, delay));
         }
     }
 
@@ -916,7 +916,7 @@ public class TimerServiceImpl implements ManagedTimerService {
         }
     }
 
-    private class TaskPostPersist extends java.util.TimerTask {
+    private class TaskPostPersist implements Runnable {
         private final TimerImpl timer;
         private long delta = 0;
         private long nextExpirationPristine = 0;
@@ -958,7 +958,7 @@ public class TimerServiceImpl implements ManagedTimerService {
                     if (delta == 0L) {
                         delta = nextExpirationDelay / (1L + MAX_RETRY.longValue());
                     }
-                    TimerServiceImpl.this.timer.schedule(new TaskPostPersist(timer, delta, nextExpirationPristine), delta);
+                    scheduler.schedule(new TaskPostPersist(timer, delta, nextExpirationPristine), delta);
                 } else {
                     EJB3_TIMER_LOGGER.exceptionPersistPostTimerState(timer, e);
                 }
@@ -966,10 +966,12 @@ public class TimerServiceImpl implements ManagedTimerService {
         }
     }
 
-    private class Task extends java.util.TimerTask {
+    private class Task implements Runnable {
 
         private final TimerTask delegate;
         private final ControlPoint controlPoint;
+        private volatile boolean cancelled = false;
+        private volatile TimerScheduler.ScheduledTask scheduled;
         /**
          * This is true if a task is queued up to be run by the request controller,
          * used to stop timer tasks banking up when the container is suspended.
@@ -981,9 +983,17 @@ public class TimerServiceImpl implements ManagedTimerService {
             this.controlPoint = controlPoint;
         }
 
+        void setScheduled(TimerScheduler.ScheduledTask scheduled) {
+            this.scheduled = scheduled;
+            // the task might have been cancelled before it was scheduled
+            if (this.cancelled) {
+                scheduled.cancel();
+            }
+        }
+
         @Override
         public void run() {
-            if (executor != null) {
+            if (executor != null && !cancelled) {
                 if (controlPoint == null) {
                     executor.execute(delegate);
                 } else if (!queued) {
@@ -1001,10 +1011,11 @@ public class TimerServiceImpl implements ManagedTimerService {
             }
         }
 
-        @Override
-        public boolean cancel() {
+        boolean cancel() {
+            this.cancelled = true;
             delegate.cancel();
-            return super.cancel();
+            TimerScheduler.ScheduledTask scheduled = this.scheduled;
+            return (scheduled != null) && scheduled.cancel();
         }
     }
 
@@ -151,6 +151,11 @@ public class TimerTask implements Runnable {
                     }
 
                     // timer state is now either CREATED or ACTIVE
+                    // record how late the timeout starts, before its scheduled expiration moves to the next one
+                    Date expiration = timer.getNextExpiration();
+                    if (expiration != null) {
+                        timerService.getInvoker().getComponent().getInvocationMetrics().recordTimeoutLateness(now.getTime() - expiration.getTime());
+                    }
                     // set the current date as the "previous run" of the timer.
                     timer.setPreviousRun(new Date());
                     Date nextTimeout = this.calculateNextTimeout(timer);
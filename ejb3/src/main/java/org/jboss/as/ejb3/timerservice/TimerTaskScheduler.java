@@ -0,0 +1,52 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice;
+
+import java.util.Timer;
+
+/**
+ * {@link TimerScheduler} running the tasks from a {@link Timer}, i.e. a single thread ordering the tasks in a binary heap.
+ */
+public class TimerTaskScheduler implements TimerScheduler {
+
+    private final Timer timer;
+
+    public TimerTaskScheduler(Timer timer) {
+        this.timer = timer;
+    }
+
+    @Override
+    public ScheduledTask schedule(Runnable task, long delay) {
+        ScheduledTimerTask timerTask = new ScheduledTimerTask(task);
+        this.timer.schedule(timerTask, Math.max(0, delay));
+        return timerTask;
+    }
+
+    @Override
+    public ScheduledTask scheduleAtFixedRate(Runnable task, long delay, long period) {
+        ScheduledTimerTask timerTask = new ScheduledTimerTask(task);
+        this.timer.scheduleAtFixedRate(timerTask, Math.max(0, delay), period);
+        return timerTask;
+    }
+
+    @Override
+    public void purge() {
+        this.timer.purge();
+    }
+
+    private static class ScheduledTimerTask extends java.util.TimerTask implements ScheduledTask {
+        private final Runnable task;
+
+        ScheduledTimerTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            this.task.run();
+        }
+    }
+}
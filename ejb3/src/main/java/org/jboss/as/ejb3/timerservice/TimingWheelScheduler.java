@@ -0,0 +1,340 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link TimerScheduler} based on a hierarchical timing wheel.
+ * <p>
+ * Tasks are added to, and removed from, the bucket of their expiration tick in constant time. Each wheel covers
+ * {@code wheelSize} ticks of the wheel below it and is created on demand for tasks which expire beyond the range of
+ * the wheel below. Only the non-empty buckets are queued by expiration, so the thread of the scheduler does not wake up
+ * at every tick, and a bucket of an upper wheel which expires cascades its tasks down to the lower wheels.
+ * The buckets of the lowest wheel expire at the end of their tick, so tasks never run early, and at most one tick late.
+ */
+public class TimingWheelScheduler implements TimerScheduler, AutoCloseable {
+
+    public static final long DEFAULT_TICK = 10;
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final DelayQueue<Bucket> queue = new DelayQueue<>();
+    // tasks are added under the read lock, the clock of the wheels advances under the write lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Wheel wheel;
+    private final Thread thread;
+    private volatile boolean closed = false;
+
+    /**
+     * @param tick the duration of a tick of the lowest wheel, in milliseconds
+     * @param wheelSize the number of buckets of a wheel
+     */
+    public TimingWheelScheduler(long tick, int wheelSize) {
+        if (tick <= 0) {
+            throw new IllegalArgumentException(String.valueOf(tick));
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException(String.valueOf(wheelSize));
+        }
+        this.wheel = new Wheel(tick, wheelSize, now(), true, this.queue);
+        this.thread = new Thread(this::expire, "EJB timer scheduler");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    @Override
+    public ScheduledTask schedule(Runnable task, long delay) {
+        Entry entry = new Entry(task, now() + Math.max(0, delay), 0);
+        this.add(entry);
+        return entry;
+    }
+
+    @Override
+    public ScheduledTask scheduleAtFixedRate(Runnable task, long delay, long period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException(String.valueOf(period));
+        }
+        Entry entry = new Entry(task, now() + Math.max(0, delay), period);
+        this.add(entry);
+        return entry;
+    }
+
+    @Override
+    public void purge() {
+        // cancelled tasks are removed from their bucket immediately
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+        this.thread.interrupt();
+        this.queue.clear();
+    }
+
+    private void add(Entry entry) {
+        boolean added;
+        this.lock.readLock().lock();
+        try {
+            added = this.wheel.add(entry);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+        if (!added && !entry.isCancelled()) {
+            // already expired, let the thread of the scheduler run it as soon as possible
+            Bucket bucket = new Bucket();
+            bucket.add(entry);
+            bucket.setExpiration(entry.expiration);
+            this.queue.offer(bucket);
+        }
+    }
+
+    private void expire() {
+        List<Entry> flushed = new ArrayList<>();
+        List<Entry> expired = new ArrayList<>();
+        while (!this.closed) {
+            try {
+                Bucket bucket = this.queue.take();
+                this.lock.writeLock().lock();
+                try {
+                    // flush all the expired buckets before the wheels advance, so that no task is added to a bucket
+                    // which has expired but is not flushed yet
+                    long time = bucket.getExpiration();
+                    while (bucket != null) {
+                        time = Math.max(time, bucket.getExpiration());
+                        flushed.addAll(bucket.flush());
+                        bucket = this.queue.poll();
+                    }
+                    this.wheel.advance(time);
+                    for (Entry entry : flushed) {
+                        // cascade the tasks of an upper wheel down to the lower wheels
+                        if (!entry.isCancelled() && !this.wheel.add(entry)) {
+                            expired.add(entry);
+                        }
+                    }
+                } finally {
+                    this.lock.writeLock().unlock();
+                }
+                for (Entry entry : expired) {
+                    this.run(entry);
+                }
+            } catch (InterruptedException e) {
+                // closed
+            } finally {
+                flushed.clear();
+                expired.clear();
+            }
+        }
+    }
+
+    private void run(Entry entry) {
+        if (entry.isCancelled()) {
+            return;
+        }
+        try {
+            entry.task.run();
+        } catch (Throwable e) {
+            EJB3_TIMER_LOGGER.debugf(e, "Scheduled task %s failed", entry.task);
+        }
+        if (entry.period > 0 && !entry.isCancelled()) {
+            // fixed rate: the next run is scheduled relative to the previous scheduled run
+            entry.expiration += entry.period;
+            this.add(entry);
+        } else {
+            entry.done = true;
+        }
+    }
+
+    static long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    private static class Wheel {
+        private final long tick;
+        private final int size;
+        private final long interval;
+        // the buckets of the lowest wheel expire at the end of their tick, those of the upper wheels at the start of their tick
+        private final boolean lowest;
+        private final Bucket[] buckets;
+        private final DelayQueue<Bucket> queue;
+        // the start of the current tick, always a multiple of the tick
+        private volatile long currentTime;
+        private volatile Wheel overflow;
+
+        Wheel(long tick, int size, long startTime, boolean lowest, DelayQueue<Bucket> queue) {
+            this.tick = tick;
+            this.size = size;
+            this.interval = tick * size;
+            this.lowest = lowest;
+            this.queue = queue;
+            // the clock may be negative
+            this.currentTime = startTime - Math.floorMod(startTime, tick);
+            this.buckets = new Bucket[size];
+            for (int i = 0; i < size; ++i) {
+                this.buckets[i] = new Bucket();
+            }
+        }
+
+        /**
+         * Adds the given entry to the bucket of its expiration.
+         *
+         * @return {@code false} if the entry has already expired, {@code true} otherwise
+         */
+        boolean add(Entry entry) {
+            long expiration = entry.expiration;
+            long currentTime = this.currentTime;
+            // the current tick of the lowest wheel has not expired yet, whereas the one of an upper wheel has already
+            // been cascaded down
+            if (expiration < (this.lowest ? currentTime : currentTime + this.tick)) {
+                return false;
+            }
+            if (expiration < currentTime + this.interval) {
+                long virtualId = Math.floorDiv(expiration, this.tick);
+                Bucket bucket = this.buckets[Math.floorMod(virtualId, this.size)];
+                bucket.add(entry);
+                // the bucket is queued again only if it was reused for another round of the wheel
+                if (bucket.setExpiration((this.lowest ? virtualId + 1 : virtualId) * this.tick)) {
+                    this.queue.offer(bucket);
+                }
+                return true;
+            }
+            return this.overflow().add(entry);
+        }
+
+        void advance(long time) {
+            if (time >= this.currentTime + this.tick) {
+                this.currentTime = time - Math.floorMod(time, this.tick);
+                Wheel overflow = this.overflow;
+                if (overflow != null) {
+                    overflow.advance(this.currentTime);
+                }
+            }
+        }
+
+        private Wheel overflow() {
+            Wheel overflow = this.overflow;
+            if (overflow == null) {
+                synchronized (this) {
+                    overflow = this.overflow;
+                    if (overflow == null) {
+                        overflow = new Wheel(this.interval, this.size, this.currentTime, false, this.queue);
+                        this.overflow = overflow;
+                    }
+                }
+            }
+            return overflow;
+        }
+    }
+
+    /**
+     * A doubly linked list of the entries which expire in the same tick of a wheel.
+     */
+    private static class Bucket implements Delayed {
+        private final Entry head = new Entry(null, -1, 0);
+        private final AtomicLong expiration = new AtomicLong(-1);
+
+        Bucket() {
+            this.head.next = this.head;
+            this.head.previous = this.head;
+        }
+
+        synchronized void add(Entry entry) {
+            Entry tail = this.head.previous;
+            entry.next = this.head;
+            entry.previous = tail;
+            entry.bucket = this;
+            tail.next = entry;
+            this.head.previous = entry;
+        }
+
+        synchronized void remove(Entry entry) {
+            if (entry.bucket == this) {
+                entry.next.previous = entry.previous;
+                entry.previous.next = entry.next;
+                entry.next = null;
+                entry.previous = null;
+                entry.bucket = null;
+            }
+        }
+
+        /**
+         * Removes all the entries of this bucket.
+         */
+        synchronized List<Entry> flush() {
+            List<Entry> entries = new ArrayList<>();
+            for (Entry entry = this.head.next; entry != this.head; entry = this.head.next) {
+                this.remove(entry);
+                entries.add(entry);
+            }
+            this.expiration.set(-1);
+            return entries;
+        }
+
+        /**
+         * @return {@code true} if the expiration changed
+         */
+        boolean setExpiration(long expiration) {
+            return this.expiration.getAndSet(expiration) != expiration;
+        }
+
+        long getExpiration() {
+            return this.expiration.get();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(this.getExpiration() - now(), 0), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed delayed) {
+            return Long.compare(this.getExpiration(), ((Bucket) delayed).getExpiration());
+        }
+    }
+
+    private static class Entry implements ScheduledTask {
+        final Runnable task;
+        final long period;
+        volatile long expiration;
+        volatile boolean cancelled = false;
+        volatile boolean done = false;
+        // guarded by the bucket
+        volatile Bucket bucket;
+        Entry next;
+        Entry previous;
+
+        Entry(Runnable task, long expiration, long period) {
+            this.task = task;
+            this.expiration = expiration;
+            this.period = period;
+        }
+
+        boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (this.cancelled) {
+                return false;
+            }
+            this.cancelled = true;
+            // the entry might be moved to another bucket concurrently
+            for (Bucket bucket = this.bucket; bucket != null; bucket = this.bucket) {
+                bucket.remove(this);
+            }
+            return !this.done;
+        }
+    }
+}
@@ -29,18 +29,18 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
@@ -48,6 +48,9 @@ import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import jakarta.ejb.ScheduleExpression;
 import javax.sql.DataSource;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 import jakarta.transaction.HeuristicMixedException;
 import jakarta.transaction.HeuristicRollbackException;
 import jakarta.transaction.NotSupportedException;
@@ -57,6 +60,7 @@ import jakarta.transaction.SystemException;
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.timerservice.CalendarTimer;
 import org.jboss.as.ejb3.timerservice.TimerImpl;
+import org.jboss.as.ejb3.timerservice.TimerScheduler;
 import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
 import org.jboss.as.ejb3.timerservice.TimerState;
 import org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod;
@@ -78,6 +82,7 @@ import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 import org.wildfly.security.manager.WildFlySecurityManager;
 import org.wildfly.transaction.client.ContextTransactionManager;
+import org.wildfly.transaction.client.ContextTransactionSynchronizationRegistry;
 
 /**
  * <p>
@@ -92,7 +97,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private final Consumer<DatabaseTimerPersistence> dbConsumer;
     private final Supplier<ManagedReferenceFactory> dataSourceSupplier;
     private final Supplier<ModuleLoader> moduleLoaderSupplier;
-    private final Supplier<Timer> timerSupplier;
+    private final Supplier<TimerScheduler> schedulerSupplier;
     private final Map<String, TimerChangeListener> changeListeners = Collections.synchronizedMap(new HashMap<String, TimerChangeListener>());
 
 
@@ -111,9 +116,16 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private volatile ManagedReference managedReference;
     private volatile DataSource dataSource;
     private volatile Properties sql;
+    /** Whether the timer info is stored in a binary column, rather than Base64 encoded in a character column */
+    private volatile boolean binaryInfo;
+    /** The SQL type of the timer info column */
+    private volatile int infoType = Types.VARCHAR;
+    /** Whether the timer table has a LAST_MODIFIED column, so that the refresh reads the modified timers only */
+    private volatile boolean trackModifications;
     private MarshallerFactory factory;
     private MarshallingConfiguration configuration;
-    private RefreshTask refreshTask;
+    private final RefreshTask refreshTask = new RefreshTask();
+    private TimerScheduler.ScheduledTask scheduledRefresh;
 
     /** database values */
     private static final String POSTGRES = "postgres";
@@ -136,10 +148,25 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private static final String CREATE_AUTO_TIMER = "create-auto-timer";
     private static final String UPDATE_TIMER = "update-timer";
     private static final String LOAD_ALL_TIMERS = "load-all-timers";
+    private static final String LOAD_TIMER_STATES = "load-timer-states";
     private static final String LOAD_TIMER = "load-timer";
     private static final String DELETE_TIMER = "delete-timer";
     private static final String UPDATE_RUNNING = "update-running";
     private static final String GET_TIMER_INFO = "get-timer-info";
+    private static final String LOAD_MODIFIED_TIMERS = "load-modified-timers";
+    /** Suffix of the statements maintaining the LAST_MODIFIED column, used instead of the plain ones if the column exists */
+    private static final String WITH_LAST_MODIFIED = "-with-last-modified";
+    /** The statements with a variant maintaining the LAST_MODIFIED column */
+    private static final String[] LAST_MODIFIED_STATEMENTS = { CREATE_TIMER, CREATE_AUTO_TIMER, UPDATE_TIMER, UPDATE_RUNNING, LOAD_TIMER_STATES };
+    /** Index of the LAST_MODIFIED column in the {@code load-modified-timers} query */
+    private static final int LAST_MODIFIED_COLUMN = 26;
+    /**
+     * How far back the refresh reads the timers, before the last modification it read.
+     * Covers the transactions still in progress, which may commit rows with an older modification time.
+     */
+    private static final long MODIFICATION_OVERLAP = TimeUnit.MINUTES.toMillis(1);
+    /** Interval in millis to read all the timers, so that the timers removed or modified by older nodes are refreshed */
+    private static final long FULL_REFRESH_INTERVAL = TimeUnit.MINUTES.toMillis(10);
     /** The format for scheduler start and end date*/
     private static final String SCHEDULER_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
     /** Pattern to pickout MSSQL */
@@ -167,15 +194,31 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private final long clearTimerInfoCacheBeyond = TimeUnit.MINUTES.toMillis(Long.parseLong(
             WildFlySecurityManager.getPropertyPrivileged("jboss.ejb.timer.database.clearTimerInfoCacheBeyond", "15")));
 
+    /**
+     * System property {@code jboss.ejb.timer.database.batchUpdates}
+     * to defer the updates of the timer states within a transaction until the transaction completes.
+     * The default value is false.
+     * <p>
+     * If it is set to true, the successive updates of a timer within a transaction are coalesced
+     * into its last update, and the updates of all the timers are written as JDBC batches before the
+     * transaction commits. The database is not updated while the transaction is still in progress,
+     * so queries of the timer table within the same transaction return the previous state of the timers.
+     */
+    private final boolean batchUpdates = Boolean.parseBoolean(
+            WildFlySecurityManager.getPropertyPrivileged("jboss.ejb.timer.database.batchUpdates", "false"));
+
+    /** Key of the pending timer updates of a transaction */
+    private final Object timerUpdatesKey = new Object();
+
     public DatabaseTimerPersistence(final Consumer<DatabaseTimerPersistence> dbConsumer,
                                     final Supplier<ManagedReferenceFactory> dataSourceSupplier,
                                     final Supplier<ModuleLoader> moduleLoaderSupplier,
-                                    final Supplier<Timer> timerSupplier,
+                                    final Supplier<TimerScheduler> schedulerSupplier,
                                     final String database, String partition, String nodeName, int refreshInterval, boolean allowExecution) {
         this.dbConsumer = dbConsumer;
         this.dataSourceSupplier = dataSourceSupplier;
         this.moduleLoaderSupplier = moduleLoaderSupplier;
-        this.timerSupplier = timerSupplier;
+        this.schedulerSupplier = schedulerSupplier;
         this.database = database;
         this.partition = partition;
         this.nodeName = nodeName;
@@ -195,16 +238,19 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         investigateDialect();
         loadSqlProperties();
         checkDatabase();
-        refreshTask = new RefreshTask();
+        checkTableColumns();
         if (refreshInterval > 0) {
-            timerSupplier.get().schedule(refreshTask, refreshInterval, refreshInterval);
+            scheduledRefresh = schedulerSupplier.get().scheduleAtFixedRate(refreshTask, refreshInterval, refreshInterval);
         }
     }
 
     @Override
     public synchronized void stop(final StopContext context) {
         dbConsumer.accept(null);
-        refreshTask.cancel();
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel();
+            scheduledRefresh = null;
+        }
         knownTimerIds.clear();
         managedReference.release();
         managedReference = null;
@@ -240,10 +286,12 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         if (database != null) {
             switch (database) {
                 case DB2:
-                    adjustCreateAutoTimerStatement("FROM SYSIBM.SysDummy1 ");
+                    adjustCreateAutoTimerStatement(CREATE_AUTO_TIMER, "FROM SYSIBM.SysDummy1 ");
+                    adjustCreateAutoTimerStatement(CREATE_AUTO_TIMER + WITH_LAST_MODIFIED, "FROM SYSIBM.SysDummy1 ");
                     break;
                 case ORACLE:
-                    adjustCreateAutoTimerStatement("FROM DUAL ");
+                    adjustCreateAutoTimerStatement(CREATE_AUTO_TIMER, "FROM DUAL ");
+                    adjustCreateAutoTimerStatement(CREATE_AUTO_TIMER + WITH_LAST_MODIFIED, "FROM DUAL ");
                     break;
             }
         }
@@ -344,13 +392,13 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         return unified;
     }
 
-    private void adjustCreateAutoTimerStatement(final String fromDummyTable) {
-        final String insertQuery = sql.getProperty(CREATE_AUTO_TIMER);
-        final int whereNotExists = insertQuery.indexOf("WHERE NOT EXISTS");
+    private void adjustCreateAutoTimerStatement(final String key, final String fromDummyTable) {
+        final String insertQuery = sql.getProperty(key);
+        final int whereNotExists = (insertQuery != null) ? insertQuery.indexOf("WHERE NOT EXISTS") : -1;
         if (whereNotExists > 0) {
             StringBuilder sb = new StringBuilder(insertQuery.substring(0, whereNotExists));
             sb.append(fromDummyTable).append("WHERE NOT EXISTS").append(insertQuery.substring(whereNotExists + 16));
-            sql.setProperty(CREATE_AUTO_TIMER, sb.toString());
+            sql.setProperty(key, sb.toString());
         }
     }
 
@@ -400,6 +448,60 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         }
     }
 
+    /**
+     * Checks the columns of the timer table.
+     * The timer info is stored as bytes if the INFO column is binary, e.g. a BLOB, and Base64 encoded otherwise.
+     * If the table has a LAST_MODIFIED column, the statements maintaining it are used, and the refresh reads
+     * only the timers modified since its previous run.
+     */
+    private void checkTableColumns() {
+        Connection connection = null;
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
+        try {
+            connection = dataSource.getConnection();
+            preparedStatement = connection.prepareStatement(sql.getProperty(LOAD_TIMER));
+            preparedStatement.setString(1, "NON-EXISTENT");
+            preparedStatement.setString(2, "NON-EXISTENT");
+            preparedStatement.setString(3, "NON-EXISTENT");
+            resultSet = preparedStatement.executeQuery();
+            infoType = resultSet.getMetaData().getColumnType(8);
+            binaryInfo = infoType == Types.BINARY || infoType == Types.VARBINARY || infoType == Types.LONGVARBINARY || infoType == Types.BLOB;
+            safeClose(resultSet);
+            safeClose(preparedStatement);
+            resultSet = null;
+            preparedStatement = null;
+
+            final String loadModifiedTimers = sql.getProperty(LOAD_MODIFIED_TIMERS);
+            if (loadModifiedTimers != null) {
+                try {
+                    preparedStatement = connection.prepareStatement(loadModifiedTimers);
+                    preparedStatement.setString(1, "NON-EXISTENT");
+                    preparedStatement.setString(2, "NON-EXISTENT");
+                    preparedStatement.setTimestamp(3, new Timestamp(0));
+                    resultSet = preparedStatement.executeQuery();
+                    for (String key : LAST_MODIFIED_STATEMENTS) {
+                        final String statement = sql.getProperty(key + WITH_LAST_MODIFIED);
+                        if (statement != null) {
+                            sql.setProperty(key, statement);
+                        }
+                    }
+                    trackModifications = true;
+                } catch (SQLException e) {
+                    // the table was created by an older version
+                    EjbLogger.EJB3_TIMER_LOGGER.debug("The timer table has no LAST_MODIFIED column, all the timers are read on refresh.", e);
+                }
+            }
+        } catch (SQLException e) {
+            EjbLogger.EJB3_TIMER_LOGGER.debug("Unable to read the columns of the timer table.", e);
+        } finally {
+            safeClose(resultSet);
+            safeClose(preparedStatement);
+            safeClose(connection);
+        }
+        EjbLogger.EJB3_TIMER_LOGGER.debugf("Timer info stored as %s, modified timers %s.", binaryInfo ? "bytes" : "Base64", trackModifications ? "tracked" : "not tracked");
+    }
+
     /**
      * Loads a timer from database by its id and timed object id.
      *
@@ -479,42 +581,104 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
 
     @Override
     public void persistTimer(final TimerImpl timerEntity) {
+        final TimerUpdate update = new TimerUpdate(timerEntity);
+        synchronized (this) {
+            if (update.delete) {
+                knownTimerIds.get(timerEntity.getTimedObjectId()).remove(timerEntity.getId());
+            } else {
+                knownTimerIds.get(timerEntity.getTimedObjectId()).add(timerEntity.getId());
+            }
+        }
+        if (batchUpdates) {
+            final TimerUpdates updates = getTransactionTimerUpdates();
+            if (updates != null) {
+                updates.add(update);
+                return;
+            }
+        }
+        try {
+            executeTimerUpdates(Collections.singletonList(update));
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the pending timer updates of the current transaction, registering them with the transaction
+     * on the first update.
+     *
+     * @return the pending timer updates; null if there is no active transaction
+     */
+    private TimerUpdates getTransactionTimerUpdates() {
+        final TransactionSynchronizationRegistry tsr = ContextTransactionSynchronizationRegistry.getInstance();
+        if (tsr.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            return null;
+        }
+        TimerUpdates updates = (TimerUpdates) tsr.getResource(timerUpdatesKey);
+        if (updates == null) {
+            updates = new TimerUpdates();
+            tsr.putResource(timerUpdatesKey, updates);
+            tsr.registerInterposedSynchronization(updates);
+        }
+        return updates;
+    }
+
+    /**
+     * Writes the given timer updates with a single connection.
+     * Several updates are sent to the database as JDBC batches.
+     *
+     * @param updates the timer updates, at most one per timer
+     * @throws SQLException on errors writing to database
+     */
+    private void executeTimerUpdates(final Collection<TimerUpdate> updates) throws SQLException {
+        final boolean batch = updates.size() > 1;
         Connection connection = null;
-        PreparedStatement statement = null;
+        PreparedStatement deleteStatement = null;
+        PreparedStatement updateStatement = null;
         try {
             connection = dataSource.getConnection();
-            if (timerEntity.getState() == TimerState.CANCELED ||
-                    timerEntity.getState() == TimerState.EXPIRED) {
-                String deleteTimer = sql.getProperty(DELETE_TIMER);
-                statement = connection.prepareStatement(deleteTimer);
-                statement.setString(1, timerEntity.getTimedObjectId());
-                statement.setString(2, timerEntity.getId());
-                statement.setString(3, partition);
-                statement.execute();
-                synchronized (this) {
-                    knownTimerIds.get(timerEntity.getTimedObjectId()).remove(timerEntity.getId());
+            for (TimerUpdate update : updates) {
+                final PreparedStatement statement;
+                if (update.delete) {
+                    if (deleteStatement == null) {
+                        deleteStatement = connection.prepareStatement(sql.getProperty(DELETE_TIMER));
+                    }
+                    statement = deleteStatement;
+                    statement.setString(1, update.timedObjectId);
+                    statement.setString(2, update.id);
+                    statement.setString(3, partition);
+                } else {
+                    if (updateStatement == null) {
+                        updateStatement = connection.prepareStatement(sql.getProperty(UPDATE_TIMER));
+                    }
+                    statement = updateStatement;
+                    statement.setTimestamp(1, update.nextExpiration);
+                    statement.setTimestamp(2, update.previousRun);
+                    statement.setString(3, update.state.name());
+                    setNodeName(update.state, statement, 4);
+                    // WHERE CLAUSE
+                    statement.setString(5, update.timedObjectId);
+                    statement.setString(6, update.id);
+                    statement.setString(7, partition);
+                    statement.setString(8, nodeName);   // only persist if this node or empty
                 }
-            } else {
-                synchronized (this) {
-                    knownTimerIds.get(timerEntity.getTimedObjectId()).add(timerEntity.getId());
+                if (batch) {
+                    statement.addBatch();
+                } else {
+                    statement.execute();
+                }
+            }
+            if (batch) {
+                if (deleteStatement != null) {
+                    deleteStatement.executeBatch();
+                }
+                if (updateStatement != null) {
+                    updateStatement.executeBatch();
                 }
-                String updateTimer = sql.getProperty(UPDATE_TIMER);
-                statement = connection.prepareStatement(updateTimer);
-                statement.setTimestamp(1, timestamp(timerEntity.getNextExpiration()));
-                statement.setTimestamp(2, timestamp(timerEntity.getPreviousRun()));
-                statement.setString(3, timerEntity.getState().name());
-                setNodeName(timerEntity.getState(), statement, 4);
-                // WHERE CLAUSE
-                statement.setString(5, timerEntity.getTimedObjectId());
-                statement.setString(6, timerEntity.getId());
-                statement.setString(7, partition);
-                statement.setString(8, nodeName);   // only persist if this node or empty
-                statement.execute();
             }
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
         } finally {
-            safeClose(statement);
+            safeClose(deleteStatement);
+            safeClose(updateStatement);
             safeClose(connection);
         }
     }
@@ -739,7 +903,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         builder.setNextDate(resultSet.getTimestamp(5));
         builder.setPreviousRun(resultSet.getTimestamp(6));
 //        builder.setPrimaryKey(deSerialize(resultSet.getString(7)));
-        builder.setInfo((Serializable) deSerialize(resultSet.getString(8)));
+        builder.setInfo((Serializable) getInfo(resultSet, 8));
         builder.setTimerState(timerState != null ? timerState : TimerState.valueOf(resultSet.getString(9)));
         builder.setPersistent(true);
 
@@ -766,7 +930,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         statement.setTimestamp(5, timestamp(timerEntity.getNextExpiration()));
         statement.setTimestamp(6, timestamp(timerEntity.getPreviousRun()));
         statement.setString(7, null);
-        statement.setString(8, serialize(timerEntity.getTimerInfo()));
+        setInfo(statement, 8, serialize(timerEntity.getTimerInfo()));
         statement.setString(9, timerEntity.getState().name());
 
         if (timerEntity instanceof CalendarTimer) {
@@ -815,7 +979,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         String createTimer = sql.getProperty(CREATE_AUTO_TIMER);
         Connection connection = null;
         PreparedStatement statement = null;
-        final String timerInfoString = serialize(timer.getTimerInfo());
+        final byte[] timerInfo = serialize(timer.getTimerInfo());
         final Method timeoutMethod = timer.getTimeoutMethod();
         final String timeoutMethodClassName = timeoutMethod.getDeclaringClass().getName();
         final String timeoutMethodParam = timeoutMethod.getParameterCount() == 0 ? null : TIMER_PARAM_1;
@@ -830,7 +994,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             statement.setString(1, timer.getId());
             statement.setString(2, timer.getTimedObjectId());
             statement.setTimestamp(3, timestamp(timer.getNextExpiration()));
-            statement.setString(4, timerInfoString);
+            setInfo(statement, 4, timerInfo);
             statement.setString(5, exp.getSecond());
             statement.setString(6, exp.getMinute());
             statement.setString(7, exp.getHour());
@@ -910,7 +1074,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             statement.setString(2, timer.getId());
             resultSet = statement.executeQuery();
             if (resultSet.next()) {
-                result = (Serializable) deSerialize(resultSet.getString(1));
+                result = (Serializable) getInfo(resultSet, 1);
             }
         } catch (SQLException e) {
             EjbLogger.EJB3_TIMER_LOGGER.failedToRetrieveTimerInfo(timer, e);
@@ -948,7 +1112,27 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         return true;
     }
 
-    private String serialize(final Serializable serializable) {
+    /**
+     * Sets the marshalled timer info as a parameter of a statement, as bytes or Base64 encoded, depending on the type of the INFO column.
+     */
+    private void setInfo(final PreparedStatement statement, final int paramIndex, final byte[] info) throws SQLException {
+        if (!binaryInfo) {
+            statement.setString(paramIndex, (info != null) ? Base64.getEncoder().encodeToString(info) : null);
+        } else if (info != null) {
+            statement.setBytes(paramIndex, info);
+        } else {
+            statement.setNull(paramIndex, infoType);
+        }
+    }
+
+    /**
+     * Reads and unmarshalls the timer info from a column of a {@code ResultSet}, depending on the type of the INFO column.
+     */
+    private Object getInfo(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        return binaryInfo ? deSerialize(resultSet.getBytes(columnIndex)) : deSerialize(resultSet.getString(columnIndex));
+    }
+
+    private byte[] serialize(final Serializable serializable) {
         if (serializable == null) {
             return null;
         }
@@ -962,14 +1146,21 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-        return Base64.getEncoder().encodeToString(out.toByteArray());
+        return out.toByteArray();
     }
 
     public Object deSerialize(final String data) throws SQLException {
         if (data == null) {
             return null;
         }
-        InputStream in = new ByteArrayInputStream(Base64.getDecoder().decode(data));
+        return deSerialize(Base64.getDecoder().decode(data));
+    }
+
+    private Object deSerialize(final byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        InputStream in = new ByteArrayInputStream(data);
         try {
             final Unmarshaller unmarshaller = factory.createUnmarshaller(configuration);
             unmarshaller.start(new InputStreamByteInput(in));
@@ -1029,9 +1220,26 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         }
     }
 
-    private class RefreshTask extends TimerTask {
+    /**
+     * Refreshes the timers from the persistence store.
+     * <p>
+     * If the timer table has a LAST_MODIFIED column, only the timers modified since the previous refresh, minus
+     * {@link #MODIFICATION_OVERLAP}, are read with the {@code load-modified-timers} query, and all the timers are
+     * read every {@link #FULL_REFRESH_INTERVAL} only, to remove the timers deleted by other nodes, and to refresh
+     * the timers written by older nodes, which do not maintain the column.
+     * <p>
+     * To read all the timers, if the {@code load-timer-states} statement is defined, only the ids and the states of the
+     * timers are read first, and the complete rows of all the timers are only read, with a single {@code load-all-timers}
+     * query, if some timers have to be added or synchronized, whose info alone is then unmarshalled.
+     * Otherwise, the complete rows of all the timers are read.
+     */
+    class RefreshTask implements Runnable {
 
         private volatile AtomicBoolean running = new AtomicBoolean();
+        // the modification time from which the next refresh reads the timers, by timed object
+        // only accessed by the running refresh
+        private final Map<String, Timestamp> modifiedSince = new HashMap<>();
+        private long lastFullRefresh;
 
         @Override
         public void run() {
@@ -1041,91 +1249,276 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
                     synchronized (DatabaseTimerPersistence.this) {
                         timedObjects = new HashSet<>(knownTimerIds.keySet());
                     }
+                    modifiedSince.keySet().retainAll(timedObjects);
+                    final long now = System.currentTimeMillis();
+                    final boolean fullRefresh = !trackModifications || now - lastFullRefresh >= FULL_REFRESH_INTERVAL;
                     for (String timedObjectId : timedObjects) {
                         TimerChangeListener listener = changeListeners.get(timedObjectId);
                         if (listener == null) {
                             continue;
                         }
-                        final Set<String> existing;
-                        synchronized (DatabaseTimerPersistence.this) {
-                            existing = new HashSet<>(knownTimerIds.get(timedObjectId));
-                        }
-                        String loadTimer = sql.getProperty(LOAD_ALL_TIMERS);
-                        Connection connection = null;
-                        PreparedStatement statement = null;
-                        ResultSet resultSet = null;
+                        final Timestamp since = fullRefresh ? null : modifiedSince.get(timedObjectId);
                         try {
-                            connection = dataSource.getConnection();
-                            statement = connection.prepareStatement(loadTimer);
-                            statement.setString(1, timedObjectId);
-                            statement.setString(2, partition);
-                            resultSet = statement.executeQuery();
-                            final TimerServiceImpl timerService = listener.getTimerService();
-                            while (resultSet.next()) {
-                                String id = null;
-                                try {
-                                    id = resultSet.getString(1);
-                                    if (!existing.remove(id)) {
-                                        final Holder holder = timerFromResult(resultSet, timerService, id, null);
-                                        if(holder != null) {
-                                            synchronized (DatabaseTimerPersistence.this) {
-                                                knownTimerIds.get(timedObjectId).add(id);
-                                                listener.timerAdded(holder.timer);
-                                            }
-                                        }
-                                    } else {
-                                        TimerImpl oldTimer = timerService.getTimer(id);
-                                        // if it is already in memory but it is not in sync we have a problem
-                                        // remove and add -> the probable cause is db glitch
-                                        boolean invalidMemoryTimer = oldTimer != null && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(oldTimer.getState());
-
-                                        // if timers memory - db are in non intersect subsets of valid/invalid states. we put them in sync
-                                        if (invalidMemoryTimer) {
-                                            TimerState dbTimerState = TimerState.valueOf(resultSet.getString(9));
-                                            boolean validDBTimer = TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(dbTimerState);
-                                            if (validDBTimer) {
-                                                final Holder holder = timerFromResult(resultSet, timerService, id, dbTimerState);
-                                                if (holder != null) {
-                                                    synchronized (DatabaseTimerPersistence.this) {
-                                                        knownTimerIds.get(timedObjectId).add(id);
-                                                        listener.timerSync(oldTimer, holder.timer);
-                                                    }
-                                                }
-                                            }
-                                        }
-                                    }
-                                } catch (Exception e) {
-                                    EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(resultSet.getString(2), id, e);
-                                }
-                            }
-
-                            Set<String> timers;
-                            synchronized (DatabaseTimerPersistence.this) {
-                                 timers = knownTimerIds.get(timedObjectId);
-                            }
-                            for (String timer : existing) {
-                                TimerImpl timer1 = timerService.getTimer(timer);
-                                if (timer1 != null && timer1.getState() != TimerState.CREATED) {
-                                    synchronized (DatabaseTimerPersistence.this) {
-                                        timers.remove(timer);
-                                        listener.timerRemoved(timer);
-                                    }
+                            final Timestamp lastModified = (since != null) ? refreshModifiedTimers(timedObjectId, listener, since) : refreshAllTimers(timedObjectId, listener);
+                            if (lastModified != null) {
+                                final Timestamp next = new Timestamp(lastModified.getTime() - MODIFICATION_OVERLAP);
+                                if (since == null || next.after(since)) {
+                                    modifiedSince.put(timedObjectId, next);
                                 }
                             }
                         } catch (SQLException e) {
                             EjbLogger.EJB3_TIMER_LOGGER.failedToRefreshTimers(timedObjectId);
-                        } finally {
-                            safeClose(resultSet);
-                            safeClose(statement);
-                            safeClose(connection);
                         }
                     }
+                    if (fullRefresh) {
+                        lastFullRefresh = now;
+                    }
                 } finally {
                     running.set(false);
                 }
             }
 
         }
+
+        /**
+         * Reads the timers modified since the given time, and adds or synchronizes them.
+         *
+         * @return the last modification time of the timers read; null if none was read
+         */
+        private Timestamp refreshModifiedTimers(final String timedObjectId, final TimerChangeListener listener, final Timestamp since) throws SQLException {
+            final TimerServiceImpl timerService = listener.getTimerService();
+            final Set<String> existing;
+            synchronized (DatabaseTimerPersistence.this) {
+                existing = new HashSet<>(knownTimerIds.get(timedObjectId));
+            }
+            Timestamp lastModified = null;
+            Connection connection = null;
+            PreparedStatement statement = null;
+            ResultSet resultSet = null;
+            try {
+                connection = dataSource.getConnection();
+                statement = connection.prepareStatement(sql.getProperty(LOAD_MODIFIED_TIMERS));
+                statement.setString(1, timedObjectId);
+                statement.setString(2, partition);
+                statement.setTimestamp(3, since);
+                resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    String id = null;
+                    try {
+                        id = resultSet.getString(1);
+                        lastModified = latest(lastModified, resultSet.getTimestamp(LAST_MODIFIED_COLUMN));
+                        TimerState dbTimerState = null;
+                        if (existing.contains(id)) {
+                            dbTimerState = getTimerStateToSync(timerService, id, TimerState.valueOf(resultSet.getString(9)));
+                            if (dbTimerState == null) {
+                                continue;
+                            }
+                        }
+                        reinstateTimer(timedObjectId, listener, resultSet, id, dbTimerState);
+                    } catch (Exception e) {
+                        EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, id, e);
+                    }
+                }
+            } finally {
+                safeClose(resultSet);
+                safeClose(statement);
+                safeClose(connection);
+            }
+            return lastModified;
+        }
+
+        /**
+         * Reads all the timers, adds or synchronizes them, and removes the timers no longer in the store.
+         *
+         * @return the last modification time of the timers, if tracked; null otherwise
+         */
+        private Timestamp refreshAllTimers(final String timedObjectId, final TimerChangeListener listener) throws SQLException {
+            final String loadTimerStates = sql.getProperty(LOAD_TIMER_STATES);
+            final boolean statesFirst = loadTimerStates != null;
+            final Set<String> existing;
+            synchronized (DatabaseTimerPersistence.this) {
+                existing = new HashSet<>(knownTimerIds.get(timedObjectId));
+            }
+            // the timers to load, with the state to synchronize, or null for the timers to add
+            final Map<String, TimerState> timersToLoad = new HashMap<>();
+            Timestamp lastModified = null;
+            Connection connection = null;
+            PreparedStatement statement = null;
+            ResultSet resultSet = null;
+            try {
+                connection = dataSource.getConnection();
+                final TimerServiceImpl timerService = listener.getTimerService();
+                if (statesFirst) {
+                    statement = connection.prepareStatement(loadTimerStates);
+                    statement.setString(1, timedObjectId);
+                    statement.setString(2, partition);
+                    resultSet = statement.executeQuery();
+                    while (resultSet.next()) {
+                        String id = null;
+                        try {
+                            id = resultSet.getString(1);
+                            if (trackModifications) {
+                                lastModified = latest(lastModified, resultSet.getTimestamp(3));
+                            }
+                            if (!existing.remove(id)) {
+                                timersToLoad.put(id, null);
+                            } else {
+                                final TimerState dbTimerState = getTimerStateToSync(timerService, id, TimerState.valueOf(resultSet.getString(2)));
+                                if (dbTimerState != null) {
+                                    timersToLoad.put(id, dbTimerState);
+                                }
+                            }
+                        } catch (Exception e) {
+                            EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, id, e);
+                        }
+                    }
+                    safeClose(resultSet);
+                    safeClose(statement);
+                    resultSet = null;
+                    statement = null;
+                }
+                if (!statesFirst || !timersToLoad.isEmpty()) {
+                    statement = connection.prepareStatement(sql.getProperty(LOAD_ALL_TIMERS));
+                    statement.setString(1, timedObjectId);
+                    statement.setString(2, partition);
+                    resultSet = statement.executeQuery();
+                    while (resultSet.next()) {
+                        String id = null;
+                        try {
+                            id = resultSet.getString(1);
+                            final TimerState dbTimerState;
+                            if (statesFirst) {
+                                if (!timersToLoad.containsKey(id)) {
+                                    continue;
+                                }
+                                dbTimerState = timersToLoad.get(id);
+                            } else if (!existing.remove(id)) {
+                                dbTimerState = null;
+                            } else {
+                                dbTimerState = getTimerStateToSync(timerService, id, TimerState.valueOf(resultSet.getString(9)));
+                                if (dbTimerState == null) {
+                                    continue;
+                                }
+                            }
+                            reinstateTimer(timedObjectId, listener, resultSet, id, dbTimerState);
+                        } catch (Exception e) {
+                            EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, id, e);
+                        }
+                    }
+                }
+
+                Set<String> timers;
+                synchronized (DatabaseTimerPersistence.this) {
+                     timers = knownTimerIds.get(timedObjectId);
+                }
+                for (String timer : existing) {
+                    TimerImpl timer1 = timerService.getTimer(timer);
+                    if (timer1 != null && timer1.getState() != TimerState.CREATED) {
+                        synchronized (DatabaseTimerPersistence.this) {
+                            timers.remove(timer);
+                            listener.timerRemoved(timer);
+                        }
+                    }
+                }
+            } finally {
+                safeClose(resultSet);
+                safeClose(statement);
+                safeClose(connection);
+            }
+            return lastModified;
+        }
+
+        /**
+         * Adds the timer of the current row, or synchronizes the timer in memory with it.
+         *
+         * @param dbTimerState the state of the timer to synchronize; null to add the timer
+         */
+        private void reinstateTimer(final String timedObjectId, final TimerChangeListener listener, final ResultSet resultSet, final String id, final TimerState dbTimerState) throws SQLException {
+            final TimerServiceImpl timerService = listener.getTimerService();
+            final Holder holder = timerFromResult(resultSet, timerService, id, dbTimerState);
+            if (holder != null) {
+                synchronized (DatabaseTimerPersistence.this) {
+                    knownTimerIds.get(timedObjectId).add(id);
+                    if (dbTimerState == null) {
+                        listener.timerAdded(holder.timer);
+                    } else {
+                        listener.timerSync(timerService.getTimer(id), holder.timer);
+                    }
+                }
+            }
+        }
+
+        private Timestamp latest(final Timestamp timestamp, final Timestamp other) {
+            return (timestamp == null || (other != null && other.after(timestamp))) ? other : timestamp;
+        }
+
+        /**
+         * Returns the state of a timer already in memory, if it has to be synchronized with the store.
+         * If it is already in memory but it is not in sync we have a problem:
+         * remove and add -> the probable cause is db glitch
+         *
+         * @return the state of the timer in the store, if the timer has to be synchronized; null otherwise
+         */
+        private TimerState getTimerStateToSync(final TimerServiceImpl timerService, final String id, final TimerState dbTimerState) {
+            TimerImpl oldTimer = timerService.getTimer(id);
+            boolean invalidMemoryTimer = oldTimer != null && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(oldTimer.getState());
+            // if timers memory - db are in non intersect subsets of valid/invalid states. we put them in sync
+            boolean validDBTimer = TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(dbTimerState);
+            return invalidMemoryTimer && validDBTimer ? dbTimerState : null;
+        }
+    }
+
+    /**
+     * The state of a timer to write to database, captured when the timer is persisted.
+     */
+    final class TimerUpdate {
+        final String id;
+        final String timedObjectId;
+        final TimerState state;
+        final boolean delete;
+        final Timestamp nextExpiration;
+        final Timestamp previousRun;
+
+        TimerUpdate(final TimerImpl timer) {
+            this.id = timer.getId();
+            this.timedObjectId = timer.getTimedObjectId();
+            this.state = timer.getState();
+            this.delete = state == TimerState.CANCELED || state == TimerState.EXPIRED;
+            this.nextExpiration = delete ? null : timestamp(timer.getNextExpiration());
+            this.previousRun = delete ? null : timestamp(timer.getPreviousRun());
+        }
+    }
+
+    /**
+     * The pending timer updates of a transaction, written before the transaction completes.
+     */
+    final class TimerUpdates implements Synchronization {
+        // only the last update of a timer is retained
+        private final Map<String, TimerUpdate> updates = new LinkedHashMap<>();
+
+        synchronized void add(final TimerUpdate update) {
+            updates.put(update.id, update);
+        }
+
+        @Override
+        public void beforeCompletion() {
+            final List<TimerUpdate> pending;
+            synchronized (this) {
+                pending = new ArrayList<>(updates.values());
+                updates.clear();
+            }
+            if (!pending.isEmpty()) {
+                try {
+                    executeTimerUpdates(pending);
+                } catch (SQLException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+        }
     }
 
 
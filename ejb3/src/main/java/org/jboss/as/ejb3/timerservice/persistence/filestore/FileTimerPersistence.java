@@ -15,10 +15,12 @@ import java.io.FileOutputStream;
 import java.io.FilePermission;
 import java.io.IOException;
 import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -67,10 +69,24 @@ public class FileTimerPersistence implements TimerPersistence, Service {
 
     private static final FilePermission FILE_PERMISSION = new FilePermission("<<ALL FILES>>", "read,write,delete");
     private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newInstance();
+    private static final long JOURNAL_SEGMENT_SIZE = 16 * 1024 * 1024;
+    private static final int JOURNAL_COMPACTION_THRESHOLD = 1024;
+
+    /**
+     * System property {@code jboss.ejb.timer.file.journal}
+     * to store the timers of each timed object in an append-only {@link TimerJournal} instead of one XML file per timer.
+     * The default value is false.
+     * <p>
+     * If it is set to true, the timers of a timed object are kept in memory once loaded, and the existing XML files
+     * of the timed object are imported into the journal, then deleted.
+     */
+    private final boolean journal = Boolean.parseBoolean(
+            WildFlySecurityManager.getPropertyPrivileged("jboss.ejb.timer.file.journal", "false"));
 
     private final boolean createIfNotExists;
     private MarshallerFactory factory;
     private MarshallingConfiguration configuration;
+    private TimerJournalCodec codec;
     private final Consumer<FileTimerPersistence> consumer;
     private final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier;
     private final Supplier<ModuleLoader> moduleLoaderSupplier;
@@ -82,6 +98,7 @@ public class FileTimerPersistence implements TimerPersistence, Service {
 
     private final ConcurrentMap<String, Lock> locks = new ConcurrentHashMap<String, Lock>();
     private final ConcurrentMap<String, String> directories = new ConcurrentHashMap<String, String>();
+    private final ConcurrentMap<String, JournalTimers> journals = new ConcurrentHashMap<>();
 
     public FileTimerPersistence(final Consumer<FileTimerPersistence> consumer,
                                 final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier,
@@ -124,6 +141,7 @@ public class FileTimerPersistence implements TimerPersistence, Service {
 
         this.configuration = configuration;
         this.factory = factory;
+        this.codec = new TimerJournalCodec(factory, configuration);
         if (pathRelativeTo != null) {
             callbackHandle = pathManagerSupplier.get().registerCallback(pathRelativeTo, PathManager.ReloadServerCallback.create(), PathManager.Event.UPDATED, PathManager.Event.REMOVED);
         }
@@ -145,6 +163,19 @@ public class FileTimerPersistence implements TimerPersistence, Service {
     @Override
     public void stop(final StopContext context) {
         consumer.accept(null);
+        // close the journals under the lock of their timed object, so that no timer is written concurrently
+        for (String timedObjectId : journals.keySet()) {
+            final Lock lock = getLock(timedObjectId);
+            lock.lock();
+            try {
+                final JournalTimers journalTimers = journals.remove(timedObjectId);
+                if (journalTimers != null) {
+                    journalTimers.journal.close();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
         locks.clear();
         directories.clear();
         if (callbackHandle != null) {
@@ -152,6 +183,7 @@ public class FileTimerPersistence implements TimerPersistence, Service {
         }
         factory = null;
         configuration = null;
+        codec = null;
     }
 
     @Override
@@ -243,6 +275,10 @@ public class FileTimerPersistence implements TimerPersistence, Service {
             lock.lock();
             locks.remove(timedObjectId);
             directories.remove(timedObjectId);
+            final JournalTimers journalTimers = journals.remove(timedObjectId);
+            if (journalTimers != null) {
+                journalTimers.journal.close();
+            }
         } finally {
             lock.unlock();
         }
@@ -321,9 +357,49 @@ public class FileTimerPersistence implements TimerPersistence, Service {
      * @return The timers for the object
      */
     private Map<String, TimerImpl> getTimers(final String timedObjectId, final TimerServiceImpl timerService) {
+        if (journal) {
+            return getJournalTimers(timedObjectId, timerService).timers;
+        }
         return loadTimersFromFile(timedObjectId, timerService);
     }
 
+    /**
+     * Gets the journal of a timed object and its timers, replaying the journal and importing the timers
+     * stored in XML files on first access. Should be called under lock
+     *
+     * @param timedObjectId The timed object id
+     * @return The journal and the timers of the timed object
+     */
+    private JournalTimers getJournalTimers(final String timedObjectId, final TimerServiceImpl timerService) {
+        JournalTimers journalTimers = journals.get(timedObjectId);
+        if (journalTimers != null) {
+            return journalTimers;
+        }
+        final File directory = new File(getDirectory(timedObjectId));
+        journalTimers = new JournalTimers(new TimerJournal(directory, JOURNAL_SEGMENT_SIZE, JOURNAL_COMPACTION_THRESHOLD));
+        for (Map.Entry<String, ByteBuffer> entry : journalTimers.journal.load().entrySet()) {
+            final TimerImpl timer = codec.decode(entry.getValue(), timerService);
+            // a timer which cannot be restored is dropped by the next compaction
+            if (timer != null) {
+                journalTimers.timers.put(entry.getKey(), timer);
+            }
+        }
+        journals.put(timedObjectId, journalTimers);
+
+        // import the timers stored in XML files
+        for (TimerImpl timer : loadTimersFromFile(timedObjectId, timerService).values()) {
+            if (!journalTimers.timers.containsKey(timer.getId())) {
+                journalTimers.timers.put(timer.getId(), timer);
+                writeJournal(timer);
+            }
+            final File file = fileName(timedObjectId, timer.getId());
+            if (file.exists() && !file.delete()) {
+                EJB3_TIMER_LOGGER.debugf("Unable to delete imported timer file %s", file);
+            }
+        }
+        return journalTimers;
+    }
+
     private Map<String, TimerImpl> loadTimersFromFile(String timedObjectId, TimerServiceImpl timerService) {
         Map<String, TimerImpl> timers = new HashMap<>();
         String directory = getDirectory(timedObjectId);
@@ -472,6 +548,10 @@ public class FileTimerPersistence implements TimerPersistence, Service {
     }
 
     private void writeFile(TimerImpl timer) {
+        if (journal) {
+            writeJournal(timer);
+            return;
+        }
         final File file = fileName(timer.getTimedObjectId(), timer.getId());
 
         //if the timer is expired or cancelled delete the file
@@ -499,6 +579,48 @@ public class FileTimerPersistence implements TimerPersistence, Service {
         }
     }
 
+    private void writeJournal(TimerImpl timer) {
+        final JournalTimers journalTimers = getJournalTimers(timer.getTimedObjectId(), timer.getTimerService());
+        try {
+            if (timer.getState() == TimerState.CANCELED ||
+                    timer.getState() == TimerState.EXPIRED) {
+                journalTimers.journal.remove(timer.getId());
+            } else {
+                final byte[] bytes = codec.encode(timer);
+                if (bytes == null) {
+                    return;
+                }
+                journalTimers.journal.put(timer.getId(), bytes);
+            }
+            if (journalTimers.journal.isCompactionRequired(journalTimers.timers.size())) {
+                final Map<String, byte[]> live = new LinkedHashMap<>();
+                for (TimerImpl liveTimer : journalTimers.timers.values()) {
+                    final byte[] bytes = codec.encode(liveTimer);
+                    if (bytes == null) {
+                        // do not lose this timer, compact later
+                        return;
+                    }
+                    live.put(liveTimer.getId(), bytes);
+                }
+                journalTimers.journal.compact(live);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * The journal of a timed object and its live timers.
+     */
+    private static final class JournalTimers {
+        final TimerJournal journal;
+        final Map<String, TimerImpl> timers = new HashMap<>();
+
+        JournalTimers(TimerJournal journal) {
+            this.journal = journal;
+        }
+    }
+
     private void setIfSupported(final XMLInputFactory inputFactory, final String property, final Object value) {
         if (inputFactory.isPropertySupported(property)) {
             inputFactory.setProperty(property, value);
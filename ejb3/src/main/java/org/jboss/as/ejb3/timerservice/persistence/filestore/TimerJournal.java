@@ -0,0 +1,243 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of the timers of a timed object.
+ * <p>
+ * Each change of a timer appends a record to the current segment of the journal, a record either storing the encoded
+ * timer or removing it. When a segment is full, the following records are appended to a new segment.
+ * The timers are restored by replaying the segments in order, the last record of a timer winning.
+ * Once the journal holds too many obsolete records, it is compacted into a single new segment containing one record per
+ * live timer, and the previous segments are deleted.
+ * <p>
+ * A record is made of its length, a checksum, its type, the timer id and, for a {@link #PUT} record, the encoded timer.
+ * A torn record at the end of a segment, i.e. a write interrupted by a crash, is discarded.
+ * <p>
+ * Each appended record is forced to the storage device before {@link #put(String, byte[])} or {@link #remove(String)}
+ * returns, as is the directory entry of a new segment, so that a change of a timer survives a crash of the operating system
+ * once it returned. A compacted segment is forced before the previous segments are deleted.
+ * <p>
+ * This class is not thread safe, all accesses to a journal are expected to be guarded by the lock of its timed object.
+ */
+class TimerJournal implements Closeable {
+
+    static final String SEGMENT_PREFIX = "timers-";
+    static final String SEGMENT_SUFFIX = ".journal";
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    // length + checksum
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+
+    private final File directory;
+    private final long segmentSize;
+    private final int compactionThreshold;
+    // segments by index
+    private final TreeMap<Long, File> segments = new TreeMap<>();
+    private FileChannel channel;
+    private long records;
+
+    /**
+     * @param directory the directory of the journal
+     * @param segmentSize the size of a segment beyond which a new segment is started
+     * @param compactionThreshold the minimum number of obsolete records triggering a compaction
+     */
+    TimerJournal(File directory, long segmentSize, int compactionThreshold) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.compactionThreshold = compactionThreshold;
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName();
+                try {
+                    this.segments.put(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())), file);
+                } catch (NumberFormatException e) {
+                    // not a segment
+                }
+            }
+        }
+    }
+
+    /**
+     * Replays the journal.
+     *
+     * @return the encoded live timers by id, in the order of their last change
+     */
+    Map<String, ByteBuffer> load() {
+        Map<String, ByteBuffer> timers = new LinkedHashMap<>();
+        this.records = 0;
+        for (File segment : this.segments.values()) {
+            try (FileChannel channel = FileChannel.open(segment.toPath(), StandardOpenOption.READ)) {
+                long size = channel.size();
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                CRC32 checksum = new CRC32();
+                while (buffer.remaining() >= HEADER_SIZE) {
+                    int position = buffer.position();
+                    int length = buffer.getInt();
+                    int crc = buffer.getInt();
+                    if (length <= 0 || length > buffer.remaining()) {
+                        buffer.position(position);
+                        break;
+                    }
+                    ByteBuffer record = buffer.slice();
+                    record.limit(length);
+                    checksum.reset();
+                    checksum.update(record.duplicate());
+                    if ((int) checksum.getValue() != crc) {
+                        buffer.position(position);
+                        break;
+                    }
+                    buffer.position(position + HEADER_SIZE + length);
+                    byte type = record.get();
+                    byte[] id = new byte[record.getShort() & 0xFFFF];
+                    record.get(id);
+                    String timerId = new String(id, StandardCharsets.UTF_8);
+                    // re-insert, so that the timers keep the order of their last change
+                    timers.remove(timerId);
+                    if (type == PUT) {
+                        timers.put(timerId, record.slice());
+                    }
+                    this.records += 1;
+                }
+                if (buffer.hasRemaining()) {
+                    // torn record, new records are never appended to a segment written before the replay
+                    EJB3_TIMER_LOGGER.failToRestoreTimersFromFile(segment, null);
+                }
+            } catch (IOException e) {
+                EJB3_TIMER_LOGGER.failToRestoreTimersFromFile(segment, e);
+            }
+        }
+        return timers;
+    }
+
+    /**
+     * Appends a record storing the given encoded timer.
+     */
+    void put(String timerId, byte[] timer) throws IOException {
+        this.append(PUT, timerId, timer);
+    }
+
+    /**
+     * Appends a record removing the given timer.
+     */
+    void remove(String timerId) throws IOException {
+        this.append(REMOVE, timerId, null);
+    }
+
+    /**
+     * Indicates whether the obsolete records outnumber the live timers enough to compact the journal.
+     *
+     * @param liveTimers the number of live timers
+     */
+    boolean isCompactionRequired(int liveTimers) {
+        long obsolete = this.records - liveTimers;
+        return (obsolete >= this.compactionThreshold) && (obsolete > liveTimers);
+    }
+
+    /**
+     * Rewrites the journal as a single new segment containing the given encoded live timers, then deletes the previous segments.
+     * If the compaction is interrupted, replaying the previous segments followed by the partial new segment still restores
+     * the live timers.
+     */
+    void compact(Map<String, byte[]> timers) throws IOException {
+        this.closeChannel();
+        Map<Long, File> previous = new TreeMap<>(this.segments);
+        this.openSegment(this.nextSegmentIndex());
+        this.records = 0;
+        for (Map.Entry<String, byte[]> entry : timers.entrySet()) {
+            this.write(PUT, entry.getKey(), entry.getValue());
+        }
+        this.channel.force(false);
+        for (Map.Entry<Long, File> entry : previous.entrySet()) {
+            if (entry.getValue().delete()) {
+                this.segments.remove(entry.getKey());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        this.closeChannel();
+    }
+
+    private void append(byte type, String timerId, byte[] timer) throws IOException {
+        if (this.channel != null && this.channel.size() >= this.segmentSize) {
+            this.closeChannel();
+        }
+        if (this.channel == null) {
+            this.openSegment(this.nextSegmentIndex());
+        }
+        this.write(type, timerId, timer);
+        this.channel.force(false);
+    }
+
+    private void write(byte type, String timerId, byte[] timer) throws IOException {
+        byte[] id = timerId.getBytes(StandardCharsets.UTF_8);
+        int length = Byte.BYTES + Short.BYTES + id.length + ((timer != null) ? timer.length : 0);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + length);
+        buffer.position(HEADER_SIZE);
+        buffer.put(type);
+        buffer.putShort((short) id.length);
+        buffer.put(id);
+        if (timer != null) {
+            buffer.put(timer);
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.array(), HEADER_SIZE, length);
+        buffer.putInt(0, length);
+        buffer.putInt(Integer.BYTES, (int) checksum.getValue());
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            this.channel.write(buffer);
+        }
+        this.records += 1;
+    }
+
+    private long nextSegmentIndex() {
+        return this.segments.isEmpty() ? 0 : this.segments.lastKey() + 1;
+    }
+
+    private void openSegment(long index) throws IOException {
+        File file = new File(this.directory, SEGMENT_PREFIX + index + SEGMENT_SUFFIX);
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.segments.put(index, file);
+        // the records forced to the new segment would be lost with it if its directory entry were not
+        try (FileChannel directory = FileChannel.open(this.directory.toPath(), StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            // some platforms cannot open or force a directory, the file system then persists the entry by itself
+        }
+    }
+
+    private void closeChannel() {
+        FileChannel channel = this.channel;
+        if (channel != null) {
+            this.channel = null;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                EJB3_TIMER_LOGGER.failToCloseFile(e);
+            }
+        }
+    }
+}
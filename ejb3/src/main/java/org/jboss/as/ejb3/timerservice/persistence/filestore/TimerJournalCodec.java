@@ -0,0 +1,224 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.Date;
+
+import jakarta.ejb.ScheduleExpression;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.timerservice.CalendarTimer;
+import org.jboss.as.ejb3.timerservice.TimerImpl;
+import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
+import org.jboss.as.ejb3.timerservice.TimerState;
+import org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod;
+import org.jboss.marshalling.ByteBufferInput;
+import org.jboss.marshalling.Marshaller;
+import org.jboss.marshalling.MarshallerFactory;
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.jboss.marshalling.OutputStreamByteOutput;
+import org.jboss.marshalling.Unmarshaller;
+
+/**
+ * Binary encoding of the timers stored in a {@link TimerJournal}.
+ * It holds the same state as the XML documents written by {@link EjbTimerXmlPersister}.
+ */
+class TimerJournalCodec {
+
+    private static final byte VERSION = 1;
+    private static final byte TIMER = 0;
+    private static final byte CALENDAR_TIMER = 1;
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private final MarshallerFactory factory;
+    private final MarshallingConfiguration configuration;
+
+    TimerJournalCodec(MarshallerFactory factory, MarshallingConfiguration configuration) {
+        this.factory = factory;
+        this.configuration = configuration;
+    }
+
+    /**
+     * Encodes the given timer.
+     *
+     * @param timer a timer
+     * @return the encoded timer, or null if its info cannot be marshalled
+     */
+    byte[] encode(TimerImpl timer) {
+        byte[] info = null;
+        if (timer.getInfo() != null) {
+            try (Marshaller marshaller = factory.createMarshaller(configuration)) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                marshaller.start(new OutputStreamByteOutput(out));
+                marshaller.writeObject(timer.getInfo());
+                marshaller.flush();
+                info = out.toByteArray();
+            } catch (Exception e) {
+                EjbLogger.EJB3_TIMER_LOGGER.failedToPersistTimer(timer, e);
+                return null;
+            }
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128 + ((info != null) ? info.length : 0));
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(VERSION);
+            output.writeByte((timer instanceof CalendarTimer) ? CALENDAR_TIMER : TIMER);
+            output.writeUTF(timer.getTimedObjectId());
+            output.writeUTF(timer.getId());
+            writeDate(output, timer.getInitialExpiration());
+            writeDate(output, timer.getNextExpiration());
+            writeDate(output, timer.getPreviousRun());
+            output.writeUTF(timer.getState().name());
+            if (timer instanceof CalendarTimer) {
+                CalendarTimer calendarTimer = (CalendarTimer) timer;
+                ScheduleExpression expression = calendarTimer.getScheduleExpression();
+                output.writeUTF(expression.getSecond());
+                output.writeUTF(expression.getMinute());
+                output.writeUTF(expression.getHour());
+                output.writeUTF(expression.getDayOfWeek());
+                output.writeUTF(expression.getDayOfMonth());
+                output.writeUTF(expression.getMonth());
+                output.writeUTF(expression.getYear());
+                writeDate(output, expression.getStart());
+                writeDate(output, expression.getEnd());
+                writeString(output, expression.getTimezone());
+                output.writeBoolean(calendarTimer.isAutoTimer());
+                if (calendarTimer.isAutoTimer()) {
+                    Method timeoutMethod = calendarTimer.getTimeoutMethod();
+                    output.writeUTF(timeoutMethod.getDeclaringClass().getName());
+                    output.writeUTF(timeoutMethod.getName());
+                    Class<?>[] parameterTypes = timeoutMethod.getParameterTypes();
+                    output.writeByte(parameterTypes.length);
+                    for (Class<?> parameterType : parameterTypes) {
+                        output.writeUTF(parameterType.getName());
+                    }
+                }
+            } else {
+                output.writeLong(timer.getInterval());
+            }
+            if (info != null) {
+                output.writeInt(info.length);
+                output.write(info);
+            } else {
+                output.writeInt(-1);
+            }
+        } catch (IOException e) {
+            // cannot happen with a byte array
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a timer.
+     *
+     * @param buffer the encoded timer
+     * @param timerService the timer service of the timer
+     * @return the timer, or null if it cannot be restored
+     */
+    TimerImpl decode(ByteBuffer buffer, TimerServiceImpl timerService) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        String timedObjectId = null;
+        String id = null;
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = input.readByte();
+            if (version != VERSION) {
+                throw new IOException(String.valueOf(version));
+            }
+            boolean calendar = input.readByte() == CALENDAR_TIMER;
+            timedObjectId = input.readUTF();
+            id = input.readUTF();
+            Date initialDate = readDate(input);
+            Date nextDate = readDate(input);
+            Date previousRun = readDate(input);
+            TimerState state = TimerState.valueOf(input.readUTF());
+            TimerImpl.Builder builder;
+            if (calendar) {
+                CalendarTimer.Builder calendarBuilder = CalendarTimer.builder();
+                ScheduleExpression expression = new ScheduleExpression();
+                expression.second(input.readUTF());
+                expression.minute(input.readUTF());
+                expression.hour(input.readUTF());
+                expression.dayOfWeek(input.readUTF());
+                expression.dayOfMonth(input.readUTF());
+                expression.month(input.readUTF());
+                expression.year(input.readUTF());
+                expression.start(readDate(input));
+                expression.end(readDate(input));
+                expression.timezone(readString(input));
+                calendarBuilder.setScheduleExpression(expression);
+                boolean autoTimer = input.readBoolean();
+                calendarBuilder.setAutoTimer(autoTimer);
+                if (autoTimer) {
+                    String className = input.readUTF();
+                    String methodName = input.readUTF();
+                    String[] parameterTypes = new String[input.readByte()];
+                    for (int i = 0; i < parameterTypes.length; ++i) {
+                        parameterTypes[i] = input.readUTF();
+                    }
+                    Method timeoutMethod = CalendarTimer.getTimeoutMethod(new TimeoutMethod(className, methodName, parameterTypes), timerService.getInvoker().getClassLoader());
+                    if (timeoutMethod == null) {
+                        EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, id, null);
+                        return null;
+                    }
+                    calendarBuilder.setTimeoutMethod(timeoutMethod);
+                }
+                builder = calendarBuilder;
+            } else {
+                builder = TimerImpl.builder();
+                builder.setRepeatInterval(input.readLong());
+            }
+            int infoLength = input.readInt();
+            if (infoLength >= 0) {
+                try (Unmarshaller unmarshaller = factory.createUnmarshaller(configuration)) {
+                    unmarshaller.start(new ByteBufferInput(ByteBuffer.wrap(bytes, bytes.length - input.available(), infoLength)));
+                    builder.setInfo((Serializable) unmarshaller.readObject());
+                }
+            }
+            return builder.setId(id)
+                    .setTimedObjectId(timedObjectId)
+                    .setInitialDate(initialDate)
+                    .setNextDate(nextDate)
+                    .setPreviousRun(previousRun)
+                    .setTimerState(state)
+                    .setPersistent(true)
+                    .build(timerService);
+        } catch (Exception e) {
+            EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, id, e);
+            return null;
+        }
+    }
+
+    private static void writeDate(DataOutput output, Date date) throws IOException {
+        output.writeLong((date != null) ? date.getTime() : NO_DATE);
+    }
+
+    private static Date readDate(DataInput input) throws IOException {
+        long time = input.readLong();
+        return (time != NO_DATE) ? new Date(time) : null;
+    }
+
+    private static void writeString(DataOutput output, String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInput input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+}
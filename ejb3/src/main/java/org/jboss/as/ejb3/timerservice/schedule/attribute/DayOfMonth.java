@@ -8,8 +8,6 @@ import java.util.Calendar;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
-import java.util.SortedSet;
-import java.util.TreeSet;
 import java.util.regex.Pattern;
 
 import org.jboss.as.ejb3.logging.EjbLogger;
@@ -85,6 +83,13 @@ public class DayOfMonth extends IntegerBasedExpression {
         ORDINAL_TO_WEEK_NUMBER_MAPPING.put("5th", 5);
     }
 
+    // the days of month are offset in the bit sets, as a range wrapping around, such as "25-5", also holds the
+    // values from MIN_DAY_OF_MONTH to 0
+    private static final int BIT_OFFSET = -MIN_DAY_OF_MONTH;
+
+    // the absolute days of month compiled into a bit set
+    private final long absoluteBitSet;
+
     /**
      * Creates a {@link DayOfMonth} by parsing the passed {@link String} <code>value</code>
      * <p>
@@ -99,6 +104,11 @@ public class DayOfMonth extends IntegerBasedExpression {
      */
     public DayOfMonth(String value) {
         super(value);
+        long absoluteBitSet = 0;
+        for (Integer dayOfMonth : this.absoluteValues) {
+            absoluteBitSet |= toBit(dayOfMonth);
+        }
+        this.absoluteBitSet = absoluteBitSet;
     }
 
     /**
@@ -125,20 +135,7 @@ public class DayOfMonth extends IntegerBasedExpression {
         if (this.scheduleExpressionType == ScheduleExpressionType.WILDCARD) {
             return currentCal.get(Calendar.DAY_OF_MONTH);
         }
-        int currentDayOfMonth = currentCal.get(Calendar.DAY_OF_MONTH);
-        SortedSet<Integer> eligibleDaysOfMonth = this.getEligibleDaysOfMonth(currentCal);
-        if (eligibleDaysOfMonth.isEmpty()) {
-            return null;
-        }
-        for (Integer hour : eligibleDaysOfMonth) {
-            if (currentDayOfMonth == hour) {
-                return currentDayOfMonth;
-            }
-            if (hour > currentDayOfMonth) {
-                return hour;
-            }
-        }
-        return eligibleDaysOfMonth.first();
+        return getNextDayOfMonth(this.getEligibleDaysOfMonth(currentCal), currentCal.get(Calendar.DAY_OF_MONTH));
     }
 
     @Override
@@ -153,17 +150,21 @@ public class DayOfMonth extends IntegerBasedExpression {
         return !this.relativeValues.isEmpty();
     }
 
-    private SortedSet<Integer> getEligibleDaysOfMonth(Calendar cal) {
+    /**
+     * Returns the eligible days of the month of the passed calendar, as a bit set.
+     * Only the relative values depend on the month, the absolute values are compiled once.
+     */
+    private long getEligibleDaysOfMonth(Calendar cal) {
         if (!this.hasRelativeDayOfMonth()) {
-            return this.absoluteValues;
+            return this.absoluteBitSet;
         }
-        SortedSet<Integer> eligibleDaysOfMonth = new TreeSet<>(this.absoluteValues);
+        long eligibleDaysOfMonth = this.absoluteBitSet;
         for (ScheduleValue relativeValue : this.relativeValues) {
             if (relativeValue instanceof SingleValue) {
                 SingleValue singleValue = (SingleValue) relativeValue;
                 String value = singleValue.getValue();
                 Integer absoluteDayOfMonth = this.getAbsoluteDayOfMonth(cal, value);
-                eligibleDaysOfMonth.add(absoluteDayOfMonth);
+                eligibleDaysOfMonth |= toBit(absoluteDayOfMonth);
             } else if (relativeValue instanceof RangeValue) {
                 RangeValue range = (RangeValue) relativeValue;
                 String start = range.getStart();
@@ -189,7 +190,7 @@ public class DayOfMonth extends IntegerBasedExpression {
 
                 // start and end are both the same. So it's just a single value
                 if (dayOfMonthStart.equals(dayOfMonthEnd)) {
-                    eligibleDaysOfMonth.add(dayOfMonthEnd);
+                    eligibleDaysOfMonth |= toBit(dayOfMonthEnd);
                     continue;
 
                 }
@@ -198,15 +199,15 @@ public class DayOfMonth extends IntegerBasedExpression {
                     // "x-max, min-y", where max is the largest value of the corresponding attribute
                     // and min is the smallest.
                     for (int i = dayOfMonthStart; i <= this.getMaxValue(); i++) {
-                        eligibleDaysOfMonth.add(i);
+                        eligibleDaysOfMonth |= toBit(i);
                     }
                     for (int i = this.getMinValue(); i <= dayOfMonthEnd; i++) {
-                        eligibleDaysOfMonth.add(i);
+                        eligibleDaysOfMonth |= toBit(i);
                     }
                 } else {
                     // just keep adding from range start to range end (both inclusive).
                     for (int i = dayOfMonthStart; i <= dayOfMonthEnd; i++) {
-                        eligibleDaysOfMonth.add(i);
+                        eligibleDaysOfMonth |= toBit(i);
                     }
                 }
             }
@@ -215,6 +216,19 @@ public class DayOfMonth extends IntegerBasedExpression {
         return eligibleDaysOfMonth;
     }
 
+    private static long toBit(int dayOfMonth) {
+        return 1L << (dayOfMonth + BIT_OFFSET);
+    }
+
+    /**
+     * Returns the smallest eligible day of month which is greater than or equal to the passed day of month,
+     * or the smallest eligible day of month if there is none.
+     */
+    private static Integer getNextDayOfMonth(long eligibleDaysOfMonth, int dayOfMonth) {
+        Integer next = getNextMatch(eligibleDaysOfMonth, dayOfMonth + BIT_OFFSET);
+        return (next != null) ? next - BIT_OFFSET : null;
+    }
+
     /**
      * Gets the absolute day of month.
      * @param cal the calendar
@@ -339,11 +353,7 @@ public class DayOfMonth extends IntegerBasedExpression {
         if (this.scheduleExpressionType == ScheduleExpressionType.WILDCARD) {
             return Calendar.SUNDAY;
         }
-        SortedSet<Integer> eligibleDaysOfMonth = this.getEligibleDaysOfMonth(cal);
-        if (eligibleDaysOfMonth.isEmpty()) {
-            return null;
-        }
-        return eligibleDaysOfMonth.first();
+        return getNextDayOfMonth(this.getEligibleDaysOfMonth(cal), MIN_DAY_OF_MONTH);
     }
 
     @Override
@@ -41,6 +41,9 @@ public class DayOfWeek extends IntegerBasedExpression {
 
     private SortedSet<Integer> offsetAdjustedDaysOfWeek = new TreeSet<>();
 
+    // the offset adjusted days of week compiled into a bit set
+    private final long bitSet;
+
     public DayOfWeek(String value) {
         super(value);
         for (Integer dayOfWeek : this.absoluteValues) {
@@ -56,6 +59,7 @@ public class DayOfWeek extends IntegerBasedExpression {
         } else {
             this.offsetAdjustedDaysOfWeek = this.absoluteValues;
         }
+        this.bitSet = toBitSet(this.offsetAdjustedDaysOfWeek);
     }
 
 
@@ -112,15 +116,6 @@ public class DayOfWeek extends IntegerBasedExpression {
         if (this.scheduleExpressionType == ScheduleExpressionType.WILDCARD) {
             return currentCal.get(Calendar.DAY_OF_WEEK);
         }
-        int currentDayOfWeek = currentCal.get(Calendar.DAY_OF_WEEK);
-        for (Integer dayOfWeek : this.offsetAdjustedDaysOfWeek) {
-            if (currentDayOfWeek == dayOfWeek) {
-                return currentDayOfWeek;
-            }
-            if (dayOfWeek > currentDayOfWeek) {
-                return dayOfWeek;
-            }
-        }
-        return this.offsetAdjustedDaysOfWeek.first();
+        return getNextMatch(this.bitSet, currentCal.get(Calendar.DAY_OF_WEEK));
     }
 }
@@ -36,6 +36,9 @@ public class Hour extends IntegerBasedExpression {
      */
     public static final Integer MIN_HOUR = 0;
 
+    // the absolute values compiled into a bit set
+    private final long bitSet;
+
     /**
      * Creates a {@link Hour} by parsing the passed {@link String} <code>value</code>
      * <p>
@@ -51,6 +54,7 @@ public class Hour extends IntegerBasedExpression {
      */
     public Hour(String value) {
         super(value);
+        this.bitSet = toBitSet(this.absoluteValues);
     }
 
     public int getFirst() {
@@ -104,18 +108,7 @@ public class Hour extends IntegerBasedExpression {
         if (this.scheduleExpressionType == ScheduleExpressionType.WILDCARD) {
             return currentHour;
         }
-        if (this.absoluteValues.isEmpty()) {
-            return null;
-        }
-        for (Integer hour : this.absoluteValues) {
-            if (currentHour == hour) {
-                return currentHour;
-            }
-            if (hour > currentHour) {
-                return hour;
-            }
-        }
-        return this.absoluteValues.first();
+        return getNextMatch(this.bitSet, currentHour);
     }
 
 }
@@ -195,6 +195,39 @@ public abstract class IntegerBasedExpression {
         }
     }
 
+    /**
+     * Compiles the given values into a bit set, so that {@link #getNextMatch(long, int)} finds the next match
+     * of a value in constant time instead of iterating over the values. Values outside of [0, 63] are ignored.
+     *
+     * @param values the values
+     * @return the bit set of the values
+     */
+    protected static long toBitSet(Set<Integer> values) {
+        long bitSet = 0;
+        for (Integer value : values) {
+            if (value >= 0 && value < Long.SIZE) {
+                bitSet |= 1L << value;
+            }
+        }
+        return bitSet;
+    }
+
+    /**
+     * Returns the smallest value of the bit set which is greater than or equal to the passed <code>value</code>,
+     * or the smallest value of the bit set if there is none.
+     *
+     * @param bitSet a bit set created by {@link #toBitSet(Set)}
+     * @param value the current value
+     * @return the next matching value, or null if the bit set is empty
+     */
+    protected static Integer getNextMatch(long bitSet, int value) {
+        if (bitSet == 0) {
+            return null;
+        }
+        long next = (value < Long.SIZE) ? bitSet & (-1L << value) : 0;
+        return Long.numberOfTrailingZeros((next != 0) ? next : bitSet);
+    }
+
     /**
      * Checks if relative value is supported.
      * @param value non-null value
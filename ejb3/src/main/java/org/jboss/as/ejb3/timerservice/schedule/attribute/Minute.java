@@ -40,6 +40,9 @@ public class Minute extends IntegerBasedExpression {
      */
     public static final Integer MIN_MINUTE = 0;
 
+    // the absolute values compiled into a bit set
+    private final long bitSet;
+
     /**
      * Creates a {@link Minute} by parsing the passed {@link String} <code>value</code>
      * <p>
@@ -55,6 +58,7 @@ public class Minute extends IntegerBasedExpression {
      */
     public Minute(String value) {
         super(value);
+        this.bitSet = toBitSet(this.absoluteValues);
     }
 
     public int getFirst() {
@@ -117,19 +121,7 @@ public class Minute extends IntegerBasedExpression {
         if (this.scheduleExpressionType == ScheduleExpressionType.WILDCARD) {
             return currentMinute;
         }
-        if (this.absoluteValues.isEmpty()) {
-            return null;
-        }
-
-        for (Integer minute : this.absoluteValues) {
-            if (currentMinute == minute) {
-                return currentMinute;
-            }
-            if (minute > currentMinute) {
-                return minute;
-            }
-        }
-        return this.absoluteValues.first();
+        return getNextMatch(this.bitSet, currentMinute);
     }
 
 }
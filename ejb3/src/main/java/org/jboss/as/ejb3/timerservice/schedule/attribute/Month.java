@@ -48,6 +48,9 @@ public class Month extends IntegerBasedExpression {
 
     private SortedSet<Integer> offsetAdjustedMonths = new TreeSet<Integer>();
 
+    // the offset adjusted months compiled into a bit set
+    private final long bitSet;
+
     public Month(String value) {
         super(value);
         if (OFFSET != 0) {
@@ -57,6 +60,7 @@ public class Month extends IntegerBasedExpression {
         } else {
             this.offsetAdjustedMonths = this.absoluteValues;
         }
+        this.bitSet = toBitSet(this.offsetAdjustedMonths);
     }
 
     @Override
@@ -107,19 +111,7 @@ public class Month extends IntegerBasedExpression {
         if (this.scheduleExpressionType == ScheduleExpressionType.WILDCARD) {
             return currentCal.get(Calendar.MONTH);
         }
-        if (this.offsetAdjustedMonths.isEmpty()) {
-            return null;
-        }
-        int currentMonth = currentCal.get(Calendar.MONTH);
-        for (Integer month : this.offsetAdjustedMonths) {
-            if (currentMonth == month) {
-                return currentMonth;
-            }
-            if (month > currentMonth) {
-                return month;
-            }
-        }
-        return this.offsetAdjustedMonths.first();
+        return getNextMatch(this.bitSet, currentCal.get(Calendar.MONTH));
     }
 
     public Integer getFirstMatch() {
@@ -38,6 +38,9 @@ public class Second extends IntegerBasedExpression {
      */
     public static final Integer MIN_SECOND = 0;
 
+    // the absolute values compiled into a bit set
+    private final long bitSet;
+
     /**
      * Creates a {@link Second} by parsing the passed {@link String} <code>value</code>
      * <p>
@@ -53,24 +56,14 @@ public class Second extends IntegerBasedExpression {
      */
     public Second(String value) {
         super(value);
+        this.bitSet = toBitSet(this.absoluteValues);
     }
 
     public Integer getNextMatch(int currentSecond) {
         if (this.scheduleExpressionType == ScheduleExpressionType.WILDCARD) {
             return currentSecond;
         }
-        if (this.absoluteValues.isEmpty()) {
-            return null;
-        }
-        for (Integer second : this.absoluteValues) {
-            if (currentSecond == second) {
-                return currentSecond;
-            }
-            if (second > currentSecond) {
-                return second;
-            }
-        }
-        return this.absoluteValues.first();
+        return getNextMatch(this.bitSet, currentSecond);
     }
 
     public int getFirst() {
@@ -7,6 +7,7 @@ package org.jboss.as.ejb3.timerservice.schedule.attribute;
 import org.jboss.as.ejb3.timerservice.schedule.value.ScheduleExpressionType;
 
 import java.util.Calendar;
+import java.util.SortedSet;
 
 /**
  * Represents in the year value part constructed out of a {@link jakarta.ejb.ScheduleExpression#getYear()}
@@ -103,15 +104,8 @@ public class Year extends IntegerBasedExpression {
         if (this.absoluteValues.isEmpty()) {
             return null;
         }
-        int currentYear = currentCal.get(Calendar.YEAR);
-        for (Integer year : this.absoluteValues) {
-            if (currentYear == year) {
-                return currentYear;
-            }
-            if (year > currentYear) {
-                return year;
-            }
-        }
-        return this.absoluteValues.first();
+        // years do not fit into a bit set, look up the first year not before the current one instead
+        SortedSet<Integer> nextYears = this.absoluteValues.tailSet(currentCal.get(Calendar.YEAR));
+        return nextYears.isEmpty() ? this.absoluteValues.first() : nextYears.first();
     }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.ee.concurrent.VirtualThreads;
+
+/**
+ * An {@link java.util.concurrent.ExecutorService} which runs each task in its own virtual thread, and which limits the number
+ * of tasks running concurrently, rather than the number of threads.
+ * Tasks submitted while the limit is reached are queued, and each one is started in a new virtual thread as soon as a running
+ * task completes. Since threads are never reused, a task never sees the thread locals or the interrupt of another task.
+ */
+public class VirtualThreadExecutorService extends AbstractExecutorService {
+
+    private final ThreadFactory factory;
+    private final Semaphore permits;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    private volatile boolean shutdown;
+
+    /**
+     * Creates an executor service running tasks in virtual threads.
+     * @param name the prefix of the names of the virtual threads
+     * @param maxConcurrency the maximum number of tasks running concurrently
+     * @throws UnsupportedOperationException if the Java runtime does not support virtual threads
+     */
+    public VirtualThreadExecutorService(String name, int maxConcurrency) {
+        this.factory = VirtualThreads.newThreadFactory(name + "-");
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * @return true if the Java runtime supports virtual threads, false otherwise
+     */
+    public static boolean isSupported() {
+        try {
+            VirtualThreads.newThreadFactory("");
+            return true;
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (this.shutdown) {
+            throw new RejectedExecutionException();
+        }
+        this.queue.add(task);
+        this.dispatch();
+    }
+
+    /**
+     * Starts a virtual thread for each queued task, while the concurrency limit is not reached.
+     */
+    private void dispatch() {
+        while (!this.queue.isEmpty() && this.permits.tryAcquire()) {
+            Runnable task = this.queue.poll();
+            if (task == null) {
+                // dispatched concurrently by another thread
+                this.permits.release();
+            } else {
+                this.start(task);
+            }
+        }
+    }
+
+    private void start(Runnable task) {
+        Thread thread = this.factory.newThread(() -> this.run(task));
+        // reset thread classloader to prevent leaks
+        thread.setContextClassLoader(null);
+        this.threads.add(thread);
+        try {
+            thread.start();
+        } catch (RuntimeException | Error e) {
+            this.threads.remove(thread);
+            this.permits.release();
+            this.queue.add(task);
+            throw e;
+        }
+    }
+
+    private void run(Runnable task) {
+        Thread thread = Thread.currentThread();
+        try {
+            task.run();
+        } finally {
+            this.permits.release();
+            try {
+                // a task queued while the concurrency limit was reached is started by the thread of a completing task
+                this.dispatch();
+            } finally {
+                this.threads.remove(thread);
+                synchronized (this.threads) {
+                    this.threads.notifyAll();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        this.shutdown = true;
+        List<Runnable> tasks = new ArrayList<>();
+        Runnable task = this.queue.poll();
+        while (task != null) {
+            tasks.add(task);
+            task = this.queue.poll();
+        }
+        for (Thread thread : this.threads) {
+            thread.interrupt();
+        }
+        return tasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.shutdown && this.threads.isEmpty() && this.queue.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (this.threads) {
+            while (!this.isTerminated()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this.threads, remaining);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.component.stateful.cache.simple;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.ejb3.component.stateful.StatefulSessionComponent;
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBean;
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstance;
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstanceFactory;
+import org.jboss.as.server.ServerEnvironment;
+import org.jboss.modules.ModuleLoader;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.wildfly.clustering.function.Supplier;
+
+/**
+ * Tests the passivation of the {@link SimpleStatefulSessionBeanCache}.
+ */
+public class SimpleStatefulSessionBeanCacheTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testPassivation() throws IOException, InterruptedException {
+        SimpleStatefulSessionBeanCache<String, TestInstance> cache = this.createCache("component");
+        cache.start();
+        try {
+            StatefulSessionBean<String, TestInstance> first = cache.createStatefulSessionBean();
+            TestInstance firstInstance = first.getInstance();
+            first.close();
+            Assert.assertEquals(1, cache.getActiveCount());
+            Assert.assertEquals(0, cache.getPassiveCount());
+
+            // Exceeds the maximum, the idle bean instance is passivated in the background
+            StatefulSessionBean<String, TestInstance> second = cache.createStatefulSessionBean();
+            awaitPassiveCount(cache, 1);
+            Assert.assertTrue(firstInstance.passivated);
+            Assert.assertEquals(1, cache.getActiveCount());
+
+            // The bean instance in use is never passivated
+            StatefulSessionBean<String, TestInstance> activated = cache.findStatefulSessionBean(firstInstance.getId());
+            Assert.assertNotNull(activated);
+            Assert.assertNotSame(firstInstance, activated.getInstance());
+            Assert.assertEquals(firstInstance.getId(), activated.getInstance().getId());
+            Assert.assertTrue(activated.getInstance().activated);
+            Assert.assertFalse(second.getInstance().passivated);
+            Assert.assertEquals(2, cache.getActiveCount());
+            Assert.assertEquals(0, cache.getPassiveCount());
+
+            activated.close();
+            awaitPassiveCount(cache, 1);
+            Assert.assertEquals(1, cache.getActiveCount());
+            second.close();
+            Assert.assertEquals(1, cache.getActiveCount());
+            Assert.assertEquals(1, cache.getPassiveCount());
+
+            // Expiration of a passive bean instance
+            cache.test(firstInstance.getId());
+            Assert.assertEquals(0, cache.getPassiveCount());
+            Assert.assertNull(cache.findStatefulSessionBean(firstInstance.getId()));
+        } finally {
+            cache.stop();
+            cache.close();
+        }
+    }
+
+    @Test
+    public void testConcurrentUsers() throws IOException, InterruptedException {
+        // Component names are not necessarily valid file names
+        SimpleStatefulSessionBeanCache<String, TestInstance> cache = this.createCache("app/module/component");
+        cache.start();
+        try {
+            StatefulSessionBean<String, TestInstance> first = cache.createStatefulSessionBean();
+            String id = first.getInstance().getId();
+            first.close();
+            StatefulSessionBean<String, TestInstance> second = cache.createStatefulSessionBean();
+            awaitPassiveCount(cache, 1);
+            second.close();
+
+            // Every user of the bean instance is counted, including the one activating it
+            StatefulSessionBean<String, TestInstance> user1 = cache.findStatefulSessionBean(id);
+            StatefulSessionBean<String, TestInstance> user2 = cache.findStatefulSessionBean(id);
+            Assert.assertSame(user1.getInstance(), user2.getInstance());
+            // The other idle bean instance is passivated instead
+            awaitPassiveCount(cache, 1);
+            Assert.assertTrue(second.getInstance().passivated);
+
+            user1.close();
+            StatefulSessionBean<String, TestInstance> third = cache.createStatefulSessionBean();
+            third.close();
+            awaitPassiveCount(cache, 2);
+            // Still in use by its other user
+            Assert.assertFalse(user2.getInstance().passivated);
+            Assert.assertEquals(1, cache.getActiveCount());
+            user2.close();
+        } finally {
+            cache.stop();
+            cache.close();
+        }
+    }
+
+    private static void awaitPassiveCount(SimpleStatefulSessionBeanCache<?, ?> cache, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (cache.getPassiveCount() != count) {
+            Assert.assertTrue(Integer.toString(cache.getPassiveCount()), System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private SimpleStatefulSessionBeanCache<String, TestInstance> createCache(String componentName) throws IOException {
+        ServerEnvironment environment = mock(ServerEnvironment.class);
+        when(environment.getNodeName()).thenReturn("node");
+        when(environment.getServerTempDir()).thenReturn(this.folder.newFolder());
+        return new SimpleStatefulSessionBeanCache<>(new SimpleStatefulSessionBeanCacheConfiguration<>() {
+            @Override
+            public StatefulSessionBeanInstanceFactory<TestInstance> getInstanceFactory() {
+                return TestInstance::new;
+            }
+
+            @Override
+            public Supplier<String> getIdentifierFactory() {
+                return () -> UUID.randomUUID().toString();
+            }
+
+            @Override
+            public Optional<Duration> getMaxIdle() {
+                return Optional.empty();
+            }
+
+            @Override
+            public String getComponentName() {
+                return componentName;
+            }
+
+            @Override
+            public ServerEnvironment getEnvironment() {
+                return environment;
+            }
+
+            @Override
+            public OptionalInt getMaxActive() {
+                return OptionalInt.of(1);
+            }
+
+            @Override
+            public ModuleLoader getModuleLoader() {
+                return mock(ModuleLoader.class);
+            }
+        });
+    }
+
+    static class TestInstance implements StatefulSessionBeanInstance<String>, Serializable {
+        private static final long serialVersionUID = -4212307003516212424L;
+
+        private final String id = UUID.randomUUID().toString();
+        transient boolean passivated;
+        transient boolean activated;
+
+        @Override
+        public String getId() {
+            return this.id;
+        }
+
+        @Override
+        public String getName() {
+            return "component";
+        }
+
+        @Override
+        public StatefulSessionComponent getComponent() {
+            return null;
+        }
+
+        @Override
+        public void prePassivate() {
+            this.passivated = true;
+        }
+
+        @Override
+        public void postActivate() {
+            this.activated = true;
+        }
+
+        @Override
+        public void removed() {
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.concurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+import jakarta.ejb.IllegalLoopbackException;
+
+import org.jboss.as.ejb3.component.singleton.StripedEJBReadWriteLock;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link StripedEJBReadWriteLock}
+ */
+public class StripedEJBReadWriteLockTest {
+
+    private final StripedEJBReadWriteLock lock = new StripedEJBReadWriteLock();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void afterTest() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void testIllegalLoopBack() {
+        Lock readLock = this.lock.readLock();
+        readLock.lock();
+        try {
+            this.lock.writeLock().lock();
+            this.lock.writeLock().unlock();
+            Assert.fail("Unexpected acquired write lock");
+        } catch (IllegalLoopbackException e) {
+            // expected
+        } finally {
+            readLock.unlock();
+        }
+        // no read lock held anymore
+        Assert.assertTrue(this.lock.writeLock().tryLock());
+        this.lock.writeLock().unlock();
+    }
+
+    @Test
+    public void testWriterExcludesReaders() throws Exception {
+        Lock writeLock = this.lock.writeLock();
+        writeLock.lock();
+        try {
+            Future<Boolean> reader = this.executor.submit(() -> this.lock.readLock().tryLock(200, TimeUnit.MILLISECONDS));
+            Assert.assertFalse(reader.get());
+        } finally {
+            writeLock.unlock();
+        }
+        Future<Boolean> reader = this.executor.submit(() -> {
+            boolean locked = this.lock.readLock().tryLock(1, TimeUnit.SECONDS);
+            if (locked) {
+                this.lock.readLock().unlock();
+            }
+            return locked;
+        });
+        Assert.assertTrue(reader.get());
+    }
+
+    @Test
+    public void testReaderExcludesWriters() throws Exception {
+        Lock readLock = this.lock.readLock();
+        readLock.lock();
+        try {
+            Future<Boolean> writer = this.executor.submit(() -> this.lock.writeLock().tryLock(200, TimeUnit.MILLISECONDS));
+            Assert.assertFalse(writer.get());
+            // a failed writer does not block the readers
+            Future<Boolean> reader = this.executor.submit(() -> {
+                boolean locked = this.lock.readLock().tryLock();
+                if (locked) {
+                    this.lock.readLock().unlock();
+                }
+                return locked;
+            });
+            Assert.assertTrue(reader.get());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Test
+    public void testSameThreadCanGetWriteThenReadLock() throws Exception {
+        Lock writeLock = this.lock.writeLock();
+        Lock readLock = this.lock.readLock();
+        writeLock.lock();
+        Assert.assertTrue(readLock.tryLock(2, TimeUnit.SECONDS));
+        // downgrade
+        writeLock.unlock();
+        try {
+            Future<Boolean> writer = this.executor.submit(() -> this.lock.writeLock().tryLock(200, TimeUnit.MILLISECONDS));
+            Assert.assertFalse(writer.get());
+        } finally {
+            readLock.unlock();
+        }
+        Future<Boolean> writer = this.executor.submit(() -> {
+            boolean locked = this.lock.writeLock().tryLock(1, TimeUnit.SECONDS);
+            if (locked) {
+                this.lock.writeLock().unlock();
+            }
+            return locked;
+        });
+        Assert.assertTrue(writer.get());
+    }
+
+    @Test
+    public void testConcurrentReadersAndWriters() throws Exception {
+        int readers = 8;
+        int iterations = 10000;
+        AtomicInteger activeReaders = new AtomicInteger();
+        AtomicInteger activeWriters = new AtomicInteger();
+        AtomicInteger violations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < readers; ++i) {
+            futures.add(this.executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < iterations; ++j) {
+                    Lock readLock = this.lock.readLock();
+                    readLock.lock();
+                    try {
+                        activeReaders.incrementAndGet();
+                        if (activeWriters.get() != 0) {
+                            violations.incrementAndGet();
+                        }
+                        activeReaders.decrementAndGet();
+                    } finally {
+                        readLock.unlock();
+                    }
+                }
+                return null;
+            }));
+        }
+        futures.add(this.executor.submit(() -> {
+            start.await();
+            for (int j = 0; j < iterations / 100; ++j) {
+                Lock writeLock = this.lock.writeLock();
+                writeLock.lock();
+                try {
+                    if (activeWriters.incrementAndGet() != 1 || activeReaders.get() != 0) {
+                        violations.incrementAndGet();
+                    }
+                    activeWriters.decrementAndGet();
+                } finally {
+                    writeLock.unlock();
+                }
+            }
+            return null;
+        }));
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        Assert.assertEquals(0, violations.get());
+    }
+}
@@ -5,6 +5,7 @@
 package org.jboss.as.ejb3.pool.strictmax;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.concurrent.Callable;
@@ -140,4 +141,114 @@ public class StrictMaxUnitTestCase {
         assertEquals(10, MockBean.getPostConstructs());
         assertEquals(10, MockBean.getPreDestroys());
     }
+
+    @Test
+    public void testSetMaxSize() {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        Pool<MockBean> pool = new StrictMaxPool<MockBean>(factory, 10, 1, TimeUnit.SECONDS);
+        pool.start();
+
+        MockBean[] beans = new MockBean[10];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+
+        // shrinking the pool destroys the instances in excess when they are released
+        pool.setMaxSize(5);
+        assertEquals(5, pool.getMaxSize());
+        assertEquals(0, pool.getAvailableCount());
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+        assertEquals(5, MockBean.getPreDestroys());
+        assertEquals(5, pool.getAvailableCount());
+        assertEquals(5, pool.getCurrentSize());
+
+        // growing the pool allows more instances to be created
+        pool.setMaxSize(12);
+        assertEquals(12, pool.getAvailableCount());
+        beans = new MockBean[12];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+        assertEquals(17, MockBean.getPostConstructs());
+        try {
+            pool.get();
+            fail("should have thrown an exception");
+        } catch (Exception e) {
+            assertEquals(EjbLogger.ROOT_LOGGER.failedToAcquirePermit(1, TimeUnit.SECONDS).getMessage(), e.getMessage());
+        }
+
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+
+        pool.stop();
+
+        assertEquals(17, MockBean.getPostConstructs());
+        assertEquals(17, MockBean.getPreDestroys());
+    }
+
+    @Test
+    public void testIdleTimeout() throws Exception {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        Pool<MockBean> pool = new StrictMaxPool<MockBean>(factory, 10, 1, TimeUnit.SECONDS, 50, TimeUnit.MILLISECONDS);
+        pool.start();
+
+        MockBean[] beans = new MockBean[10];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+
+        // all the instances were in use during the first idle timeout
+        Thread.sleep(100);
+        pool.release(pool.get());
+        assertEquals(0, MockBean.getPreDestroys());
+
+        // a single instance was in use during the second idle timeout
+        Thread.sleep(100);
+        pool.release(pool.get());
+        assertEquals(9, MockBean.getPreDestroys());
+        assertEquals(1, pool.getCurrentSize());
+        assertEquals(10, pool.getAvailableCount());
+
+        pool.stop();
+
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+
+    @Test
+    public void testWaitTime() throws Exception {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        Pool<MockBean> pool = new StrictMaxPool<MockBean>(factory, 1, 10, TimeUnit.SECONDS);
+        pool.start();
+        assertEquals(0, pool.getWaitTimePercentile(100));
+
+        MockBean bean = pool.get();
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            Future<MockBean> result = service.submit(() -> pool.get());
+            Thread.sleep(100);
+            pool.release(bean);
+            pool.release(result.get(10, TimeUnit.SECONDS));
+        } finally {
+            service.shutdown();
+        }
+
+        // one get did not wait, the other one waited for the release of the only instance
+        assertTrue(pool.getWaitTimePercentile(50) < TimeUnit.MILLISECONDS.toMicros(50));
+        assertTrue(pool.getWaitTimePercentile(100) >= TimeUnit.MILLISECONDS.toMicros(50));
+
+        pool.stop();
+    }
 }
@@ -143,6 +143,24 @@ public class EJB3TransformersTestCase extends AbstractSubsystemTest {
         FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
         PathAddress subsystemAddress = PathAddress.pathAddress(EJB3Extension.SUBSYSTEM_PATH);
 
+        // need to include all changes from current to 10.0.0
+        if (EJB3Model.VERSION_11_0_0.requiresTransformation(version)) {
+            // Reject default-singleton-bean-striped-lock attribute of /subsystem=ejb3 resource
+            config.addFailedAttribute(subsystemAddress, new FailedOperationTransformationConfig.NewAttributesConfig(EJB3SubsystemRootResourceDefinition.DEFAULT_SINGLETON_BEAN_STRIPED_LOCK));
+            // Reject virtual-threads attribute of /subsystem=ejb3/service=async and /subsystem=ejb3/service=remote resources
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.ASYNC_SERVICE_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(EJB3AsyncResourceDefinition.VIRTUAL_THREADS));
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.REMOTE_SERVICE_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(EJB3RemoteResourceDefinition.VIRTUAL_THREADS));
+            // Reject instance-idle-timeout attribute of /subsystem=ejb3/strict-max-bean-instance-pool resources
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.STRICT_MAX_BEAN_INSTANCE_POOL, "slsb-strict-max-pool"), new FailedOperationTransformationConfig.NewAttributesConfig(StrictMaxPoolResourceDefinition.INSTANCE_IDLE_TIMEOUT));
+
+            if (!EJB3Model.VERSION_10_0_0.requiresTransformation(version)) {
+                // Reject max-active attribute of /subsystem=ejb3/simple-cache resource, unless the resource itself is rejected
+                config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.SIMPLE_CACHE, "passivating-simple-cache"), new FailedOperationTransformationConfig.NewAttributesConfig(SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.MAX_ACTIVE.getDefinition()));
+                // Reject scheduler attributes of /subsystem=ejb3/service=timer-service resource, unless the resource itself is rejected
+                config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.TIMER_SERVICE_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(TimerServiceResourceDefinition.SCHEDULER, TimerServiceResourceDefinition.TICK, TimerServiceResourceDefinition.WHEEL_SIZE));
+            }
+        }
+
         // need to include all changes from current to 9.0.0
         if (EJB3Model.VERSION_10_0_0.requiresTransformation(version)) {
             // Reject /subsystem=ejb3/simple-cache resource
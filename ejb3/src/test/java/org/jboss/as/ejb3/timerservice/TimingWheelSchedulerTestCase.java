@@ -0,0 +1,67 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.timerservice;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link TimingWheelScheduler}.
+ */
+public class TimingWheelSchedulerTestCase {
+
+    // small wheels, so that the tasks cascade from the overflow wheels
+    private final TimingWheelScheduler scheduler = new TimingWheelScheduler(5, 4);
+
+    @After
+    public void close() {
+        this.scheduler.close();
+    }
+
+    @Test
+    public void testSchedule() throws InterruptedException {
+        long[] delays = new long[] { -1, 0, 3, 7, 20, 200 };
+        CountDownLatch latch = new CountDownLatch(delays.length);
+        long[] runTimes = new long[delays.length];
+        long start = TimingWheelScheduler.now();
+        for (int i = 0; i < delays.length; ++i) {
+            int index = i;
+            this.scheduler.schedule(() -> {
+                runTimes[index] = TimingWheelScheduler.now();
+                latch.countDown();
+            }, delays[i]);
+        }
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        // the scheduler and the test share the same clock, so a task never runs before its delay elapsed
+        for (int i = 0; i < delays.length; ++i) {
+            Assert.assertTrue(String.valueOf(delays[i]), runTimes[i] - start >= delays[i]);
+        }
+    }
+
+    @Test
+    public void testCancel() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        TimerScheduler.ScheduledTask task = this.scheduler.schedule(count::incrementAndGet, 50);
+        Assert.assertTrue(task.cancel());
+        Assert.assertFalse(task.cancel());
+        CountDownLatch latch = new CountDownLatch(1);
+        this.scheduler.schedule(latch::countDown, 100);
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(0, count.get());
+    }
+
+    @Test
+    public void testScheduleAtFixedRate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        TimerScheduler.ScheduledTask task = this.scheduler.scheduleAtFixedRate(latch::countDown, 0, 20);
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(task.cancel());
+    }
+}
@@ -5,11 +5,32 @@
 
 package org.jboss.as.ejb3.timerservice.persistence.database;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import java.util.Properties;
 
+import javax.sql.DataSource;
+
+import org.jboss.as.ejb3.timerservice.TimerImpl;
+import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
+import org.jboss.as.ejb3.timerservice.TimerState;
+import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence.TimerChangeListener;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -168,4 +189,188 @@ public class DatabaseTimerPersistenceTestCase {
         Assert.assertEquals("sybase", field.get(object));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void batchUpdatesTest() throws Exception {
+        final DataSource dataSource = mock(DataSource.class);
+        final Connection connection = mock(Connection.class);
+        final PreparedStatement updateStatement = mock(PreparedStatement.class);
+        final PreparedStatement deleteStatement = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("update-timer")).thenReturn(updateStatement);
+        when(connection.prepareStatement("delete-timer")).thenReturn(deleteStatement);
+        setUpDatabase(dataSource, new Properties());
+
+        final TimerServiceImpl timerService = mock(TimerServiceImpl.class);
+        final DatabaseTimerPersistence.TimerUpdates updates = object.new TimerUpdates();
+        updates.add(object.new TimerUpdate(timer(timerService, "a", TimerState.IN_TIMEOUT)));
+        updates.add(object.new TimerUpdate(timer(timerService, "b", TimerState.ACTIVE)));
+        // only the last update of a timer is written
+        updates.add(object.new TimerUpdate(timer(timerService, "a", TimerState.ACTIVE)));
+        updates.add(object.new TimerUpdate(timer(timerService, "c", TimerState.CANCELED)));
+        updates.beforeCompletion();
+
+        verify(dataSource, times(1)).getConnection();
+        verify(updateStatement, times(2)).addBatch();
+        verify(updateStatement).executeBatch();
+        verify(deleteStatement, times(1)).addBatch();
+        verify(deleteStatement).executeBatch();
+        verify(updateStatement, never()).execute();
+        verify(deleteStatement, never()).execute();
+        verify(updateStatement, never()).setString(3, TimerState.IN_TIMEOUT.name());
+
+        // the updates are cleared once written
+        updates.beforeCompletion();
+        verify(dataSource, times(1)).getConnection();
+    }
+
+    @Test
+    public void incrementalRefreshTest() throws Exception {
+        final DataSource dataSource = mock(DataSource.class);
+        final Connection connection = mock(Connection.class);
+        final PreparedStatement statesStatement = mock(PreparedStatement.class);
+        final PreparedStatement timersStatement = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("load-timer-states")).thenReturn(statesStatement);
+        when(connection.prepareStatement("load-all-timers")).thenReturn(timersStatement);
+        final Properties sql = new Properties();
+        sql.setProperty("load-timer-states", "load-timer-states");
+        setUpDatabase(dataSource, sql);
+
+        final TimerServiceImpl timerService = mock(TimerServiceImpl.class);
+        final TimerImpl existing = timer(timerService, "existing", TimerState.ACTIVE);
+        final TimerImpl removed = timer(timerService, "removed", TimerState.ACTIVE);
+        when(timerService.getTimer("existing")).thenReturn(existing);
+        when(timerService.getTimer("removed")).thenReturn(removed);
+        final TimerChangeListener listener = mock(TimerChangeListener.class);
+        when(listener.getTimerService()).thenReturn(timerService);
+        when(connection.prepareStatement("update-timer")).thenReturn(mock(PreparedStatement.class));
+        object.timerDeployed("object");
+        object.registerChangeListener("object", listener);
+        object.persistTimer(existing);
+        object.persistTimer(removed);
+
+        // the timers are in sync: only their states are read
+        final ResultSet states = mock(ResultSet.class);
+        when(statesStatement.executeQuery()).thenReturn(states);
+        when(states.next()).thenReturn(true, true, false);
+        when(states.getString(1)).thenReturn("existing", "removed");
+        when(states.getString(2)).thenReturn(TimerState.ACTIVE.name());
+        object.new RefreshTask().run();
+        verify(connection, never()).prepareStatement("load-all-timers");
+        verify(listener, never()).timerAdded(any());
+        verify(listener, never()).timerRemoved(anyString());
+
+        // a timer was added and another one was removed: the complete rows are read once
+        final ResultSet newStates = mock(ResultSet.class);
+        when(statesStatement.executeQuery()).thenReturn(newStates);
+        when(newStates.next()).thenReturn(true, true, false);
+        when(newStates.getString(1)).thenReturn("existing", "added");
+        when(newStates.getString(2)).thenReturn(TimerState.ACTIVE.name());
+        final ResultSet timers = mock(ResultSet.class);
+        when(timersStatement.executeQuery()).thenReturn(timers);
+        when(timers.next()).thenReturn(true, true, false);
+        when(timers.getString(1)).thenReturn("existing", "added");
+        when(timers.getString(2)).thenReturn("object");
+        when(timers.getString(9)).thenReturn(TimerState.ACTIVE.name());
+        object.new RefreshTask().run();
+        verify(connection, times(1)).prepareStatement("load-all-timers");
+        verify(timersStatement, times(1)).executeQuery();
+        // the states are closed before the complete rows are read
+        verify(newStates).close();
+        verify(listener, times(1)).timerAdded(any());
+        verify(listener).timerRemoved("removed");
+        verify(listener, never()).timerSync(any(), any());
+        // only the info of the added timer is unmarshalled
+        verify(timers, times(1)).getString(8);
+    }
+
+    @Test
+    public void modifiedTimersRefreshTest() throws Exception {
+        final DataSource dataSource = mock(DataSource.class);
+        final Connection connection = mock(Connection.class);
+        final PreparedStatement statesStatement = mock(PreparedStatement.class);
+        final PreparedStatement modifiedStatement = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("load-timer-states")).thenReturn(statesStatement);
+        when(connection.prepareStatement("load-modified-timers")).thenReturn(modifiedStatement);
+        final Properties sql = new Properties();
+        sql.setProperty("load-timer-states", "load-timer-states");
+        sql.setProperty("load-modified-timers", "load-modified-timers");
+        setUpDatabase(dataSource, sql);
+        setField("trackModifications", true);
+        setField("binaryInfo", true);
+
+        final TimerServiceImpl timerService = mock(TimerServiceImpl.class);
+        final TimerImpl existing = timer(timerService, "existing", TimerState.ACTIVE);
+        when(timerService.getTimer("existing")).thenReturn(existing);
+        final TimerChangeListener listener = mock(TimerChangeListener.class);
+        when(listener.getTimerService()).thenReturn(timerService);
+        when(connection.prepareStatement("update-timer")).thenReturn(mock(PreparedStatement.class));
+        object.timerDeployed("object");
+        object.registerChangeListener("object", listener);
+        object.persistTimer(existing);
+
+        // the first refresh reads all the timers, and the last modification
+        final Timestamp lastModified = new Timestamp(System.currentTimeMillis());
+        final ResultSet states = mock(ResultSet.class);
+        when(statesStatement.executeQuery()).thenReturn(states);
+        when(states.next()).thenReturn(true, false);
+        when(states.getString(1)).thenReturn("existing");
+        when(states.getString(2)).thenReturn(TimerState.ACTIVE.name());
+        when(states.getTimestamp(3)).thenReturn(lastModified);
+        final DatabaseTimerPersistence.RefreshTask refreshTask = object.new RefreshTask();
+        refreshTask.run();
+        verify(connection, never()).prepareStatement("load-modified-timers");
+
+        // the next refresh only reads the timers modified since then, and does not remove the others
+        final ResultSet modified = mock(ResultSet.class);
+        when(modifiedStatement.executeQuery()).thenReturn(modified);
+        when(modified.next()).thenReturn(true, false);
+        when(modified.getString(1)).thenReturn("added");
+        when(modified.getString(2)).thenReturn("object");
+        when(modified.getString(9)).thenReturn(TimerState.ACTIVE.name());
+        when(modified.getTimestamp(anyInt())).thenReturn(null);
+        when(modified.getTimestamp(26)).thenReturn(new Timestamp(lastModified.getTime() + 1000));
+        refreshTask.run();
+        verify(statesStatement, times(1)).executeQuery();
+        verify(modifiedStatement).setTimestamp(3, new Timestamp(lastModified.getTime() - TimeUnit.MINUTES.toMillis(1)));
+        verify(listener, times(1)).timerAdded(any());
+        verify(listener, never()).timerRemoved(anyString());
+        // the binary info is read as bytes
+        verify(modified).getBytes(8);
+        verify(modified, never()).getString(8);
+
+        // the refresh after reads from the last modification read
+        when(modified.next()).thenReturn(false);
+        refreshTask.run();
+        verify(modifiedStatement).setTimestamp(3, new Timestamp(lastModified.getTime() + 1000 - TimeUnit.MINUTES.toMillis(1)));
+    }
+
+    private void setUpDatabase(final DataSource dataSource, final Properties sql) throws Exception {
+        final Field dataSourceField = object.getClass().getDeclaredField("dataSource");
+        dataSourceField.setAccessible(true);
+        dataSourceField.set(object, dataSource);
+        sql.setProperty("load-all-timers", "load-all-timers");
+        sql.setProperty("update-timer", "update-timer");
+        sql.setProperty("delete-timer", "delete-timer");
+        final Field sqlField = object.getClass().getDeclaredField("sql");
+        sqlField.setAccessible(true);
+        sqlField.set(object, sql);
+    }
+
+    private void setField(final String name, final Object value) throws Exception {
+        final Field field = object.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(object, value);
+    }
+
+    private static TimerImpl timer(final TimerServiceImpl timerService, final String id, final TimerState state) {
+        return TimerImpl.builder()
+                .setId(id)
+                .setTimedObjectId("object")
+                .setInitialDate(new Date())
+                .setTimerState(state)
+                .setPersistent(true)
+                .build(timerService);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the {@link TimerJournal}.
+ */
+public class TimerJournalTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReplay() throws IOException {
+        File directory = folder.newFolder();
+        try (TimerJournal journal = new TimerJournal(directory, 32, 1024)) {
+            Assert.assertTrue(journal.load().isEmpty());
+            journal.put("a", bytes("a1"));
+            journal.put("b", bytes("b1"));
+            journal.put("a", bytes("a2"));
+            journal.remove("b");
+            journal.put("c", bytes("c1"));
+        }
+        // small segments, the records span several segments
+        Assert.assertTrue(segments(directory).length > 1);
+        try (TimerJournal journal = new TimerJournal(directory, 32, 1024)) {
+            Map<String, ByteBuffer> timers = journal.load();
+            Assert.assertEquals(2, timers.size());
+            Assert.assertEquals("a2", string(timers.get("a")));
+            Assert.assertEquals("c1", string(timers.get("c")));
+            journal.put("d", bytes("d1"));
+        }
+        try (TimerJournal journal = new TimerJournal(directory, 32, 1024)) {
+            Assert.assertEquals(3, journal.load().size());
+        }
+    }
+
+    @Test
+    public void testCompaction() throws IOException {
+        File directory = folder.newFolder();
+        try (TimerJournal journal = new TimerJournal(directory, 256, 10)) {
+            journal.load();
+            for (int i = 0; i < 10; ++i) {
+                journal.put("a", bytes("a" + i));
+            }
+            Assert.assertFalse(journal.isCompactionRequired(1));
+            journal.put("a", bytes("a10"));
+            Assert.assertTrue(journal.isCompactionRequired(1));
+            Map<String, byte[]> live = new LinkedHashMap<>();
+            live.put("a", bytes("a10"));
+            journal.compact(live);
+            Assert.assertFalse(journal.isCompactionRequired(1));
+            journal.put("b", bytes("b1"));
+        }
+        Assert.assertEquals(1, segments(directory).length);
+        try (TimerJournal journal = new TimerJournal(directory, 256, 10)) {
+            Map<String, ByteBuffer> timers = journal.load();
+            Assert.assertEquals(2, timers.size());
+            Assert.assertEquals("a10", string(timers.get("a")));
+            Assert.assertEquals("b1", string(timers.get("b")));
+        }
+    }
+
+    @Test
+    public void testTornRecord() throws IOException {
+        File directory = folder.newFolder();
+        try (TimerJournal journal = new TimerJournal(directory, 1024, 1024)) {
+            journal.load();
+            journal.put("a", bytes("a1"));
+            journal.put("b", bytes("b1"));
+        }
+        File[] segments = segments(directory);
+        Assert.assertEquals(1, segments.length);
+        try (RandomAccessFile file = new RandomAccessFile(segments[0], "rw")) {
+            file.setLength(file.length() - 1);
+        }
+        try (TimerJournal journal = new TimerJournal(directory, 1024, 1024)) {
+            Map<String, ByteBuffer> timers = journal.load();
+            Assert.assertEquals(1, timers.size());
+            Assert.assertEquals("a1", string(timers.get("a")));
+            journal.put("b", bytes("b2"));
+        }
+        try (TimerJournal journal = new TimerJournal(directory, 1024, 1024)) {
+            Map<String, ByteBuffer> timers = journal.load();
+            Assert.assertEquals(2, timers.size());
+            Assert.assertEquals("b2", string(timers.get("b")));
+        }
+    }
+
+    private static File[] segments(File directory) {
+        return directory.listFiles((dir, name) -> name.endsWith(TimerJournal.SEGMENT_SUFFIX));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.schedule.attribute;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the next and first matches of {@link DayOfMonth} on absolute, relative, last and negative days of month, and
+ * on ranges wrapping around. The expected values are the ones of the matching on sorted sets of days, which the bit sets
+ * of days replace.
+ */
+public class DayOfMonthTestCase {
+
+    @Test
+    public void testMatches() {
+        assertMatches("25-5", 2023, Calendar.FEBRUARY, 10, 25, -7);
+        assertMatches("25-5", 2023, Calendar.FEBRUARY, 27, 27, -7);
+        assertMatches("25-5", 2024, Calendar.FEBRUARY, 29, 29, -7);
+        assertMatches("1,15,last", 2023, Calendar.FEBRUARY, 10, 15, 1);
+        assertMatches("1,15,last", 2023, Calendar.FEBRUARY, 27, 28, 1);
+        assertMatches("1,15,last", 2024, Calendar.FEBRUARY, 29, 29, 1);
+        assertMatches("last", 2023, Calendar.FEBRUARY, 10, 28, 28);
+        assertMatches("last", 2023, Calendar.FEBRUARY, 27, 28, 28);
+        assertMatches("last", 2024, Calendar.FEBRUARY, 29, 29, 29);
+        assertMatches("-3", 2023, Calendar.FEBRUARY, 10, 25, 25);
+        assertMatches("-3", 2023, Calendar.FEBRUARY, 27, 25, 25);
+        assertMatches("-3", 2024, Calendar.FEBRUARY, 29, 26, 26);
+        assertMatches("-1-3", 2023, Calendar.FEBRUARY, 10, 27, -7);
+        assertMatches("-1-3", 2023, Calendar.FEBRUARY, 27, 27, -7);
+        assertMatches("-1-3", 2024, Calendar.FEBRUARY, 29, 29, -7);
+        assertMatches("-3-5", 2023, Calendar.FEBRUARY, 10, 25, -7);
+        assertMatches("-3-5", 2023, Calendar.FEBRUARY, 27, 27, -7);
+        assertMatches("-3-5", 2024, Calendar.FEBRUARY, 29, 29, -7);
+        assertMatches("25-last", 2023, Calendar.FEBRUARY, 10, 25, 25);
+        assertMatches("25-last", 2023, Calendar.FEBRUARY, 27, 27, 25);
+        assertMatches("25-last", 2024, Calendar.FEBRUARY, 29, 29, 25);
+        assertMatches("last Fri", 2023, Calendar.FEBRUARY, 10, 24, 24);
+        assertMatches("last Fri", 2023, Calendar.FEBRUARY, 27, 24, 24);
+        assertMatches("last Fri", 2024, Calendar.FEBRUARY, 29, 23, 23);
+        assertMatches("5th Wed", 2023, Calendar.FEBRUARY, 10, 28, 28);
+        assertMatches("5th Wed", 2023, Calendar.FEBRUARY, 27, 28, 28);
+        assertMatches("5th Wed", 2024, Calendar.FEBRUARY, 29, 29, 29);
+        assertMatches("2nd Tue-last", 2023, Calendar.FEBRUARY, 10, 14, 14);
+        assertMatches("2nd Tue-last", 2023, Calendar.FEBRUARY, 27, 27, 14);
+        assertMatches("2nd Tue-last", 2024, Calendar.FEBRUARY, 29, 29, 13);
+        assertMatches("28-2", 2023, Calendar.FEBRUARY, 10, 28, -7);
+        assertMatches("28-2", 2023, Calendar.FEBRUARY, 27, 28, -7);
+        assertMatches("28-2", 2024, Calendar.FEBRUARY, 29, 29, -7);
+    }
+
+    private static void assertMatches(String value, int year, int month, int dayOfMonth, int nextMatch, int firstMatch) {
+        DayOfMonth dayOfMonthExpression = new DayOfMonth(value);
+        Calendar calendar = new GregorianCalendar(year, month, dayOfMonth);
+        String message = value + " " + year + "-" + (month + 1) + "-" + dayOfMonth;
+        Assert.assertEquals(message, Integer.valueOf(nextMatch), dayOfMonthExpression.getNextMatch(calendar));
+        Assert.assertEquals(message, Integer.valueOf(firstMatch), dayOfMonthExpression.getFirstMatch(calendar));
+    }
+}
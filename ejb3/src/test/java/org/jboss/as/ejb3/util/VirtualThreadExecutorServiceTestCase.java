@@ -0,0 +1,103 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link VirtualThreadExecutorService}.
+ */
+public class VirtualThreadExecutorServiceTestCase {
+
+    @Before
+    public void assumeVirtualThreads() {
+        Assume.assumeTrue(VirtualThreadExecutorService.isSupported());
+    }
+
+    @Test
+    public void testMaxConcurrency() throws Exception {
+        int maxConcurrency = 4;
+        VirtualThreadExecutorService executor = new VirtualThreadExecutorService("test", maxConcurrency);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            futures.add(executor.submit(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                latch.await();
+                running.decrementAndGet();
+                return null;
+            }));
+        }
+        // wait until the concurrency limit is reached, then check that no more tasks were started
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (running.get() < maxConcurrency) {
+            Assert.assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(maxConcurrency, running.get());
+        latch.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        Assert.assertEquals(maxConcurrency, maxRunning.get());
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testThreadPerTask() throws Exception {
+        VirtualThreadExecutorService executor = new VirtualThreadExecutorService("test", 1);
+        ThreadLocal<Object> local = new ThreadLocal<>();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            futures.add(executor.submit(() -> {
+                threads.add(Thread.currentThread());
+                boolean clean = local.get() == null && !Thread.currentThread().isInterrupted();
+                local.set(new Object());
+                Thread.currentThread().interrupt();
+                return clean;
+            }));
+        }
+        for (Future<Boolean> future : futures) {
+            Assert.assertTrue(future.get(10, TimeUnit.SECONDS));
+        }
+        Assert.assertEquals(futures.size(), threads.size());
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testShutdownNow() throws Exception {
+        VirtualThreadExecutorService executor = new VirtualThreadExecutorService("test", 1);
+        CountDownLatch started = new CountDownLatch(1);
+        Future<?> future = executor.submit(() -> {
+            started.countDown();
+            Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            return null;
+        });
+        executor.submit(() -> null);
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        // the queued task is returned, the running one interrupted
+        Assert.assertEquals(1, executor.shutdownNow().size());
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertTrue(future.isDone());
+        Assert.assertTrue(executor.isTerminated());
+    }
+}
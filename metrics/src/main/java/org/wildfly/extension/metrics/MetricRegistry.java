@@ -10,8 +10,7 @@ package org.wildfly.extension.metrics;
 public interface MetricRegistry {
 
     /**
-     * Registers the given metric. Calls will block if another thread
-     * {@link #readLock() holds the registry read lock}.
+     * Registers the given metric. Calls do not block concurrent reads of the registry.
      *
      * @param metric the metric. Cannot be {@code null}
      * @param metadata metadata for the metric. Cannot be {@code null}
@@ -19,22 +18,9 @@ public interface MetricRegistry {
     void registerMetric(Metric metric, MetricMetadata metadata);
 
     /**
-     * Unregisters the given metric, if it is registered. Calls will block if another thread
-     * {@link #readLock() holds the registry read lock}.
+     * Unregisters the given metric, if it is registered. Calls do not block concurrent reads of the registry.
      *
      * @param metricID the id for the metric. Cannot be {@code null}
      */
     void unregister(MetricID metricID);
-
-    /**
-     * Acquires a non-exclusive read lock that will cause calls from other threads
-     * to {@link #registerMetric(Metric, MetricMetadata)} or {@link #unregister(MetricID)}
-     * to block. Must be followed by a call to {@link #unlock()}.
-     */
-    void readLock();
-
-    /**
-     * Releases the non-exclusive lock obtained by a call to {@link #readLock()}.
-     */
-    void unlock();
 }
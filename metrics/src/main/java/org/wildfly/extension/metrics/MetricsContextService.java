@@ -10,11 +10,16 @@ import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_H
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_HTTP_SECURITY_CAPABILITY;
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_REGISTRY_RUNTIME_CAPABILITY;
 
+import java.io.OutputStream;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.encoding.ContentEncodingRepository;
+import io.undertow.server.handlers.encoding.EncodingHandler;
+import io.undertow.server.handlers.encoding.GzipEncodingProvider;
+import io.undertow.util.Headers;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.server.mgmt.domain.ExtensibleHttpManagement;
 import org.jboss.msc.Service;
@@ -68,6 +73,20 @@ public class MetricsContextService implements Service {
 
     @Override
     public void start(StartContext context) {
+        // the metrics are streamed to the response, compressed if the client accepts it
+        HttpHandler exportHandler = new EncodingHandler(new HttpHandler() {
+            @Override
+            public void handleRequest(HttpServerExchange exchange) throws Exception {
+                if (exchange.isInIoThread()) {
+                    exchange.dispatch(this);
+                    return;
+                }
+                exchange.startBlocking();
+                try (OutputStream out = exchange.getOutputStream()) {
+                    prometheusExporter.export(wildflyMetricRegistry.get(), out);
+                }
+            }
+        }, new ContentEncodingRepository().addEncodingHandler(Headers.GZIP.toString(), new GzipEncodingProvider(), 50));
         extensibleHttpManagement.get().addManagementHandler(CONTEXT_NAME, securityEnabledSupplier.get(), new HttpHandler() {
             @Override
             public void handleRequest(HttpServerExchange exchange) throws Exception {
@@ -75,15 +94,7 @@ public class MetricsContextService implements Service {
                     overrideableMetricHandler.handleRequest(exchange);
                     return;
                 }
-
-                WildFlyMetricRegistry metricRegistry = wildflyMetricRegistry.get();
-                metricRegistry.readLock();
-                try {
-                    String wildFlyMetrics = prometheusExporter.export(metricRegistry);
-                    exchange.getResponseSender().send(wildFlyMetrics);
-                } finally {
-                    metricRegistry.unlock();
-                }
+                exportHandler.handleRequest(exchange);
             }
         });
         consumer.accept(this);
@@ -4,57 +4,97 @@
  */
 package org.wildfly.extension.metrics;
 
-import java.util.HashSet;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.OptionalDouble;
-import java.util.Set;
 
-import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
 import org.wildfly.extension.metrics.MetricMetadata.MetricTag;
 
 public class PrometheusExporter {
 
-    private static final String LF = "\n";
+    static final String LF = "\n";
+    // a double is rendered with at most 24 characters by Double.toString
+    private static final int VALUE_BUFFER_SIZE = 32;
 
     public String export(WildFlyMetricRegistry registry) {
-        Set<String> alreadyExportedMetrics = new HashSet<String>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            export(registry, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString(UTF_8);
+    }
 
-        StringBuilder out = new StringBuilder();
+    /**
+     * Writes the metrics of the registry in the Prometheus text format.
+     * The names and labels of the series are encoded when the metrics are registered so that only their values
+     * are encoded while streaming.
+     *
+     * @param registry the registry of the metrics to export
+     * @param out the stream the UTF-8 encoded metrics are written to. It is not closed by this method
+     * @throws IOException if writing to the stream fails
+     */
+    public void export(WildFlyMetricRegistry registry, OutputStream out) throws IOException {
+        Map<PathAddress, ModelNode> snapshot = readMetricAttributes(registry);
+        byte[] valueBuffer = new byte[VALUE_BUFFER_SIZE];
+        // series are sorted by metric name so the series sharing HELP and TYPE lines are contiguous
+        String lastExportedMetric = null;
 
-        for (Map.Entry<MetricID, Metric> entry : registry.getMetrics().entrySet()) {
-            MetricID metricID = entry.getKey();
-            String metricName = metricID.getMetricName();
-            MetricMetadata metadata = registry.getMetricMetadata().get(metricName);
-            String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
-            OptionalDouble metricValue = entry.getValue().getValue();
+        for (PrometheusSeries series : registry.getSeries()) {
+            OptionalDouble metricValue = series.getValue(snapshot);
             // if the metric does not return a value, we skip printing the HELP and TYPE
             if (!metricValue.isPresent()) {
                 continue;
             }
-            if (!alreadyExportedMetrics.contains(metricName)) {
-                out.append("# HELP " + prometheusMetricName + " " + metadata.getDescription());
-                out.append(LF);
-                out.append("# TYPE " + prometheusMetricName + " " + metadata.getType());
-                out.append(LF);
-                alreadyExportedMetrics.add(metricName);
+            if (!series.getMetricName().equals(lastExportedMetric)) {
+                out.write(series.getHeader());
+                lastExportedMetric = series.getMetricName();
             }
-            double scaledValue = scaleToBaseUnit(metricValue.getAsDouble(), metadata.getMeasurementUnit());
-            // I'm pretty sure this is incorrect but that aligns with smallrye-metrics OpenMetricsExporter behaviour
-            if (metadata.getType() == MetricMetadata.Type.COUNTER && metadata.getMeasurementUnit() != MeasurementUnit.NONE) {
-                prometheusMetricName += "_" + metadata.getBaseMetricUnit();
+            out.write(series.getPrefix());
+            String value = Double.toString(series.scaleToBaseUnit(metricValue.getAsDouble()));
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                valueBuffer[i] = (byte) value.charAt(i);
             }
-            out.append(prometheusMetricName + getTagsAsAString(metricID) + " " + scaledValue);
-            out.append(LF);
+            valueBuffer[length] = '\n';
+            out.write(valueBuffer, 0, length + 1);
         }
-
-        return out.toString();
     }
 
-    private static double scaleToBaseUnit(double value, MeasurementUnit unit) {
-        return value * MeasurementUnit.calculateOffset(unit, unit.getBaseUnits());
+    /**
+     * Reads the attributes of the resources backing several WildFly metrics, with one operation per resource for the whole
+     * scrape. Only the attributes registered as metrics are read.
+     */
+    private static Map<PathAddress, ModelNode> readMetricAttributes(WildFlyMetricRegistry registry) {
+        Map<PathAddress, List<WildFlyMetric>> metricsByAddress = new HashMap<>();
+        for (PrometheusSeries series : registry.getSeries()) {
+            if (series.getMetric() instanceof WildFlyMetric) {
+                WildFlyMetric metric = (WildFlyMetric) series.getMetric();
+                metricsByAddress.computeIfAbsent(metric.getAddress(), address -> new ArrayList<>()).add(metric);
+            }
+        }
+        Map<PathAddress, ModelNode> snapshot = new HashMap<>();
+        for (Map.Entry<PathAddress, List<WildFlyMetric>> entry : metricsByAddress.entrySet()) {
+            // a single metric is read on its own, as before
+            if (entry.getValue().size() > 1) {
+                snapshot.put(entry.getKey(), WildFlyMetric.readAttributes(entry.getValue()));
+            }
+        }
+        return snapshot;
     }
 
-    private static String toPrometheusMetricName(MetricID metricID, MetricMetadata metadata) {
+    static String toPrometheusMetricName(MetricID metricID, MetricMetadata metadata) {
         String prometheusName = metricID.getMetricName();
         // change the Prometheus name depending on type and measurement unit
         if (metadata.getType() == WildFlyMetricMetadata.Type.COUNTER) {
@@ -84,4 +124,4 @@ public class PrometheusExporter {
         }
         return out.append("}").toString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.metrics;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Map;
+import java.util.OptionalDouble;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * A registered metric along with its Prometheus exposition lines, encoded once when the metric is registered
+ * so that a scrape only has to encode the metric values.
+ */
+final class PrometheusSeries {
+
+    private final Metric metric;
+    private final String metricName;
+    private final byte[] header;
+    private final byte[] prefix;
+    private final double scale;
+
+    /**
+     * @param metric the metric
+     * @param metricID the id of the metric
+     * @param metadata the metadata registered for the name of the metric
+     */
+    PrometheusSeries(Metric metric, MetricID metricID, MetricMetadata metadata) {
+        this.metric = metric;
+        this.metricName = metricID.getMetricName();
+        String prometheusMetricName = PrometheusExporter.toPrometheusMetricName(metricID, metadata);
+        this.header = ("# HELP " + prometheusMetricName + " " + metadata.getDescription() + PrometheusExporter.LF
+                + "# TYPE " + prometheusMetricName + " " + metadata.getType() + PrometheusExporter.LF).getBytes(UTF_8);
+        // I'm pretty sure this is incorrect but that aligns with smallrye-metrics OpenMetricsExporter behaviour
+        if (metadata.getType() == MetricMetadata.Type.COUNTER && metadata.getMeasurementUnit() != MeasurementUnit.NONE) {
+            prometheusMetricName += "_" + metadata.getBaseMetricUnit();
+        }
+        this.prefix = (prometheusMetricName + PrometheusExporter.getTagsAsAString(metricID) + " ").getBytes(UTF_8);
+        MeasurementUnit unit = metadata.getMeasurementUnit();
+        this.scale = MeasurementUnit.calculateOffset(unit, unit.getBaseUnits());
+    }
+
+    /**
+     * Returns the value of the metric, reading WildFly metrics from the given snapshot of resource attributes.
+     */
+    OptionalDouble getValue(Map<PathAddress, ModelNode> snapshot) {
+        return (metric instanceof WildFlyMetric) ? ((WildFlyMetric) metric).getValue(snapshot) : metric.getValue();
+    }
+
+    /**
+     * Returns the metric of the series.
+     */
+    Metric getMetric() {
+        return metric;
+    }
+
+    /**
+     * Returns the name of the metric, shared by all the series with the same {@code # HELP} and {@code # TYPE} lines.
+     */
+    String getMetricName() {
+        return metricName;
+    }
+
+    /**
+     * Returns the UTF-8 encoded {@code # HELP} and {@code # TYPE} lines of the metric.
+     */
+    byte[] getHeader() {
+        return header;
+    }
+
+    /**
+     * Returns the UTF-8 encoded name and labels of the series, followed by the separator of its value.
+     */
+    byte[] getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Scales the given value of the metric to the base unit of its measurement unit.
+     */
+    double scaleToBaseUnit(double value) {
+        return value * scale;
+    }
+}
@@ -5,14 +5,20 @@
  */
 package org.wildfly.extension.metrics;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
 import static org.wildfly.extension.metrics._private.MetricsLogger.LOGGER;
 
+import java.util.List;
+import java.util.Map;
 import java.util.OptionalDouble;
 
 import org.jboss.as.controller.LocalModelControllerClient;
@@ -38,9 +44,62 @@ public class WildFlyMetric implements Metric {
         this.attributeName = attributeName;
     }
 
+    PathAddress getAddress() {
+        return address;
+    }
+
     @Override
     public OptionalDouble getValue() {
-        ModelNode result = readAttributeValue(address, attributeName);
+        return toDouble(readAttributeValue(address, attributeName));
+    }
+
+    /**
+     * Returns the value of this metric from a snapshot of resource attributes shared by all the metrics
+     * collected during a single scrape.
+     * If the snapshot does not contain a value successfully read for the attribute of this metric, the attribute is read
+     * on its own, so that errors are reported for the attribute that caused them.
+     *
+     * @param snapshot the attributes of the resources that have already been read, keyed by resource address
+     * @return the value of the metric
+     * @see #readAttributes(List)
+     */
+    OptionalDouble getValue(Map<PathAddress, ModelNode> snapshot) {
+        ModelNode attributes = snapshot.get(address);
+        if (attributes == null || !attributes.has(attributeName)) {
+            return getValue();
+        }
+        return toDouble(attributes.get(attributeName));
+    }
+
+    /**
+     * Reads the attributes of the specified metrics of a same resource with a single composite operation, which only reads
+     * the attributes registered as metrics.
+     *
+     * @param metrics the metrics of a same resource
+     * @return the values of the attributes which could be read, keyed by attribute name. The attributes which could not be
+     *         read, e.g. due to RBAC, are not included
+     */
+    static ModelNode readAttributes(List<WildFlyMetric> metrics) {
+        final ModelNode compositeOp = new ModelNode();
+        compositeOp.get(OP).set(COMPOSITE);
+        compositeOp.get(OP_ADDR).setEmptyList();
+        final ModelNode steps = compositeOp.get(STEPS).setEmptyList();
+        for (WildFlyMetric metric : metrics) {
+            steps.add(metric.createReadAttributeOperation());
+        }
+        final ModelNode values = new ModelNode().setEmptyObject();
+        final ModelNode response = metrics.get(0).modelControllerClient.execute(compositeOp);
+        final ModelNode stepResults = response.get(RESULT);
+        for (int i = 0; i < metrics.size(); i++) {
+            final ModelNode stepResult = stepResults.get("step-" + (i + 1));
+            if (stepResult.isDefined() && SUCCESS.equals(stepResult.get(OUTCOME).asStringOrNull()) && !stepResult.hasDefined(FAILURE_DESCRIPTION)) {
+                values.get(metrics.get(i).attributeName).set(stepResult.get(RESULT));
+            }
+        }
+        return values;
+    }
+
+    private OptionalDouble toDouble(ModelNode result) {
         if (result.isDefined()) {
             try {
                 return OptionalDouble.of(result.asDouble());
@@ -51,13 +110,17 @@ public class WildFlyMetric implements Metric {
         return OptionalDouble.empty();
     }
 
-    private ModelNode readAttributeValue(PathAddress address, String attributeName) {
+    private ModelNode createReadAttributeOperation() {
         final ModelNode readAttributeOp = new ModelNode();
         readAttributeOp.get(OP).set(READ_ATTRIBUTE_OPERATION);
         readAttributeOp.get(OP_ADDR).set(address.toModelNode());
         readAttributeOp.get(ModelDescriptionConstants.INCLUDE_UNDEFINED_METRIC_VALUES).set(false);
         readAttributeOp.get(NAME).set(attributeName);
-        ModelNode response = modelControllerClient.execute(readAttributeOp);
+        return readAttributeOp;
+    }
+
+    private ModelNode readAttributeValue(PathAddress address, String attributeName) {
+        ModelNode response = modelControllerClient.execute(createReadAttributeOperation());
         String error = getFailureDescription(response);
         // TODO: Revisit this handling
         if (error != null) {
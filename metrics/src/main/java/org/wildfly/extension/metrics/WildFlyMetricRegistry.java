@@ -7,35 +7,47 @@ package org.wildfly.extension.metrics;
 import static java.util.Objects.requireNonNull;
 
 import java.io.Closeable;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 
 public class WildFlyMetricRegistry implements Closeable, MetricRegistry {
 
     /* Key is the metric name */
-    private Map<String, MetricMetadata> metadataMap = new HashMap();
-    private Map<MetricID, Metric> metricMap = new TreeMap<>();
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
-
+    private final ConcurrentMap<String, MetricMetadata> metadataMap = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<MetricID, PrometheusSeries> metricMap = new ConcurrentSkipListMap<>();
+    // incremented after every change of the registered metrics
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
 
     @Override
     public void close() {
-
-        lock.writeLock().lock();
-        try {
-            metricMap.clear();
-            metadataMap.clear();
-        } finally {
-            lock.writeLock().unlock();
-        }
+        metricMap.clear();
+        metadataMap.clear();
+        changed();
     }
 
-    Map<MetricID, Metric> getMetrics() {
-        return metricMap;
+    /**
+     * Returns an immutable snapshot of the registered series, sorted by {@link MetricID}.
+     * The snapshot is shared by all the callers until the registered metrics change, so iterating it
+     * neither blocks nor is blocked by the registration of metrics.
+     */
+    List<PrometheusSeries> getSeries() {
+        Snapshot current = snapshot.get();
+        long currentVersion = version.get();
+        if (current != null && current.version == currentVersion) {
+            return current.series;
+        }
+        Snapshot updated = new Snapshot(currentVersion, List.copyOf(metricMap.values()));
+        // a concurrent change bumps the version, so a stale snapshot stored here is never served
+        snapshot.compareAndSet(current, updated);
+        return updated.series;
     }
 
     Map<String, MetricMetadata> getMetricMetadata() {
@@ -43,39 +55,35 @@ public class WildFlyMetricRegistry implements Closeable, MetricRegistry {
     }
 
     @Override
-    public synchronized void registerMetric(Metric metric, MetricMetadata metadata) {
+    public void registerMetric(Metric metric, MetricMetadata metadata) {
         requireNonNull(metadata);
         requireNonNull(metric);
 
-        lock.writeLock().lock();
-        try {
-            MetricID metricID = metadata.getMetricID();
-            if (!metadataMap.containsKey(metadata.getMetricName())) {
-                metadataMap.put(metadata.getMetricName(), metadata);
-            }
-            metricMap.put(metricID, metric);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        MetricID metricID = metadata.getMetricID();
+        MetricMetadata registeredMetadata = metadataMap.computeIfAbsent(metadata.getMetricName(), name -> metadata);
+        metricMap.put(metricID, new PrometheusSeries(metric, metricID, registeredMetadata));
+        changed();
     }
 
     @Override
     public void unregister(MetricID metricID) {
-        lock.writeLock().lock();
-        try {
-            metricMap.remove(metricID);
-        } finally {
-            lock.writeLock().unlock();
+        if (metricMap.remove(metricID) != null) {
+            changed();
         }
     }
 
-    @Override
-    public void readLock() {
-        lock.readLock().lock();
+    private void changed() {
+        version.incrementAndGet();
+        snapshot.set(null);
     }
 
-    @Override
-    public void unlock() {
-        lock.readLock().unlock();
+    private static class Snapshot {
+        private final long version;
+        private final List<PrometheusSeries> series;
+
+        Snapshot(long version, List<PrometheusSeries> series) {
+            this.version = version;
+            this.series = series;
+        }
     }
-}
\ No newline at end of file
+}
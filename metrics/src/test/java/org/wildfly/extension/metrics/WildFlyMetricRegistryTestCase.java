@@ -0,0 +1,77 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.junit.Test;
+
+public class WildFlyMetricRegistryTestCase {
+
+    private static MetricMetadata metadata(String deployment, String attribute) {
+        PathAddress address = PathAddress.pathAddress(PathElement.pathElement("deployment", deployment), PathElement.pathElement("subsystem", "test"));
+        return new WildFlyMetricMetadata(attribute, address, null, attribute, MeasurementUnit.NONE, MetricMetadata.Type.GAUGE);
+    }
+
+    @Test
+    public void testSnapshotIsNotAffectedByChanges() {
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        MetricMetadata first = metadata("a.war", "first");
+        registry.registerMetric(() -> OptionalDouble.of(1), first);
+
+        List<PrometheusSeries> snapshot = registry.getSeries();
+        assertSame(snapshot, registry.getSeries());
+
+        registry.registerMetric(() -> OptionalDouble.of(2), metadata("a.war", "second"));
+        assertEquals(1, snapshot.size());
+        assertEquals(2, registry.getSeries().size());
+
+        registry.unregister(first.getMetricID());
+        assertEquals(1, registry.getSeries().size());
+        assertEquals("test_second", registry.getSeries().get(0).getMetricName());
+    }
+
+    @Test
+    public void testExportDuringRegistrationChurn() throws Exception {
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        PrometheusExporter exporter = new PrometheusExporter();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> churn = executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    MetricMetadata metadata = metadata("deployment-" + i + ".war", "value");
+                    registry.registerMetric(() -> OptionalDouble.of(1), metadata);
+                    if (i % 2 == 0) {
+                        registry.unregister(metadata.getMetricID());
+                    }
+                }
+            });
+            while (!churn.isDone()) {
+                exporter.export(registry);
+            }
+            churn.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        String export = exporter.export(registry);
+        assertEquals(500, registry.getSeries().size());
+        assertTrue(export, export.startsWith("# HELP test_value value\n# TYPE test_value gauge\n"));
+        assertTrue(export, export.contains("test_value{deployment=\"deployment-1.war\",subdeployment=\"deployment-1.war\"} 1.0\n"));
+    }
+}
@@ -5,10 +5,23 @@
 package org.wildfly.extension.microprofile.health;
 
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
@@ -25,7 +38,7 @@ import org.wildfly.extension.microprofile.health._private.MicroProfileHealthLogg
 import org.wildfly.service.descriptor.NullaryServiceDescriptor;
 
 
-public class MicroProfileHealthReporter {
+public class MicroProfileHealthReporter implements AutoCloseable {
     // TODO: Extract a sensible interface
     public static final NullaryServiceDescriptor<MicroProfileHealthReporter> SERVICE_DESCRIPTOR = NullaryServiceDescriptor.of("org.wildfly.extension.microprofile.health.reporter", MicroProfileHealthReporter.class);
     public static final AttachmentKey<MicroProfileHealthReporter> ATTACHMENT_KEY = AttachmentKey.create(MicroProfileHealthReporter.class);
@@ -46,6 +59,17 @@ public class MicroProfileHealthReporter {
     private final HealthCheck emptyDeploymentStartupCheck;
     private final Map<String, DeploymentConfiguration> deploymentsConfiguration = new ConcurrentHashMap<>();
 
+    // the checks are called concurrently, so that a slow check does not delay the others
+    // created on first use, as there is nothing to run concurrently until several checks are registered
+    private volatile ThreadPoolExecutor executor;
+    // a check runs at most once at a time, its concurrent requests share the same call
+    private final Map<HealthCheck, CheckCall> runningChecks = new ConcurrentHashMap<>();
+    // 0 if the checks are not timed out
+    private final long checkTimeout;
+    // 0 if the responses of the checks are not cached
+    private final long cacheTimeToLive;
+    private final Map<HealthCheck, CachedResponse> cachedResponses = new ConcurrentHashMap<>();
+
     /**
      * Evaluate whether any deployment is disabling default procedures server-wide, i.e. by setting
      * {@code mp.health.disable-default-procedures=true}
@@ -119,6 +143,20 @@ public class MicroProfileHealthReporter {
     public MicroProfileHealthReporter(String emptyLivenessChecksStatus, String emptyReadinessChecksStatus,
                                       String emptyStartupChecksStatus, boolean defaultProceduresDisabled,
                                       String defaultReadinessEmptyResponse, String defaultStartupEmptyResponse) {
+        this(emptyLivenessChecksStatus, emptyReadinessChecksStatus, emptyStartupChecksStatus, defaultProceduresDisabled,
+                defaultReadinessEmptyResponse, defaultStartupEmptyResponse, 0, 0);
+    }
+
+    /**
+     * @param checkTimeout the time, in milliseconds, after which a check which has not completed is reported as DOWN, or 0 to wait for the checks
+     * @param cacheTimeToLive the time, in milliseconds, during which the response of a check is reused, or 0 to call the check for every request
+     */
+    public MicroProfileHealthReporter(String emptyLivenessChecksStatus, String emptyReadinessChecksStatus,
+                                      String emptyStartupChecksStatus, boolean defaultProceduresDisabled,
+                                      String defaultReadinessEmptyResponse, String defaultStartupEmptyResponse,
+                                      long checkTimeout, long cacheTimeToLive) {
+        this.checkTimeout = TimeUnit.MILLISECONDS.toNanos(Math.max(0, checkTimeout));
+        this.cacheTimeToLive = TimeUnit.MILLISECONDS.toNanos(Math.max(0, cacheTimeToLive));
         this.emptyDeploymentLivenessCheck  = new EmptyDeploymentCheckStatus("empty-liveness-checks", emptyLivenessChecksStatus);
         this.emptyDeploymentReadinessCheck  = new EmptyDeploymentCheckStatus("empty-readiness-checks", emptyReadinessChecksStatus);
         this.emptyDeploymentStartupCheck  = new EmptyDeploymentCheckStatus("empty-startup-checks", emptyStartupChecksStatus);
@@ -221,25 +259,114 @@ public class MicroProfileHealthReporter {
 
     private HealthCheckResponse.Status processChecks(Map<HealthCheck, ClassLoader> checks, JsonArrayBuilder results, HealthCheckResponse.Status status) {
         if (checks != null) {
+            if (checks.size() == 1 && this.checkTimeout == 0) {
+                // nothing to gain from calling a single check on another thread
+                Map.Entry<HealthCheck, ClassLoader> entry = checks.entrySet().iterator().next();
+                return fillCheck(this.call(entry.getKey(), entry.getValue()), results, status);
+            }
+            List<Map.Entry<HealthCheck, Future<JsonObject>>> calls = new ArrayList<>(checks.size());
             for (Map.Entry<HealthCheck, ClassLoader> entry : checks.entrySet()) {
-                // use the classloader of the deployment's module instead of the TCCL (which is the server's ModuleClassLoader
-                // to ensure that any resources that checks the TCCL (such as MicroProfile Config) will use the correct one
-                // when the health checks are called.
-                final ClassLoader oldTCCL = Thread.currentThread().getContextClassLoader();
-                try {
-                    Thread.currentThread().setContextClassLoader(entry.getValue());
-                    status = fillCheck(entry.getKey(), results, status);
-                } finally {
-                    Thread.currentThread().setContextClassLoader(oldTCCL);
-                }
+                HealthCheck check = entry.getKey();
+                ClassLoader loader = entry.getValue();
+                JsonObject response = this.getCachedResponse(check);
+                Future<JsonObject> future = (response != null) ? CompletableFuture.completedFuture(response) : this.submit(check, loader);
+                calls.add(Map.entry(check, future));
+            }
+            // all the checks run concurrently, so they share the same deadline
+            long deadline = System.nanoTime() + this.checkTimeout;
+            for (Map.Entry<HealthCheck, Future<JsonObject>> call : calls) {
+                status = fillCheck(this.getResponse(call.getKey(), call.getValue(), deadline), results, status);
             }
         }
 
         return status;
     }
 
-    private HealthCheckResponse.Status fillCheck(HealthCheck check, JsonArrayBuilder results, HealthCheckResponse.Status globalOutcome) {
-        JsonObject each = jsonObject(check);
+    /**
+     * Submits a call of the specified check, unless the check is already running, in which case its running call is
+     * returned.
+     */
+    private Future<JsonObject> submit(HealthCheck check, ClassLoader loader) {
+        CheckCall call = new CheckCall(check, loader);
+        CheckCall running = this.runningChecks.putIfAbsent(check, call);
+        if (running != null) {
+            return running;
+        }
+        this.getExecutor().execute(call);
+        return call;
+    }
+
+    private ThreadPoolExecutor getExecutor() {
+        ThreadPoolExecutor executor = this.executor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.executor;
+                if (executor == null) {
+                    // the number of running calls is bounded by the number of checks, which the pool does not need to match
+                    int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+                    executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new CheckThreadFactory());
+                    executor.allowCoreThreadTimeOut(true);
+                    this.executor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private JsonObject getResponse(HealthCheck check, Future<JsonObject> future, long deadline) {
+        try {
+            return (this.checkTimeout > 0) ? future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS) : future.get();
+        } catch (TimeoutException e) {
+            // a call which timed out is cancelled but remains running until the check returns, as the check may ignore
+            // the interruption, and the check is reported as DOWN without being called again meanwhile
+            future.cancel(true);
+            MicroProfileHealthLogger.LOGGER.healthCheckTimeout(check.getClass().getName(), TimeUnit.NANOSECONDS.toMillis(this.checkTimeout));
+        } catch (CancellationException e) {
+            // the shared call was cancelled, e.g. by a concurrent request which timed out and logged it
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        } catch (ExecutionException e) {
+            MicroProfileHealthLogger.LOGGER.error("Error processing Health Checks", e.getCause());
+        }
+        return jsonObject(HealthCheckResponse.named(check.getClass().getName()).down().build());
+    }
+
+    private JsonObject getCachedResponse(HealthCheck check) {
+        if (this.cacheTimeToLive > 0) {
+            CachedResponse cached = this.cachedResponses.get(check);
+            if ((cached != null) && (System.nanoTime() - cached.time < this.cacheTimeToLive)) {
+                return cached.response;
+            }
+        }
+        return null;
+    }
+
+    private JsonObject call(HealthCheck check, ClassLoader loader) {
+        JsonObject response = this.getCachedResponse(check);
+        if (response != null) {
+            return response;
+        }
+        long start = System.nanoTime();
+        // use the classloader of the deployment's module instead of the TCCL (which is the server's ModuleClassLoader
+        // to ensure that any resources that checks the TCCL (such as MicroProfile Config) will use the correct one
+        // when the health checks are called.
+        final ClassLoader oldTCCL = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(loader);
+            response = jsonObject(check);
+        } finally {
+            Thread.currentThread().setContextClassLoader(oldTCCL);
+        }
+        long duration = System.nanoTime() - start;
+        MicroProfileHealthLogger.LOGGER.debugf("Health check %s (%s) completed in %d ms", response.getString("name"), check.getClass().getName(), TimeUnit.NANOSECONDS.toMillis(duration));
+        if (this.cacheTimeToLive > 0) {
+            this.cachedResponses.put(check, new CachedResponse(response, start));
+        }
+        return response;
+    }
+
+    private HealthCheckResponse.Status fillCheck(JsonObject each, JsonArrayBuilder results, HealthCheckResponse.Status globalOutcome) {
         results.add(each);
         if (globalOutcome == HealthCheckResponse.Status.UP) {
             String status = each.getString("status");
@@ -293,6 +420,7 @@ public class MicroProfileHealthReporter {
 
     public void removeHealthCheck(HealthCheck check) {
         healthChecks.remove(check);
+        cachedResponses.remove(check);
     }
 
     public void addReadinessCheck(HealthCheck check, ClassLoader moduleClassLoader) {
@@ -309,6 +437,7 @@ public class MicroProfileHealthReporter {
 
     public void removeReadinessCheck(HealthCheck check) {
         readinessChecks.remove(check);
+        cachedResponses.remove(check);
     }
 
     public void addLivenessCheck(HealthCheck check, ClassLoader moduleClassLoader) {
@@ -319,6 +448,7 @@ public class MicroProfileHealthReporter {
 
     public void removeLivenessCheck(HealthCheck check) {
         livenessChecks.remove(check);
+        cachedResponses.remove(check);
     }
 
     public void addStartupCheck(HealthCheck check, ClassLoader moduleClassLoader) {
@@ -329,6 +459,61 @@ public class MicroProfileHealthReporter {
 
     public void removeStartupCheck(HealthCheck check) {
         startupChecks.remove(check);
+        cachedResponses.remove(check);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (this.executor != null) {
+                this.executor.shutdownNow();
+            }
+        }
+        this.runningChecks.clear();
+        this.cachedResponses.clear();
+    }
+
+    /**
+     * A call of a check, which remains registered as running until the check returns, even if it was cancelled.
+     */
+    private final class CheckCall extends FutureTask<JsonObject> {
+        private final HealthCheck check;
+
+        CheckCall(HealthCheck check, ClassLoader loader) {
+            super(() -> MicroProfileHealthReporter.this.call(check, loader));
+            this.check = check;
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                MicroProfileHealthReporter.this.runningChecks.remove(this.check, this);
+            }
+        }
+    }
+
+    private static final class CachedResponse {
+        final JsonObject response;
+        // the System.nanoTime() at which the check was called
+        final long time;
+
+        CachedResponse(JsonObject response, long time) {
+            this.response = response;
+            this.time = time;
+        }
+    }
+
+    private static final class CheckThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "MicroProfile Health check " + this.count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
     }
 
     /**
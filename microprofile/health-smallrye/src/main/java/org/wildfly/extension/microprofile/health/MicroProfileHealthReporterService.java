@@ -31,6 +31,7 @@ public class MicroProfileHealthReporterService implements Service {
     private final String emptyLivenessChecksStatus;
     private final String emptyReadinessChecksStatus;
     private final String emptyStartupChecksStatus;
+    private volatile MicroProfileHealthReporter healthReporter;
 
     MicroProfileHealthReporterService(Consumer<MicroProfileHealthReporter> reporter, Supplier<ServerProbesService> serverProbesService, String emptyLivenessChecksStatus,
             String emptyReadinessChecksStatus, String emptyStartupChecksStatus) {
@@ -50,9 +51,15 @@ public class MicroProfileHealthReporterService implements Service {
         final String defaultReadinessEmptyResponse = ConfigProvider.getConfig().getOptionalValue("mp.health.default.readiness.empty.response", String.class).orElse("DOWN");
         // MicroProfile Health supports the mp.health.default.startup.empty.response to let users specify default empty startup responses
         final String defaultStartupEmptyResponse = ConfigProvider.getConfig().getOptionalValue("mp.health.default.startup.empty.response", String.class).orElse("DOWN");
+        // Time in milliseconds after which a check which has not completed is reported as DOWN, 0 to wait for the checks
+        final long checkTimeout = ConfigProvider.getConfig().getOptionalValue("wildfly.health.check-timeout", Long.class).orElse(0L);
+        // Time in milliseconds during which the response of a check is reused, 0 to call the checks for every request
+        final long checkCacheTimeToLive = ConfigProvider.getConfig().getOptionalValue("wildfly.health.check-cache-ttl", Long.class).orElse(0L);
         MicroProfileHealthReporter healthReporter = new MicroProfileHealthReporter(emptyLivenessChecksStatus, emptyReadinessChecksStatus,
             emptyStartupChecksStatus, defaultServerProceduresDisabled,
-            defaultReadinessEmptyResponse, defaultStartupEmptyResponse);
+            defaultReadinessEmptyResponse, defaultStartupEmptyResponse,
+            checkTimeout, checkCacheTimeToLive);
+        this.healthReporter = healthReporter;
 
         if (!defaultServerProceduresDisabled) {
             ClassLoader tccl = Thread.currentThread().getContextClassLoader();
@@ -68,6 +75,11 @@ public class MicroProfileHealthReporterService implements Service {
     @Override
     public void stop(StopContext context) {
         HealthCheckResponse.setResponseProvider(null);
+        MicroProfileHealthReporter healthReporter = this.healthReporter;
+        if (healthReporter != null) {
+            this.healthReporter = null;
+            healthReporter.close();
+        }
     }
 
     static HealthCheck wrap(ServerProbe delegate) {
@@ -0,0 +1,198 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.microprofile.health;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.json.JsonObject;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the timeout, the single execution and the response cache of the checks called by the {@link MicroProfileHealthReporter}.
+ */
+public class MicroProfileHealthReporterTestCase {
+
+    private static final long WAIT_SECONDS = 10;
+
+    private final List<MicroProfileHealthReporter> reporters = new ArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @After
+    public void tearDown() {
+        this.release.countDown();
+        this.reporters.forEach(MicroProfileHealthReporter::close);
+    }
+
+    @Test
+    public void testTimeout() {
+        MicroProfileHealthReporter reporter = this.createReporter(100, 0);
+        BlockingCheck check = new BlockingCheck();
+        reporter.addLivenessCheck(check, this.getClass().getClassLoader());
+
+        JsonObject health = reporter.getLiveness().getPayload();
+        assertEquals(MicroProfileHealthReporter.DOWN, health.getString("status"));
+        JsonObject response = health.getJsonArray("checks").getJsonObject(0);
+        assertEquals(BlockingCheck.class.getName(), response.getString("name"));
+        assertEquals(MicroProfileHealthReporter.DOWN, response.getString("status"));
+    }
+
+    @Test
+    public void testStuckCheckNotCalledAgain() throws InterruptedException {
+        MicroProfileHealthReporter reporter = this.createReporter(100, 0);
+        BlockingCheck check = new BlockingCheck();
+        reporter.addLivenessCheck(check, this.getClass().getClassLoader());
+
+        // the check ignores the interruption of its timed out call, which remains running
+        assertEquals(MicroProfileHealthReporter.DOWN, getStatus(reporter));
+        assertEquals(MicroProfileHealthReporter.DOWN, getStatus(reporter));
+        assertEquals(1, check.calls.get());
+
+        // once the stuck call returns, the check is called again
+        this.release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+        while (!MicroProfileHealthReporter.UP.equals(getStatus(reporter))) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+        assertTrue(check.calls.get() > 1);
+    }
+
+    @Test
+    public void testCacheExpiry() throws InterruptedException {
+        MicroProfileHealthReporter reporter = this.createReporter(0, 1000);
+        CountingCheck check = new CountingCheck();
+        reporter.addLivenessCheck(check, this.getClass().getClassLoader());
+
+        assertEquals(MicroProfileHealthReporter.UP, getStatus(reporter));
+        assertEquals(MicroProfileHealthReporter.UP, getStatus(reporter));
+        assertEquals(1, check.calls.get());
+
+        Thread.sleep(1100);
+        assertEquals(MicroProfileHealthReporter.UP, getStatus(reporter));
+        assertEquals(2, check.calls.get());
+
+        // a removed check does not leave its response in the cache
+        reporter.removeLivenessCheck(check);
+        reporter.addLivenessCheck(check, this.getClass().getClassLoader());
+        assertEquals(MicroProfileHealthReporter.UP, getStatus(reporter));
+        assertEquals(3, check.calls.get());
+    }
+
+    @Test
+    public void testConcurrentRequestsShareCall() throws Exception {
+        MicroProfileHealthReporter reporter = this.createReporter(TimeUnit.SECONDS.toMillis(WAIT_SECONDS * 2), 0);
+        BlockingCheck check = new BlockingCheck();
+        reporter.addLivenessCheck(check, this.getClass().getClassLoader());
+
+        ExecutorService requests = Executors.newFixedThreadPool(2);
+        try {
+            List<Thread> threads = new ArrayList<>();
+            List<Future<String>> statuses = new ArrayList<>();
+            CountDownLatch started = new CountDownLatch(2);
+            for (int i = 0; i < 2; ++i) {
+                statuses.add(requests.submit(() -> {
+                    synchronized (threads) {
+                        threads.add(Thread.currentThread());
+                    }
+                    started.countDown();
+                    return getStatus(reporter);
+                }));
+            }
+            assertTrue(started.await(WAIT_SECONDS, TimeUnit.SECONDS));
+            // wait until both requests wait for the running call
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+            while (!isWaiting(threads)) {
+                assertTrue(System.nanoTime() < deadline);
+                Thread.sleep(10);
+            }
+            this.release.countDown();
+            for (Future<String> status : statuses) {
+                assertEquals(MicroProfileHealthReporter.UP, status.get(WAIT_SECONDS, TimeUnit.SECONDS));
+            }
+            assertEquals(1, check.calls.get());
+        } finally {
+            requests.shutdownNow();
+        }
+    }
+
+    private MicroProfileHealthReporter createReporter(long checkTimeout, long cacheTimeToLive) {
+        MicroProfileHealthReporter reporter = new MicroProfileHealthReporter(MicroProfileHealthReporter.UP, MicroProfileHealthReporter.UP,
+                MicroProfileHealthReporter.UP, true, MicroProfileHealthReporter.UP, MicroProfileHealthReporter.UP, checkTimeout, cacheTimeToLive);
+        this.reporters.add(reporter);
+        return reporter;
+    }
+
+    private static String getStatus(MicroProfileHealthReporter reporter) {
+        return reporter.getLiveness().getPayload().getString("status");
+    }
+
+    private static boolean isWaiting(List<Thread> threads) {
+        synchronized (threads) {
+            if (threads.size() < 2) {
+                return false;
+            }
+            for (Thread thread : threads) {
+                if (thread.getState() != Thread.State.TIMED_WAITING) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static class CountingCheck implements HealthCheck {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public HealthCheckResponse call() {
+            this.calls.incrementAndGet();
+            return HealthCheckResponse.up("counting");
+        }
+    }
+
+    /**
+     * A check which blocks until it is released, ignoring interruptions, like a check stuck on a remote resource.
+     */
+    private class BlockingCheck implements HealthCheck {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public HealthCheckResponse call() {
+            this.calls.incrementAndGet();
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    try {
+                        if (MicroProfileHealthReporterTestCase.this.release.await(WAIT_SECONDS * 3, TimeUnit.SECONDS)) {
+                            return HealthCheckResponse.up("blocking");
+                        }
+                        return HealthCheckResponse.down("blocking");
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
@@ -5,12 +5,17 @@
 
 package org.wildfly.microprofile.openapi.host;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
@@ -19,7 +24,10 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 import jakarta.ws.rs.core.MediaType;
 
@@ -33,6 +41,11 @@ import io.smallrye.openapi.runtime.io.JsonIO;
 import io.smallrye.openapi.runtime.io.OpenAPIDefinitionIO;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.encoding.AllowedContentEncodings;
+import io.undertow.server.handlers.encoding.ContentEncodingRepository;
+import io.undertow.server.handlers.encoding.GzipEncodingProvider;
+import io.undertow.util.ETag;
+import io.undertow.util.ETagUtils;
 import io.undertow.util.HeaderMap;
 import io.undertow.util.Headers;
 import io.undertow.util.HttpString;
@@ -41,6 +54,8 @@ import io.undertow.util.StatusCodes;
 
 /**
  * {@link HttpHandler} for the Open API endpoint.
+ * Each format and charset of a model is rendered once, and served with an entity tag, until the model provider returns a new model,
+ * e.g. when a deployment changes the composite model.
  * @author Michael Edgar
  * @author Paul Ferraro
  */
@@ -52,6 +67,9 @@ public class OpenAPIHttpHandler implements HttpHandler {
     private static final Map<MediaType, Format> ACCEPTED_TYPES = new LinkedHashMap<>();
     private static final Map<String, Format> FORMATS = new HashMap<>();
     private static final String FORMAT = "format";
+    private static final String VARY = String.join(",", Headers.ACCEPT_STRING, Headers.ACCEPT_CHARSET_STRING, Headers.ACCEPT_ENCODING_STRING);
+    // only negotiates the encoding, the documents are compressed once and cached
+    private static final ContentEncodingRepository ENCODINGS = new ContentEncodingRepository().addEncodingHandler(Headers.GZIP.toString(), new GzipEncodingProvider(), 50);
 
     static {
         for (Format format : EnumSet.allOf(Format.class)) {
@@ -62,14 +80,30 @@ public class OpenAPIHttpHandler implements HttpHandler {
 
     private final Supplier<OpenAPI> modelFactory;
     private final OpenApiConfig config;
+    private final AtomicReference<Documents> documents = new AtomicReference<>();
 
     public OpenAPIHttpHandler(Supplier<OpenAPI> modelFactory, OpenApiConfig config) {
         this.modelFactory = modelFactory;
         this.config = config;
     }
 
-    private String format(Format format) throws IOException {
-        return format(JsonIO.newInstance(this.config), this.modelFactory.get(), format);
+    private Document getDocument(Format format, Charset charset) throws IOException {
+        OpenAPI model = this.modelFactory.get();
+        // Discard the documents rendered for a previous model
+        Documents documents = this.documents.updateAndGet(current -> (current != null) && (current.model == model) ? current : new Documents(model));
+        try {
+            return documents.documents.computeIfAbsent(Map.entry(format, charset), key -> new Document(this.format(model, key.getKey()).getBytes(key.getValue())));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private String format(OpenAPI model, Format format) {
+        try {
+            return format(JsonIO.newInstance(this.config), model, format);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     private static <V, A extends V, O extends V, AB, OB> String format(JsonIO<V, A, O, AB, OB> jsonIO, OpenAPI model, Format format) throws IOException {
@@ -118,9 +152,24 @@ public class OpenAPIHttpHandler implements HttpHandler {
             // Use format preferred by Accept header if unambiguous, otherwise determine format from query parameter
             Format format = (preferredTypes.size() == 1) ? ACCEPTED_TYPES.get(preferredTypes.get(0)) : parseFormatParameter(exchange);
 
-            byte[] result = this.format(format).getBytes(charset);
+            Document document = this.getDocument(format, charset);
+            boolean gzip = acceptsGzip(exchange);
+            ETag tag = gzip ? document.getCompressedETag() : document.getETag();
+
+            responseHeaders.put(Headers.VARY, VARY);
+            responseHeaders.put(Headers.ETAG, tag.toString());
+
+            if (!ETagUtils.handleIfNoneMatch(exchange, tag, true)) {
+                exchange.setStatusCode(StatusCodes.NOT_MODIFIED);
+                return;
+            }
+
+            byte[] result = gzip ? document.getCompressedContent() : document.getContent();
 
             responseHeaders.put(Headers.CONTENT_TYPE, format.getMimeType());
+            if (gzip) {
+                responseHeaders.put(Headers.CONTENT_ENCODING, Headers.GZIP.toString());
+            }
             responseHeaders.put(Headers.CONTENT_LENGTH, result.length);
 
             if (requestMethod.equals(Methods.GET)) {
@@ -173,6 +222,11 @@ public class OpenAPIHttpHandler implements HttpHandler {
         return defaultCharset;
     }
 
+    private static boolean acceptsGzip(HttpServerExchange exchange) {
+        AllowedContentEncodings encodings = ENCODINGS.getContentEncodings(exchange);
+        return (encodings != null) && Headers.GZIP.toString().equals(encodings.getCurrentContentEncoding());
+    }
+
     private static Format parseFormatParameter(HttpServerExchange exchange) {
         Deque<String> formatValues = exchange.getQueryParameters().get(FORMAT);
         String formatValue = (formatValues != null) ? formatValues.peek() : null;
@@ -180,4 +234,66 @@ public class OpenAPIHttpHandler implements HttpHandler {
         // Default format is YAML
         return (format != null) ? format : Format.YAML;
     }
+
+    /**
+     * The documents rendered for a given model, by format and charset.
+     */
+    private static class Documents {
+        final OpenAPI model;
+        final Map<Map.Entry<Format, Charset>, Document> documents = new ConcurrentHashMap<>();
+
+        Documents(OpenAPI model) {
+            this.model = model;
+        }
+    }
+
+    /**
+     * A rendered document, along with its lazily compressed variant.
+     */
+    private static class Document {
+        private final byte[] content;
+        private final ETag tag;
+        private final ETag compressedTag;
+        private volatile byte[] compressedContent;
+
+        Document(byte[] content) {
+            this.content = content;
+            this.tag = new ETag(false, digest(content));
+            // Each content encoding is a distinct representation
+            this.compressedTag = new ETag(false, this.tag.getTag() + "-gzip");
+        }
+
+        byte[] getContent() {
+            return this.content;
+        }
+
+        ETag getETag() {
+            return this.tag;
+        }
+
+        ETag getCompressedETag() {
+            return this.compressedTag;
+        }
+
+        byte[] getCompressedContent() throws IOException {
+            byte[] compressedContent = this.compressedContent;
+            if (compressedContent == null) {
+                ByteArrayOutputStream output = new ByteArrayOutputStream(this.content.length / 4);
+                try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+                    gzip.write(this.content);
+                }
+                compressedContent = output.toByteArray();
+                this.compressedContent = compressedContent;
+            }
+            return compressedContent;
+        }
+
+        private static String digest(byte[] content) {
+            try {
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(MessageDigest.getInstance("SHA-256").digest(content));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
 }
@@ -10,11 +10,15 @@ import java.net.InetAddress;
 import org.jboss.modcluster.container.Connector;
 import org.wildfly.extension.undertow.AjpListenerService;
 import org.wildfly.extension.undertow.HttpListenerService;
+import org.wildfly.extension.undertow.ListenerService;
 import org.wildfly.extension.undertow.UndertowListener;
 import org.wildfly.mod_cluster.undertow.metric.BytesReceivedStreamSourceConduit;
 import org.wildfly.mod_cluster.undertow.metric.BytesSentStreamSinkConduit;
 import org.wildfly.mod_cluster.undertow.metric.RequestCountHttpHandler;
+import org.wildfly.mod_cluster.undertow.metric.ResponseTimeHttpHandler;
 import org.wildfly.mod_cluster.undertow.metric.RunningRequestsHttpHandler;
+import org.xnio.XnioWorker;
+import org.xnio.management.XnioWorkerMXBean;
 
 /**
  * Adapts {@link UndertowListener} to a {@link Connector}.
@@ -111,6 +115,30 @@ public class UndertowConnector implements Connector {
         return RequestCountHttpHandler.getRequestCount();
     }
 
+    /**
+     * @param percentile a percentile, between 0 and 100
+     * @return long specified percentile of the recent response times on this connector, in microseconds
+     */
+    public long getResponseTime(double percentile) {
+        return ResponseTimeHttpHandler.getResponseTime(this.getPort(), percentile);
+    }
+
+    /**
+     * @return double number of tasks queued by the worker of this connector, relative to the maximum number of worker threads,
+     *         or 0 if unknown
+     */
+    public double getWorkerQueueLoad() {
+        if (this.listener instanceof ListenerService) {
+            XnioWorker worker = ((ListenerService) this.listener).getWorker().get();
+            if (worker != null) {
+                XnioWorkerMXBean bean = worker.getMXBean();
+                int maxThreads = bean.getMaxWorkerPoolSize();
+                return (maxThreads > 0) ? (double) bean.getWorkerQueueSize() / maxThreads : bean.getWorkerQueueSize();
+            }
+        }
+        return 0;
+    }
+
     @Override
     public String toString() {
         return this.listener.getName();
@@ -35,6 +35,7 @@ import org.wildfly.clustering.context.DefaultThreadFactory;
 import org.wildfly.extension.undertow.Host;
 import org.wildfly.extension.undertow.UndertowEventListener;
 import org.wildfly.extension.undertow.UndertowService;
+import org.wildfly.mod_cluster.undertow.metric.ResponseTimeHttpHandler;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
@@ -71,6 +72,8 @@ public class UndertowEventHandlerAdapterService implements UndertowEventListener
         this.connector = new UndertowConnector(this.configuration.getListener());
         this.serverName = this.configuration.getServer().getName();
         this.server = new UndertowServer(this.serverName, service, this.connector);
+        // Forget the response times recorded for the ports of our listeners before a reload or reconfiguration
+        this.resetResponseTimes();
 
         // Register ourselves as a listener to the container events
         service.registerListener(this);
@@ -104,6 +107,16 @@ public class UndertowEventHandlerAdapterService implements UndertowEventListener
         }
 
         this.configuration.getContainerEventHandler().stop(this.server);
+
+        this.resetResponseTimes();
+    }
+
+    private void resetResponseTimes() {
+        for (Engine engine : this.server.getEngines()) {
+            for (Connector connector : engine.getConnectors()) {
+                ResponseTimeHttpHandler.reset(connector.getPort());
+            }
+        }
     }
 
     private Context createContext(Deployment deployment, Host host) {
@@ -0,0 +1,130 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.mod_cluster.undertow.metric;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of response times whose counts decay exponentially over time, so that its percentiles reflect the recent response
+ * times rather than those since the start of the server.
+ * Response times are recorded in microseconds into log-linear buckets: those below 16 are counted exactly, and beyond, each
+ * power of 2 is split into 8 buckets of equal width, whose error is at most 1/8 of the response time.
+ * <p>
+ * The counts are decayed per interval of a tenth of the half-life, by whichever of a recording or a read first notices that
+ * the interval elapsed, before it records or reads. A response time is hence decayed from the start of the interval during
+ * which it was recorded, i.e. its weight is at most 2<sup>1/10</sup> (~7%) lower than its exact exponential weight.
+ * </p>
+ */
+public class ResponseTimeHistogram {
+
+    // bits of a response time, below its most significant bit, which select its sub-bucket
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // the buckets cover every non-negative long
+    static final int BUCKETS = (Long.SIZE - 1 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    // the weight of a recorded response time, so that decayed counts keep a sufficient resolution
+    private static final long SAMPLE_WEIGHT = 1 << 10;
+    // the number of decay intervals per half-life
+    private static final int DECAY_INTERVALS = 10;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final long halfLifeNanos;
+    private final long decayIntervalNanos;
+    private final AtomicLong lastDecay = new AtomicLong(System.nanoTime());
+
+    /**
+     * @param halfLife the time after which the counts of the recorded response times are halved
+     * @param unit the unit of the half-life
+     */
+    public ResponseTimeHistogram(long halfLife, TimeUnit unit) {
+        this.halfLifeNanos = unit.toNanos(halfLife);
+        this.decayIntervalNanos = Math.max(this.halfLifeNanos / DECAY_INTERVALS, 1);
+    }
+
+    /**
+     * Records a response time.
+     * @param responseTime a response time
+     * @param unit the unit of the response time
+     */
+    public void record(long responseTime, TimeUnit unit) {
+        this.decay();
+        this.buckets.addAndGet(index(unit.toMicros(responseTime)), SAMPLE_WEIGHT);
+    }
+
+    /**
+     * Returns the specified percentile of the recent response times.
+     * @param percentile a percentile, between 0 and 100
+     * @return the specified percentile of the recent response times, in microseconds, or 0 if there is none
+     */
+    public long getPercentile(double percentile) {
+        this.decay();
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            counts[i] = this.buckets.get(i);
+            count += counts[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        // the counts are weighted, the rank only depends on their relative values
+        long rank = Math.max(1, (long) Math.ceil(count * Math.min(Math.max(percentile, 0d), 100d) / 100d));
+        long total = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            total += counts[i];
+            if (total >= rank) {
+                return highestResponseTime(i);
+            }
+        }
+        return highestResponseTime(BUCKETS - 1);
+    }
+
+    /**
+     * Returns the index of the bucket counting the given response time, negative response times being counted as 0.
+     */
+    static int index(long responseTime) {
+        long value = Math.max(responseTime, 0);
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest response time counted by the bucket of the given index.
+     */
+    static long highestResponseTime(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index / SUB_BUCKETS) - 1;
+        long mantissa = SUB_BUCKETS + (index % SUB_BUCKETS);
+        // for the last bucket, the shift overflows to Long.MIN_VALUE, hence a highest response time of Long.MAX_VALUE
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * Decays the counts of the buckets by the factor corresponding to the time elapsed since the last decay, if at least one
+     * decay interval elapsed.
+     */
+    private void decay() {
+        long now = System.nanoTime();
+        long last = this.lastDecay.get();
+        long elapsed = now - last;
+        // only once for concurrent recordings and readers
+        if ((elapsed >= this.decayIntervalNanos) && this.lastDecay.compareAndSet(last, now)) {
+            double factor = Math.pow(0.5, (double) elapsed / this.halfLifeNanos);
+            for (int i = 0; i < BUCKETS; ++i) {
+                this.buckets.getAndUpdate(i, value -> (long) (value * factor));
+            }
+        }
+    }
+}
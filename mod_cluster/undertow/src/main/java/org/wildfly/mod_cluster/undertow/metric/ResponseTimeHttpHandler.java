@@ -0,0 +1,71 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.mod_cluster.undertow.metric;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+
+/**
+ * {@link HttpHandler} that records the response times of the requests, per local port, i.e. per listener.
+ * The response times of a listener are reset by the mod_cluster adapter of its server when it starts and stops, so that a
+ * listener removed, reconfigured or restarted by a reload does not keep nor hand over the response times of its port.
+ */
+public class ResponseTimeHttpHandler implements HttpHandler {
+
+    // the recorded response times halve every minute
+    private static final long HALF_LIFE_SECONDS = 60;
+    private static final Map<Integer, ResponseTimeHistogram> histograms = new ConcurrentHashMap<>();
+
+    private final HttpHandler wrappedHandler;
+
+    public ResponseTimeHttpHandler(final HttpHandler handler) {
+        this.wrappedHandler = handler;
+    }
+
+    /**
+     * Registers a listener to record the response time upon exchange complete event.
+     */
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        InetSocketAddress address = exchange.getConnection().getLocalAddress(InetSocketAddress.class);
+        if (address != null) {
+            ResponseTimeHistogram histogram = histograms.computeIfAbsent(address.getPort(), port -> new ResponseTimeHistogram(HALF_LIFE_SECONDS, TimeUnit.SECONDS));
+            long start = System.nanoTime();
+            exchange.addExchangeCompleteListener((completedExchange, nextListener) -> {
+                histogram.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+                // Proceed to next listener must be called!
+                nextListener.proceed();
+            });
+        }
+
+        wrappedHandler.handleRequest(exchange);
+    }
+
+    /**
+     * @param port the port of a listener
+     * @param percentile a percentile, between 0 and 100
+     * @return the specified percentile of the recent response times of the listener with the specified port, in microseconds,
+     *         or 0 if there is none
+     */
+    public static long getResponseTime(int port, double percentile) {
+        ResponseTimeHistogram histogram = histograms.get(port);
+        return (histogram != null) ? histogram.getPercentile(percentile) : 0;
+    }
+
+    /**
+     * Forgets the response times recorded for the listener with the specified port.
+     * @param port the port of a listener
+     */
+    public static void reset(int port) {
+        histograms.remove(port);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.mod_cluster.undertow.metric;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.modcluster.container.Connector;
+import org.jboss.modcluster.container.Engine;
+import org.jboss.modcluster.load.metric.impl.AbstractLoadMetric;
+import org.wildfly.mod_cluster.undertow.UndertowConnector;
+
+/**
+ * {@link org.jboss.modcluster.load.metric.LoadMetric} returning a percentile of the recent response times, in seconds, of the
+ * slowest connector, so that a node responding slowly is assigned less load even though its request count looks normal.
+ * The recent response times are recorded by {@link ResponseTimeHttpHandler}, with counts decaying over time.
+ * <p>
+ * To be configured as a custom load metric of the {@code org.wildfly.mod_cluster.undertow} module, whose capacity is the
+ * response time, in seconds, considered as full load, and whose {@code percentile} property defaults to 95.
+ */
+public class ResponseTimeLoadMetric extends AbstractLoadMetric {
+
+    public static final double DEFAULT_PERCENTILE = 95;
+
+    private volatile double percentile = DEFAULT_PERCENTILE;
+
+    public double getPercentile() {
+        return this.percentile;
+    }
+
+    public void setPercentile(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException(String.valueOf(percentile));
+        }
+        this.percentile = percentile;
+    }
+
+    @Override
+    public double getLoad(Engine engine) throws Exception {
+        long responseTime = 0;
+        for (Connector connector : engine.getConnectors()) {
+            if (connector instanceof UndertowConnector) {
+                responseTime = Math.max(responseTime, ((UndertowConnector) connector).getResponseTime(this.percentile));
+            }
+        }
+        return (double) responseTime / TimeUnit.SECONDS.toMicros(1);
+    }
+}
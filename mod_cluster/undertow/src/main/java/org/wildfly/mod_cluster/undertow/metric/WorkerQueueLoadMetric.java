@@ -0,0 +1,32 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.mod_cluster.undertow.metric;
+
+import org.jboss.modcluster.container.Connector;
+import org.jboss.modcluster.container.Engine;
+import org.jboss.modcluster.load.metric.impl.AbstractLoadMetric;
+import org.wildfly.mod_cluster.undertow.UndertowConnector;
+
+/**
+ * {@link org.jboss.modcluster.load.metric.LoadMetric} returning the depth of the task queue of the most loaded worker of the
+ * connectors, relative to its maximum number of threads, so that a node whose workers cannot keep up is assigned less load.
+ * <p>
+ * To be configured as a custom load metric of the {@code org.wildfly.mod_cluster.undertow} module, whose capacity is the
+ * relative queue depth considered as full load.
+ */
+public class WorkerQueueLoadMetric extends AbstractLoadMetric {
+
+    @Override
+    public double getLoad(Engine engine) throws Exception {
+        double load = 0;
+        for (Connector connector : engine.getConnectors()) {
+            if (connector instanceof UndertowConnector) {
+                load = Math.max(load, ((UndertowConnector) connector).getWorkerQueueLoad());
+            }
+        }
+        return load;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.mod_cluster.undertow.metric;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ResponseTimeHistogramTestCase {
+
+    @Test
+    public void buckets() {
+        for (long responseTime = 0; responseTime < 1_000_000; ++responseTime) {
+            int index = ResponseTimeHistogram.index(responseTime);
+            long highest = ResponseTimeHistogram.highestResponseTime(index);
+            assertTrue(highest >= responseTime);
+            assertTrue(highest - responseTime <= responseTime / 8);
+            if (index > 0) {
+                assertTrue(ResponseTimeHistogram.highestResponseTime(index - 1) < responseTime);
+            }
+        }
+        assertEquals(0, ResponseTimeHistogram.index(-1));
+        assertEquals(ResponseTimeHistogram.BUCKETS - 1, ResponseTimeHistogram.index(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, ResponseTimeHistogram.highestResponseTime(ResponseTimeHistogram.BUCKETS - 1));
+    }
+
+    @Test
+    public void percentile() {
+        ResponseTimeHistogram histogram = new ResponseTimeHistogram(1, TimeUnit.HOURS);
+        assertEquals(0, histogram.getPercentile(95));
+        for (int i = 1; i <= 100; ++i) {
+            histogram.record(i, TimeUnit.MILLISECONDS);
+        }
+        long p50 = histogram.getPercentile(50);
+        assertTrue(p50 >= 50_000 && p50 <= 50_000 * 9 / 8);
+        long p95 = histogram.getPercentile(95);
+        assertTrue(p95 >= 95_000 && p95 <= 95_000 * 9 / 8);
+    }
+
+    @Test
+    public void decay() throws InterruptedException {
+        ResponseTimeHistogram histogram = new ResponseTimeHistogram(10, TimeUnit.MILLISECONDS);
+        histogram.record(1, TimeUnit.SECONDS);
+        assertTrue(histogram.getPercentile(95) >= 1_000_000);
+        Thread.sleep(500);
+        // the slow response time was forgotten
+        assertEquals(0, histogram.getPercentile(95));
+        histogram.record(1, TimeUnit.MILLISECONDS);
+        long p95 = histogram.getPercentile(95);
+        assertTrue(p95 >= 1_000 && p95 < 2_000);
+    }
+
+    @Test
+    public void decayBeforeRecording() throws InterruptedException {
+        ResponseTimeHistogram histogram = new ResponseTimeHistogram(10, TimeUnit.MILLISECONDS);
+        histogram.record(1, TimeUnit.SECONDS);
+        Thread.sleep(500);
+        // the slow response time is decayed when the fast one is recorded, which keeps its weight although nothing was read
+        histogram.record(1, TimeUnit.MILLISECONDS);
+        long p50 = histogram.getPercentile(50);
+        assertTrue(p50 >= 1_000 && p50 < 2_000);
+    }
+}
@@ -7,7 +7,6 @@ package org.jboss.as.naming;
 
 import java.security.PrivilegedAction;
 import java.util.concurrent.ThreadFactory;
-import org.jboss.as.naming.util.FastCopyHashMap;
 
 import javax.naming.Binding;
 import javax.naming.Name;
@@ -17,28 +16,36 @@ import javax.naming.event.NamingEvent;
 import javax.naming.event.NamingListener;
 import javax.naming.event.ObjectChangeListener;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.jboss.threads.JBossThreadFactory;
 
 import static java.security.AccessController.doPrivileged;
+import static org.jboss.as.naming.logging.NamingLogger.ROOT_LOGGER;
 
 /**
  * Coordinator responsible for passing @(code NamingEvent} instances to registered @{code NamingListener} instances.  Two
- * maps are used to managed a mapping between a listener and its configuration as well as a mapping from target name to a list
- * of listener configurations.  These maps are updated atomically on listener add and remove.
+ * concurrent maps are used to managed a mapping between a listener and its configuration as well as a mapping from target name
+ * to the set of listener configurations, so that adding and removing listeners does not copy the whole registry, and firing
+ * an event neither locks nor copies it, and only looks up the targets the event name can match.  Adding and removing listeners
+ * are serialized, so that a listener added while it is being removed is registered consistently in both maps.
+ * <p>
+ * Events are queued and delivered in order by a single drain task, which is only submitted to the executor when no drain is
+ * already pending, so a burst of bindings (e.g. the deployment of a large application) is delivered as a batch.  Events whose
+ * name matches no listener are not queued at all.
  *
  * @author John E. Bailey
  */
 public class NamingEventCoordinator {
-    private volatile Map<TargetScope, List<ListenerHolder>> holdersByTarget = Collections.emptyMap();
-    private volatile Map<NamingListener, ListenerHolder> holdersByListener = Collections.emptyMap();
+    private final Map<TargetScope, Set<ListenerHolder>> holdersByTarget = new ConcurrentHashMap<TargetScope, Set<ListenerHolder>>();
+    private final Map<NamingListener, ListenerHolder> holdersByListener = new ConcurrentHashMap<NamingListener, ListenerHolder>();
 
     private final ThreadFactory threadFactory = doPrivileged(new PrivilegedAction<JBossThreadFactory>() {
         public JBossThreadFactory run() {
@@ -48,6 +55,15 @@ public class NamingEventCoordinator {
 
     private final Executor executor = Executors.newSingleThreadExecutor(threadFactory);
 
+    private final Queue<FireEventTask> pendingEvents = new ConcurrentLinkedQueue<FireEventTask>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final Runnable drainTask = new Runnable() {
+        @Override
+        public void run() {
+            drainEvents();
+        }
+    };
+
     static final Integer[] DEFAULT_SCOPES = {EventContext.OBJECT_SCOPE, EventContext.ONELEVEL_SCOPE, EventContext.SUBTREE_SCOPE};
 
     /**
@@ -61,24 +77,14 @@ public class NamingEventCoordinator {
     synchronized void addListener(final String target, final int scope, final NamingListener namingListener) {
         final TargetScope targetScope = new TargetScope(target, scope);
         // Do we have a holder for this listener
-        ListenerHolder holder = holdersByListener.get(namingListener);
-        if (holder == null) {
-            holder = new ListenerHolder(namingListener, targetScope);
-            final Map<NamingListener, ListenerHolder> byListenerCopy = new FastCopyHashMap<NamingListener, ListenerHolder>(holdersByListener);
-            byListenerCopy.put(namingListener, holder);
-            holdersByListener = byListenerCopy;
-        } else {
-            holder.addTarget(targetScope);
-        }
-
-        List<ListenerHolder> holdersForTarget = holdersByTarget.get(targetScope);
-        if (holdersForTarget == null) {
-            holdersForTarget = new CopyOnWriteArrayList<ListenerHolder>();
-            final Map<TargetScope, List<ListenerHolder>> byTargetCopy = new FastCopyHashMap<TargetScope, List<ListenerHolder>>(holdersByTarget);
-            byTargetCopy.put(targetScope, holdersForTarget);
-            holdersByTarget = byTargetCopy;
-        }
-        holdersForTarget.add(holder);
+        final ListenerHolder holder = holdersByListener.computeIfAbsent(namingListener, ListenerHolder::new);
+        holder.targets.add(targetScope);
+
+        holdersByTarget.compute(targetScope, (key, holders) -> {
+            final Set<ListenerHolder> holdersForTarget = (holders != null) ? holders : ConcurrentHashMap.<ListenerHolder>newKeySet();
+            holdersForTarget.add(holder);
+            return holdersForTarget;
+        });
     }
 
     /**
@@ -89,24 +95,18 @@ public class NamingEventCoordinator {
      */
     synchronized void removeListener(final NamingListener namingListener) {
         // Do we have a holder for this listener
-        final ListenerHolder holder = holdersByListener.get(namingListener);
+        final ListenerHolder holder = holdersByListener.remove(namingListener);
         if (holder == null) {
             return;
         }
+        holder.removed = true;
 
-        final Map<NamingListener, ListenerHolder> byListenerCopy = new FastCopyHashMap<NamingListener, ListenerHolder>(holdersByListener);
-        byListenerCopy.remove(namingListener);
-        holdersByListener = byListenerCopy;
-
-        final Map<TargetScope, List<ListenerHolder>> byTargetCopy = new FastCopyHashMap<TargetScope, List<ListenerHolder>>(holdersByTarget);
         for (TargetScope targetScope : holder.targets) {
-            final List<ListenerHolder> holders = holdersByTarget.get(targetScope);
-            holders.remove(holder);
-            if (holders.isEmpty()) {
-                byTargetCopy.remove(targetScope);
-            }
+            holdersByTarget.computeIfPresent(targetScope, (key, holders) -> {
+                holders.remove(holder);
+                return holders.isEmpty() ? null : holders;
+            });
         }
-        holdersByTarget = byTargetCopy;
     }
 
     /**
@@ -122,63 +122,90 @@ public class NamingEventCoordinator {
      * @param scopes The scopes this event should be fired against
      */
     void fireEvent(final EventContext context, final Name name, final Binding existingBinding, final Binding newBinding, int type, final String changeInfo, final Integer... scopes) {
+        if (holdersByTarget.isEmpty()) {
+            return;
+        }
         final String target = name.toString();
         final Set<Integer> scopeSet = new HashSet<Integer>(Arrays.asList(scopes));
-        final NamingEvent event = new NamingEvent(context, type, newBinding, existingBinding, changeInfo);
 
         final Set<ListenerHolder> holdersToFire = new HashSet<ListenerHolder>();
 
         // Check for OBJECT_SCOPE based listeners
         if (scopeSet.contains(EventContext.OBJECT_SCOPE)) {
-            final TargetScope targetScope = new TargetScope(target, EventContext.OBJECT_SCOPE);
-            final List<ListenerHolder> holders = holdersByTarget.get(targetScope);
-            if (holders != null) {
-                for (ListenerHolder holder : holders) {
-                    holdersToFire.add(holder);
-                }
-            }
+            addHolders(new TargetScope(target, EventContext.OBJECT_SCOPE), holdersToFire);
         }
 
         // Check for ONELEVEL_SCOPE based listeners
         if (scopeSet.contains(EventContext.ONELEVEL_SCOPE) && !name.isEmpty()) {
-            final TargetScope targetScope = new TargetScope(name.getPrefix(name.size() - 1).toString(), EventContext.ONELEVEL_SCOPE);
-            final List<ListenerHolder> holders = holdersByTarget.get(targetScope);
-            if (holders != null) {
-                for (ListenerHolder holder : holders) {
-                    holdersToFire.add(holder);
-                }
-            }
+            addHolders(new TargetScope(name.getPrefix(name.size() - 1).toString(), EventContext.ONELEVEL_SCOPE), holdersToFire);
         }
 
         // Check for SUBTREE_SCOPE based listeners
         if (scopeSet.contains(EventContext.SUBTREE_SCOPE) && !name.isEmpty()) {
             for (int i = 1; i < name.size(); i++) {
                 final Name parentName = name.getPrefix(i);
-                final TargetScope targetScope = new TargetScope(parentName.toString(), EventContext.SUBTREE_SCOPE);
-                final List<ListenerHolder> holders = holdersByTarget.get(targetScope);
-                if (holders != null) {
-                    for (ListenerHolder holder : holders) {
-                        holdersToFire.add(holder);
-                    }
-                }
+                addHolders(new TargetScope(parentName.toString(), EventContext.SUBTREE_SCOPE), holdersToFire);
             }
         }
 
-        executor.execute(new FireEventTask(holdersToFire, event));
+        if (holdersToFire.isEmpty()) {
+            return;
+        }
+        final NamingEvent event = new NamingEvent(context, type, newBinding, existingBinding, changeInfo);
+        pendingEvents.add(new FireEventTask(holdersToFire, event, target));
+        scheduleDrain();
+    }
+
+    private void addHolders(final TargetScope targetScope, final Set<ListenerHolder> holdersToFire) {
+        final Set<ListenerHolder> holders = holdersByTarget.get(targetScope);
+        if (holders != null) {
+            holdersToFire.addAll(holders);
+        }
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            executor.execute(drainTask);
+        }
+    }
+
+    private void drainEvents() {
+        do {
+            try {
+                FireEventTask task;
+                while ((task = pendingEvents.poll()) != null) {
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        // a failing listener must not prevent the delivery of the following events
+                        ROOT_LOGGER.failedToDeliverNamingEvent(e, task.event.getType(), task.target);
+                    }
+                }
+            } finally {
+                // otherwise no drain would ever be scheduled again
+                drainScheduled.set(false);
+            }
+            // an event queued after the last poll, but before the reset, would otherwise not be delivered
+        } while (!pendingEvents.isEmpty() && drainScheduled.compareAndSet(false, true));
     }
 
     private class FireEventTask implements Runnable {
         private final Set<ListenerHolder> listenerHolders;
         private final NamingEvent event;
+        private final String target;
 
-        private FireEventTask(Set<ListenerHolder> listenerHolders, NamingEvent event) {
+        private FireEventTask(Set<ListenerHolder> listenerHolders, NamingEvent event, String target) {
             this.listenerHolders = listenerHolders;
             this.event = event;
+            this.target = target;
         }
 
         @Override
         public void run() {
             for (ListenerHolder holder : listenerHolders) {
+                if (holder.removed) {
+                    continue;
+                }
                 final NamingListener listener = holder.listener;
                 switch (event.getType()) {
                     case NamingEvent.OBJECT_ADDED:
@@ -202,21 +229,17 @@ public class NamingEventCoordinator {
         }
     }
 
-    private class ListenerHolder {
-        private volatile Set<TargetScope> targets = new HashSet<TargetScope>();
+    private static class ListenerHolder {
+        private final Set<TargetScope> targets = ConcurrentHashMap.newKeySet();
         private final NamingListener listener;
+        private volatile boolean removed;
 
-        private ListenerHolder(final NamingListener listener, final TargetScope initialTarget) {
+        private ListenerHolder(final NamingListener listener) {
             this.listener = listener;
-            addTarget(initialTarget);
-        }
-
-        private synchronized void addTarget(final TargetScope targetScope) {
-            targets.add(targetScope);
         }
     }
 
-    private class TargetScope {
+    private static class TargetScope {
         private final String target;
         private final int scope;
 
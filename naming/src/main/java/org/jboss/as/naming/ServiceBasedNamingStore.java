@@ -13,6 +13,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.NavigableSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 
 import javax.naming.Binding;
@@ -41,12 +43,21 @@ import org.wildfly.security.manager.WildFlySecurityManager;
  * @author Eduardo Martins
  */
 public class ServiceBasedNamingStore implements NamingStore {
+    /**
+     * The maximum number of names whose binding is kept resolved, 0 to disable the cache of resolved bindings.
+     */
+    static final int MAX_RESOLVED_BINDINGS = Integer.parseInt(WildFlySecurityManager.getPropertyPrivileged("org.jboss.as.naming.max-resolved-bindings", "1024"));
+
     private final Name EMPTY_NAME = new CompositeName();
     private Name baseName;
     private final ServiceRegistry serviceRegistry;
     private final ServiceName serviceNameBase;
 
     private ConcurrentSkipListSet<ServiceName> boundServices = new ConcurrentSkipListSet<ServiceName>();
+    // the binder services of the names recently looked up, saving the service name building and the registry lookup
+    private final ConcurrentMap<Name, ServiceController<?>> resolvedBindings = new ConcurrentHashMap<>();
+    // the names of the resolved bindings, by binder service, e.g. foo/bar and foo//bar share the same binder service
+    private final ConcurrentMap<ServiceName, Set<Name>> resolvedNames = new ConcurrentHashMap<>();
 
     public ServiceBasedNamingStore(final ServiceRegistry serviceRegistry, final ServiceName serviceNameBase) {
         this.serviceRegistry = serviceRegistry;
@@ -62,13 +73,29 @@ public class ServiceBasedNamingStore implements NamingStore {
         if (name.isEmpty()) {
             return new NamingContext(EMPTY_NAME, this, null);
         }
+        ServiceController<?> controller = resolvedBindings.get(name);
+        if (controller != null) {
+            try {
+                final Object obj = lookup(name, controller, dereference);
+                if (obj != null) {
+                    return obj;
+                }
+            } catch (NameNotFoundException e) {
+                if (!(e.getCause() instanceof IllegalStateException)) {
+                    throw e;
+                }
+                // the binder service of the resolved binding is no longer up, e.g. it was removed, hence a cache miss
+                unresolve(name, buildServiceName(name), controller);
+            }
+        }
         final ServiceName lookupName = buildServiceName(name);
-        Object obj = lookup(name.toString(), lookupName, dereference);
+        controller = serviceRegistry.getService(lookupName);
+        Object obj = lookup(name, controller, dereference);
         if (obj == null) {
             final ServiceName lower = boundServices.lower(lookupName);
             if (lower != null && lower.isParentOf(lookupName)) {
                 // Parent might be a reference or a link
-                obj = lookup(name.toString(), lower, dereference);
+                obj = lookup(name, lower, dereference);
                 //if the lower is a context that has been explicitly bound then
                 //we do not return a resolve result, as this will result in an
                 //infinite loop
@@ -89,9 +116,52 @@ public class ServiceBasedNamingStore implements NamingStore {
             throw new NameNotFoundException(name.toString() + " -- " + lookupName);
         }
 
+        resolve(name, lookupName, controller);
         return obj;
     }
 
+    private void resolve(final Name name, final ServiceName serviceName, final ServiceController<?> controller) {
+        final ConcurrentMap<Name, ServiceController<?>> resolvedBindings = this.resolvedBindings;
+        if (MAX_RESOLVED_BINDINGS <= 0 || resolvedBindings.containsKey(name) || !isBound(serviceName, controller)) {
+            return;
+        }
+        if (resolvedBindings.size() >= MAX_RESOLVED_BINDINGS) {
+            clearResolvedBindings();
+        }
+        final Name key = (Name) name.clone();
+        resolvedBindings.put(key, controller);
+        resolvedNames.computeIfAbsent(serviceName, k -> ConcurrentHashMap.newKeySet()).add(key);
+        // the name might have been unbound, or unbound and bound again, concurrently, before its resolved binding was added
+        if (!isBound(serviceName, controller)) {
+            unresolve(key, serviceName, controller);
+        }
+    }
+
+    /**
+     * Returns whether the given controller is the one of the binder service currently bound with the given name, rather than one
+     * looked up before the name was unbound, and possibly bound again.
+     */
+    private boolean isBound(final ServiceName serviceName, final ServiceController<?> controller) {
+        return boundServices.contains(serviceName) && serviceRegistry.getService(serviceName) == controller;
+    }
+
+    private void unresolve(final Name name, final ServiceName serviceName, final ServiceController<?> controller) {
+        resolvedBindings.remove(name, controller);
+        resolvedNames.computeIfPresent(serviceName, (k, names) -> {
+            // unless the name was resolved again concurrently
+            if (!resolvedBindings.containsKey(name)) {
+                names.remove(name);
+            }
+            return names.isEmpty() ? null : names;
+        });
+    }
+
+    private void clearResolvedBindings() {
+        // the names are cleared first, so that a resolved binding added concurrently is always found by its name
+        resolvedNames.clear();
+        resolvedBindings.clear();
+    }
+
     private void checkReferenceForContinuation(final Name name, final Object object) throws CannotProceedException {
         if (object instanceof Reference
                 && ((Reference) object).get("nns") != null) {
@@ -106,9 +176,12 @@ public class ServiceBasedNamingStore implements NamingStore {
         return cpe;
     }
 
-    private Object lookup(final String name, final ServiceName lookupName, boolean dereference) throws NamingException {
+    private Object lookup(final Name name, final ServiceName lookupName, boolean dereference) throws NamingException {
+        return lookup(name, serviceRegistry.getService(lookupName), dereference);
+    }
+
+    private Object lookup(final Name name, final ServiceController<?> controller, boolean dereference) throws NamingException {
         try {
-            final ServiceController<?> controller = serviceRegistry.getService(lookupName);
             if (controller != null) {
                 final Object object = controller.getValue();
                 if (dereference && object instanceof ManagedReferenceFactory) {
@@ -132,13 +205,13 @@ public class ServiceBasedNamingStore implements NamingStore {
                 return null;
             }
         } catch (IllegalStateException e) {
-            NameNotFoundException n = new NameNotFoundException(name);
+            NameNotFoundException n = new NameNotFoundException(name.toString());
             n.initCause(e);
             throw n;
         } catch (SecurityException ex) {
             throw ex;
         } catch (Throwable t) {
-            throw NamingLogger.ROOT_LOGGER.lookupError(t, name);
+            throw NamingLogger.ROOT_LOGGER.lookupError(t, name.toString());
         }
     }
 
@@ -148,7 +221,7 @@ public class ServiceBasedNamingStore implements NamingStore {
         boolean isContextBinding = false;
         if (floor != null && floor.isParentOf(lookupName)) {
             // Parent might be a reference or a link
-            Object obj = lookup(name.toString(), floor, true);
+            Object obj = lookup(name, floor, true);
             if (obj instanceof NamingContext) {
                 isContextBinding = true;
             } else if (obj != null) {
@@ -165,7 +238,7 @@ public class ServiceBasedNamingStore implements NamingStore {
             if (childParts.length > lookupParts.length + 1) {
                 childContexts.add(childParts[lookupParts.length]);
             } else {
-                final Object binding = lookup(name.toString(), child, false);
+                final Object binding = lookup(name, child, false);
                 if (binding != null) {
                     final String bindingType;
                     if (binding instanceof ContextListManagedReferenceFactory) {
@@ -193,7 +266,7 @@ public class ServiceBasedNamingStore implements NamingStore {
         boolean isContextBinding = false;
         if (floor != null && floor.isParentOf(lookupName)) {
             // Parent might be a reference or a link
-            Object obj = lookup(name.toString(), floor, true);
+            Object obj = lookup(name, floor, true);
             if (obj instanceof NamingContext) {
                 isContextBinding = true;
             } else if (obj != null) {
@@ -209,7 +282,7 @@ public class ServiceBasedNamingStore implements NamingStore {
             if (childParts.length > lookupParts.length + 1) {
                 childContexts.add(childParts[lookupParts.length]);
             } else {
-                final Object binding = lookup(name.toString(), child, true);
+                final Object binding = lookup(name, child, true);
                 results.add(new Binding(childParts[childParts.length - 1], binding));
             }
         }
@@ -240,6 +313,7 @@ public class ServiceBasedNamingStore implements NamingStore {
 
     public void close() throws NamingException {
         boundServices.clear();
+        clearResolvedBindings();
     }
 
     public void addNamingListener(Name target, int scope, NamingListener listener) {
@@ -258,6 +332,12 @@ public class ServiceBasedNamingStore implements NamingStore {
 
     public void remove(final ServiceName serviceName) {
         boundServices.remove(serviceName);
+        final Set<Name> names = resolvedNames.remove(serviceName);
+        if (names != null) {
+            for (Name name : names) {
+                resolvedBindings.remove(name);
+            }
+        }
     }
 
     protected ServiceName buildServiceName(final Name name) {
@@ -585,4 +585,15 @@ public interface NamingLogger extends BasicLogger {
 
     @Message(id = 67, value = "Failed to stop remote naming service")
     IllegalStateException failedToStopRemoteNamingService(@Cause Throwable cause);
+
+    /**
+     * Logs a warning message indicating a naming listener failed to handle an event.
+     *
+     * @param cause the cause of the error.
+     * @param event the type of the event.
+     * @param name  the name of the object the event is about.
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 68, value = "Failed to deliver naming event %d for %s")
+    void failedToDeliverNamingEvent(@Cause Throwable cause, int event, String name);
 }
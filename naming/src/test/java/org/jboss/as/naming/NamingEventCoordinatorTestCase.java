@@ -17,6 +17,9 @@ import javax.naming.event.ObjectChangeListener;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
@@ -144,6 +147,122 @@ public class NamingEventCoordinatorTestCase {
         assertEquals(1, subtreeListenerThree.capturedEvents.size());
     }
 
+    @Test
+    public void testBatchedEventsAreDeliveredInOrder() throws Exception {
+        final NamingEventCoordinator coordinator = new NamingEventCoordinator();
+
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CollectingListener blockingListener = new CollectingListener(1) {
+            @Override
+            public void objectAdded(NamingEvent evt) {
+                super.objectAdded(evt);
+                blocked.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        coordinator.addListener("blocking", EventContext.OBJECT_SCOPE, blockingListener);
+        coordinator.fireEvent(context, new CompositeName("blocking"), null, null, NamingEvent.OBJECT_ADDED, "bind", EventContext.OBJECT_SCOPE);
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+        // events fired while the delivery thread is busy are queued, and delivered by the pending drain
+        final int events = 1000;
+        final CollectingListener listener = new CollectingListener(events);
+        coordinator.addListener("test", EventContext.ONELEVEL_SCOPE, listener);
+        for (int i = 0; i < events; i++) {
+            coordinator.fireEvent(context, new CompositeName("test/" + i), null, null, NamingEvent.OBJECT_ADDED, Integer.toString(i), EventContext.ONELEVEL_SCOPE);
+        }
+        release.countDown();
+
+        assertTrue(listener.latch.await(5, TimeUnit.SECONDS));
+        assertEquals(events, listener.capturedEvents.size());
+        for (int i = 0; i < events; i++) {
+            assertEquals(Integer.toString(i), listener.capturedEvents.get(i).getChangeInfo());
+        }
+    }
+
+    @Test
+    public void testFailingListenerDoesNotStopDelivery() throws Exception {
+        final NamingEventCoordinator coordinator = new NamingEventCoordinator();
+
+        final CollectingListener failingListener = new CollectingListener(0) {
+            @Override
+            public void objectAdded(NamingEvent evt) {
+                throw new IllegalStateException();
+            }
+        };
+        coordinator.addListener("failing", EventContext.OBJECT_SCOPE, failingListener);
+        final CollectingListener listener = new CollectingListener(1);
+        coordinator.addListener("test", EventContext.OBJECT_SCOPE, listener);
+
+        coordinator.fireEvent(context, new CompositeName("failing"), null, null, NamingEvent.OBJECT_ADDED, "bind", EventContext.OBJECT_SCOPE);
+        coordinator.fireEvent(context, new CompositeName("test"), null, null, NamingEvent.OBJECT_ADDED, "bind", EventContext.OBJECT_SCOPE);
+
+        assertTrue(listener.latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, listener.capturedEvents.size());
+    }
+
+    @Test
+    public void testConcurrentAddAndRemoveListeners() throws Exception {
+        final NamingEventCoordinator coordinator = new NamingEventCoordinator();
+
+        final int threads = 8;
+        final int iterations = 500;
+        final CollectingListener[] retainedListeners = new CollectingListener[threads];
+        final CollectingListener[] removedListeners = new CollectingListener[threads];
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < threads; t++) {
+                final CollectingListener retained = new CollectingListener(1);
+                final CollectingListener removed = new CollectingListener(0);
+                retainedListeners[t] = retained;
+                removedListeners[t] = removed;
+                final String target = "test/" + (t % 2);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        coordinator.addListener(target, EventContext.OBJECT_SCOPE, removed);
+                        coordinator.addListener("test", EventContext.SUBTREE_SCOPE, removed);
+                        coordinator.addListener(target, EventContext.OBJECT_SCOPE, retained);
+                        coordinator.removeListener(removed);
+                        coordinator.removeListener(retained);
+                    }
+                    coordinator.addListener(target, EventContext.OBJECT_SCOPE, retained);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        coordinator.fireEvent(context, new CompositeName("test/0"), null, null, NamingEvent.OBJECT_ADDED, "bind", EventContext.OBJECT_SCOPE, EventContext.SUBTREE_SCOPE);
+        coordinator.fireEvent(context, new CompositeName("test/1"), null, null, NamingEvent.OBJECT_ADDED, "bind", EventContext.OBJECT_SCOPE, EventContext.SUBTREE_SCOPE);
+
+        for (CollectingListener listener : retainedListeners) {
+            assertTrue(listener.latch.await(5, TimeUnit.SECONDS));
+        }
+        // the events are delivered in order by a single thread, so a last event marks the end of the delivery
+        final CollectingListener lastListener = new CollectingListener(1);
+        coordinator.addListener("last", EventContext.OBJECT_SCOPE, lastListener);
+        coordinator.fireEvent(context, new CompositeName("last"), null, null, NamingEvent.OBJECT_ADDED, "bind", EventContext.OBJECT_SCOPE);
+        assertTrue(lastListener.latch.await(5, TimeUnit.SECONDS));
+
+        for (int t = 0; t < threads; t++) {
+            assertEquals(1, retainedListeners[t].capturedEvents.size());
+            assertTrue(removedListeners[t].capturedEvents.isEmpty());
+        }
+    }
+
     private class CollectingListener implements ObjectChangeListener, NamespaceChangeListener {
         private final List<NamingEvent> capturedEvents = new ArrayList<NamingEvent>();
 
@@ -14,12 +14,16 @@ import javax.naming.CompositeName;
 import javax.naming.Context;
 import javax.naming.Name;
 import javax.naming.NameClassPair;
+import javax.naming.NameNotFoundException;
 import javax.naming.NameParser;
 import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
 
+import org.jboss.msc.service.LifecycleEvent;
+import org.jboss.msc.service.LifecycleListener;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceContainer;
+import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -80,6 +84,62 @@ public class ServiceBasedNamingStoreTestCase {
         assertEquals(value, obj);
     }
 
+    @Test
+    public void testLookupRebinding() throws Exception {
+        final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
+        final Object value = new Object();
+        bindObject(bindingName, value);
+        assertEquals(value, store.lookup(new CompositeName("foo/bar")));
+        // resolved binding
+        assertEquals(value, store.lookup(new CompositeName("foo/bar")));
+
+        unbindObject(bindingName);
+        try {
+            store.lookup(new CompositeName("foo/bar"));
+            fail("Should have thrown NameNotFoundException");
+        } catch (NameNotFoundException expected) {
+        }
+
+        final Object newValue = new Object();
+        bindObject(bindingName, newValue);
+        assertEquals(newValue, store.lookup(new CompositeName("foo/bar")));
+    }
+
+    @Test
+    public void testLookupUnbindingAliasedNames() throws Exception {
+        final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
+        final Object value = new Object();
+        bindObject(bindingName, value);
+        // both names are resolved to the same binding
+        assertEquals(value, store.lookup(new CompositeName("foo/bar")));
+        assertEquals(value, store.lookup(new CompositeName("foo//bar")));
+
+        unbindObject(bindingName);
+        for (String name : new String[] { "foo/bar", "foo//bar" }) {
+            try {
+                store.lookup(new CompositeName(name));
+                fail("Should have thrown NameNotFoundException");
+            } catch (NameNotFoundException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void testLookupRemovedResolvedBinding() throws Exception {
+        final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
+        final Object value = new Object();
+        bindObject(bindingName, value);
+        assertEquals(value, store.lookup(new CompositeName("foo/bar")));
+
+        // the binder service is replaced while its resolved binding is still cached, e.g. by an unbind racing with a lookup
+        removeService(bindingName);
+        final Object newValue = new Object();
+        installService(bindingName, newValue);
+        assertEquals(newValue, store.lookup(new CompositeName("foo/bar")));
+        // the binding is resolved again with the new binder service
+        assertEquals(newValue, store.lookup(new CompositeName("foo/bar")));
+    }
+
     @Test
     public void testLookupParentContext() throws Exception {
         final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
@@ -380,11 +440,37 @@ public class ServiceBasedNamingStoreTestCase {
         fail("Child [" + name + "] not found in [" + list + "]");
     }
 
+    private void unbindObject(final ServiceName serviceName) throws Exception {
+        removeService(serviceName);
+        // like the binder service, once stopped
+        store.remove(serviceName);
+    }
+
+    private void removeService(final ServiceName serviceName) throws Exception {
+        final ServiceController<?> controller = container.getRequiredService(serviceName);
+        final CountDownLatch latch = new CountDownLatch(1);
+        controller.addListener(new LifecycleListener() {
+            @Override
+            public void handleEvent(ServiceController<?> controller, LifecycleEvent event) {
+                if (event == LifecycleEvent.REMOVED) {
+                    latch.countDown();
+                }
+            }
+        });
+        controller.setMode(ServiceController.Mode.REMOVE);
+        latch.await();
+    }
+
     private void bindObject(final ServiceName serviceName, final Object value) throws Exception {
+        installService(serviceName, value);
+        // like the binder service, once started
+        store.add(serviceName);
+    }
+
+    private void installService(final ServiceName serviceName, final Object value) throws Exception {
         final CountDownLatch latch = new CountDownLatch(1);
         container.addService(serviceName, new Service<ManagedReferenceFactory>() {
             public void start(StartContext context) throws StartException {
-                store.add(serviceName);
                 latch.countDown();
             }
 
@@ -78,11 +78,13 @@ public class TransactionManagerService implements Service {
                 }
             }
         });
+        LocalTransactionContext.getCurrent().registerCreationListener(TransactionTimingStatistics.getInstance());
         txnManagerConsumer.accept(ContextTransactionManager.getInstance());
     }
 
     @Override
     public void stop(final StopContext stopContext) {
+        LocalTransactionContext.getCurrent().removeCreationListener(TransactionTimingStatistics.getInstance());
         txnManagerConsumer.accept(null);
     }
 
@@ -0,0 +1,333 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.service;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+import jakarta.transaction.RollbackException;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.SystemException;
+
+import com.arjuna.ats.arjuna.common.arjPropertyManager;
+import org.jboss.as.ee.utils.LatencyHistogram;
+import org.wildfly.transaction.client.AbstractTransaction;
+import org.wildfly.transaction.client.CreationListener;
+
+/**
+ * Records the latencies of the committed transactions, in nanoseconds, while transaction statistics are enabled:
+ * <ul>
+ * <li>the transaction time, from the creation of the transaction until the end of its completion</li>
+ * <li>the completion time, from the start of the before completion phase, i.e. the call of commit, until the end of the
+ * completion, which includes the before completion synchronizations, the prepare and commit of the resources and the write of
+ * the transaction log</li>
+ * <li>the prepare time, from the start of the prepare of the first {@link XAResource} until the end of the prepare of the
+ * last one</li>
+ * <li>the log write time, from the end of the prepare phase until the start of the commit of the first {@link XAResource},
+ * i.e. the write of the transaction log to the object store</li>
+ * <li>the prepare and second phase commit times of each {@link XAResource}, by name, e.g. the JNDI name of a datasource; the
+ * commits in one phase, which include the work of a prepare, are not recorded, so as not to skew the commit times</li>
+ * </ul>
+ * <p>
+ * Registering a synchronization on a transaction costs an allocation and a slot in its list of synchronizations, so the
+ * transaction and completion times are only recorded for a random sample of one in {@value #SAMPLING_RATE} transactions, which
+ * does not bias their percentiles.
+ * </p>
+ * <p>
+ * The XA timings are recorded by the {@link XAResource}s {@linkplain #timed(XAResource, String) wrapped} by the resource
+ * adapters. The prepare and log write times assume that the resources are prepared and committed by the thread completing the
+ * transaction, which is the default; they are not recorded for transactions committed in one phase, or whose resources are
+ * committed asynchronously. The prepare phase in progress is tracked by the thread until its first commit or rollback, or until
+ * a prepare fails or is voted read-only while no resource of the transaction voted to commit, since the transaction then has no
+ * resource left to commit on this thread. The prepare time of a transaction whose first resources vote read-only hence starts
+ * at its first resource voting to commit.
+ * </p>
+ */
+public class TransactionTimingStatistics implements CreationListener {
+
+    static final int SAMPLING_RATE = 8;
+
+    private static final TransactionTimingStatistics INSTANCE = new TransactionTimingStatistics();
+
+    private final LatencyHistogram transactionTimes = new LatencyHistogram();
+    private final LatencyHistogram completionTimes = new LatencyHistogram();
+    private final LatencyHistogram prepareTimes = new LatencyHistogram();
+    private final LatencyHistogram logWriteTimes = new LatencyHistogram();
+    private final Map<String, ResourceTimes> resourceTimes = new ConcurrentHashMap<>();
+    // the two phase commit in progress on the current thread
+    final ThreadLocal<Phases> currentPhases = new ThreadLocal<>();
+
+    TransactionTimingStatistics() {
+    }
+
+    public static TransactionTimingStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void transactionCreated(final AbstractTransaction transaction, final CreatedBy createdBy) {
+        if (!isEnabled() || ThreadLocalRandom.current().nextInt(SAMPLING_RATE) != 0) {
+            return;
+        }
+        try {
+            transaction.registerSynchronization(new TimingSynchronization(System.nanoTime()));
+        } catch (RollbackException | SystemException | IllegalStateException e) {
+            // the transaction is not active anymore, there is nothing to record
+        }
+    }
+
+    /**
+     * Wraps the specified resource so that the latencies of its prepare and commit are recorded, while transaction statistics
+     * are enabled.
+     *
+     * @param resource a resource
+     * @param name the name of the resource, e.g. the JNDI name of its connection factory, or {@code null} to name it after its
+     *        class
+     * @return the wrapped resource
+     */
+    public XAResource timed(final XAResource resource, final String name) {
+        return (resource instanceof TimedXAResource) ? resource : new TimedXAResource(resource, name);
+    }
+
+    /**
+     * @param percentile a percentile, between 0 and 100
+     * @return the specified percentile of the transaction times, in nanoseconds, or 0 if there is none
+     */
+    public long getTransactionTime(final double percentile) {
+        return transactionTimes.getSnapshot().getPercentile(percentile);
+    }
+
+    /**
+     * @param percentile a percentile, between 0 and 100
+     * @return the specified percentile of the completion times, in nanoseconds, or 0 if there is none
+     */
+    public long getCompletionTime(final double percentile) {
+        return completionTimes.getSnapshot().getPercentile(percentile);
+    }
+
+    /**
+     * @param percentile a percentile, between 0 and 100
+     * @return the specified percentile of the prepare phase times, in nanoseconds, or 0 if there is none
+     */
+    public long getPrepareTime(final double percentile) {
+        return prepareTimes.getSnapshot().getPercentile(percentile);
+    }
+
+    /**
+     * @param percentile a percentile, between 0 and 100
+     * @return the specified percentile of the transaction log write times, in nanoseconds, or 0 if there is none
+     */
+    public long getLogWriteTime(final double percentile) {
+        return logWriteTimes.getSnapshot().getPercentile(percentile);
+    }
+
+    /**
+     * @return the prepare and commit times of the resources, by name
+     */
+    public Map<String, ResourceTimes> getResourceTimes() {
+        return resourceTimes;
+    }
+
+    private static boolean isEnabled() {
+        return arjPropertyManager.getCoordinatorEnvironmentBean().isEnableStatistics();
+    }
+
+    /**
+     * The prepare and commit times of a resource.
+     */
+    public static class ResourceTimes {
+        private final LatencyHistogram prepareTimes = new LatencyHistogram();
+        private final LatencyHistogram commitTimes = new LatencyHistogram();
+
+        /**
+         * @param percentile a percentile, between 0 and 100
+         * @return the specified percentile of the prepare times of the resource, in nanoseconds, or 0 if there is none
+         */
+        public long getPrepareTime(final double percentile) {
+            return prepareTimes.getSnapshot().getPercentile(percentile);
+        }
+
+        /**
+         * @param percentile a percentile, between 0 and 100
+         * @return the specified percentile of the second phase commit times of the resource, in nanoseconds, or 0 if there is none
+         */
+        public long getCommitTime(final double percentile) {
+            return commitTimes.getSnapshot().getPercentile(percentile);
+        }
+    }
+
+    private class TimingSynchronization implements Synchronization {
+        private final long creationTime;
+        private volatile long completionStartTime;
+
+        private TimingSynchronization(final long creationTime) {
+            this.creationTime = creationTime;
+        }
+
+        @Override
+        public void beforeCompletion() {
+            completionStartTime = System.nanoTime();
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            // before completion is not called for the transactions rolled back, and the latencies of those are not relevant
+            if (status == Status.STATUS_COMMITTED) {
+                final long now = System.nanoTime();
+                transactionTimes.record(now - creationTime);
+                final long start = completionStartTime;
+                if (start != 0) {
+                    completionTimes.record(now - start);
+                }
+            }
+        }
+    }
+
+    /**
+     * The prepare phase of a transaction, from the start of the prepare of its first resource until the end of the prepare of
+     * its last one.
+     */
+    static class Phases {
+        private final byte[] globalTransactionId;
+        private final long prepareStartTime;
+        private long prepareEndTime;
+        // whether a resource voted to commit, so that the transaction will be committed or rolled back on this thread
+        private boolean prepared;
+
+        private Phases(final byte[] globalTransactionId, final long prepareStartTime) {
+            this.globalTransactionId = globalTransactionId;
+            this.prepareStartTime = prepareStartTime;
+        }
+
+        private boolean isPhaseOf(final Xid xid) {
+            return Arrays.equals(globalTransactionId, xid.getGlobalTransactionId());
+        }
+    }
+
+    private class TimedXAResource implements XAResource {
+        private final XAResource resource;
+        private final ResourceTimes times;
+
+        private TimedXAResource(final XAResource resource, final String name) {
+            this.resource = resource;
+            this.times = resourceTimes.computeIfAbsent((name != null) ? name : resource.getClass().getName(), key -> new ResourceTimes());
+        }
+
+        @Override
+        public int prepare(final Xid xid) throws XAException {
+            if (!isEnabled()) {
+                return resource.prepare(xid);
+            }
+            final long start = System.nanoTime();
+            Phases phases = currentPhases.get();
+            if (phases == null || !phases.isPhaseOf(xid)) {
+                // the first resource of the transaction, the previous phases of the thread were either recorded or abandoned
+                phases = new Phases(xid.getGlobalTransactionId(), start);
+                currentPhases.set(phases);
+            }
+            final int vote;
+            try {
+                vote = resource.prepare(xid);
+            } catch (XAException | RuntimeException e) {
+                // the transaction is rolled back, possibly by recovery
+                currentPhases.remove();
+                throw e;
+            }
+            final long end = System.nanoTime();
+            times.prepareTimes.record(end - start);
+            phases.prepareEndTime = end;
+            if (vote == XA_OK) {
+                phases.prepared = true;
+            } else if (!phases.prepared) {
+                // unless another resource votes to commit, nothing will be committed nor rolled back on this thread
+                currentPhases.remove();
+            }
+            return vote;
+        }
+
+        @Override
+        public void commit(final Xid xid, final boolean onePhase) throws XAException {
+            if (!isEnabled()) {
+                resource.commit(xid, onePhase);
+                return;
+            }
+            if (onePhase) {
+                // a commit in one phase includes the work of a prepare, it is not comparable with a second phase commit
+                resource.commit(xid, true);
+                return;
+            }
+            final long start = System.nanoTime();
+            final Phases phases = currentPhases.get();
+            if (phases != null && phases.isPhaseOf(xid)) {
+                // the first commit of the transaction ends its prepare phase and its log write
+                currentPhases.remove();
+                prepareTimes.record(phases.prepareEndTime - phases.prepareStartTime);
+                logWriteTimes.record(start - phases.prepareEndTime);
+            }
+            try {
+                resource.commit(xid, false);
+            } finally {
+                times.commitTimes.record(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void rollback(final Xid xid) throws XAException {
+            final Phases phases = currentPhases.get();
+            if (phases != null && phases.isPhaseOf(xid)) {
+                currentPhases.remove();
+            }
+            resource.rollback(xid);
+        }
+
+        @Override
+        public void start(final Xid xid, final int flags) throws XAException {
+            resource.start(xid, flags);
+        }
+
+        @Override
+        public void end(final Xid xid, final int flags) throws XAException {
+            resource.end(xid, flags);
+        }
+
+        @Override
+        public void forget(final Xid xid) throws XAException {
+            resource.forget(xid);
+        }
+
+        @Override
+        public Xid[] recover(final int flag) throws XAException {
+            return resource.recover(flag);
+        }
+
+        @Override
+        public boolean isSameRM(final XAResource xaResource) throws XAException {
+            return resource.isSameRM((xaResource instanceof TimedXAResource) ? ((TimedXAResource) xaResource).resource : xaResource);
+        }
+
+        @Override
+        public int getTransactionTimeout() throws XAException {
+            return resource.getTransactionTimeout();
+        }
+
+        @Override
+        public boolean setTransactionTimeout(final int seconds) throws XAException {
+            return resource.setTransactionTimeout(seconds);
+        }
+
+        @Override
+        public String toString() {
+            return resource.toString();
+        }
+    }
+}
@@ -35,9 +35,16 @@ import org.wildfly.transaction.client.ContextTransactionSynchronizationRegistry;
  */
 public class TransactionSynchronizationRegistryWrapper implements TransactionSynchronizationRegistry {
 
+    // the number of locks guarding the creation of the per transaction synchronization list, must be a power of 2
+    private static final int LOCK_STRIPES = 64;
+
     private final Object key = new Object();
+    private final Object[] locks = new Object[LOCK_STRIPES];
 
     public TransactionSynchronizationRegistryWrapper() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
     }
 
     @Override
@@ -51,7 +58,7 @@ public class TransactionSynchronizationRegistryWrapper implements TransactionSyn
             JCAOrderedLastSynchronizationList jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.getResource(key);
             if (jcaOrderedLastSynchronization == null) {
                 final ContextTransactionSynchronizationRegistry tsr = ContextTransactionSynchronizationRegistry.getInstance();
-                synchronized (key) {
+                synchronized (lock(tsr.getTransactionKey())) {
                     jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.getResource(key);
                     if (jcaOrderedLastSynchronization == null) {
                         jcaOrderedLastSynchronization = new JCAOrderedLastSynchronizationList();
@@ -66,6 +73,15 @@ public class TransactionSynchronizationRegistryWrapper implements TransactionSyn
         }
     }
 
+    /**
+     * Returns the lock guarding the creation of the synchronization list of the transaction with the specified key, so that
+     * the first registrations of concurrent transactions do not contend on a single monitor.
+     */
+    private Object lock(Object transactionKey) {
+        int hash = transactionKey.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+    }
+
     @Override
     public Object getTransactionKey() {
         return ContextTransactionSynchronizationRegistry.getInstance().getTransactionKey();
@@ -70,6 +70,22 @@ interface CommonAttributes {
     String NUMBER_OF_RESOURCE_ROLLBACKS = "number-of-resource-rollbacks";
     String NUMBER_OF_SYSTEM_ROLLBACKS = "number-of-system-rollbacks";
     String AVERAGE_COMMIT_TIME = "average-commit-time";
+    String TRANSACTION_TIME_P50 = "transaction-time-p50";
+    String TRANSACTION_TIME_P95 = "transaction-time-p95";
+    String TRANSACTION_TIME_P99 = "transaction-time-p99";
+    String COMPLETION_TIME_P50 = "completion-time-p50";
+    String COMPLETION_TIME_P95 = "completion-time-p95";
+    String COMPLETION_TIME_P99 = "completion-time-p99";
+    String PREPARE_TIME_P50 = "prepare-time-p50";
+    String PREPARE_TIME_P95 = "prepare-time-p95";
+    String PREPARE_TIME_P99 = "prepare-time-p99";
+    String LOG_WRITE_TIME_P50 = "log-write-time-p50";
+    String LOG_WRITE_TIME_P95 = "log-write-time-p95";
+    String LOG_WRITE_TIME_P99 = "log-write-time-p99";
+    String COMMIT_TIME_P50 = "commit-time-p50";
+    String COMMIT_TIME_P95 = "commit-time-p95";
+    String COMMIT_TIME_P99 = "commit-time-p99";
+    String XA_RESOURCES = "xa-resources";
 
 
     String PARTICIPANT = "participant";
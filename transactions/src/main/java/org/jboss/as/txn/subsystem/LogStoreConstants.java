@@ -9,6 +9,8 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -148,6 +150,34 @@ class LogStoreConstants {
             .setMeasurementUnit(MeasurementUnit.NONE)
             .build();
 
+    // parameters of the probe operation, to page and filter the transactions loaded into the model
+    static final SimpleAttributeDefinition PROBE_OFFSET = new SimpleAttributeDefinitionBuilder("offset", ModelType.INT)
+            .setRequired(false)
+            .setDefaultValue(ModelNode.ZERO)
+            .setValidator(new IntRangeValidator(0))
+            .build();
+
+    static final SimpleAttributeDefinition PROBE_LIMIT = new SimpleAttributeDefinitionBuilder("limit", ModelType.INT)
+            .setRequired(false)
+            .setValidator(new IntRangeValidator(1))
+            .build();
+
+    static final SimpleAttributeDefinition PROBE_TRANSACTION_TYPE = new SimpleAttributeDefinitionBuilder("transaction-type", ModelType.STRING)
+            .setRequired(false)
+            .setValidator(new StringLengthValidator(1, true))
+            .build();
+
+    static final SimpleAttributeDefinition PROBE_MIN_AGE = new SimpleAttributeDefinitionBuilder("min-age-in-seconds", ModelType.LONG)
+            .setRequired(false)
+            .setMeasurementUnit(MeasurementUnit.SECONDS)
+            .setValidator(new LongRangeValidator(0))
+            .build();
+
+    static final SimpleAttributeDefinition PROBE_PARTICIPANT_JNDI_NAME = new SimpleAttributeDefinitionBuilder("participant-jndi-name", ModelType.STRING)
+            .setRequired(false)
+            .setValidator(new StringLengthValidator(1, true))
+            .build();
+
     static String jmxNameToModelName(Map<String, String> map, String jmxName) {
         for(Map.Entry<String, String> e : map.entrySet()) {
             if (jmxName.equals(e.getValue()))
@@ -40,6 +40,9 @@ public class LogStoreDefinition extends SimpleResourceDefinition {
     public void registerOperations(ManagementResourceRegistration resourceRegistration) {
         super.registerOperations(resourceRegistration);
         final OperationDefinition probe = new SimpleOperationDefinitionBuilder(LogStoreConstants.PROBE, getResourceDescriptionResolver())
+                                .setParameters(LogStoreConstants.PROBE_OFFSET, LogStoreConstants.PROBE_LIMIT,
+                                        LogStoreConstants.PROBE_TRANSACTION_TYPE, LogStoreConstants.PROBE_MIN_AGE,
+                                        LogStoreConstants.PROBE_PARTICIPANT_JNDI_NAME)
                                 .withFlag(OperationEntry.Flag.HOST_CONTROLLER_ONLY) // TODO WFLY-8852 decide how we want to handle this in a domain
                                 .setRuntimeOnly()
                                 .setReadOnly()
@@ -23,14 +23,19 @@ import javax.management.MBeanInfo;
 import javax.management.MBeanServer;
 import javax.management.MBeanServerConnection;
 import javax.management.MalformedObjectNameException;
-import javax.management.ObjectInstance;
 import javax.management.ObjectName;
 import javax.management.ReflectionException;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 /**
  * Handler for exposing transaction logs
@@ -45,6 +50,9 @@ public class LogStoreProbeHandler implements OperationStepHandler {
     static final String JNDI_PROPNAME =
             LogStoreConstants.MODEL_TO_JMX_PARTICIPANT_NAMES.get(LogStoreConstants.JNDI_ATTRIBUTE);
 
+    // whether the object store was probed since the start of the server, so that the next pages can be read from its MBeans
+    private volatile boolean probed;
+
     private Map<String, String> getMBeanValues(MBeanServerConnection cnx, ObjectName on, String ... attributeNames)
             throws InstanceNotFoundException, IOException, ReflectionException, IntrospectionException {
 
@@ -79,15 +87,13 @@ public class LogStoreProbeHandler implements OperationStepHandler {
         }
     }
 
-    private void addParticipants(final Resource parent, Set<ObjectInstance> participants, MBeanServer mbs)
-            throws IntrospectionException, InstanceNotFoundException, IOException, ReflectionException {
+    private void addParticipants(final Resource parent, List<ObjectName> participants, List<Map<String, String>> participantAttributes) {
         int i = 1;
 
-        for (ObjectInstance participant : participants) {
-            final Resource resource = new LogStoreResource.LogStoreRuntimeResource(participant.getObjectName());
+        for (int p = 0; p < participants.size(); p++) {
+            final Resource resource = new LogStoreResource.LogStoreRuntimeResource(participants.get(p));
             final ModelNode model = resource.getModel();
-            Map<String, String> pAttributes = getMBeanValues(mbs,  participant.getObjectName(),
-                    LogStoreConstants.PARTICIPANT_JMX_NAMES);
+            Map<String, String> pAttributes = participantAttributes.get(p);
             String pAddress = pAttributes.get(JNDI_PROPNAME);
 
             if (pAddress == null || pAddress.length() == 0) {
@@ -103,47 +109,107 @@ public class LogStoreProbeHandler implements OperationStepHandler {
         }
     }
 
-    private void addTransactions(final Resource parent, Set<ObjectInstance> transactions, MBeanServer mbs)
+    private List<Map<String, String>> getParticipantValues(MBeanServer mbs, List<ObjectName> participants)
+            throws IntrospectionException, InstanceNotFoundException, IOException, ReflectionException {
+        List<Map<String, String>> values = new ArrayList<Map<String, String>>(participants.size());
+
+        for (ObjectName participant : participants)
+            values.add(getMBeanValues(mbs, participant, LogStoreConstants.PARTICIPANT_JMX_NAMES));
+
+        return values;
+    }
+
+    private void addTransactions(final Resource parent, Set<ObjectName> names, MBeanServer mbs, ProbeFilter filter)
             throws IntrospectionException, InstanceNotFoundException, IOException,
             ReflectionException, MalformedObjectNameException {
 
-        for (ObjectInstance oi : transactions) {
-            String transactionId = oi.getObjectName().getCanonicalName();
+        // Sort the transactions, for a stable paging, and group the participants by transaction from the same query,
+        // rather than querying the participants of each transaction
+        final SortedSet<ObjectName> transactions = new TreeSet<ObjectName>();
+        final Map<ObjectName, List<ObjectName>> participantsByTransaction = new HashMap<ObjectName, List<ObjectName>>();
+
+        for (ObjectName on : names) {
+            String transactionId = on.getCanonicalName();
+
+            if (on.getKeyProperty("puid") != null) {
+                Hashtable<String, String> transactionKeys = new Hashtable<String, String>(on.getKeyPropertyList());
+                transactionKeys.remove("puid");
+                ObjectName transactionName = new ObjectName(on.getDomain(), transactionKeys);
+                List<ObjectName> participants = participantsByTransaction.get(transactionName);
+                if (participants == null) {
+                    participants = new ArrayList<ObjectName>();
+                    participantsByTransaction.put(transactionName, participants);
+                }
+                participants.add(on);
+            } else if (!transactionId.contains("puid") && transactionId.contains("itype")) {
+                transactions.add(on);
+            }
+        }
 
-            if (!transactionId.contains("puid") && transactionId.contains("itype")) {
-                final Resource transaction = new LogStoreResource.LogStoreRuntimeResource(oi.getObjectName());
-                final ModelNode model = transaction.getModel();
+        int matched = 0;
+        int loaded = 0;
 
-                Map<String, String> tAttributes = getMBeanValues(
-                        mbs,  oi.getObjectName(), LogStoreConstants.TXN_JMX_NAMES);
-                String txnId = tAttributes.get("Id");
+        for (ObjectName on : transactions) {
+            if (filter.limit > 0 && loaded >= filter.limit)
+                break;
 
-                addAttributes(model, LogStoreConstants.MODEL_TO_JMX_TXN_NAMES, tAttributes);
-                // model.get(LogStoreConstants.JMX_ON_ATTRIBUTE).set(transactionId);
+            Map<String, String> tAttributes = getMBeanValues(
+                    mbs,  on, LogStoreConstants.TXN_JMX_NAMES);
 
-                String participantQuery =  transactionId + ",puid=*";
-                Set<ObjectInstance> participants = mbs.queryMBeans(new ObjectName(participantQuery), null);
+            if (!filter.acceptsTransaction(tAttributes))
+                continue;
 
-                addParticipants(transaction, participants, mbs);
+            List<ObjectName> participants = participantsByTransaction.get(on);
+            if (participants == null)
+                participants = Collections.emptyList();
+            Collections.sort(participants);
+            List<Map<String, String>> pAttributes = null;
 
-                final PathElement element = PathElement.pathElement(LogStoreConstants.TRANSACTIONS, txnId);
-                parent.registerChild(element, transaction);
+            if (filter.participantJndiName != null) {
+                pAttributes = getParticipantValues(mbs, participants);
+                if (!filter.acceptsParticipants(pAttributes))
+                    continue;
             }
+
+            // skip the matching transactions before the requested page
+            if (matched++ < filter.offset)
+                continue;
+
+            final Resource transaction = new LogStoreResource.LogStoreRuntimeResource(on);
+            final ModelNode model = transaction.getModel();
+            String txnId = tAttributes.get("Id");
+
+            addAttributes(model, LogStoreConstants.MODEL_TO_JMX_TXN_NAMES, tAttributes);
+            // model.get(LogStoreConstants.JMX_ON_ATTRIBUTE).set(transactionId);
+
+            if (pAttributes == null)
+                pAttributes = getParticipantValues(mbs, participants);
+
+            addParticipants(transaction, participants, pAttributes);
+
+            final PathElement element = PathElement.pathElement(LogStoreConstants.TRANSACTIONS, txnId);
+            parent.registerChild(element, transaction);
+            loaded++;
         }
     }
 
-    private Resource probeTransactions(MBeanServer mbs, boolean exposeAllLogs)
+    Resource probeTransactions(MBeanServer mbs, boolean exposeAllLogs, ProbeFilter filter)
             throws OperationFailedException {
         try {
             ObjectName on = new ObjectName(osMBeanName);
 
-            mbs.setAttribute(on, new javax.management.Attribute("ExposeAllRecordsAsMBeans", Boolean.valueOf(exposeAllLogs)));
-            mbs.invoke(on, "probe", null, null);
+            // probing registers an MBean for every record of the object store, so the next pages are read from the MBeans
+            // registered by the probe of the first page, rather than probing the whole object store again for each page
+            if (filter.offset == 0 || !probed) {
+                mbs.setAttribute(on, new javax.management.Attribute("ExposeAllRecordsAsMBeans", Boolean.valueOf(exposeAllLogs)));
+                mbs.invoke(on, "probe", null, null);
+                probed = true;
+            }
 
-            Set<ObjectInstance> transactions = mbs.queryMBeans(new ObjectName(osMBeanName +  ",*"), null);
+            Set<ObjectName> names = mbs.queryNames(new ObjectName(osMBeanName +  ",*"), null);
 
             final Resource resource = Resource.Factory.create();
-            addTransactions(resource, transactions, mbs);
+            addTransactions(resource, names, mbs, filter);
             return resource;
 
         } catch (JMException e) {
@@ -167,7 +233,8 @@ public class LogStoreProbeHandler implements OperationStepHandler {
             // Get the expose-all-logs parameter value
             final ModelNode subModel = context.readResource(PathAddress.EMPTY_ADDRESS).getModel();
             final boolean exposeAllLogs = LogStoreConstants.EXPOSE_ALL_LOGS.resolveModelAttribute(context, subModel).asBoolean();
-            final Resource storeModel = probeTransactions(mbs, exposeAllLogs);
+            final ProbeFilter filter = new ProbeFilter(context, operation);
+            final Resource storeModel = probeTransactions(mbs, exposeAllLogs, filter);
             // Replace the current model with an updated one
             context.acquireControllerLock();
             // WFLY-3020 -- don't drop the root model
@@ -177,4 +244,57 @@ public class LogStoreProbeHandler implements OperationStepHandler {
         context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
     }
 
+    /**
+     * The paging and filtering parameters of the probe operation.
+     */
+    static class ProbeFilter {
+        private final int offset;
+        // 0 if all the matching transactions are loaded
+        private final int limit;
+        private final String transactionType;
+        private final long minAge;
+        private final String participantJndiName;
+
+        ProbeFilter(OperationContext context, ModelNode operation) throws OperationFailedException {
+            this(LogStoreConstants.PROBE_OFFSET.resolveModelAttribute(context, operation).asInt(),
+                    LogStoreConstants.PROBE_LIMIT.resolveModelAttribute(context, operation).asInt(0),
+                    LogStoreConstants.PROBE_TRANSACTION_TYPE.resolveModelAttribute(context, operation).asStringOrNull(),
+                    LogStoreConstants.PROBE_MIN_AGE.resolveModelAttribute(context, operation).asLong(0),
+                    LogStoreConstants.PROBE_PARTICIPANT_JNDI_NAME.resolveModelAttribute(context, operation).asStringOrNull());
+        }
+
+        ProbeFilter(int offset, int limit, String transactionType, long minAge, String participantJndiName) {
+            this.offset = offset;
+            this.limit = limit;
+            this.transactionType = transactionType;
+            this.minAge = minAge;
+            this.participantJndiName = participantJndiName;
+        }
+
+        boolean acceptsTransaction(Map<String, String> attributes) {
+            if (transactionType != null) {
+                String type = attributes.get("Type");
+                if (!transactionType.equals(type))
+                    return false;
+            }
+            if (minAge > 0) {
+                try {
+                    String age = attributes.get("AgeInSeconds");
+                    if (age == null || Long.parseLong(age) < minAge)
+                        return false;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean acceptsParticipants(List<Map<String, String>> participantAttributes) {
+            for (Map<String, String> attributes : participantAttributes) {
+                if (participantJndiName.equals(attributes.get(JNDI_PROPNAME)))
+                    return true;
+            }
+            return false;
+        }
+    }
 }
@@ -16,12 +16,15 @@ import java.util.Map;
 import com.arjuna.ats.arjuna.coordinator.TxStats;
 import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ObjectMapAttributeDefinition;
+import org.jboss.as.controller.ObjectTypeAttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.txn.logging.TransactionLogger;
+import org.jboss.as.txn.service.TransactionTimingStatistics;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
@@ -67,6 +70,31 @@ public class TxStatsHandler extends AbstractRuntimeOnlyHandler {
         AVERAGE_COMMIT_TIME(SimpleAttributeDefinitionBuilder.create(CommonAttributes.AVERAGE_COMMIT_TIME, ModelType.LONG, true)
                 .setAttributeGroup(CommonAttributes.STATISTICS)
                 .setMeasurementUnit(NANOSECONDS)
+                .build()),
+        TRANSACTION_TIME_P50(createPercentileMetric(CommonAttributes.TRANSACTION_TIME_P50)),
+        TRANSACTION_TIME_P95(createPercentileMetric(CommonAttributes.TRANSACTION_TIME_P95)),
+        TRANSACTION_TIME_P99(createPercentileMetric(CommonAttributes.TRANSACTION_TIME_P99)),
+        COMPLETION_TIME_P50(createPercentileMetric(CommonAttributes.COMPLETION_TIME_P50)),
+        COMPLETION_TIME_P95(createPercentileMetric(CommonAttributes.COMPLETION_TIME_P95)),
+        COMPLETION_TIME_P99(createPercentileMetric(CommonAttributes.COMPLETION_TIME_P99)),
+        PREPARE_TIME_P50(createPercentileMetric(CommonAttributes.PREPARE_TIME_P50)),
+        PREPARE_TIME_P95(createPercentileMetric(CommonAttributes.PREPARE_TIME_P95)),
+        PREPARE_TIME_P99(createPercentileMetric(CommonAttributes.PREPARE_TIME_P99)),
+        LOG_WRITE_TIME_P50(createPercentileMetric(CommonAttributes.LOG_WRITE_TIME_P50)),
+        LOG_WRITE_TIME_P95(createPercentileMetric(CommonAttributes.LOG_WRITE_TIME_P95)),
+        LOG_WRITE_TIME_P99(createPercentileMetric(CommonAttributes.LOG_WRITE_TIME_P99)),
+        XA_RESOURCES(ObjectMapAttributeDefinition.Builder.of(CommonAttributes.XA_RESOURCES,
+                ObjectTypeAttributeDefinition.Builder.of(CommonAttributes.XA_RESOURCES,
+                        createResourceMetric(CommonAttributes.PREPARE_TIME_P50),
+                        createResourceMetric(CommonAttributes.PREPARE_TIME_P95),
+                        createResourceMetric(CommonAttributes.PREPARE_TIME_P99),
+                        createResourceMetric(CommonAttributes.COMMIT_TIME_P50),
+                        createResourceMetric(CommonAttributes.COMMIT_TIME_P95),
+                        createResourceMetric(CommonAttributes.COMMIT_TIME_P99))
+                        .build())
+                .setRequired(false)
+                .setAttributeGroup(CommonAttributes.STATISTICS)
+                .setStorageRuntime()
                 .build());
 
         private static final Map<String, TxStat> MAP = new HashMap<String, TxStat>();
@@ -88,11 +116,26 @@ public class TxStatsHandler extends AbstractRuntimeOnlyHandler {
         public static synchronized TxStat getStat(final String stringForm) {
             return MAP.get(stringForm);
         }
+
+        private static AttributeDefinition createPercentileMetric(final String name) {
+            return SimpleAttributeDefinitionBuilder.create(name, ModelType.LONG, true)
+                    .setAttributeGroup(CommonAttributes.STATISTICS)
+                    .setMeasurementUnit(NANOSECONDS)
+                    .setFlags(GAUGE_METRIC).build();
+        }
+
+        private static AttributeDefinition createResourceMetric(final String name) {
+            return SimpleAttributeDefinitionBuilder.create(name, ModelType.LONG, true)
+                    .setMeasurementUnit(NANOSECONDS)
+                    .setStorageRuntime()
+                    .build();
+        }
     }
 
     public static final TxStatsHandler INSTANCE = new  TxStatsHandler();
 
     private final TxStats txStats = TxStats.getInstance();
+    private final TransactionTimingStatistics timingStats = TransactionTimingStatistics.getInstance();
 
     private TxStatsHandler() {
     }
@@ -140,6 +183,55 @@ public class TxStatsHandler extends AbstractRuntimeOnlyHandler {
                 case AVERAGE_COMMIT_TIME:
                     result.set(txStats.getAverageCommitTime());
                     break;
+                case TRANSACTION_TIME_P50:
+                    result.set(timingStats.getTransactionTime(50));
+                    break;
+                case TRANSACTION_TIME_P95:
+                    result.set(timingStats.getTransactionTime(95));
+                    break;
+                case TRANSACTION_TIME_P99:
+                    result.set(timingStats.getTransactionTime(99));
+                    break;
+                case COMPLETION_TIME_P50:
+                    result.set(timingStats.getCompletionTime(50));
+                    break;
+                case COMPLETION_TIME_P95:
+                    result.set(timingStats.getCompletionTime(95));
+                    break;
+                case COMPLETION_TIME_P99:
+                    result.set(timingStats.getCompletionTime(99));
+                    break;
+                case PREPARE_TIME_P50:
+                    result.set(timingStats.getPrepareTime(50));
+                    break;
+                case PREPARE_TIME_P95:
+                    result.set(timingStats.getPrepareTime(95));
+                    break;
+                case PREPARE_TIME_P99:
+                    result.set(timingStats.getPrepareTime(99));
+                    break;
+                case LOG_WRITE_TIME_P50:
+                    result.set(timingStats.getLogWriteTime(50));
+                    break;
+                case LOG_WRITE_TIME_P95:
+                    result.set(timingStats.getLogWriteTime(95));
+                    break;
+                case LOG_WRITE_TIME_P99:
+                    result.set(timingStats.getLogWriteTime(99));
+                    break;
+                case XA_RESOURCES:
+                    result.setEmptyObject();
+                    for (Map.Entry<String, TransactionTimingStatistics.ResourceTimes> entry : timingStats.getResourceTimes().entrySet()) {
+                        final TransactionTimingStatistics.ResourceTimes times = entry.getValue();
+                        final ModelNode resource = result.get(entry.getKey());
+                        resource.get(CommonAttributes.PREPARE_TIME_P50).set(times.getPrepareTime(50));
+                        resource.get(CommonAttributes.PREPARE_TIME_P95).set(times.getPrepareTime(95));
+                        resource.get(CommonAttributes.PREPARE_TIME_P99).set(times.getPrepareTime(99));
+                        resource.get(CommonAttributes.COMMIT_TIME_P50).set(times.getCommitTime(50));
+                        resource.get(CommonAttributes.COMMIT_TIME_P95).set(times.getCommitTime(95));
+                        resource.get(CommonAttributes.COMMIT_TIME_P99).set(times.getCommitTime(99));
+                    }
+                    break;
                 default:
                     throw new IllegalStateException(TransactionLogger.ROOT_LOGGER.unknownMetric(stat));
             }
@@ -0,0 +1,261 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+import com.arjuna.ats.arjuna.common.CoordinatorEnvironmentBean;
+import com.arjuna.ats.arjuna.common.arjPropertyManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the XA timings of the {@link TransactionTimingStatistics}.
+ */
+public class TransactionTimingStatisticsTestCase {
+
+    private static final long PREPARE_MILLIS = 20;
+    private static final long COMMIT_MILLIS = 10;
+
+    private final CoordinatorEnvironmentBean environment = arjPropertyManager.getCoordinatorEnvironmentBean();
+    private boolean statisticsEnabled;
+
+    @Before
+    public void enableStatistics() {
+        this.statisticsEnabled = this.environment.isEnableStatistics();
+        this.environment.setEnableStatistics(true);
+    }
+
+    @After
+    public void restoreStatistics() {
+        this.environment.setEnableStatistics(this.statisticsEnabled);
+    }
+
+    @Test
+    public void testTwoPhaseCommit() throws XAException {
+        TransactionTimingStatistics statistics = new TransactionTimingStatistics();
+        XAResource first = statistics.timed(new SleepingXAResource(), "java:/first");
+        XAResource second = statistics.timed(new SleepingXAResource(), "java:/second");
+        assertSame(first, statistics.timed(first, "java:/first"));
+
+        TestXid firstBranch = new TestXid(1, 1);
+        TestXid secondBranch = new TestXid(1, 2);
+        first.prepare(firstBranch);
+        second.prepare(secondBranch);
+        first.commit(firstBranch, false);
+        second.commit(secondBranch, false);
+
+        assertEquals(2, statistics.getResourceTimes().size());
+        for (TransactionTimingStatistics.ResourceTimes times : statistics.getResourceTimes().values()) {
+            assertTrue(times.getPrepareTime(50) >= TimeUnit.MILLISECONDS.toNanos(PREPARE_MILLIS));
+            assertTrue(times.getCommitTime(50) >= TimeUnit.MILLISECONDS.toNanos(COMMIT_MILLIS));
+            assertTrue(times.getCommitTime(50) < times.getPrepareTime(50));
+        }
+        // the prepare phase spans the prepare of both resources
+        assertTrue(statistics.getPrepareTime(99) >= TimeUnit.MILLISECONDS.toNanos(2 * PREPARE_MILLIS));
+        // nothing happens between the end of the prepare phase and the first commit
+        assertTrue(statistics.getLogWriteTime(99) < TimeUnit.MILLISECONDS.toNanos(PREPARE_MILLIS));
+    }
+
+    @Test
+    public void testOnePhaseCommitAndRollback() throws XAException {
+        TransactionTimingStatistics statistics = new TransactionTimingStatistics();
+        XAResource resource = statistics.timed(new SleepingXAResource(), null);
+
+        resource.commit(new TestXid(1, 1), true);
+        TestXid branch = new TestXid(2, 1);
+        resource.prepare(branch);
+        resource.rollback(branch);
+        // a later transaction on the same thread does not measure its phases from the rolled back one
+        TestXid next = new TestXid(3, 1);
+        resource.prepare(next);
+        resource.commit(next, false);
+
+        TransactionTimingStatistics.ResourceTimes times = statistics.getResourceTimes().get(SleepingXAResource.class.getName());
+        assertTrue(times.getPrepareTime(50) >= TimeUnit.MILLISECONDS.toNanos(PREPARE_MILLIS));
+        assertTrue(times.getCommitTime(50) >= TimeUnit.MILLISECONDS.toNanos(COMMIT_MILLIS));
+        assertTrue(statistics.getPrepareTime(100) < TimeUnit.MILLISECONDS.toNanos(2 * PREPARE_MILLIS));
+        assertTrue(statistics.getPrepareTime(100) >= TimeUnit.MILLISECONDS.toNanos(PREPARE_MILLIS));
+    }
+
+    @Test
+    public void testOnePhaseCommitNotRecorded() throws XAException {
+        TransactionTimingStatistics statistics = new TransactionTimingStatistics();
+        XAResource resource = statistics.timed(new SleepingXAResource(), "java:/resource");
+
+        resource.commit(new TestXid(1, 1), true);
+
+        assertEquals(0, statistics.getResourceTimes().get("java:/resource").getCommitTime(100));
+        assertEquals(0, statistics.getPrepareTime(100));
+    }
+
+    @Test
+    public void testReadOnlyPrepare() throws XAException {
+        TransactionTimingStatistics statistics = new TransactionTimingStatistics();
+        XAResource readOnly = statistics.timed(new SleepingXAResource(XAResource.XA_RDONLY), "java:/read-only");
+        XAResource resource = statistics.timed(new SleepingXAResource(), "java:/resource");
+
+        // nothing is committed after read-only votes only
+        readOnly.prepare(new TestXid(1, 1));
+        assertNull(statistics.currentPhases.get());
+
+        // the read-only vote of a resource does not end the prepare phase of the others
+        TestXid branch = new TestXid(2, 1);
+        resource.prepare(branch);
+        readOnly.prepare(new TestXid(2, 2));
+        assertNotNull(statistics.currentPhases.get());
+        resource.commit(branch, false);
+        assertNull(statistics.currentPhases.get());
+        assertTrue(statistics.getPrepareTime(100) >= TimeUnit.MILLISECONDS.toNanos(2 * PREPARE_MILLIS));
+    }
+
+    @Test
+    public void testFailedPrepare() {
+        TransactionTimingStatistics statistics = new TransactionTimingStatistics();
+        XAResource resource = statistics.timed(new SleepingXAResource(XAException.XA_RBROLLBACK), "java:/resource");
+
+        try {
+            resource.prepare(new TestXid(1, 1));
+            fail("Should have thrown XAException");
+        } catch (XAException expected) {
+        }
+        assertNull(statistics.currentPhases.get());
+    }
+
+    @Test
+    public void testDisabled() throws XAException {
+        this.environment.setEnableStatistics(false);
+        TransactionTimingStatistics statistics = new TransactionTimingStatistics();
+        XAResource resource = statistics.timed(new SleepingXAResource(), "java:/resource");
+        TestXid branch = new TestXid(1, 1);
+        resource.prepare(branch);
+        resource.commit(branch, false);
+
+        assertEquals(0, statistics.getResourceTimes().get("java:/resource").getPrepareTime(100));
+        assertEquals(0, statistics.getPrepareTime(100));
+        assertEquals(0, statistics.getLogWriteTime(100));
+    }
+
+    @Test
+    public void testIsSameRM() throws XAException {
+        TransactionTimingStatistics statistics = new TransactionTimingStatistics();
+        SleepingXAResource delegate = new SleepingXAResource();
+        XAResource resource = statistics.timed(delegate, "java:/resource");
+
+        assertTrue(resource.isSameRM(statistics.timed(delegate, "java:/resource")));
+        assertTrue(resource.isSameRM(delegate));
+        assertFalse(resource.isSameRM(statistics.timed(new SleepingXAResource(), "java:/resource")));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class SleepingXAResource implements XAResource {
+        // the vote of the prepare, or the error code of the XAException it throws
+        private final int vote;
+
+        SleepingXAResource() {
+            this(XA_OK);
+        }
+
+        SleepingXAResource(int vote) {
+            this.vote = vote;
+        }
+
+        @Override
+        public int prepare(Xid xid) throws XAException {
+            sleep(PREPARE_MILLIS);
+            if (this.vote != XA_OK && this.vote != XA_RDONLY) {
+                throw new XAException(this.vote);
+            }
+            return this.vote;
+        }
+
+        @Override
+        public void commit(Xid xid, boolean onePhase) {
+            sleep(COMMIT_MILLIS);
+        }
+
+        @Override
+        public void rollback(Xid xid) {
+        }
+
+        @Override
+        public void start(Xid xid, int flags) {
+        }
+
+        @Override
+        public void end(Xid xid, int flags) {
+        }
+
+        @Override
+        public void forget(Xid xid) {
+        }
+
+        @Override
+        public Xid[] recover(int flag) {
+            return new Xid[0];
+        }
+
+        @Override
+        public boolean isSameRM(XAResource resource) {
+            return resource == this;
+        }
+
+        @Override
+        public int getTransactionTimeout() {
+            return 0;
+        }
+
+        @Override
+        public boolean setTransactionTimeout(int seconds) {
+            return false;
+        }
+    }
+
+    private static class TestXid implements Xid {
+        private final byte globalTransactionId;
+        private final byte branchQualifier;
+
+        TestXid(int globalTransactionId, int branchQualifier) {
+            this.globalTransactionId = (byte) globalTransactionId;
+            this.branchQualifier = (byte) branchQualifier;
+        }
+
+        @Override
+        public int getFormatId() {
+            return 1;
+        }
+
+        @Override
+        public byte[] getGlobalTransactionId() {
+            return new byte[] { this.globalTransactionId };
+        }
+
+        @Override
+        public byte[] getBranchQualifier() {
+            return new byte[] { this.branchQualifier };
+        }
+    }
+}
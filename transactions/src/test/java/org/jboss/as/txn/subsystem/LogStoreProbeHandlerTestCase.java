@@ -0,0 +1,218 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.subsystem;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.jboss.as.controller.registry.Resource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the paging and the filtering of the {@link LogStoreProbeHandler}, against MBeans mimicking those of the object store
+ * browser.
+ */
+public class LogStoreProbeHandlerTestCase {
+
+    private static final String ATOMIC_ACTION = "StateManager/BasicAction/TwoPhaseCoordinator/AtomicAction";
+    private static final String SUBORDINATE_ACTION = ATOMIC_ACTION + "/SubordinateAtomicAction/JCA";
+
+    private MBeanServer server;
+    private ObjectStore objectStore;
+
+    @Before
+    public void setUp() throws Exception {
+        this.server = MBeanServerFactory.newMBeanServer();
+        this.objectStore = new ObjectStore();
+        this.server.registerMBean(new StandardMBean(this.objectStore, ObjectStoreMBean.class), new ObjectName(LogStoreProbeHandler.osMBeanName));
+        for (int i = 0; i < 5; i++) {
+            this.registerTransaction("tx" + i, ATOMIC_ACTION, 10 * i, "java:/ds" + (i % 2));
+        }
+        this.registerTransaction("sub0", SUBORDINATE_ACTION, 100, "java:/ds0");
+    }
+
+    @After
+    public void tearDown() {
+        MBeanServerFactory.releaseMBeanServer(this.server);
+    }
+
+    @Test
+    public void testPaging() throws Exception {
+        LogStoreProbeHandler handler = new LogStoreProbeHandler();
+
+        assertEquals(List.of("tx0", "tx1"), this.probe(handler, new LogStoreProbeHandler.ProbeFilter(0, 2, ATOMIC_ACTION, 0, null)));
+        assertEquals(1, this.objectStore.probes);
+
+        // the next pages are read from the MBeans of the previous probe
+        assertEquals(List.of("tx2", "tx3"), this.probe(handler, new LogStoreProbeHandler.ProbeFilter(2, 2, ATOMIC_ACTION, 0, null)));
+        assertEquals(List.of("tx4"), this.probe(handler, new LogStoreProbeHandler.ProbeFilter(4, 2, ATOMIC_ACTION, 0, null)));
+        assertEquals(1, this.objectStore.probes);
+
+        // the first page probes the object store again
+        assertEquals(List.of("sub0", "tx0", "tx1", "tx2", "tx3", "tx4"), this.probe(handler, new LogStoreProbeHandler.ProbeFilter(0, 0, null, 0, null)));
+        assertEquals(2, this.objectStore.probes);
+    }
+
+    @Test
+    public void testFirstPageWithOffset() throws Exception {
+        LogStoreProbeHandler handler = new LogStoreProbeHandler();
+
+        // without a previous probe, the object store is probed whatever the offset
+        assertEquals(List.of("tx3", "tx4"), this.probe(handler, new LogStoreProbeHandler.ProbeFilter(3, 0, ATOMIC_ACTION, 0, null)));
+        assertEquals(1, this.objectStore.probes);
+    }
+
+    @Test
+    public void testTransactionTypeIsExactMatch() throws Exception {
+        LogStoreProbeHandler handler = new LogStoreProbeHandler();
+
+        assertEquals(List.of("sub0"), this.probe(handler, new LogStoreProbeHandler.ProbeFilter(0, 0, SUBORDINATE_ACTION, 0, null)));
+        assertEquals(List.of(), this.probe(handler, new LogStoreProbeHandler.ProbeFilter(0, 0, "AtomicAction", 0, null)));
+    }
+
+    @Test
+    public void testAgeAndParticipantFilters() throws Exception {
+        LogStoreProbeHandler handler = new LogStoreProbeHandler();
+
+        assertEquals(List.of("sub0", "tx3", "tx4"), this.probe(handler, new LogStoreProbeHandler.ProbeFilter(0, 0, null, 30, null)));
+        assertEquals(List.of("tx1", "tx3"), this.probe(handler, new LogStoreProbeHandler.ProbeFilter(0, 0, ATOMIC_ACTION, 0, "java:/ds1")));
+        assertEquals(List.of("tx3"), this.probe(handler, new LogStoreProbeHandler.ProbeFilter(1, 1, ATOMIC_ACTION, 0, "java:/ds1")));
+    }
+
+    private List<String> probe(LogStoreProbeHandler handler, LogStoreProbeHandler.ProbeFilter filter) throws Exception {
+        Resource resource = handler.probeTransactions(this.server, false, filter);
+        List<String> ids = new ArrayList<>();
+        for (Resource.ResourceEntry entry : resource.getChildren(LogStoreConstants.TRANSACTIONS)) {
+            ids.add(entry.getName());
+            assertEquals(1, entry.getChildren(LogStoreConstants.PARTICIPANTS).size());
+        }
+        ids.sort(null);
+        return ids;
+    }
+
+    private void registerTransaction(String id, String type, long age, String jndiName) throws Exception {
+        String name = LogStoreProbeHandler.osMBeanName + ",itype=" + type + ",uid=" + id;
+        this.server.registerMBean(new StandardMBean(new Transaction(id, type, age), TransactionMBean.class), new ObjectName(name));
+        this.server.registerMBean(new StandardMBean(new Participant(jndiName), ParticipantMBean.class), new ObjectName(name + ",puid=" + id + "-1"));
+    }
+
+    public interface ObjectStoreMBean {
+        boolean getExposeAllRecordsAsMBeans();
+
+        void setExposeAllRecordsAsMBeans(boolean exposeAllRecordsAsMBeans);
+
+        void probe();
+    }
+
+    public interface TransactionMBean {
+        String getId();
+
+        long getAgeInSeconds();
+
+        String getType();
+    }
+
+    public interface ParticipantMBean {
+        String getType();
+
+        String getStatus();
+
+        String getJndiName();
+
+        String getEisProductName();
+
+        String getEisProductVersion();
+    }
+
+    private static class ObjectStore implements ObjectStoreMBean {
+        private boolean exposeAllRecordsAsMBeans;
+        private int probes;
+
+        @Override
+        public boolean getExposeAllRecordsAsMBeans() {
+            return this.exposeAllRecordsAsMBeans;
+        }
+
+        @Override
+        public void setExposeAllRecordsAsMBeans(boolean exposeAllRecordsAsMBeans) {
+            this.exposeAllRecordsAsMBeans = exposeAllRecordsAsMBeans;
+        }
+
+        @Override
+        public void probe() {
+            this.probes++;
+        }
+    }
+
+    private static class Transaction implements TransactionMBean {
+        private final String id;
+        private final String type;
+        private final long age;
+
+        Transaction(String id, String type, long age) {
+            this.id = id;
+            this.type = type;
+            this.age = age;
+        }
+
+        @Override
+        public String getId() {
+            return this.id;
+        }
+
+        @Override
+        public long getAgeInSeconds() {
+            return this.age;
+        }
+
+        @Override
+        public String getType() {
+            return this.type;
+        }
+    }
+
+    private static class Participant implements ParticipantMBean {
+        private final String jndiName;
+
+        Participant(String jndiName) {
+            this.jndiName = jndiName;
+        }
+
+        @Override
+        public String getType() {
+            return "/StateManager/AbstractRecord/XAResourceRecord";
+        }
+
+        @Override
+        public String getStatus() {
+            return "PREPARED";
+        }
+
+        @Override
+        public String getJndiName() {
+            return this.jndiName;
+        }
+
+        @Override
+        public String getEisProductName() {
+            return "Test";
+        }
+
+        @Override
+        public String getEisProductVersion() {
+            return "1.0";
+        }
+    }
+}